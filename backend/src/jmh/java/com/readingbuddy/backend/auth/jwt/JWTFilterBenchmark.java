@@ -0,0 +1,86 @@
+package com.readingbuddy.backend.auth.jwt;
+
+import com.readingbuddy.backend.common.properties.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter 요청당 인증 비용 측정
+ * - legacyFourParses: 기존 방식 (요청마다 parser 생성 + 서명 검증 4회)
+ * - filterWithoutCache: 재사용 parser로 1회 파싱
+ * - filterWithCache: 토큰 해시 캐시 적중
+ * - parseClaims: JWTUtil.parseClaims 단독 (서명 검증 1회)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JWTFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-filter-must-be-long-enough";
+
+    private JWTUtil jwtUtil;
+    private JWTPrincipalCache jwtPrincipalCache;
+    private JWTFilter jwtFilter;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+
+        jwtUtil = new JWTUtil(jwtProperties);
+        jwtPrincipalCache = new JWTPrincipalCache(jwtProperties);
+        jwtFilter = new JWTFilter(jwtUtil, jwtPrincipalCache);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtUtil.createAccessToken("1", "bench@example.com", "bench", 3_600_000L);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        boolean expired = Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        blackhole.consume(expired);
+        for (String claim : new String[]{"user_id", "user_email", "user_nickname"}) {
+            blackhole.consume(Jwts.parser().verifyWith(secretKey).build()
+                    .parseSignedClaims(token).getPayload().get(claim, String.class));
+        }
+    }
+
+    @Benchmark
+    public Object parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public void filterWithoutCache() throws Exception {
+        jwtPrincipalCache.clear();
+        doFilter();
+    }
+
+    @Benchmark
+    public void filterWithCache() throws Exception {
+        doFilter();
+    }
+
+    private void doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,161 @@
+package com.readingbuddy.backend.auth.repository;
+
+import com.readingbuddy.backend.auth.jwt.TokenHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 100만 건에서의 조회 비용 (H2 in-memory, PostgreSQL 모드)
+ * - legacy*: 기존 스키마 (token varchar(255), 인덱스 없음)
+ * - hashed*: 변경된 스키마 (token_hash 유니크 인덱스, user_id/issued_ip/issued_user_agent 복합 인덱스)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class RefreshTokenLookupBenchmark {
+
+    @Param("1000000")
+    public int tokenCount;
+
+    private static final int USER_COUNT = 100_000;
+    private static final String USER_AGENT = "Mozilla/5.0 (Linux; Android 13; SM-X200) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+
+    private Connection connection;
+    private PreparedStatement legacyByToken;
+    private PreparedStatement legacyByDevice;
+    private PreparedStatement hashedByToken;
+    private PreparedStatement hashedByDevice;
+
+    private String[] tokens;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:refresh_token_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE legacy_refresh_token (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "token VARCHAR(255) NOT NULL, issued_ip VARCHAR(50), issued_user_agent VARCHAR(255), expired_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE refresh_token (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "token_hash VARBINARY(32), issued_ip VARCHAR(50), issued_user_agent VARCHAR(255), expired_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE UNIQUE INDEX uk_refresh_token_token_hash ON refresh_token (token_hash)");
+            statement.execute("CREATE INDEX idx_refresh_token_device ON refresh_token (user_id, issued_ip, issued_user_agent)");
+            statement.execute("CREATE INDEX idx_refresh_token_expired_at ON refresh_token (expired_at)");
+        }
+
+        tokens = new String[tokenCount];
+        Timestamp expiredAt = Timestamp.valueOf(LocalDateTime.now().plusDays(30));
+        connection.setAutoCommit(false);
+        try (PreparedStatement legacyInsert = connection.prepareStatement(
+                "INSERT INTO legacy_refresh_token (user_id, token, issued_ip, issued_user_agent, expired_at) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement hashedInsert = connection.prepareStatement(
+                     "INSERT INTO refresh_token (user_id, token_hash, issued_ip, issued_user_agent, expired_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < tokenCount; i++) {
+                tokens[i] = randomToken();
+                long userId = i % USER_COUNT;
+                String ip = ip(i);
+
+                legacyInsert.setLong(1, userId);
+                legacyInsert.setString(2, tokens[i]);
+                legacyInsert.setString(3, ip);
+                legacyInsert.setString(4, USER_AGENT);
+                legacyInsert.setTimestamp(5, expiredAt);
+                legacyInsert.addBatch();
+
+                hashedInsert.setLong(1, userId);
+                hashedInsert.setBytes(2, TokenHasher.sha256(tokens[i]));
+                hashedInsert.setString(3, ip);
+                hashedInsert.setString(4, USER_AGENT);
+                hashedInsert.setTimestamp(5, expiredAt);
+                hashedInsert.addBatch();
+
+                if (i % 10_000 == 9_999) {
+                    legacyInsert.executeBatch();
+                    hashedInsert.executeBatch();
+                    connection.commit();
+                }
+            }
+            legacyInsert.executeBatch();
+            hashedInsert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+
+        legacyByToken = connection.prepareStatement("SELECT id, user_id FROM legacy_refresh_token WHERE token = ?");
+        legacyByDevice = connection.prepareStatement(
+                "SELECT id FROM legacy_refresh_token WHERE user_id = ? AND issued_ip = ? AND issued_user_agent = ?");
+        hashedByToken = connection.prepareStatement("SELECT id, user_id FROM refresh_token WHERE token_hash = ?");
+        hashedByDevice = connection.prepareStatement(
+                "SELECT id FROM refresh_token WHERE user_id = ? AND issued_ip = ? AND issued_user_agent = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long legacyTokenLookup() throws SQLException {
+        legacyByToken.setString(1, tokens[random.nextInt(tokenCount)]);
+        return firstId(legacyByToken);
+    }
+
+    @Benchmark
+    public long hashedTokenLookup() throws SQLException {
+        hashedByToken.setBytes(1, TokenHasher.sha256(tokens[random.nextInt(tokenCount)]));
+        return firstId(hashedByToken);
+    }
+
+    @Benchmark
+    public long legacyDeviceLookup() throws SQLException {
+        int i = random.nextInt(tokenCount);
+        legacyByDevice.setLong(1, i % USER_COUNT);
+        legacyByDevice.setString(2, ip(i));
+        legacyByDevice.setString(3, USER_AGENT);
+        return firstId(legacyByDevice);
+    }
+
+    @Benchmark
+    public long indexedDeviceLookup() throws SQLException {
+        int i = random.nextInt(tokenCount);
+        hashedByDevice.setLong(1, i % USER_COUNT);
+        hashedByDevice.setString(2, ip(i));
+        hashedByDevice.setString(3, USER_AGENT);
+        return firstId(hashedByDevice);
+    }
+
+    private long firstId(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : -1L;
+        }
+    }
+
+    private String ip(int i) {
+        return "10." + (i % 250) + "." + (i / 250 % 250) + "." + (i / 62_500 % 250);
+    }
+
+    private String randomToken() {
+        // 실제 리프레시 토큰(JWT)과 비슷한 길이의 무작위 문자열
+        byte[] bytes = new byte[120];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) random.nextInt(256);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,99 @@
+package com.readingbuddy.backend.auth.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코드 공간 점유율 50% 상태에서의 디바이스 코드 할당 처리량
+ * - randomRetry: 기존 방식 (무작위 생성 후 중복이면 최대 10회 재시도)
+ * - feistelAllocator: DeviceCodeAllocator (순열 기반, 재시도 없음)
+ * 두 방식 모두 할당할 때마다 가장 오래된 코드를 반납해 점유율을 유지한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeviceCodeAllocatorBenchmark {
+
+    private static final String CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    private static final int CODE_LENGTH = 4;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private Set<String> randomCodes;
+    private ArrayDeque<String> randomLive;
+
+    private DeviceCodeAllocator allocator;
+    private Set<String> allocatorCodes;
+    private ArrayDeque<String> allocatorLive;
+
+    @Setup
+    public void setUp() {
+        allocator = new DeviceCodeAllocator(CHARS, CODE_LENGTH);
+        int occupied = (int) (allocator.capacity() / 2);
+
+        randomCodes = ConcurrentHashMap.newKeySet();
+        randomLive = new ArrayDeque<>(occupied);
+        while (randomCodes.size() < occupied) {
+            String code = randomCode();
+            if (randomCodes.add(code)) {
+                randomLive.add(code);
+            }
+        }
+
+        allocatorCodes = ConcurrentHashMap.newKeySet();
+        allocatorLive = new ArrayDeque<>(occupied);
+        for (int i = 0; i < occupied; i++) {
+            String code = allocator.next();
+            allocatorCodes.add(code);
+            allocatorLive.add(code);
+        }
+    }
+
+    @Benchmark
+    public void randomRetry(Blackhole blackhole) {
+        String allocated = null;
+        for (int count = 0; count < 10 && allocated == null; count++) {
+            String code = randomCode();
+            if (randomCodes.add(code)) {
+                allocated = code;
+            }
+        }
+        // 10회 모두 충돌하면 기존 코드는 예외를 던진다
+        if (allocated != null) {
+            randomLive.add(allocated);
+            randomCodes.remove(randomLive.poll());
+        }
+        blackhole.consume(allocated);
+    }
+
+    @Benchmark
+    public void feistelAllocator(Blackhole blackhole) {
+        String allocated = null;
+        while (allocated == null) {
+            String code = allocator.next();
+            if (allocatorCodes.add(code)) {
+                allocated = code;
+            }
+        }
+        allocatorLive.add(allocated);
+        allocatorCodes.remove(allocatorLive.poll());
+        blackhole.consume(allocated);
+    }
+
+    private String randomCode() {
+        StringBuilder sb = new StringBuilder(CODE_LENGTH);
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.readingbuddy.backend.common.util.function;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한글 유틸 비용
+ * - countForCodePoint / getPhonemesForCodePoint: 완성형 음절 11,172자 전체 1회 (ops = 전체 순회)
+ * - classify: 음절만 / 자모만 / 섞인 문자열 각각 1회
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HangulBenchmark {
+
+    private static final int START = 0xAC00;
+    private static final int END = 0xD7A3;
+
+    private final String syllables = "가나다라마바사아자차카타파하읽기친구";
+    private final String jamo = "ㄱㄴㄷㄹㅁㅂㅅㅇㅏㅑㅓㅕㅗㅛㅜㅠ";
+    private final String mixed = "가ㄴ다ㄹ마bㅅ아";
+
+    @Benchmark
+    public int countForCodePoint() {
+        int total = 0;
+        for (int cp = START; cp <= END; cp++) {
+            total += PhonemeCounter.countForCodePoint(cp);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void getPhonemesForCodePoint(Blackhole blackhole) {
+        for (int cp = START; cp <= END; cp++) {
+            blackhole.consume(PhonemeCounter.getPhonemesForCodePoint(cp));
+        }
+    }
+
+    @Benchmark
+    public void classify(Blackhole blackhole) {
+        blackhole.consume(HangulChecker.classify(syllables));
+        blackhole.consume(HangulChecker.classify(jamo));
+        blackhole.consume(HangulChecker.classify(mixed));
+    }
+}
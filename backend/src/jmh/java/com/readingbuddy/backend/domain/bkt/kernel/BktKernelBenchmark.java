@@ -0,0 +1,83 @@
+package com.readingbuddy.backend.domain.bkt.kernel;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (사용자, KC) 쌍 N개에 관측 한 번을 적용하는 처리량 (ops = 쌍 N개 갱신 1회)
+ * - scalar: ScalarBktKernel
+ * - vector: VectorBktKernel (jdk.incubator.vector)
+ * 매 호출 후 pLearn을 원래 값으로 되돌려 입력 분포를 고정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class BktKernelBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int pairs;
+
+    private BktKernel scalar;
+    private BktKernel vector;
+    private BktColumns columns;
+    private float[] initialLearn;
+    private boolean[] correct;
+    private boolean[] observed;
+    private float[] rates;
+
+    @Setup
+    public void setUp() {
+        scalar = BktKernel.scalar();
+        vector = BktKernel.create();
+        if (!vector.name().startsWith("vector")) {
+            throw new IllegalStateException("Vector API 모듈이 로드되지 않았습니다.");
+        }
+
+        Random random = new Random(42);
+        columns = new BktColumns(pairs);
+        correct = new boolean[pairs];
+        observed = new boolean[pairs];
+        rates = new float[pairs];
+        for (int i = 0; i < pairs; i++) {
+            columns.getPLearn()[i] = random.nextFloat();
+            columns.getPTrain()[i] = 0.1f;
+            columns.getPGuess()[i] = random.nextFloat() * 0.5f;
+            columns.getPSlip()[i] = 0.1f;
+            correct[i] = random.nextBoolean();
+            observed[i] = random.nextInt(10) != 0;
+        }
+        initialLearn = columns.getPLearn().clone();
+    }
+
+    @Benchmark
+    public void scalarUpdate(Blackhole blackhole) {
+        scalar.update(columns, correct, observed);
+        blackhole.consume(columns.getPLearn()[pairs - 1]);
+        System.arraycopy(initialLearn, 0, columns.getPLearn(), 0, pairs);
+    }
+
+    @Benchmark
+    public void vectorUpdate(Blackhole blackhole) {
+        vector.update(columns, correct, observed);
+        blackhole.consume(columns.getPLearn()[pairs - 1]);
+        System.arraycopy(initialLearn, 0, columns.getPLearn(), 0, pairs);
+    }
+
+    @Benchmark
+    public void scalarCorrectRates(Blackhole blackhole) {
+        scalar.correctRates(columns, rates);
+        blackhole.consume(rates[pairs - 1]);
+    }
+
+    @Benchmark
+    public void vectorCorrectRates(Blackhole blackhole) {
+        vector.correctRates(columns, rates);
+        blackhole.consume(rates[pairs - 1]);
+    }
+}
@@ -0,0 +1,50 @@
+package com.readingbuddy.backend.domain.bkt.service;
+
+import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
+import com.readingbuddy.backend.domain.bkt.kernel.BktKernel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 풀이 1건당 BKT 갱신 계산 비용 (DB 접근 제외)
+ * BktService.updateLearnedMastery와 같이 엔티티 getter로 값을 꺼내 BktKernel.updatedLearn을 호출한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BktUpdateBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private UserKcMastery[] masteries;
+    private boolean[] correct;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        masteries = new UserKcMastery[SIZE];
+        correct = new boolean[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            masteries[i] = UserKcMastery.builder()
+                    .pLearn(0.05f + random.nextFloat() * 0.9f)
+                    .pTrain(0.1f)
+                    .pGuess(0.25f)
+                    .pSlip(0.1f)
+                    .build();
+            correct[i] = random.nextBoolean();
+        }
+    }
+
+    @Benchmark
+    public float updatedLearn() {
+        int i = cursor++ & (SIZE - 1);
+        UserKcMastery mastery = masteries[i];
+        return BktKernel.updatedLearn(mastery.getPLearn(), mastery.getPTrain(), mastery.getPGuess(), mastery.getPSlip(), correct[i]);
+    }
+}
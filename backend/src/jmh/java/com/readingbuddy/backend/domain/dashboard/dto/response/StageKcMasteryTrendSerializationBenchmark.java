@@ -0,0 +1,68 @@
+package com.readingbuddy.backend.domain.dashboard.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드 KC 숙련도 추이 응답 JSON 직렬화 비용 (Spring Boot 기본 ObjectMapper 설정)
+ * 단계 하나에 KC 6개, KC마다 추이 지점 pointsPerKc개
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StageKcMasteryTrendSerializationBenchmark {
+
+    private static final int KC_COUNT = 6;
+
+    @Param({"10", "200"})
+    private int pointsPerKc;
+
+    private ObjectMapper objectMapper;
+    private StageKcMasteryTrendResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 9, 0);
+        List<StageKcMasteryTrendResponse.KcTrend> kcTrends = new ArrayList<>();
+        for (long kcId = 1; kcId <= KC_COUNT; kcId++) {
+            List<StageKcMasteryTrendResponse.MasteryPoint> points = new ArrayList<>(pointsPerKc);
+            for (int i = 0; i < pointsPerKc; i++) {
+                points.add(point(0.1f + 0.8f * i / pointsPerKc, start.plusMinutes(i)));
+            }
+            kcTrends.add(StageKcMasteryTrendResponse.KcTrend.builder()
+                    .kcId(kcId)
+                    .kcCategory("LABIAL_" + kcId)
+                    .kcDescription("입술소리 " + kcId)
+                    .initialMastery(point(0.1f, start))
+                    .masteryTrend(points)
+                    .build());
+        }
+        response = StageKcMasteryTrendResponse.builder().stage("1.2.1").kcTrends(kcTrends).build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private static StageKcMasteryTrendResponse.MasteryPoint point(float pLearn, LocalDateTime at) {
+        return StageKcMasteryTrendResponse.MasteryPoint.builder()
+                .pLearn(pLearn)
+                .pTrain(0.1f)
+                .pGuess(0.25f)
+                .pSlip(0.1f)
+                .updatedAt(at)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.readingbuddy.backend.domain.train.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingbuddy.backend.common.util.function.PhonemeCounter;
+import com.readingbuddy.backend.domain.train.dto.result.ProblemResult;
+import com.readingbuddy.backend.domain.train.dto.result.Stage3Problem;
+import com.readingbuddy.backend.domain.train.dto.result.Stage4Problem;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문제 세트 응답 JSON 직렬화 비용 (Spring Boot 기본 ObjectMapper 설정)
+ * 한 세트는 3단계 문제 5개 + 4단계 문제 5개
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProblemSetResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ProblemSetResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        String candidateList = "340282366920938463463374607431768211455";
+        List<ProblemResult> problems = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int cp = 0xAC00 + i * 28;
+            String unicode = String.format("U+%04X", cp);
+            problems.add(new Stage3Problem(unicode, unicode + "_normal.mp3", 2, 23L, candidateList));
+            problems.add(new Stage4Problem(String.valueOf((char) cp), unicode + "_slow.mp3", unicode + "_normal.mp3",
+                    2, PhonemeCounter.getPhonemesForCodePoint(cp), 34L, candidateList));
+        }
+        response = ProblemSetResponse.builder().problems(problems).build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
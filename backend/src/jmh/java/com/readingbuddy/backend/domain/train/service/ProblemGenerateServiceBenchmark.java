@@ -0,0 +1,92 @@
+package com.readingbuddy.backend.domain.train.service;
+
+import com.readingbuddy.backend.domain.train.entity.Letters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 3·4단계 문제 생성의 KC당 계산 비용 (DB 접근 제외)
+ * - filterAvailableLetters: candidateList(BigInteger 문자열) 파싱 + 비트 검사
+ * - updateCandidateList: 선택한 글자 비트 설정 + 문자열 변환
+ * - selectRandomLetters: 출제 가능한 글자가 충분할 때 / 거의 소진돼 전체에서 보충할 때
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProblemGenerateServiceBenchmark {
+
+    private static final int PROBLEM_COUNT = 5;
+
+    // KC 하나에 매핑된 글자 수
+    @Param({"100", "1000"})
+    private int letterCount;
+
+    private ProblemGenerateService service;
+    private List<Letters> letters;
+    private String halfUsedCandidateList;
+    private List<ProblemGenerateService.LetterWithIndex> available;
+    private List<ProblemGenerateService.LetterWithIndex> nearlyExhausted;
+    private List<ProblemGenerateService.LetterWithIndex> selected;
+
+    @Setup
+    public void setUp() {
+        service = new ProblemGenerateService(null, null, null, null, null, new SimpleMeterRegistry());
+
+        letters = new ArrayList<>(letterCount);
+        for (int i = 0; i < letterCount; i++) {
+            int cp = 0xAC00 + i;
+            String unicode = String.format("U+%04X", cp);
+            letters.add(Letters.builder()
+                    .id(unicode)
+                    .unicode(unicode)
+                    .unicodePoint(cp)
+                    .count(2)
+                    .voiceUrl(unicode + "_normal.mp3")
+                    .slowVoiceUrl(unicode + "_slow.mp3")
+                    .build());
+        }
+
+        // 절반이 이미 출제된 상태
+        Random random = new Random(42);
+        BigInteger mask = BigInteger.ZERO;
+        for (int i = 0; i < letterCount; i++) {
+            if (random.nextBoolean()) {
+                mask = mask.setBit(i);
+            }
+        }
+        halfUsedCandidateList = mask.toString();
+        available = service.filterAvailableLetters(letters, halfUsedCandidateList);
+        nearlyExhausted = available.subList(0, 2);
+        selected = service.selectRandomLetters(available, letters, PROBLEM_COUNT);
+    }
+
+    @Benchmark
+    public List<ProblemGenerateService.LetterWithIndex> filterAvailableLetters() {
+        return service.filterAvailableLetters(letters, halfUsedCandidateList);
+    }
+
+    @Benchmark
+    public String updateCandidateList() {
+        return service.updateCandidateList(selected, halfUsedCandidateList, false);
+    }
+
+    @Benchmark
+    public void selectRandomLetters(Blackhole blackhole) {
+        blackhole.consume(service.selectRandomLetters(available, letters, PROBLEM_COUNT));
+    }
+
+    @Benchmark
+    public void selectRandomLettersWithRefill(Blackhole blackhole) {
+        blackhole.consume(service.selectRandomLetters(nearlyExhausted, letters, PROBLEM_COUNT));
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 @Getter
 @Setter
@@ -17,4 +18,8 @@ public class DeviceSessionInfo {
     private LocalDateTime expiredAt;
 
     private Long userId;
+
+    // 인증 완료 시 userId로 완료됨 (long polling 대기용)
+    @Builder.Default
+    private final CompletableFuture<Long> authorization = new CompletableFuture<>();
 }
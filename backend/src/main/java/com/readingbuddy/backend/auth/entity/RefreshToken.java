@@ -1,5 +1,6 @@
 package com.readingbuddy.backend.auth.entity;
 
+import com.readingbuddy.backend.auth.jwt.TokenHasher;
 import com.readingbuddy.backend.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -11,6 +12,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(name = "refresh_token",
+       indexes = {
+               @Index(name = "uk_refresh_token_token_hash", columnList = "token_hash", unique = true),
+               @Index(name = "idx_refresh_token_device", columnList = "user_id, issued_ip, issued_user_agent"),
+               @Index(name = "idx_refresh_token_expired_at", columnList = "expired_at")
+       })
 public class RefreshToken {
 
     @Id
@@ -21,8 +28,10 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false, updatable = false)
     private User user;
 
-    @Column(length = 255, nullable = false)
-    private String token;
+    // 토큰 원문 대신 SHA-256 해시(32바이트) 저장
+    // ddl-auto=update 로 기존 테이블에 컬럼이 추가될 수 있도록 DDL 상 nullable 로 둔다 (기존 행은 data.sql 에서 정리)
+    @Column(name = "token_hash", length = 32)
+    private byte[] tokenHash;
 
     @Column(length = 50)
     private String issuedIp;
@@ -33,12 +42,22 @@ public class RefreshToken {
     @Column(nullable = false)
     private LocalDateTime expiredAt;
 
+    public static RefreshToken issue(User user, String token, String issuedIp, String issuedUserAgent, LocalDateTime expiredAt) {
+        return RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenHasher.sha256(token))
+                .issuedIp(issuedIp)
+                .issuedUserAgent(issuedUserAgent)
+                .expiredAt(expiredAt)
+                .build();
+    }
+
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(this.expiredAt);
     }
 
     public void rotate(String newToken, LocalDateTime newExpiredAt) {
-        this.token = newToken;
+        this.tokenHash = TokenHasher.sha256(newToken);
         this.expiredAt = newExpiredAt;
     }
 }
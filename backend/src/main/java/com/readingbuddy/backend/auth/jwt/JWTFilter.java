@@ -1,6 +1,8 @@
 package com.readingbuddy.backend.auth.jwt;
 
 import com.readingbuddy.backend.auth.dto.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +18,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
     private final JWTUtil jwtUtil;
+    private final JWTPrincipalCache jwtPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -29,15 +32,29 @@ public class JWTFilter extends OncePerRequestFilter {
 
         String token = authorization.substring(7);
 
-        if (jwtUtil.isExpired(token)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        CustomUserDetails userDetails = jwtPrincipalCache.get(token);
 
-        CustomUserDetails userDetails = new CustomUserDetails(
-                jwtUtil.getClaim(token, "user_id"),
-                jwtUtil.getClaim(token, "user_email"),
-                jwtUtil.getClaim(token, "user_nickname"));
+        if (userDetails == null) {
+            // 서명 검증, 만료 확인, claim 추출을 한 번의 파싱으로 처리
+            Claims claims;
+            try {
+                claims = jwtUtil.parseClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                // 만료되었거나 유효하지 않은 토큰은 인증 없이 진행
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            userDetails = new CustomUserDetails(
+                    claims.get("user_id", String.class),
+                    claims.get("user_email", String.class),
+                    claims.get("user_nickname", String.class));
+
+            // exp가 없는 토큰은 언제까지 캐시할지 알 수 없으므로 캐시하지 않는다
+            if (claims.getExpiration() != null) {
+                jwtPrincipalCache.put(token, userDetails, claims.getExpiration().getTime());
+            }
+        }
 
         Authentication authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
@@ -0,0 +1,59 @@
+package com.readingbuddy.backend.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.readingbuddy.backend.auth.dto.CustomUserDetails;
+import com.readingbuddy.backend.common.properties.JwtProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 검증이 끝난 access token의 사용자 정보 캐시
+ * 같은 토큰으로 들어오는 요청마다 서명 검증과 claim 파싱을 반복하지 않도록 한다.
+ * 원본 토큰 대신 SHA-256 해시를 키로 쓰고, 항목마다 토큰 만료 시각에 맞춰 캐시에서도 만료시킨다.
+ * 모든 인증 요청이 지나가므로 전역 락 없이 동시에 읽을 수 있는 Caffeine을 쓴다.
+ */
+@Component
+public class JWTPrincipalCache {
+
+    private final Cache<String, CachedPrincipal> principals;
+
+    public JWTPrincipalCache(JwtProperties jwtProperties) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getPrincipalCacheMaxEntries())
+                .expireAfter(Expiry.creating((String key, CachedPrincipal cached) ->
+                        Duration.ofMillis(Math.max(0L, cached.expiredAtMillis() - System.currentTimeMillis()))))
+                .build();
+    }
+
+    /**
+     * 캐시된 사용자 정보 조회, 없거나 만료된 경우 null
+     */
+    public CustomUserDetails get(String token) {
+        CachedPrincipal cached = principals.getIfPresent(hash(token));
+        return cached != null ? cached.userDetails() : null;
+    }
+
+    public void put(String token, CustomUserDetails userDetails, long expiredAtMillis) {
+        principals.put(hash(token), new CachedPrincipal(userDetails, expiredAtMillis));
+    }
+
+    public long size() {
+        principals.cleanUp();
+        return principals.estimatedSize();
+    }
+
+    public void clear() {
+        principals.invalidateAll();
+    }
+
+    private String hash(String token) {
+        return HexFormat.of().formatHex(TokenHasher.sha256(token));
+    }
+
+    private record CachedPrincipal(CustomUserDetails userDetails, long expiredAtMillis) {
+    }
+}
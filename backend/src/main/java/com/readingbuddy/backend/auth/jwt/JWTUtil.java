@@ -2,6 +2,7 @@ package com.readingbuddy.backend.auth.jwt;
 
 import com.readingbuddy.backend.common.properties.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.stereotype.Component;
 
@@ -19,8 +20,12 @@ import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
 public class JWTUtil {
     private final SecretKey secretKey;
 
+    // JwtParser는 불변 객체라 스레드 간에 공유해도 안전하므로 한 번만 생성한다.
+    private final JwtParser jwtParser;
+
     public JWTUtil(JwtProperties jwtProperties) {
         this.secretKey = hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String getClaim(String token, String claimName) {
@@ -35,7 +40,7 @@ public class JWTUtil {
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -0,0 +1,23 @@
+package com.readingbuddy.backend.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 원문 대신 저장/비교에 사용하는 SHA-256 해시
+ */
+public final class TokenHasher {
+
+    private TokenHasher() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.readingbuddy.backend.auth.password;
+
+import com.readingbuddy.backend.common.properties.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/검증을 전용 작업 풀에서 실행하는 PasswordEncoder
+ * Argon2는 요청마다 많은 메모리를 사용하므로, 동시 실행 수와 대기열 길이를 제한하여
+ * 로그인이 몰려도 메모리와 요청 스레드가 고갈되지 않도록 한다.
+ * 대기열이 가득 차거나 제한 시간을 넘기면 PasswordHashingRejectedException을 던진다.
+ *
+ * 요청 스레드는 결과가 나올 때까지 기다리므로, 대기열에서 오래 머무르지 않도록 한다.
+ * - 앞선 작업 수와 평균 해싱 시간으로 본 예상 대기 시간이 maxQueueWaitMs를 넘으면 대기열에 넣지 않고 바로 거절
+ * - 예상보다 오래 기다린 작업은 해싱하지 않고 바로 거절 (작업 스레드와 요청 스레드를 함께 풀어 준다)
+ * 따라서 요청 스레드가 막히는 시간은 대략 maxQueueWaitMs + 해싱 1회이며, timeoutMs는 그 상한이다.
+ * 해싱 자체를 기다리는 동안에는 요청 스레드를 점유하며, 이를 없애려면 로그인 API를 비동기로 바꿔야 한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_NAME = "password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long maxQueueWaitMs;
+    private final long timeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.threads = properties.getThreads();
+        this.maxQueueWaitMs = properties.getMaxQueueWaitMs();
+        this.timeoutMs = properties.getTimeoutMs();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = threadPool;
+
+        ExecutorServiceMetrics.monitor(meterRegistry, threadPool, METRIC_NAME);
+        this.encodeTimer = Timer.builder(METRIC_NAME + ".duration").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_NAME + ".duration").tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_NAME + ".rejected").register(meterRegistry);
+        this.timeoutCounter = Counter.builder(METRIC_NAME + ".timeout").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        double expectedWaitMs = expectedQueueWaitMs();
+        if (expectedWaitMs > maxQueueWaitMs) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 예상 대기 시간 초과 - 대기 중: {}, 예상: {}ms", executor.getQueue().size(), (long) expectedWaitMs);
+            throw busy();
+        }
+
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedAt) > maxQueueWaitMs) {
+                    rejectedCounter.increment();
+                    throw busy();
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과 - 대기 중: {}", executor.getQueue().size());
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new PasswordHashingRejectedException("요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("비밀번호 처리 중 요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 지금 넣은 작업이 실행되기까지의 예상 대기 시간
+     * 대기열이 비어 있으면 0, 아니면 (작업 스레드당 앞선 작업 수 + 실행 중인 작업 1개) * 평균 해싱 시간
+     */
+    private double expectedQueueWaitMs() {
+        int queued = executor.getQueue().size();
+        long count = encodeTimer.count() + matchesTimer.count();
+        if (queued == 0 || count == 0) {
+            return 0;
+        }
+        double meanMs = (encodeTimer.totalTime(TimeUnit.MILLISECONDS) + matchesTimer.totalTime(TimeUnit.MILLISECONDS)) / count;
+        return ((double) queued / threads + 1) * meanMs;
+    }
+
+    private PasswordHashingRejectedException busy() {
+        return new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,10 @@
+package com.readingbuddy.backend.auth.password;
+
+/**
+ * 비밀번호 해싱 작업 풀이 가득 차서 요청을 처리할 수 없을 때 발생
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -3,12 +3,19 @@ package com.readingbuddy.backend.auth.repository;
 import com.readingbuddy.backend.auth.entity.RefreshToken;
 import com.readingbuddy.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
     Optional<RefreshToken> findByUserAndIssuedIpAndIssuedUserAgent(User user, String issuedIp, String issuedUserAgent);
-}
 
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiredAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
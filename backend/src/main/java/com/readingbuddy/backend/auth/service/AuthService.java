@@ -4,14 +4,17 @@ import com.readingbuddy.backend.auth.repository.RefreshTokenRepository;
 import com.readingbuddy.backend.auth.entity.RefreshToken;
 import com.readingbuddy.backend.auth.dto.*;
 import com.readingbuddy.backend.auth.jwt.JWTUtil;
+import com.readingbuddy.backend.auth.jwt.TokenHasher;
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
 import com.readingbuddy.backend.common.properties.JwtProperties;
 import com.readingbuddy.backend.domain.dashboard.repository.AttendanceHistoriesRepository;
-import com.readingbuddy.backend.domain.user.entity.AttendHistories;
 import com.readingbuddy.backend.domain.user.entity.User;
 import com.readingbuddy.backend.domain.user.repository.UserRepository;
+import com.readingbuddy.backend.domain.user.service.AttendanceBitmap;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,8 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final DeviceSessionManager deviceSessionManager;
     private final AttendanceHistoriesRepository attendanceHistoriesRepository;
+    private final AttendanceBitmap attendanceBitmap;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TokenResponse login(LoginRequest request, HttpServletRequest servletRequest) {
@@ -47,7 +52,7 @@ public class AuthService {
         String accessToken = createAccessToken(user);
         // 유효 시간 최대 7일
         String refreshToken = createRefreshToken(user);
-        saveRefreshToken(user, refreshToken, servletRequest);
+        saveRefreshToken(user, refreshToken, getClientIp(servletRequest), servletRequest.getHeader("User-Agent"));
 
         return createTokenResponse(accessToken, refreshToken);
     }
@@ -59,7 +64,7 @@ public class AuthService {
             throw new IllegalArgumentException("만료된 리프레시 토큰입니다.");
         }
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(TokenHasher.sha256(refreshTokenValue))
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
 
         User user = refreshToken.getUser();
@@ -88,27 +93,42 @@ public class AuthService {
 
         deviceSessionManager.authorizeDevice(deviceSessionInfo,user.getId());
 
-        checkAndCreateAttendance(user);
+        checkAndCreateAttendance(user.getId());
     }
 
     @Transactional
-    public TokenResponse checkDeviceAuthorized(DeviceCodeRequest request, HttpServletRequest servletRequest) {
-        Long userId = deviceSessionManager.checkAuthorizedDevice(request.getDeviceAuthCode());
+    public Optional<TokenResponse> checkDeviceAuthorized(DeviceCodeRequest request, HttpServletRequest servletRequest) {
+        return issueDeviceTokens(request.getDeviceAuthCode(), getClientIp(servletRequest), servletRequest.getHeader("User-Agent"));
+    }
+
+    /**
+     * 인증된 디바이스에 토큰 발급 (아직 인증되지 않았으면 빈 값)
+     * 요청 객체 대신 IP와 User-Agent 값을 받으므로 long polling 요청이 끝나기 전 다른 스레드에서 호출해도 된다.
+     */
+    @Transactional
+    public Optional<TokenResponse> issueDeviceTokens(String deviceAuthCode, String ip, String userAgent) {
+        Optional<Long> authorizedUserId = deviceSessionManager.checkAuthorizedDevice(deviceAuthCode);
+        if (authorizedUserId.isEmpty()) {
+            return Optional.empty();
+        }
+        Long userId = authorizedUserId.get();
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("로그인 정보에 일치하는 회원이 없습니다."));
 
         String accessToken = createAccessToken(user);
         String refreshToken = createRefreshToken(user);
-        saveRefreshToken(user, refreshToken, servletRequest);
+        saveRefreshToken(user, refreshToken, ip, userAgent);
 
-        return createTokenResponse(accessToken, refreshToken);
+        return Optional.of(createTokenResponse(accessToken, refreshToken));
     }
 
+    /**
+     * 출석 체크
+     * 인증된 사용자 ID만으로 처리하므로 회원 조회를 하지 않는다. (오늘 이미 출석했다면 쿼리 없음)
+     */
     public void checkAttendance(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("로그인 정보에 일치하는 회원이 없습니다."));
-        checkAndCreateAttendance(user);
+        checkAndCreateAttendance(userId);
     }
 
     private TokenResponse createTokenResponse(String accessToken, String refreshToken) {
@@ -132,7 +152,7 @@ public class AuthService {
                 jwtProperties.getRefreshTokenValidityInMs());
     }
 
-    private String getIp(HttpServletRequest servletRequest) {
+    public String getClientIp(HttpServletRequest servletRequest) {
         String ip = servletRequest.getHeader("CF-Connecting-IP");
 
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
@@ -154,9 +174,9 @@ public class AuthService {
         return ip;
     }
 
-    private void saveRefreshToken(User user, String tokenValue, HttpServletRequest servletRequest) {
-        log.info("userId: {}, IP: {}, userAgent: {}", user.getId(), getIp(servletRequest), servletRequest.getHeader("User-Agent"));
-        Optional<RefreshToken> existingRefreshToken = refreshTokenRepository.findByUserAndIssuedIpAndIssuedUserAgent(user, getIp(servletRequest), servletRequest.getHeader("User-Agent"));
+    private void saveRefreshToken(User user, String tokenValue, String ip, String userAgent) {
+        log.info("userId: {}, IP: {}, userAgent: {}", user.getId(), ip, userAgent);
+        Optional<RefreshToken> existingRefreshToken = refreshTokenRepository.findByUserAndIssuedIpAndIssuedUserAgent(user, ip, userAgent);
         LocalDateTime expiredAt = jwtUtil.getExpiredAt(jwtProperties.getRefreshTokenValidityInMs());
 
         if (existingRefreshToken.isPresent()) {
@@ -164,31 +184,29 @@ public class AuthService {
             refreshToken.rotate(tokenValue, expiredAt);
             return;
         }
-        refreshTokenRepository.save(RefreshToken.builder()
-                .token(tokenValue)
-                .user(user)
-                .issuedUserAgent(servletRequest.getHeader("User-Agent"))
-                .issuedIp(getIp(servletRequest))
-                .expiredAt(expiredAt)
-                .build());
+        refreshTokenRepository.save(RefreshToken.issue(
+                user,
+                tokenValue,
+                ip,
+                userAgent,
+                expiredAt));
     }
 
-    private void checkAndCreateAttendance(User user) {
+    private void checkAndCreateAttendance(Long userId) {
         LocalDate today = LocalDate.now();
-        Optional<AttendHistories> existingAttendance =
-                attendanceHistoriesRepository.findByUserIdAndDate(user.getId(), today);
 
-        if (existingAttendance.isPresent()) {
+        // 오늘 이미 출석한 사용자는 DB 조회 없이 종료
+        if (attendanceBitmap.isAttended(userId, today)) {
             return;
         }
 
-        AttendHistories newAttendance = AttendHistories.builder()
-                .user(user)
-                .attendDate(today)
-                .playtime(0)
-                .build();
+        // (user_id, attend_date) 유니크 제약으로 동시 요청에도 한 건만 추가됨
+        int inserted = attendanceHistoriesRepository.insertIfAbsent(userId, today);
+        attendanceBitmap.markAttended(userId, today);
 
-        attendanceHistoriesRepository.save(newAttendance);
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new LearningRecordChangedEvent(userId));
+        }
     }
 
 }
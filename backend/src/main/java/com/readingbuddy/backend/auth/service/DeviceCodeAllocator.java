@@ -0,0 +1,99 @@
+package com.readingbuddy.backend.auth.service;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 디바이스 코드 할당기
+ * 순번을 비밀 키로 섞는 Feistel 순열에 통과시켜 코드를 만든다.
+ * 순열이므로 코드 공간을 한 바퀴 돌기 전까지 같은 코드가 다시 나오지 않고, 재시도 없이 O(1)로 할당된다.
+ * 만료된 코드는 순번이 한 바퀴 돈 뒤에 재사용되므로, 만료 직후의 코드로 새 세션에 접근할 수 없다.
+ */
+public class DeviceCodeAllocator {
+
+    private static final int ROUNDS = 4;
+
+    private final char[] alphabet;
+    private final int codeLength;
+    private final long capacity;
+
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    private final AtomicLong sequence;
+
+    public DeviceCodeAllocator(String alphabet, int codeLength) {
+        this(alphabet, codeLength, new SecureRandom());
+    }
+
+    DeviceCodeAllocator(String alphabet, int codeLength, SecureRandom random) {
+        this.alphabet = alphabet.toCharArray();
+        this.codeLength = codeLength;
+
+        long space = 1;
+        for (int i = 0; i < codeLength; i++) {
+            space = Math.multiplyExact(space, (long) alphabet.length());
+        }
+        if (space > (1L << 62)) {
+            throw new IllegalArgumentException("코드 공간이 너무 큽니다.");
+        }
+        this.capacity = space;
+
+        int bits = 64 - Long.numberOfLeadingZeros(space - 1);
+        this.halfBits = Math.max((bits + 1) / 2, 1);
+        this.halfMask = (1L << halfBits) - 1;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = random.nextLong();
+        }
+        this.sequence = new AtomicLong(Math.floorMod(random.nextLong(), capacity));
+    }
+
+    public String next() {
+        long index = Math.floorMod(sequence.getAndIncrement(), capacity);
+        return encode(permute(index));
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    private long permute(long index) {
+        // Feistel 순열의 정의역(2^(2*halfBits))이 코드 공간보다 크므로 범위 안에 들 때까지 반복 (cycle walking)
+        long value = index;
+        do {
+            value = feistel(value);
+        } while (value >= capacity);
+        return value;
+    }
+
+    private long feistel(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private String encode(long value) {
+        char[] code = new char[codeLength];
+        for (int i = codeLength - 1; i >= 0; i--) {
+            code[i] = alphabet[(int) (value % alphabet.length)];
+            value /= alphabet.length;
+        }
+        return new String(code);
+    }
+}
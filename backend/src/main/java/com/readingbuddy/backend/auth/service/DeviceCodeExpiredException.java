@@ -0,0 +1,10 @@
+package com.readingbuddy.backend.auth.service;
+
+/**
+ * 만료된 디바이스 코드로 요청했을 때 발생
+ */
+public class DeviceCodeExpiredException extends RuntimeException {
+    public DeviceCodeExpiredException(String message) {
+        super(message);
+    }
+}
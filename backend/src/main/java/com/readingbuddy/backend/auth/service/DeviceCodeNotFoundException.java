@@ -0,0 +1,10 @@
+package com.readingbuddy.backend.auth.service;
+
+/**
+ * 존재하지 않거나 이미 사용된 디바이스 코드로 요청했을 때 발생
+ */
+public class DeviceCodeNotFoundException extends RuntimeException {
+    public DeviceCodeNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,65 +1,110 @@
 package com.readingbuddy.backend.auth.service;
 
 import com.readingbuddy.backend.auth.dto.DeviceSessionInfo;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.Map;
-import java.util.Set;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class DeviceSessionManager {
 
+    public static final Duration SESSION_EXPIRY = Duration.ofMinutes(3);
+
+    // 코드 -> 세션 (코드 중복 검사도 이 맵으로 처리)
     private final Map<String, DeviceSessionInfo> deviceSessionMap = new ConcurrentHashMap<>();
-    private final Set<String> deviceCodeSet = ConcurrentHashMap.newKeySet();
+    // 만료 시각 순으로 정렬된 인덱스, 정리 작업은 만료된 항목만 앞에서부터 꺼낸다
+    private final NavigableSet<ExpiryEntry> expiryIndex = new ConcurrentSkipListSet<>(
+            Comparator.comparing(ExpiryEntry::expiredAt).thenComparing(ExpiryEntry::deviceCode));
 
     private static final String CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // 혼동되는 문자 제외
-    private final SecureRandom random = new SecureRandom();
-    private final int DEVICE_CODE_LENGTH = 4;
+    private static final int DEVICE_CODE_LENGTH = 6; // 32^6 ≈ 10억 개, TV에서 입력하기 쉬운 길이
+    private final DeviceCodeAllocator deviceCodeAllocator = new DeviceCodeAllocator(CHARS, DEVICE_CODE_LENGTH);
+
+    private final Clock clock;
+
+    public DeviceSessionManager() {
+        this(Clock.systemDefaultZone());
+    }
+
+    DeviceSessionManager(Clock clock) {
+        this.clock = clock;
+    }
 
     public String generateDeviceCodeSession() {
+        LocalDateTime now = LocalDateTime.now(clock);
 
-        String deviceAuthCode = createDeviceCode();
+        for (int count = 0; count < 10; count++) {
+            String deviceAuthCode = deviceCodeAllocator.next();
 
-        DeviceSessionInfo deviceSessionInfo= DeviceSessionInfo.builder()
-                .deviceCode(deviceAuthCode)
-                .isAuthorized(false)
-                .expiredAt(LocalDateTime.now().plusMinutes(3))
-                .build();
+            DeviceSessionInfo deviceSessionInfo = DeviceSessionInfo.builder()
+                    .deviceCode(deviceAuthCode)
+                    .isAuthorized(false)
+                    .expiredAt(now.plus(SESSION_EXPIRY))
+                    .build();
 
-        deviceSessionMap.put(deviceAuthCode, deviceSessionInfo);
+            // 할당기가 코드 공간을 한 바퀴 돌기 전에는 충돌하지 않지만, 살아있는 세션은 덮어쓰지 않는다
+            DeviceSessionInfo stored = deviceSessionMap.compute(deviceAuthCode,
+                    (code, existing) -> existing == null || isExpired(existing, now) ? deviceSessionInfo : existing);
 
-        return deviceAuthCode;
+            if (stored == deviceSessionInfo) {
+                expiryIndex.add(new ExpiryEntry(deviceSessionInfo.getExpiredAt(), deviceAuthCode, deviceSessionInfo));
+                return deviceAuthCode;
+            }
+        }
+
+        throw new RuntimeException("코드 생성중 오류가 발생했습니다.");
     }
 
     public void authorizeDevice(DeviceSessionInfo session,Long userId) {
         session.setAuthorized(true);
         session.setUserId(userId);
+        session.getAuthorization().complete(userId);
+    }
+
+    /**
+     * 디바이스 인증 완료 대기
+     * 인증되면 userId로 완료되고, 세션 만료 시각까지 인증되지 않으면 TimeoutException으로 완료된다.
+     * 스레드를 점유하지 않으므로 대기 중인 디바이스 수와 무관하게 요청 스레드를 사용하지 않는다.
+     */
+    public CompletableFuture<Long> awaitAuthorization(String deviceAuthCode) {
+        DeviceSessionInfo session = getSession(deviceAuthCode);
+
+        long remainingMs = Math.max(Duration.between(LocalDateTime.now(clock), session.getExpiredAt()).toMillis(), 0L);
+        return session.getAuthorization().copy().orTimeout(remainingMs, TimeUnit.MILLISECONDS);
     }
 
-    public Long checkAuthorizedDevice(String deviceAuthCode) {
+    /**
+     * 디바이스 인증 여부 확인 (폴링)
+     * 만료된 코드는 인증 여부와 관계없이 DeviceCodeExpiredException, 아직 인증되지 않았으면 빈 값을 반환한다.
+     * 인증된 세션은 한 번만 사용할 수 있도록 반환과 함께 제거한다.
+     */
+    public Optional<Long> checkAuthorizedDevice(String deviceAuthCode) {
         DeviceSessionInfo session= deviceSessionMap.get(deviceAuthCode);
 
         checkSession(session);
 
-        if(!session.isAuthorized()){
-            throw new RuntimeException("인증 처리되지 않았습니다.");
+        if(isExpired(session, LocalDateTime.now(clock))) {
+            removeSession(session);
+            throw new DeviceCodeExpiredException("요청 시간이 만료되었습니다.");
         }
 
-        if(session.getExpiredAt().isBefore(LocalDateTime.now())) {
-            deviceSessionMap.remove(deviceAuthCode);
-            deviceCodeSet.remove(deviceAuthCode);
-            throw new RuntimeException("요청 시간이 만료되었습니다.");
+        if(!session.isAuthorized()){
+            return Optional.empty();
         }
 
-        deviceSessionMap.remove(deviceAuthCode);
-        deviceCodeSet.remove(deviceAuthCode);
-        return session.getUserId();
+        removeSession(session);
 
+        return Optional.of(session.getUserId());
     }
 
     public DeviceSessionInfo getSession(String deviceAuthCode) {
@@ -67,42 +112,56 @@ public class DeviceSessionManager {
 
         checkSession(session);
 
-        if(session.getExpiredAt().isBefore(LocalDateTime.now())) {
-            throw new RuntimeException("시간이 만료되었습니다.");
+        if(isExpired(session, LocalDateTime.now(clock))) {
+            removeSession(session);
+            throw new DeviceCodeExpiredException("시간이 만료되었습니다.");
         }
 
         return session;
     }
 
-    public void clearExpiredSessions() {
-        deviceSessionMap.entrySet().removeIf(
-                entry -> {
-                    deviceCodeSet.removeIf(code -> code.equals(entry.getValue().getDeviceCode()));
-                    return entry.getValue().getExpiredAt().isBefore(LocalDateTime.now());
-                }
-        );
+    /**
+     * 만료된 세션 정리
+     * 만료 인덱스의 앞부분만 꺼내므로 비용은 만료된 세션 수에 비례한다.
+     * @return 정리된 세션 수
+     */
+    public int clearExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int cleared = 0;
+
+        ExpiryEntry entry;
+        while ((entry = expiryIndex.pollFirst()) != null) {
+            if (entry.expiredAt().isAfter(now)) {
+                expiryIndex.add(entry);
+                break;
+            }
+            if (deviceSessionMap.remove(entry.deviceCode(), entry.session())) {
+                cleared++;
+            }
+        }
+
+        return cleared;
+    }
+
+    public int size() {
+        return deviceSessionMap.size();
     }
 
-    private void checkSession(DeviceSessionInfo session) {
-        if(session==null){
-            throw new RuntimeException("해당 코드는 유효하지 않습니다.");
-        }
+    private void removeSession(DeviceSessionInfo session) {
+        deviceSessionMap.remove(session.getDeviceCode(), session);
+        expiryIndex.remove(new ExpiryEntry(session.getExpiredAt(), session.getDeviceCode(), session));
     }
 
-    private String createDeviceCode(){
-        for(int count=0; count<10; count++){
-            StringBuilder sb = new StringBuilder(DEVICE_CODE_LENGTH);
-            for (int i = 0; i < DEVICE_CODE_LENGTH; i++) {
-                sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
-            }
-            String deviceAuthCode =sb.toString();
+    private boolean isExpired(DeviceSessionInfo session, LocalDateTime now) {
+        return session.getExpiredAt().isBefore(now);
+    }
 
-            if(deviceCodeSet.add(deviceAuthCode)){
-                return deviceAuthCode;
-            }
+    private void checkSession(DeviceSessionInfo session) {
+        if(session==null){
+            throw new DeviceCodeNotFoundException("해당 코드는 유효하지 않습니다.");
         }
+    }
 
-        throw new RuntimeException("코드 생성중 오류가 발생했습니다.");
-
+    private record ExpiryEntry(LocalDateTime expiredAt, String deviceCode, DeviceSessionInfo session) {
     }
 }
@@ -10,7 +10,8 @@ public class DeviceSessionScheduler {
 
     private final DeviceSessionManager deviceSessionManager;
 
-    @Scheduled(cron = "0 0 * * * *")
+    // 만료된 세션 수에 비례하는 비용이므로 매분 정리
+    @Scheduled(cron = "0 * * * * *")
     public void clearExpiredSessions() {
         deviceSessionManager.clearExpiredSessions();
     }
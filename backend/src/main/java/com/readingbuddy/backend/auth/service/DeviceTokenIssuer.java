@@ -0,0 +1,70 @@
+package com.readingbuddy.backend.auth.service;
+
+import com.readingbuddy.backend.auth.dto.TokenResponse;
+import com.readingbuddy.backend.common.properties.DeviceAuthProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 디바이스 long polling 토큰 발급
+ * 인증 완료 콜백은 웹에서 코드를 입력한 요청 스레드에서 실행되므로, 토큰 발급과 DB 저장은
+ * 전용 작업 풀로 넘겨 그 요청의 스레드와 트랜잭션을 사용하지 않도록 한다.
+ * 작업 풀이 가득 차면 RejectedExecutionException으로 완료된다.
+ */
+@Component
+public class DeviceTokenIssuer implements DisposableBean {
+
+    private final AuthService authService;
+    private final DeviceSessionManager deviceSessionManager;
+    private final ThreadPoolExecutor executor;
+
+    public DeviceTokenIssuer(AuthService authService,
+                             DeviceSessionManager deviceSessionManager,
+                             DeviceAuthProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.authService = authService;
+        this.deviceSessionManager = deviceSessionManager;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getTokenThreads(), properties.getTokenThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getTokenQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "device-token-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "device.token");
+    }
+
+    /**
+     * 디바이스 인증이 완료되면 토큰 발급
+     * IP와 User-Agent는 요청을 보류하기 전에 읽어 둔 값을 받는다.
+     * 코드가 없거나 만료되었으면 즉시 DeviceCodeNotFoundException / DeviceCodeExpiredException을 던지고,
+     * 만료 시각까지 인증되지 않으면 TimeoutException으로 완료된다.
+     */
+    public CompletableFuture<TokenResponse> issueWhenAuthorized(String deviceAuthCode, String ip, String userAgent) {
+        return deviceSessionManager.awaitAuthorization(deviceAuthCode)
+                .thenCompose(userId -> CompletableFuture.supplyAsync(
+                        // 인증이 끝난 뒤에 호출하므로 빈 값은 다른 요청이 세션을 먼저 사용한 경우뿐이다
+                        () -> authService.issueDeviceTokens(deviceAuthCode, ip, userAgent)
+                                .orElseThrow(() -> new DeviceCodeNotFoundException("해당 코드는 유효하지 않습니다.")),
+                        executor));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
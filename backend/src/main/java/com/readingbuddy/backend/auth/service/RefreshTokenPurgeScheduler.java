@@ -0,0 +1,26 @@
+package com.readingbuddy.backend.auth.service;
+
+import com.readingbuddy.backend.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // 매일 새벽 4시, 만료된 리프레시 토큰 삭제 (expired_at 인덱스 사용)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void purgeExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,17 @@
+package com.readingbuddy.backend.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원의 KC 숙련도가 새로 기록되었음을 알리는 이벤트
+ * 커밋 뒤에 처리되므로 엔티티 대신 값만 담는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class KcMasteryUpdatedEvent {
+    private final Long userId;
+    private final String stage;
+    private final Long kcId;
+    private final float correctRate;
+}
@@ -0,0 +1,13 @@
+package com.readingbuddy.backend.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원의 학습 기록(문제 풀이, 스테이지 완료, 출석)이 변경되었음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class LearningRecordChangedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,37 @@
+package com.readingbuddy.backend.common.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * TrainManager.sendVoiceToAI의 AI 서버 호출 한 번
+ * 세션에 사용자 ID가 없어서 학습 세션(trained_stage_histories) ID로 구분한다.
+ */
+@Name("com.readingbuddy.AiVoiceCheck")
+@Label("AI Voice Check")
+@Category({"Reading Buddy", "AI Server"})
+@Description("음성 인식 AI 서버 호출")
+@StackTrace(false)
+@Setter
+public class AiVoiceCheckEvent extends Event {
+
+    @Label("Trained Stage History Id")
+    private long trainedStageHistoriesId;
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Problem Number")
+    private int problemNumber;
+
+    @Label("Route")
+    private String route;
+
+    @Label("Audio Size")
+    @DataAmount
+    private long audioBytes;
+
+    @Label("Outcome")
+    @Description("success | unexpected_response | error")
+    private String outcome;
+}
@@ -0,0 +1,34 @@
+package com.readingbuddy.backend.common.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * BktService.updateLearnedMastery 한 번 (숙련도 조회 + 새 이력 저장)
+ */
+@Name("com.readingbuddy.BktMasteryUpdate")
+@Label("BKT Mastery Update")
+@Category({"Reading Buddy", "BKT"})
+@Description("KC 숙련도 갱신 (user_kc_mastery 조회 1행, 저장 1행)")
+@StackTrace(false)
+@Setter
+public class BktMasteryUpdateEvent extends Event {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("KC Id")
+    private long kcId;
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Correct")
+    private boolean correct;
+
+    @Label("pLearn Before")
+    private float pLearnBefore;
+
+    @Label("pLearn After")
+    private float pLearnAfter;
+}
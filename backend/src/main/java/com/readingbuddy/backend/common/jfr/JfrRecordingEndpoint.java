@@ -0,0 +1,159 @@
+package com.readingbuddy.backend.common.jfr;
+
+import com.readingbuddy.backend.common.properties.JfrRecordingProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * /actuator/jfr - 기간과 크기가 제한된 JFR 녹화 한 개를 시작, 조회, 종료
+ * GET: 상태 조회, POST {"durationSeconds": n}: 녹화 시작, DELETE: 녹화를 멈추고 .jfr 파일로 내려받기
+ * 녹화는 한 번에 하나만 하고, 지정한 시간이 지나면 JFR이 스스로 멈춘다 (DELETE 전까지 데이터는 남아 있음).
+ * actuator는 인증 없이 열려 있으므로 POST/DELETE는 management.endpoint.jfr.access로 막아 두고 필요할 때만 연다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrRecordingEndpoint implements DisposableBean {
+
+    private static final String RECORDING_NAME = "readingbuddy";
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // 설정 파일(default, profile)과 관계없이 항상 남기는 이벤트
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+            BktMasteryUpdateEvent.class,
+            PhonemeSelectionEvent.class,
+            ProblemGenerationEvent.class,
+            AiVoiceCheckEvent.class);
+
+    private final JfrRecordingProperties properties;
+
+    private Recording recording;
+    private Path lastDump;
+
+    @ReadOperation
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus("NONE", null, null, 0L, lastDumpName());
+        }
+        return new RecordingStatus(recording.getState().name(), recording.getStartTime(),
+                recording.getDuration() != null ? recording.getDuration().toSeconds() : null,
+                recording.getSize(), lastDumpName());
+    }
+
+    /**
+     * 녹화 시작, 이미 녹화 중이면 그대로 둔다
+     * @param durationSeconds 녹화 시간 (없으면 default-duration-seconds, max-duration-seconds를 넘을 수 없음)
+     */
+    @WriteOperation
+    public synchronized RecordingStatus start(@Nullable Long durationSeconds) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        closeRecording();
+
+        long seconds = Math.min(durationSeconds != null && durationSeconds > 0
+                ? durationSeconds : properties.getDefaultDurationSeconds(), properties.getMaxDurationSeconds());
+
+        Recording newRecording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setDuration(Duration.ofSeconds(seconds));
+        newRecording.setMaxSize(properties.getMaxSizeMb() * 1024 * 1024);
+        APPLICATION_EVENTS.forEach(type -> newRecording.enable(type).withThreshold(Duration.ZERO));
+        newRecording.start();
+        recording = newRecording;
+
+        log.info("JFR 녹화 시작 - {}초, 최대 {}MB, 설정: {}", seconds, properties.getMaxSizeMb(), properties.getSettings());
+        return status();
+    }
+
+    /**
+     * 녹화를 멈추고 dump-directory에 저장한 파일을 돌려준다 (녹화가 없으면 204)
+     */
+    @DeleteOperation(produces = "application/octet-stream")
+    public synchronized Resource stop() throws IOException {
+        if (recording == null) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+
+        Path directory = Paths.get(properties.getDumpDirectory());
+        Files.createDirectories(directory);
+        Path dump = directory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(DUMP_TIMESTAMP) + ".jfr");
+        recording.dump(dump);
+        closeRecording();
+        lastDump = dump;
+        pruneDumps(directory);
+
+        log.info("JFR 녹화 저장 - {} ({} bytes)", dump, Files.size(dump));
+        return new FileSystemResource(dump);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeRecording();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    // 오래된 덤프부터 지워 max-dumps개만 남긴다
+    private void pruneDumps(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> dumps = files
+                    .filter(path -> path.getFileName().toString().startsWith(RECORDING_NAME + "-"))
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+            for (Path old : dumps.subList(Math.min(properties.getMaxDumps(), dumps.size()), dumps.size())) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+
+    private String lastDumpName() {
+        return lastDump != null ? lastDump.getFileName().toString() : null;
+    }
+
+    /**
+     * @param state NONE | NEW | RUNNING | STOPPED | CLOSED
+     * @param durationSeconds 녹화 시간 (지나면 자동으로 멈춤)
+     * @param recordedBytes 지금까지 기록된 크기
+     * @param lastDump 마지막으로 저장한 덤프 파일 이름
+     */
+    public record RecordingStatus(String state, Instant startTime, Long durationSeconds,
+                                  long recordedBytes, String lastDump) {
+    }
+}
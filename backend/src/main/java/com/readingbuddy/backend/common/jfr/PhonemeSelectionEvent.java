@@ -0,0 +1,36 @@
+package com.readingbuddy.backend.common.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * BktService.selectPhonemeUsingBitMask 한 번 (KC의 음소 중 아직 출제되지 않은 음소 선택)
+ */
+@Name("com.readingbuddy.PhonemeSelection")
+@Label("Phoneme Selection")
+@Category({"Reading Buddy", "Training"})
+@Description("비트마스크 기반 음소 선택")
+@StackTrace(false)
+@Setter
+public class PhonemeSelectionEvent extends Event {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("KC Id")
+    private long kcId;
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Phoneme Rows")
+    @Description("KC에 매핑된 음소 수 (phonemes_kc_map 조회 행 수)")
+    private int phonemeRows;
+
+    @Label("Available Phonemes")
+    private int availableCount;
+
+    @Label("Result")
+    @Description("available | reset | duplicate")
+    private String result;
+}
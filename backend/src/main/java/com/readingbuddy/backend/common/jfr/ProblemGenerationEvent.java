@@ -0,0 +1,35 @@
+package com.readingbuddy.backend.common.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * ProblemGenerateService.generateStage3 / generateStage4 한 번 (문제 세트 하나 생성)
+ */
+@Name("com.readingbuddy.ProblemGeneration")
+@Label("Problem Generation")
+@Category({"Reading Buddy", "Training"})
+@Description("KC별 글자 문제 세트 생성")
+@StackTrace(false)
+@Setter
+public class ProblemGenerationEvent extends Event {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Requested Count")
+    private int requestedCount;
+
+    @Label("KC Count")
+    private int kcCount;
+
+    @Label("Letter Rows")
+    @Description("KC별로 조회한 letters_kc_map 행 수 합계")
+    private int letterRows;
+
+    @Label("Problem Count")
+    private int problemCount;
+}
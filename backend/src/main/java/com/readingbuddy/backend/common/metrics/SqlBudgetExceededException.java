@@ -0,0 +1,10 @@
+package com.readingbuddy.backend.common.metrics;
+
+/**
+ * 요청 하나의 SQL 개수가 설정된 상한을 넘었을 때 발생 (sql.budget.fail-on-breach=true일 때만)
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,65 @@
+package com.readingbuddy.backend.common.metrics;
+
+import com.readingbuddy.backend.common.properties.SqlBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 요청별 SQL 개수 상한(sql.budget) 검사와 N+1 의심 쿼리 기록
+ * 상한을 넘거나 같은 형태의 쿼리가 반복되면 쿼리 형태를 로그로 남기고 카운터를 올린다.
+ * fail-on-breach가 켜져 있으면 상한 초과 시 SqlBudgetExceededException을 던진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlQueryBudget {
+
+    // 로그에 남길 쿼리 형태 수
+    private static final int LOGGED_SHAPES = 10;
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public int limitOf(String uri) {
+        return properties.getEndpoints().getOrDefault(uri, properties.getDefaultLimit());
+    }
+
+    public void check(String method, String uri, SqlStatementStats stats) {
+        if (!properties.getEnabled()) {
+            return;
+        }
+
+        Map<String, Integer> repeated = stats.repeatedShapes(properties.getRepeatedThreshold());
+        if (!repeated.isEmpty()) {
+            Counter.builder("http.server.sql.repeated")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("N+1 의심 쿼리 - {} {}, 반복 형태 {}개:{}", method, uri, repeated.size(),
+                    new SqlStatementStats(stats.count(), repeated).describe(LOGGED_SHAPES));
+        }
+
+        int limit = limitOf(uri);
+        if (stats.count() <= limit) {
+            return;
+        }
+
+        Counter.builder("http.server.sql.budget.exceeded")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+        String message = String.format("SQL 개수 상한 초과 - %s %s: %d개 (상한 %d)%s",
+                method, uri, stats.count(), limit, stats.describe(LOGGED_SHAPES));
+        if (properties.getFailOnBreach()) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+}
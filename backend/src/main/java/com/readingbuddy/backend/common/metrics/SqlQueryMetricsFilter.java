@@ -0,0 +1,58 @@
+package com.readingbuddy.backend.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청별 SQL 개수를 http.server.sql.queries로 기록 (uri는 매핑된 경로 패턴)하고 SqlQueryBudget으로 상한 검사
+ * 인증 필터에서 실행하는 SQL까지 포함하도록 Spring Security 필터보다 먼저 실행
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlQueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "http.server.sql.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlQueryBudget sqlQueryBudget;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        SqlStatementStats stats;
+        String uri;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats = SqlStatementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder(METRIC_NAME)
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(stats.count());
+        }
+        // 요청 처리 중 예외가 난 경우에는 원래 예외를 가리지 않도록 검사하지 않는다
+        sqlQueryBudget.check(request.getMethod(), uri, stats);
+    }
+}
@@ -0,0 +1,75 @@
+package com.readingbuddy.backend.common.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hibernate가 실행하는 SQL 개수를 요청 단위로 센다
+ * begin()을 호출한 스레드에서만 세고, 그 밖의 스레드(미리 생성, 시딩 등)는 세지 않는다.
+ * JdbcTemplate으로 직접 실행하는 SQL은 Hibernate를 거치지 않으므로 포함되지 않는다.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    // 요청 하나에서 기억할 서로 다른 SQL 문자열 수 상한, 넘으면 개수만 센다
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Statements statements = CURRENT.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void begin() {
+        CURRENT.set(new Statements());
+    }
+
+    /**
+     * begin() 이후 실행된 SQL 개수 (begin() 전이면 0)
+     */
+    public static int current() {
+        Statements statements = CURRENT.get();
+        return statements == null ? 0 : statements.count;
+    }
+
+    /**
+     * 세기를 마치고 개수와 쿼리 형태별 실행 횟수 반환
+     */
+    public static SqlStatementStats end() {
+        Statements statements = CURRENT.get();
+        CURRENT.remove();
+        if (statements == null) {
+            return SqlStatementStats.EMPTY;
+        }
+        return SqlStatementStats.of(statements.count, statements.bySql);
+    }
+
+    private static class Statements {
+
+        private int count;
+        // 같은 쿼리는 Hibernate가 같은 문자열로 만들기 때문에 원문 그대로 모으고, 형태 정규화는 끝날 때 한 번만 한다
+        private final Map<String, Integer> bySql = new HashMap<>();
+
+        void add(String sql) {
+            count++;
+            if (bySql.size() < MAX_DISTINCT_STATEMENTS || bySql.containsKey(sql)) {
+                bySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+}
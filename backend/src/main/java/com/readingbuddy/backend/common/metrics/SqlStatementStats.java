@@ -0,0 +1,60 @@
+package com.readingbuddy.backend.common.metrics;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 하나에서 실행된 SQL 개수와 쿼리 형태별 실행 횟수
+ * 형태는 공백을 하나로 줄이고 IN (?, ?, ...) 목록을 IN (?)로 접어서 파라미터 개수만 다른 쿼리를 하나로 본다.
+ * @param count 실행된 SQL 개수
+ * @param shapes 쿼리 형태별 실행 횟수 (많이 실행된 순)
+ */
+public record SqlStatementStats(int count, Map<String, Integer> shapes) {
+
+    public static final SqlStatementStats EMPTY = new SqlStatementStats(0, Map.of());
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    static SqlStatementStats of(int count, Map<String, Integer> bySql) {
+        Map<String, Integer> shapes = new HashMap<>();
+        bySql.forEach((sql, times) -> shapes.merge(shapeOf(sql), times, Integer::sum));
+
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return new SqlStatementStats(count, Collections.unmodifiableMap(sorted));
+    }
+
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    /**
+     * threshold번 이상 반복된 쿼리 형태 (N+1 의심)
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.forEach((shape, times) -> {
+            if (times >= threshold) {
+                repeated.put(shape, times);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * 로그용 요약, 많이 실행된 형태부터 limit개
+     */
+    public String describe(int limit) {
+        StringBuilder sb = new StringBuilder();
+        shapes.entrySet().stream().limit(limit).forEach(entry ->
+                sb.append("\n  ").append(entry.getValue()).append("x ").append(entry.getKey()));
+        if (shapes.size() > limit) {
+            sb.append("\n  ... ").append(shapes.size() - limit).append(" more");
+        }
+        return sb.toString();
+    }
+}
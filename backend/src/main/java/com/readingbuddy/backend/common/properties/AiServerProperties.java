@@ -0,0 +1,13 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.server")
+public class AiServerProperties {
+    // 음성 인식 AI 서버 주소 (/check/word, /check/syllable, /check/jamo)
+    private String baseUrl = "http://3.36.239.57:8000";
+}
@@ -0,0 +1,23 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bkt.fit")
+public class BktFitProperties {
+    private Boolean enabled = true;
+    // @Scheduled에서 placeholder로 직접 읽음
+    private String cron = "0 0 3 * * SUN";
+    // 커서에서 한 번에 가져오는 행 수
+    private Integer fetchSize = 10000;
+    // EM 병렬도 (ForkJoinPool)
+    private Integer parallelism = Runtime.getRuntime().availableProcessors();
+    private Integer maxIterations = 50;
+    // 로그 우도 상대 변화가 이보다 작으면 수렴으로 본다
+    private Double tolerance = 1e-5;
+    // 관측이 이보다 적은 KC는 추정하지 않고 기본값 유지
+    private Integer minObservations = 200;
+}
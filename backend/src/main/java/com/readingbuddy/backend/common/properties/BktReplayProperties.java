@@ -0,0 +1,20 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bkt.replay")
+public class BktReplayProperties {
+    // true로 기동하면 시작 직후 백그라운드에서 전체 재계산 1회 실행
+    private Boolean runOnStartup = false;
+    // 사용자 단위 재계산 워커 수
+    private Integer workers = 4;
+    // 워커 대기열 (가득 차면 커서를 읽는 스레드가 직접 계산)
+    private Integer queueCapacity = 256;
+    private Integer fetchSize = 10000;
+    // COPY 한 번에 보내는 행 수
+    private Integer copyBatchRows = 50000;
+}
@@ -0,0 +1,18 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dashboard.cache")
+public class DashBoardCacheProperties {
+    private Integer maxEntries = 10000;
+    // 버전을 기억할 최대 회원 수, 넘으면 오래 조회하지 않은 회원부터 잊는다
+    private Integer maxUsers = 50000;
+    // 캐시에 저장하는 응답 본문(byte[]) 크기 합계 상한, 넘으면 오래 사용하지 않은 항목부터 제거
+    private Long maxBytes = 64L * 1024 * 1024;
+    // 응답 본문 하나의 크기 상한, 넘는 본문은 캐시하지 않는다 (긴 기간의 숙련도 추이 등)
+    private Long maxEntryBytes = 256L * 1024;
+}
@@ -0,0 +1,16 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 디바이스 long polling 토큰 발급 작업 풀 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.device")
+public class DeviceAuthProperties {
+    private Integer tokenThreads = 2;
+    private Integer tokenQueueCapacity = 200;
+}
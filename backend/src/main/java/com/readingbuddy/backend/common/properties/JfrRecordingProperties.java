@@ -0,0 +1,21 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "profiling.jfr")
+public class JfrRecordingProperties {
+    // 녹화 시간을 지정하지 않았을 때 기본값, 지나면 자동으로 멈춘다
+    private Long defaultDurationSeconds = 60L;
+    // 요청으로 지정할 수 있는 녹화 시간 상한
+    private Long maxDurationSeconds = 600L;
+    private Long maxSizeMb = 100L;
+    // JDK 기본 설정 이름 (default: 오버헤드 1% 내외, profile: 2% 내외로 더 자세히)
+    private String settings = "profile";
+    private String dumpDirectory = System.getProperty("java.io.tmpdir") + "/readingbuddy-jfr";
+    // 남겨 둘 덤프 파일 수, 넘으면 오래된 것부터 지운다
+    private Integer maxDumps = 5;
+}
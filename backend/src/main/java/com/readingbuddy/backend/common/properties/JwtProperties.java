@@ -11,4 +11,5 @@ public class JwtProperties {
     private String secret;
     private Long accessTokenValidityInMs;
     private Long refreshTokenValidityInMs;
+    private Integer principalCacheMaxEntries = 10000;
 }
@@ -0,0 +1,13 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "training.kc-scheduler")
+public class KcSchedulerProperties {
+    // 메모리에 유지하는 (사용자, 단계) 우선순위 힙 개수
+    private Integer maxEntries = 10000;
+}
@@ -0,0 +1,28 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비밀번호 해싱 작업 풀 및 Argon2 설정
+ * 동시에 사용하는 최대 메모리는 threads * memoryKb 이다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+    // 작업 풀
+    private Integer threads = 4;
+    private Integer queueCapacity = 200;
+    // 대기열에서 기다릴 수 있는 최대 시간, 넘을 것으로 보이거나 실제로 넘으면 해싱하지 않고 거절
+    private Long maxQueueWaitMs = 1000L;
+    private Long timeoutMs = 3000L;
+
+    // Argon2 (기본값은 Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8과 동일)
+    private Integer saltLength = 16;
+    private Integer hashLength = 32;
+    private Integer parallelism = 1;
+    private Integer memoryKb = 1 << 14;
+    private Integer iterations = 2;
+}
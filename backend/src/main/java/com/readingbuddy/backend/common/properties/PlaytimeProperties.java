@@ -0,0 +1,14 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "training.playtime")
+public class PlaytimeProperties {
+    // 이벤트 사이 간격이 이보다 길면 자리를 비운 것으로 보고 이 값까지만 인정
+    private Integer idleCapSeconds = 120;
+    private Long flushIntervalMs = 30000L;
+}
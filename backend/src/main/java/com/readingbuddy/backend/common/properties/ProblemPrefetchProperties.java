@@ -0,0 +1,18 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "training.prefetch")
+public class ProblemPrefetchProperties {
+    private Integer maxEntries = 10000;
+    private Integer threads = 2;
+    private Integer queueCapacity = 100;
+    // 생성 중인 세트를 기다리는 최대 시간, 넘기면 요청 스레드에서 직접 생성
+    private Long waitTimeoutMs = 1000L;
+    // 마지막 풀이 후 이 시간 동안 새 풀이가 없으면 버린 세트를 다시 생성, 0이면 다시 생성하지 않음
+    private Long refreshDelayMs = 3000L;
+}
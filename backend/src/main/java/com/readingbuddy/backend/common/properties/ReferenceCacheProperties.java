@@ -0,0 +1,16 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jpa.reference-cache")
+public class ReferenceCacheProperties {
+    private Boolean enabled = true;
+    // 참조 엔티티 region별 최대 항목 수
+    private Long maxEntries = 20000L;
+    // 쿼리 캐시 결과 최대 항목 수
+    private Long queryMaxEntries = 5000L;
+}
@@ -0,0 +1,15 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+    // 서로 의존하지 않는 시더를 동시에 실행할 스레드 수
+    private Integer parallelism = 3;
+    // true면 seed_manifest의 checksum과 같아도 모든 시더를 다시 반영
+    private Boolean force = false;
+}
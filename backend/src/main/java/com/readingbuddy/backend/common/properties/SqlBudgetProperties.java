@@ -0,0 +1,23 @@
+package com.readingbuddy.backend.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql.budget")
+public class SqlBudgetProperties {
+    private Boolean enabled = true;
+    // 경로별 설정이 없는 요청의 SQL 개수 상한
+    private Integer defaultLimit = 30;
+    // 경로 패턴별 SQL 개수 상한 (키는 @RequestMapping 경로 패턴)
+    private Map<String, Integer> endpoints = new HashMap<>();
+    // 같은 형태의 쿼리가 이 횟수 이상 반복되면 N+1로 보고 기록
+    private Integer repeatedThreshold = 5;
+    // 상한을 넘으면 예외를 던진다 (테스트용, 운영에서는 로그와 메트릭만 남긴다)
+    private Boolean failOnBreach = false;
+}
@@ -3,6 +3,9 @@ package com.readingbuddy.backend.common.service;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,6 +22,7 @@ import java.time.format.DateTimeFormatter;
 public class S3Service {
 
     private final AmazonS3 s3Client;
+    private final MeterRegistry meterRegistry;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -28,8 +32,11 @@ public class S3Service {
     /**
      * 음성 파일을 S3에 업로드하고 URL 반환
      * 파일명 형식: audio/{stageSessionId}/{userId}_{problemId}_{timestamp}.확장자
+     * 업로드 시간(s3.upload)과 크기(s3.upload.size)는 stage 태그로 기록
      */
-    public String uploadAudioFile(MultipartFile file, String stageSessionId, Long userId, Integer problemId) {
+    public String uploadAudioFile(MultipartFile file, String stage, String stageSessionId, Long userId, Integer problemId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             // 현재 시간을 타임스탬프로 변환
             String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
@@ -54,11 +61,23 @@ public class S3Service {
             String fileUrl = s3Client.getUrl(bucket, fileName).toString();
             log.info("S3 업로드 성공: userId={}, problemId={}, url={}", userId, problemId, fileUrl);
 
+            outcome = "success";
+            DistributionSummary.builder("s3.upload.size")
+                    .baseUnit("bytes")
+                    .tag("stage", stage)
+                    .register(meterRegistry)
+                    .record(file.getSize());
+
             return fileUrl;
 
         } catch (IOException e) {
             log.error("S3 업로드 실패: userId={}, problemId={}, error={}", userId, problemId, e.getMessage(), e);
             throw new RuntimeException("파일 업로드에 실패했습니다. ",e);
+        } finally {
+            sample.stop(Timer.builder("s3.upload")
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
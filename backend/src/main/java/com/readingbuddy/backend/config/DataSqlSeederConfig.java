@@ -0,0 +1,44 @@
+package com.readingbuddy.backend.config;
+
+import com.readingbuddy.backend.config.seed.SeedChecksum;
+import com.readingbuddy.backend.config.seed.Seeder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+
+/**
+ * data.sql (KC, 단어, 음소 기준 데이터와 일부 스키마 보정)
+ * 스크립트의 모든 문장이 재실행해도 안전하므로 (ON CONFLICT DO NOTHING, IF EXISTS)
+ * 파일 내용이 바뀌었을 때 스크립트 전체를 다시 실행하는 것이 곧 차이 반영이다.
+ */
+@Component
+public class DataSqlSeederConfig implements Seeder {
+
+    public static final String NAME = "data-sql";
+
+    private final Resource script = new ClassPathResource("data.sql");
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String checksum() {
+        try {
+            return SeedChecksum.builder().add(script.getContentAsByteArray()).build();
+        } catch (Exception e) {
+            throw new IllegalStateException("data.sql을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void apply(Connection con) throws Exception {
+        ScriptUtils.executeSqlScript(con, new EncodedResource(script, StandardCharsets.UTF_8));
+    }
+}
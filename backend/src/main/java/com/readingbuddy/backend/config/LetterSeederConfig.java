@@ -1,22 +1,21 @@
 package com.readingbuddy.backend.config;
 
 import com.readingbuddy.backend.common.util.function.PhonemeCounter;
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.ApplicationRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.core.annotation.Order;
+import com.readingbuddy.backend.config.seed.SeedChecksum;
+import com.readingbuddy.backend.config.seed.Seeder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
 
-import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.util.Set;
+import java.sql.ResultSet;
+import java.util.*;
 
-@Configuration
-@RequiredArgsConstructor
-public class LetterSeederConfig {
+@Slf4j
+@Component
+public class LetterSeederConfig implements Seeder {
 
-    private final DataSource dataSource;
+    public static final String NAME = "letters";
 
     // 필요 시 application.yml로 뺄 수 있음
     private static final String VOICE_FMT      = "https://final-a206.s3.ap-northeast-2.amazonaws.com/voices/letters/%s_normal.mp3";
@@ -35,51 +34,100 @@ public class LetterSeederConfig {
             17  // ㅠ
     );
 
-    @Bean
-    @Order(0)
-    ApplicationRunner seedLettersRunner() {
-        return args -> {
-            // 재실행해도 중복은 자동 스킵(ON CONFLICT DO NOTHING)
-            try (Connection con = dataSource.getConnection()) {
-                con.setAutoCommit(false);
-
-                // PostgreSQL: unicode에 UNIQUE 인덱스가 있다고 가정
-                final String sql = ""
-                        + "INSERT INTO letters(id, unicode, unicode_point, \"count\", voice_url, slow_voice_url) "
-                        + "VALUES (?, ?, ?, ?, ?, ?) "
-                        + "ON CONFLICT (unicode) DO NOTHING";
-
-                try (PreparedStatement ps = con.prepareStatement(sql)) {
-                    int batch = 0;
-                    for (int cp = 0xAC00; cp <= 0xD7A3; cp++) {
-                        if (!isChoOrthPronSame(cp)) continue;
-                        if (!isJongOrthPronSame(cp)) continue;
-                        if (!isJungOrthPronSame(cp)) continue;
-
-                        String ucode = String.format("U+%04X", cp);
-                        String id = ucode; // 필요 시 다른 규칙 사용
-                        int cnt = PhonemeCounter.countForCodePoint(cp);
-                        String voice = String.format(VOICE_FMT, ucode);
-                        String slow  = String.format(VOICE_SLOW_FMT, ucode);
-
-                        ps.setString(1, id);
-                        ps.setString(2, ucode);
-                        ps.setInt(3, cp);
-                        ps.setInt(4, cnt);
-                        ps.setString(5, voice);
-                        ps.setString(6, slow);
-                        ps.addBatch();
-
-                        if (++batch % 1000 == 0) ps.executeBatch();
-                    }
-                    ps.executeBatch();
-                    con.commit();
-                } catch (Exception e) {
-                    con.rollback();
-                    throw e;
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String checksum() {
+        SeedChecksum checksum = SeedChecksum.builder();
+        for (LetterRow letter : letters()) {
+            checksum.add(letter);
+        }
+        return checksum.build();
+    }
+
+    @Override
+    public void apply(Connection con) throws Exception {
+        Map<String, LetterRow> existing = loadLetters(con);
+
+        // PostgreSQL: unicode에 UNIQUE 인덱스가 있다고 가정 (동시에 기동한 다른 인스턴스가 먼저 넣었으면 스킵)
+        final String insertSql = ""
+                + "INSERT INTO letters(id, unicode, unicode_point, \"count\", voice_url, slow_voice_url) "
+                + "VALUES (?, ?, ?, ?, ?, ?) "
+                + "ON CONFLICT (unicode) DO NOTHING";
+        final String updateSql = ""
+                + "UPDATE letters SET unicode_point = ?, \"count\" = ?, voice_url = ?, slow_voice_url = ? "
+                + "WHERE id = ?";
+
+        try (PreparedStatement insertPs = con.prepareStatement(insertSql);
+             PreparedStatement updatePs = con.prepareStatement(updateSql)) {
+            int inserted = 0;
+            int updated = 0;
+            for (LetterRow letter : letters()) {
+                LetterRow current = existing.get(letter.id());
+                if (current == null) {
+                    insertPs.setString(1, letter.id());
+                    insertPs.setString(2, letter.id());
+                    insertPs.setInt(3, letter.codePoint());
+                    insertPs.setInt(4, letter.count());
+                    insertPs.setString(5, letter.voiceUrl());
+                    insertPs.setString(6, letter.slowVoiceUrl());
+                    insertPs.addBatch();
+                    if (++inserted % 1000 == 0) insertPs.executeBatch();
+                } else if (!current.equals(letter)) {
+                    updatePs.setInt(1, letter.codePoint());
+                    updatePs.setInt(2, letter.count());
+                    updatePs.setString(3, letter.voiceUrl());
+                    updatePs.setString(4, letter.slowVoiceUrl());
+                    updatePs.setString(5, letter.id());
+                    updatePs.addBatch();
+                    if (++updated % 1000 == 0) updatePs.executeBatch();
                 }
             }
-        };
+            insertPs.executeBatch();
+            updatePs.executeBatch();
+            log.info("Letters 시드 반영: 추가 {}, 수정 {}", inserted, updated);
+        }
+    }
+
+    /**
+     * 시드 대상 글자 (발음과 표기가 같은 음절만)
+     */
+    static List<LetterRow> letters() {
+        List<LetterRow> letters = new ArrayList<>();
+        for (int cp = 0xAC00; cp <= 0xD7A3; cp++) {
+            if (!isChoOrthPronSame(cp)) continue;
+            if (!isJongOrthPronSame(cp)) continue;
+            if (!isJungOrthPronSame(cp)) continue;
+
+            String ucode = String.format("U+%04X", cp);
+            int cnt = PhonemeCounter.countForCodePoint(cp);
+            String voice = String.format(VOICE_FMT, ucode);
+            String slow  = String.format(VOICE_SLOW_FMT, ucode);
+            letters.add(new LetterRow(ucode, cp, cnt, voice, slow));
+        }
+        return letters;
+    }
+
+    private Map<String, LetterRow> loadLetters(Connection con) throws Exception {
+        Map<String, LetterRow> letters = new HashMap<>();
+        String sql = "SELECT id, unicode_point, \"count\", voice_url, slow_voice_url FROM letters";
+
+        try (PreparedStatement ps = con.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                LetterRow letter = new LetterRow(rs.getString("id"), rs.getInt("unicode_point"), rs.getInt("count"),
+                        rs.getString("voice_url"), rs.getString("slow_voice_url"));
+                letters.put(letter.id(), letter);
+            }
+        }
+        return letters;
+    }
+
+    // id는 unicode와 같은 값 ("U+AC00")
+    record LetterRow(String id, int codePoint, int count, String voiceUrl, String slowVoiceUrl) {
     }
 
     static boolean isChoOrthPronSame(int cp) {
@@ -1,24 +1,24 @@
 package com.readingbuddy.backend.config;
 
-import lombok.RequiredArgsConstructor;
+import com.readingbuddy.backend.config.seed.SeedChecksum;
+import com.readingbuddy.backend.config.seed.Seeder;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.ApplicationRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
 
-import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.*;
 
-@Configuration
-@RequiredArgsConstructor
+@Component
 @Slf4j
-public class LettersKcMapSeederConfig {
+public class LettersKcMapSeederConfig implements Seeder {
 
-    private final DataSource dataSource;
+    public static final String NAME = "letters-kc-map";
+
+    // 받침 있는 음절 / 받침 없는 음절 KC
+    private static final Long CLOSED_SYLLABLE_KC = 23L;
+    private static final Long OPEN_SYLLABLE_KC = 24L;
 
     // 초성 인덱스 -> ONSET KC ID 매핑 (4.1 + 4.2)
     private static final Map<Integer, List<Long>> CHO_TO_ONSET_KC = new HashMap<>() {{
@@ -91,94 +91,116 @@ public class LettersKcMapSeederConfig {
         put(19, List.of(22L, 46L)); // ㅢ
     }};
 
-    @Bean
-    @Order(100)
-    ApplicationRunner seedLettersKcMapRunner() {
-        return args -> {
-            log.info("LettersKcMapSeeder 시작...");
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    // letters는 LetterSeederConfig, knowledge_component는 data.sql이 넣는다
+    @Override
+    public List<String> dependsOn() {
+        return List.of(LetterSeederConfig.NAME, DataSqlSeederConfig.NAME);
+    }
+
+    @Override
+    public String checksum() {
+        return SeedChecksum.of(new TreeMap<>(CHO_TO_ONSET_KC), new TreeMap<>(JONG_TO_CODA_KC),
+                new TreeMap<>(JUNG_TO_NUCLEUS_KC), CLOSED_SYLLABLE_KC, OPEN_SYLLABLE_KC);
+    }
+
+    @Override
+    public void apply(Connection con) throws Exception {
+        log.info("LettersKcMapSeeder 시작...");
 
-            try (Connection con = dataSource.getConnection()) {
-                con.setAutoCommit(false);
+        // Letters 데이터 조회
+        List<LetterInfo> letters = loadLetters(con);
+        log.info("조회된 Letters 개수: {}", letters.size());
 
-                // Letters 데이터 조회
-                List<LetterInfo> letters = loadLetters(con);
-                log.info("조회된 Letters 개수: {}", letters.size());
+        if (letters.isEmpty()) {
+            log.warn("Letters 테이블이 비어있습니다. LetterSeederConfig가 먼저 실행되었는지 확인하세요.");
+            return;
+        }
+        Set<Mapping> existing = loadMappings(con);
+
+        // LettersKcMap 테이블에 없는 매핑만 삽입 (복합키 사용)
+        final String sql = """
+            INSERT INTO letters_kc_map (letters_id, knowledge_component_id)
+            VALUES (?, ?)
+            ON CONFLICT (letters_id, knowledge_component_id) DO NOTHING
+            """;
+
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            int batchCount = 0;
+            int totalMappings = 0;
+
+            for (LetterInfo letter : letters) {
+                // 음절 분해
+                SyllableComponents components = decomposeSyllable(letter.unicodePoint);
+                if (components == null) continue;
+
+                Set<Long> kcIds = new HashSet<>();
+
+                // 1. 초성 -> ONSET KCs (4.1 + 4.2)
+                List<Long> onsetKcIds = CHO_TO_ONSET_KC.get(components.cho);
+                if (onsetKcIds != null) {
+                    kcIds.addAll(onsetKcIds);
+                }
 
-                if (letters.isEmpty()) {
-                    log.warn("Letters 테이블이 비어있습니다. LetterSeederConfig가 먼저 실행되었는지 확인하세요.");
-                    return;
+                // 2. 중성 -> NUCLEUS KCs (4.1 + 4.2)
+                List<Long> nucleusKcIds = JUNG_TO_NUCLEUS_KC.get(components.jung);
+                if (nucleusKcIds != null) {
+                    kcIds.addAll(nucleusKcIds);
                 }
 
-                // LettersKcMap 테이블에 매핑 데이터 삽입 (복합키 사용)
-                final String sql = """
-                    INSERT INTO letters_kc_map (letters_id, knowledge_component_id)
-                    VALUES (?, ?)
-                    ON CONFLICT (letters_id, knowledge_component_id) DO NOTHING
-                    """;
-
-                try (PreparedStatement ps = con.prepareStatement(sql)) {
-                    int batchCount = 0;
-                    int totalMappings = 0;
-
-                    for (LetterInfo letter : letters) {
-                        // 음절 분해
-                        SyllableComponents components = decomposeSyllable(letter.unicodePoint);
-                        if (components == null) continue;
-
-                        Set<Long> kcIds = new HashSet<>();
-
-                        // 1. 초성 -> ONSET KCs (4.1 + 4.2)
-                        List<Long> onsetKcIds = CHO_TO_ONSET_KC.get(components.cho);
-                        if (onsetKcIds != null) {
-                            kcIds.addAll(onsetKcIds);
-                        }
-
-                        // 2. 중성 -> NUCLEUS KCs (4.1 + 4.2)
-                        List<Long> nucleusKcIds = JUNG_TO_NUCLEUS_KC.get(components.jung);
-                        if (nucleusKcIds != null) {
-                            kcIds.addAll(nucleusKcIds);
-                        }
-
-                        // 3. 종성 -> CODA KCs (있는 경우만, 4.1 + 4.2)
-                        if (components.jong > 0) {
-                            List<Long> codaKcIds = JONG_TO_CODA_KC.get(components.jong);
-                            if (codaKcIds != null) {
-                                kcIds.addAll(codaKcIds);
-                            }
-                        }
-
-                        if (components.jong > 0) {
-                            kcIds.add(23L);
-                        } else {
-                            kcIds.add(24L);
-                        }
-
-                        // 각 KC에 대해 매핑 삽입 (복합키: letters_id + knowledge_component_id)
-                        for (Long kcId : kcIds) {
-                            ps.setString(1, letter.id);
-                            ps.setLong(2, kcId);
-                            ps.addBatch();
-                            batchCount++;
-                            totalMappings++;
-                        }
-
-                        if (batchCount >= 1000) {
-                            ps.executeBatch();
-                            batchCount = 0;
-                            log.info("진행 중: {} 매핑 삽입됨", totalMappings);
-                        }
+                // 3. 종성 -> CODA KCs (있는 경우만, 4.1 + 4.2)
+                if (components.jong > 0) {
+                    List<Long> codaKcIds = JONG_TO_CODA_KC.get(components.jong);
+                    if (codaKcIds != null) {
+                        kcIds.addAll(codaKcIds);
                     }
+                }
 
+                if (components.jong > 0) {
+                    kcIds.add(CLOSED_SYLLABLE_KC);
+                } else {
+                    kcIds.add(OPEN_SYLLABLE_KC);
+                }
+
+                // 각 KC에 대해 매핑 삽입 (복합키: letters_id + knowledge_component_id)
+                for (Long kcId : kcIds) {
+                    if (existing.contains(new Mapping(letter.id, kcId))) {
+                        continue;
+                    }
+                    ps.setString(1, letter.id);
+                    ps.setLong(2, kcId);
+                    ps.addBatch();
+                    batchCount++;
+                    totalMappings++;
+                }
+
+                if (batchCount >= 1000) {
                     ps.executeBatch();
-                    con.commit();
-                    log.info("LetterKcMap 시딩 완료: {} letters processed", letters.size());
-                } catch (Exception e) {
-                    con.rollback();
-                    log.error("LetterKcMap 시딩 실패", e);
-                    throw e;
+                    batchCount = 0;
+                    log.info("진행 중: {} 매핑 삽입됨", totalMappings);
                 }
             }
-        };
+
+            ps.executeBatch();
+            log.info("LetterKcMap 시딩 완료: {} letters processed, {} 매핑 추가", letters.size(), totalMappings);
+        }
+    }
+
+    private Set<Mapping> loadMappings(Connection con) throws Exception {
+        Set<Mapping> mappings = new HashSet<>();
+        String sql = "SELECT letters_id, knowledge_component_id FROM letters_kc_map";
+
+        try (PreparedStatement ps = con.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                mappings.add(new Mapping(rs.getString("letters_id"), rs.getLong("knowledge_component_id")));
+            }
+        }
+        return mappings;
     }
 
     private List<LetterInfo> loadLetters(Connection con) throws Exception {
@@ -223,6 +245,9 @@ public class LettersKcMapSeederConfig {
         }
     }
 
+    private record Mapping(String lettersId, long kcId) {
+    }
+
     private static class SyllableComponents {
         int cho;   // 초성 인덱스
         int jung;  // 중성 인덱스
@@ -1,23 +1,20 @@
 package com.readingbuddy.backend.config;
 
-import lombok.RequiredArgsConstructor;
+import com.readingbuddy.backend.config.seed.SeedChecksum;
+import com.readingbuddy.backend.config.seed.Seeder;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.ApplicationRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
 
-import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.*;
 
-@Configuration
-@RequiredArgsConstructor
+@Component
 @Slf4j
-public class PhonemesKcMapSeederConfig {
+public class PhonemesKcMapSeederConfig implements Seeder {
 
-    private final DataSource dataSource;
+    public static final String NAME = "phonemes-kc-map";
 
     // 자음 -> KnowledgeComponent ID 리스트 매핑 (하나의 자음이 여러 KC와 연결)
     private static final Map<String, List<Long>> CONSONANT_KC_MAP = new HashMap<>() {{
@@ -81,37 +78,44 @@ public class PhonemesKcMapSeederConfig {
         put("ㅢ", Arrays.asList(20L, 32L));
     }};
 
-    @Bean
-    ApplicationRunner seedPhonemesKcMapRunner() {
-        return args -> {
-            try (Connection con = dataSource.getConnection()) {
-                con.setAutoCommit(false);
-
-                // Phonemes ID를 조회하기 위한 맵
-                Map<String, Long> phonemeIdMap = loadPhonemesIdMap(con);
-
-                // PhonemesKcMap 테이블에 매핑 데이터 삽입
-                final String sql = """
-                    INSERT INTO phonemes_kc_map (phonemes_id, knowledge_component_id)
-                    VALUES (?, ?)
-                    ON CONFLICT (phonemes_id, knowledge_component_id) DO NOTHING
-                    """;
-
-                try (PreparedStatement ps = con.prepareStatement(sql)) {
-                    // 자음 매핑 삽입
-                    insertConsonantMappings(ps, phonemeIdMap);
-
-                    // 모음 매핑 삽입
-                    insertVowelMappings(ps, phonemeIdMap);
-
-                    ps.executeBatch();
-                    con.commit();
-                } catch (Exception e) {
-                    con.rollback();
-                    throw e;
-                }
-            }
-        };
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    // phonemes, knowledge_component 행은 data.sql이 넣는다
+    @Override
+    public List<String> dependsOn() {
+        return List.of(DataSqlSeederConfig.NAME);
+    }
+
+    @Override
+    public String checksum() {
+        return SeedChecksum.of(new TreeMap<>(CONSONANT_KC_MAP), new TreeMap<>(VOWEL_KC_MAP));
+    }
+
+    @Override
+    public void apply(Connection con) throws Exception {
+        // Phonemes ID를 조회하기 위한 맵
+        Map<String, Long> phonemeIdMap = loadPhonemesIdMap(con);
+        Set<Mapping> existing = loadMappings(con);
+
+        // PhonemesKcMap 테이블에 없는 매핑만 삽입
+        final String sql = """
+            INSERT INTO phonemes_kc_map (phonemes_id, knowledge_component_id)
+            VALUES (?, ?)
+            ON CONFLICT (phonemes_id, knowledge_component_id) DO NOTHING
+            """;
+
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            // 자음 매핑 삽입
+            insertMappings(ps, CONSONANT_KC_MAP, phonemeIdMap, existing, "자음");
+
+            // 모음 매핑 삽입
+            insertMappings(ps, VOWEL_KC_MAP, phonemeIdMap, existing, "모음");
+
+            ps.executeBatch();
+        }
     }
 
     private Map<String, Long> loadPhonemesIdMap(Connection con) throws Exception {
@@ -129,41 +133,45 @@ public class PhonemesKcMapSeederConfig {
         return map;
     }
 
-    private void insertConsonantMappings(PreparedStatement ps, Map<String, Long> phonemeIdMap) throws Exception {
-        for (Map.Entry<String, List<Long>> entry : CONSONANT_KC_MAP.entrySet()) {
-            String consonant = entry.getKey();
-            List<Long> kcIds = entry.getValue();
-
-            Long phonemeId = phonemeIdMap.get(consonant);
-            if (phonemeId == null) {
-                log.error("phoneme 테이블에 매핑되는 자음 Id가 없습니다.");
-                continue; // Phoneme이 아직 없으면 스킵
-            }
+    private Set<Mapping> loadMappings(Connection con) throws Exception {
+        Set<Mapping> mappings = new HashSet<>();
+        String sql = "SELECT phonemes_id, knowledge_component_id FROM phonemes_kc_map";
 
-            for (Long kcId : kcIds) {
-                ps.setLong(1, phonemeId);
-                ps.setLong(2, kcId);
-                ps.addBatch();
+        try (PreparedStatement ps = con.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                mappings.add(new Mapping(rs.getLong("phonemes_id"), rs.getLong("knowledge_component_id")));
             }
         }
+        return mappings;
     }
 
-    private void insertVowelMappings(PreparedStatement ps, Map<String, Long> phonemeIdMap) throws Exception {
-        for (Map.Entry<String, List<Long>> entry : VOWEL_KC_MAP.entrySet()) {
-            String vowel = entry.getKey();
+    private void insertMappings(PreparedStatement ps,
+                                Map<String, List<Long>> kcMap,
+                                Map<String, Long> phonemeIdMap,
+                                Set<Mapping> existing,
+                                String category) throws Exception {
+        for (Map.Entry<String, List<Long>> entry : kcMap.entrySet()) {
+            String phoneme = entry.getKey();
             List<Long> kcIds = entry.getValue();
 
-            Long phonemeId = phonemeIdMap.get(vowel);
+            Long phonemeId = phonemeIdMap.get(phoneme);
             if (phonemeId == null) {
-                log.error("phoneme 테이블에 매핑되는 모음 Id가 없습니다.");
+                log.error("phoneme 테이블에 매핑되는 {} Id가 없습니다.", category);
                 continue; // Phoneme이 아직 없으면 스킵
             }
 
             for (Long kcId : kcIds) {
+                if (existing.contains(new Mapping(phonemeId, kcId))) {
+                    continue;
+                }
                 ps.setLong(1, phonemeId);
                 ps.setLong(2, kcId);
                 ps.addBatch();
             }
         }
     }
+
+    private record Mapping(long phonemeId, long kcId) {
+    }
 }
\ No newline at end of file
@@ -1,23 +1,20 @@
 package com.readingbuddy.backend.config;
 
-import lombok.RequiredArgsConstructor;
+import com.readingbuddy.backend.config.seed.SeedChecksum;
+import com.readingbuddy.backend.config.seed.Seeder;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.ApplicationRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
 
-import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.sql.ResultSet;
+import java.util.*;
 
 @Slf4j
-@Configuration
-@RequiredArgsConstructor
-public class PhonemesSeederConfig {
+@Component
+public class PhonemesSeederConfig implements Seeder {
 
-    private final DataSource dataSource;
+    public static final String NAME = "phonemes-voice-url";
 
     // S3 voice URL 포맷
     private static final String VOICE_URL_FORMAT = "https://final-a206.s3.ap-northeast-2.amazonaws.com/voices/letters/%s_normal.mp3";
@@ -96,61 +93,81 @@ public class PhonemesSeederConfig {
         }
     }
 
-    @Bean
-    ApplicationRunner seedPhonemesRunner() {
-        return args -> {
-            log.info("Updating Phonemes voice URLs...");
-
-            try (Connection con = dataSource.getConnection()) {
-                con.setAutoCommit(false);
-
-                // 이미 존재하는 데이터의 voice_url만 업데이트
-                final String sql = """
-                    UPDATE phonemes
-                    SET voice_url = ?
-                    WHERE category = ? AND value = ?
-                    """;
-
-                try (PreparedStatement ps = con.prepareStatement(sql)) {
-                    int totalUpdated = 0;
-
-                    // 자음 업데이트 (음성 URL은 'ㅡ'와 결합된 형태 사용)
-                    for (Map.Entry<String, ConsonantInfo> entry : CONSONANTS.entrySet()) {
-                        String value = entry.getKey();
-                        ConsonantInfo info = entry.getValue();
-                        String voiceUrl = String.format(VOICE_URL_FORMAT, info.voiceUnicode);
-
-                        ps.setString(1, voiceUrl);      // SET voice_url = ?
-                        ps.setString(2, "consonant");   // WHERE category = ?
-                        ps.setString(3, value);         // AND value = ?
-                        ps.addBatch();
-                        totalUpdated++;
-                    }
-
-                    // 모음 업데이트 (음성 URL은 'ㅇ'과 결합된 형태 사용)
-                    for (Map.Entry<String, VowelInfo> entry : VOWELS.entrySet()) {
-                        String value = entry.getKey();
-                        VowelInfo info = entry.getValue();
-                        String voiceUrl = String.format(VOICE_URL_FORMAT, info.voiceUnicode);
-
-                        ps.setString(1, voiceUrl);      // SET voice_url = ?
-                        ps.setString(2, "vowel");       // WHERE category = ?
-                        ps.setString(3, value);         // AND value = ?
-                        ps.addBatch();
-                        totalUpdated++;
-                    }
-
-                    ps.executeBatch();
-                    con.commit();
-
-                    log.info("Successfully updated {} phonemes voice URLs (Consonants: {}, Vowels: {})",
-                            totalUpdated, CONSONANTS.size(), VOWELS.size());
-                } catch (Exception e) {
-                    con.rollback();
-                    log.error("Failed to update phonemes voice URLs: {}", e.getMessage(), e);
-                    throw e;
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    // phonemes 행은 data.sql이 넣는다
+    @Override
+    public List<String> dependsOn() {
+        return List.of(DataSqlSeederConfig.NAME);
+    }
+
+    @Override
+    public String checksum() {
+        SeedChecksum checksum = SeedChecksum.builder();
+        voiceUrls().forEach((key, voiceUrl) -> checksum.add(key).add(voiceUrl));
+        return checksum.build();
+    }
+
+    @Override
+    public void apply(Connection con) throws Exception {
+        log.info("Updating Phonemes voice URLs...");
+        Map<String, String> current = loadVoiceUrls(con);
+
+        // 이미 존재하는 데이터 중 voice_url이 다른 행만 업데이트
+        final String sql = """
+            UPDATE phonemes
+            SET voice_url = ?
+            WHERE category = ? AND value = ?
+            """;
+
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            int totalUpdated = 0;
+
+            for (Map.Entry<String, String> entry : voiceUrls().entrySet()) {
+                String key = entry.getKey();
+                if (!current.containsKey(key) || Objects.equals(current.get(key), entry.getValue())) {
+                    continue;
                 }
+                String[] categoryAndValue = key.split(":", 2);
+
+                ps.setString(1, entry.getValue());     // SET voice_url = ?
+                ps.setString(2, categoryAndValue[0]);  // WHERE category = ?
+                ps.setString(3, categoryAndValue[1]);  // AND value = ?
+                ps.addBatch();
+                totalUpdated++;
+            }
+
+            ps.executeBatch();
+            log.info("Successfully updated {} phonemes voice URLs", totalUpdated);
+        }
+    }
+
+    /**
+     * "category:value" → voice URL
+     * 자음은 'ㅡ'와 결합된 형태, 모음은 'ㅇ'과 결합된 형태의 음성 사용
+     */
+    private static Map<String, String> voiceUrls() {
+        Map<String, String> voiceUrls = new LinkedHashMap<>();
+        CONSONANTS.forEach((value, info) ->
+                voiceUrls.put("consonant:" + value, String.format(VOICE_URL_FORMAT, info.voiceUnicode)));
+        VOWELS.forEach((value, info) ->
+                voiceUrls.put("vowel:" + value, String.format(VOICE_URL_FORMAT, info.voiceUnicode)));
+        return voiceUrls;
+    }
+
+    private Map<String, String> loadVoiceUrls(Connection con) throws Exception {
+        Map<String, String> voiceUrls = new HashMap<>();
+        String sql = "SELECT category, value, voice_url FROM phonemes";
+
+        try (PreparedStatement ps = con.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                voiceUrls.put(rs.getString("category") + ":" + rs.getString("value"), rs.getString("voice_url"));
             }
-        };
+        }
+        return voiceUrls;
     }
 }
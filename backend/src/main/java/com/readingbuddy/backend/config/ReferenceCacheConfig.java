@@ -0,0 +1,109 @@
+package com.readingbuddy.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.readingbuddy.backend.common.properties.ReferenceCacheProperties;
+import com.readingbuddy.backend.domain.user.entity.User;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+/**
+ * 참조 데이터(KC, 음소, 글자, 단어, KC 매핑) 2차 캐시
+ * - 시드 이후 바뀌지 않는 엔티티라 READ_ONLY로 두고, KC/매핑 조회 결과는 쿼리 캐시에 둔다
+ * - region은 미리 만들어 두고 없는 region은 기동 시 실패시킨다 (오타로 무제한 캐시가 생기지 않게)
+ * - 적중률은 cache.gets{cache=reference.*, result=hit|miss}로 확인한다
+ * - 시더는 JDBC로 직접 쓰므로 시딩이 끝나면 캐시를 한 번 비운다
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jpa.reference-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReferenceCacheConfig {
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+            "reference.knowledge_component",
+            "reference.phonemes",
+            "reference.letters",
+            "reference.words",
+            "reference.phonemes_kc_map",
+            "reference.letters_kc_map");
+
+    private final ReferenceCacheProperties properties;
+
+    // 컨텍스트마다 따로 만든다 (공유 CacheManager를 쓰면 테스트 컨텍스트끼리 region이 섞인다)
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceCacheManager() {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = new CacheManagerImpl(provider, false,
+                provider.getDefaultURI(), provider.getDefaultClassLoader(), new Properties());
+
+        ENTITY_REGIONS.forEach(region ->
+                cacheManager.createCache(region, regionConfiguration(properties.getMaxEntries())));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(properties.getQueryMaxEntries()));
+        // User의 @NaturalIdCache (2차 캐시를 켜면 함께 활성화되므로 region을 만들어 둔다)
+        cacheManager.createCache(User.class.getName() + "##NaturalId",
+                regionConfiguration(properties.getMaxEntries()));
+        // 테이블별 마지막 변경 시각, 쿼리 캐시 무효화에 쓰이므로 크기 제한을 두지 않는다
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceCacheHibernatePropertiesCustomizer(CacheManager referenceCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, referenceCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder referenceCacheMetrics(CacheManager referenceCacheManager) {
+        return registry -> referenceCacheManager.getCacheNames().forEach(name -> {
+            Cache<?, ?> cache = referenceCacheManager.getCache(name).unwrap(Cache.class);
+            CaffeineCacheMetrics.monitor(registry, cache, name, "cacheManager", "hibernate");
+        });
+    }
+
+    // SeedRunner(@Order(0)) 다음에 실행
+    @Bean
+    @Order(1)
+    public ApplicationRunner referenceCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        return args -> {
+            entityManagerFactory.getCache().evictAll();
+            log.info("시딩 후 참조 데이터 2차 캐시 비움");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration(Long maxEntries) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setNativeStatisticsEnabled(true);
+        if (maxEntries != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        return configuration;
+    }
+}
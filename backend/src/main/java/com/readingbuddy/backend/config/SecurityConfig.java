@@ -1,7 +1,11 @@
 package com.readingbuddy.backend.config;
 
 import com.readingbuddy.backend.auth.jwt.JWTFilter;
+import com.readingbuddy.backend.auth.jwt.JWTPrincipalCache;
 import com.readingbuddy.backend.auth.jwt.JWTUtil;
+import com.readingbuddy.backend.auth.password.BoundedPasswordEncoder;
+import com.readingbuddy.backend.common.properties.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +23,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 public class SecurityConfig {
     private final JWTUtil jwtUtil;
+    private final JWTPrincipalCache jwtPrincipalCache;
     private static final String[] AUTH_WHITELIST = {
             "/api/user/login",
             "/api/user/reissue-token",
@@ -26,6 +31,7 @@ public class SecurityConfig {
             "/api/term/*",
             "/api/user/activation",
             "/api/user/polling",
+            "/api/user/polling/wait",
             "/",
             // Swagger UI
             "/v3/api-docs/**",
@@ -50,13 +56,19 @@ public class SecurityConfig {
                 .requestMatchers(AUTH_WHITELIST).permitAll()
                 .anyRequest().authenticated());
 
-        http.addFilterBefore(new JWTFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JWTFilter(jwtUtil, jwtPrincipalCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        Argon2PasswordEncoder argon2PasswordEncoder = new Argon2PasswordEncoder(
+                properties.getSaltLength(),
+                properties.getHashLength(),
+                properties.getParallelism(),
+                properties.getMemoryKb(),
+                properties.getIterations());
+        return new BoundedPasswordEncoder(argon2PasswordEncoder, properties, meterRegistry);
     }
 }
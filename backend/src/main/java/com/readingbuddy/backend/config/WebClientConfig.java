@@ -1,5 +1,6 @@
 package com.readingbuddy.backend.config;
 
+import com.readingbuddy.backend.common.properties.AiServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -8,9 +9,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
+    public WebClient webClient(WebClient.Builder builder, AiServerProperties aiServerProperties) {
         return builder
-                .baseUrl("http://3.36.239.57:8000")
+                .baseUrl(aiServerProperties.getBaseUrl())
                 .build();
     }
 }
@@ -0,0 +1,20 @@
+package com.readingbuddy.backend.config;
+
+import com.readingbuddy.backend.domain.dashboard.controller.DashBoardETagInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final DashBoardETagInterceptor dashBoardETagInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dashBoardETagInterceptor)
+                .addPathPatterns("/api/dashboard/**");
+    }
+}
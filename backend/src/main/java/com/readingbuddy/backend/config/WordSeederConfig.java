@@ -1,67 +1,70 @@
 package com.readingbuddy.backend.config;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.ApplicationRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import com.readingbuddy.backend.config.seed.SeedChecksum;
+import com.readingbuddy.backend.config.seed.Seeder;
+import org.springframework.stereotype.Component;
 
-import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.List;
 
-@Configuration
-@RequiredArgsConstructor
-public class WordSeederConfig {
+@Component
+public class WordSeederConfig implements Seeder {
 
-    private final DataSource dataSource;
+    public static final String NAME = "words-voice-url";
 
     // S3 voice URL 포맷
     private static final String VOICE_URL_FORMAT = "https://final-a206.s3.ap-northeast-2.amazonaws.com/voices/words/%s_normal.mp3";
 
-    @Bean
-    ApplicationRunner seedWordsVoiceUrlRunner() {
-        return args -> {
-            try (Connection con = dataSource.getConnection()) {
-                con.setAutoCommit(false);
+    @Override
+    public String name() {
+        return NAME;
+    }
 
-                // voice_url이 null이거나 비어있는 레코드 조회
-                final String selectSql = "SELECT id, word FROM words WHERE voice_url IS NULL OR voice_url = ''";
-                final String updateSql = "UPDATE words SET voice_url = ? WHERE id = ?";
+    // words 행은 data.sql이 넣는다
+    @Override
+    public List<String> dependsOn() {
+        return List.of(DataSqlSeederConfig.NAME);
+    }
 
-                try (PreparedStatement selectPs = con.prepareStatement(selectSql);
-                     PreparedStatement updatePs = con.prepareStatement(updateSql)) {
+    @Override
+    public String checksum() {
+        return SeedChecksum.of(VOICE_URL_FORMAT);
+    }
 
-                    ResultSet rs = selectPs.executeQuery();
-                    int batch = 0;
+    @Override
+    public void apply(Connection con) throws Exception {
+        // voice_url이 null이거나 비어있는 레코드 조회
+        final String selectSql = "SELECT id, word FROM words WHERE voice_url IS NULL OR voice_url = ''";
+        final String updateSql = "UPDATE words SET voice_url = ? WHERE id = ?";
 
-                    while (rs.next()) {
-                        Long id = rs.getLong("id");
-                        String word = rs.getString("word");
+        try (PreparedStatement selectPs = con.prepareStatement(selectSql);
+             PreparedStatement updatePs = con.prepareStatement(updateSql)) {
 
-                        if (word != null && !word.isEmpty()) {
-                            String voiceUrl = String.format(VOICE_URL_FORMAT, id);
-                            updatePs.setString(1, voiceUrl);
-                            updatePs.setLong(2, id);
-                            updatePs.addBatch();
+            ResultSet rs = selectPs.executeQuery();
+            int batch = 0;
 
-                            if (++batch % 1000 == 0) {
-                                updatePs.executeBatch();
-                            }
-                        }
-                    }
+            while (rs.next()) {
+                Long id = rs.getLong("id");
+                String word = rs.getString("word");
 
-                    // 남은 배치 실행
-                    if (batch % 1000 != 0) {
+                if (word != null && !word.isEmpty()) {
+                    String voiceUrl = String.format(VOICE_URL_FORMAT, id);
+                    updatePs.setString(1, voiceUrl);
+                    updatePs.setLong(2, id);
+                    updatePs.addBatch();
+
+                    if (++batch % 1000 == 0) {
                         updatePs.executeBatch();
                     }
-
-                    con.commit();
-                } catch (Exception e) {
-                    con.rollback();
-                    throw e;
                 }
             }
-        };
+
+            // 남은 배치 실행
+            if (batch % 1000 != 0) {
+                updatePs.executeBatch();
+            }
+        }
     }
 }
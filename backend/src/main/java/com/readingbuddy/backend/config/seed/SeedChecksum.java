@@ -0,0 +1,51 @@
+package com.readingbuddy.backend.config.seed;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 시드 내용의 SHA-256 checksum
+ * 각 값을 문자열로 바꿔 구분자와 함께 이어 붙이므로, 순서가 정해진 값만 넣어야 한다 (HashMap은 TreeMap으로 바꿔서).
+ */
+public final class SeedChecksum {
+
+    private final MessageDigest digest;
+
+    private SeedChecksum() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static SeedChecksum builder() {
+        return new SeedChecksum();
+    }
+
+    public static String of(Object... parts) {
+        SeedChecksum checksum = builder();
+        for (Object part : parts) {
+            checksum.add(part);
+        }
+        return checksum.build();
+    }
+
+    public SeedChecksum add(Object part) {
+        digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return this;
+    }
+
+    public SeedChecksum add(byte[] bytes) {
+        digest.update(bytes);
+        digest.update((byte) 0);
+        return this;
+    }
+
+    public String build() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,62 @@
+package com.readingbuddy.backend.config.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시더별로 마지막으로 반영한 checksum을 기록하는 seed_manifest 테이블
+ */
+@Component
+@RequiredArgsConstructor
+public class SeedManifest {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createIfNotExists() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS seed_manifest (
+                    seeder VARCHAR(100) PRIMARY KEY,
+                    checksum VARCHAR(64) NOT NULL,
+                    applied_at TIMESTAMP NOT NULL
+                )
+                """);
+    }
+
+    /**
+     * 시더 이름 → 마지막으로 반영한 checksum
+     */
+    public Map<String, String> load() {
+        Map<String, String> checksums = new HashMap<>();
+        jdbcTemplate.query("SELECT seeder, checksum FROM seed_manifest",
+                rs -> {
+                    checksums.put(rs.getString("seeder"), rs.getString("checksum"));
+                });
+        return checksums;
+    }
+
+    /**
+     * 시드 반영과 같은 트랜잭션에서 checksum 기록 (반영이 롤백되면 기록도 남지 않는다)
+     */
+    public void record(Connection con, String seeder, String checksum) throws SQLException {
+        final String sql = """
+                INSERT INTO seed_manifest (seeder, checksum, applied_at)
+                VALUES (?, ?, ?)
+                ON CONFLICT (seeder) DO UPDATE SET checksum = EXCLUDED.checksum, applied_at = EXCLUDED.applied_at
+                """;
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            ps.setString(1, seeder);
+            ps.setString(2, checksum);
+            ps.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.readingbuddy.backend.config.seed;
+
+import com.readingbuddy.backend.common.properties.SeedProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 시더 실행
+ * - checksum이 seed_manifest와 같으면 건너뛴다 (선행 시더의 checksum도 함께 비교)
+ * - 서로 의존하지 않는 시더는 병렬로, 의존하는 시더는 선행 시더가 끝난 뒤 실행한다
+ * - 시더마다 커넥션 하나, 트랜잭션 하나 (반영과 checksum 기록을 함께 커밋)
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class SeedRunner implements ApplicationRunner {
+
+    private final List<Seeder> seeders;
+    private final SeedManifest seedManifest;
+    private final DataSource dataSource;
+    private final SeedProperties seedProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        seedManifest.createIfNotExists();
+        Map<String, String> applied = seedManifest.load();
+
+        Map<String, Seeder> byName = new LinkedHashMap<>();
+        for (Seeder seeder : seeders) {
+            if (byName.put(seeder.name(), seeder) != null) {
+                throw new IllegalStateException("시더 이름 중복: " + seeder.name());
+            }
+        }
+        Map<String, String> checksums = new HashMap<>();
+        for (String name : byName.keySet()) {
+            resolveChecksum(name, byName, checksums, new HashSet<>());
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(seedProperties.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "seed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<String, CompletableFuture<Void>> tasks = new HashMap<>();
+            for (String name : byName.keySet()) {
+                schedule(name, byName, checksums, applied, tasks, executor);
+            }
+            CompletableFuture.allOf(tasks.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("시딩 완료: 시더 {}개, {} ms", byName.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 자신의 checksum과 선행 시더 checksum을 합친 값 (선행 시드가 바뀌면 이 값도 바뀐다)
+     */
+    private String resolveChecksum(String name, Map<String, Seeder> byName, Map<String, String> checksums, Set<String> visiting) {
+        String resolved = checksums.get(name);
+        if (resolved != null) {
+            return resolved;
+        }
+        Seeder seeder = byName.get(name);
+        if (seeder == null) {
+            throw new IllegalStateException("존재하지 않는 시더: " + name);
+        }
+        if (!visiting.add(name)) {
+            throw new IllegalStateException("시더 의존 관계에 순환이 있습니다: " + visiting);
+        }
+
+        SeedChecksum checksum = SeedChecksum.builder().add(seeder.checksum());
+        for (String dependency : seeder.dependsOn()) {
+            checksum.add(resolveChecksum(dependency, byName, checksums, visiting));
+        }
+        resolved = checksum.build();
+        checksums.put(name, resolved);
+        visiting.remove(name);
+        return resolved;
+    }
+
+    private CompletableFuture<Void> schedule(String name,
+                                             Map<String, Seeder> byName,
+                                             Map<String, String> checksums,
+                                             Map<String, String> applied,
+                                             Map<String, CompletableFuture<Void>> tasks,
+                                             ExecutorService executor) {
+        CompletableFuture<Void> task = tasks.get(name);
+        if (task != null) {
+            return task;
+        }
+        Seeder seeder = byName.get(name);
+        CompletableFuture<?>[] dependencies = seeder.dependsOn().stream()
+                .map(dependency -> schedule(dependency, byName, checksums, applied, tasks, executor))
+                .toArray(CompletableFuture[]::new);
+
+        task = CompletableFuture.allOf(dependencies)
+                .thenRunAsync(() -> seed(seeder, checksums.get(name), applied.get(name)), executor);
+        tasks.put(name, task);
+        return task;
+    }
+
+    private void seed(Seeder seeder, String checksum, String appliedChecksum) {
+        if (!seedProperties.getForce() && checksum.equals(appliedChecksum)) {
+            log.info("{} 시드 변경 없음, 건너뜀", seeder.name());
+            return;
+        }
+
+        long start = System.nanoTime();
+        try (Connection con = dataSource.getConnection()) {
+            con.setAutoCommit(false);
+            try {
+                seeder.apply(con);
+                seedManifest.record(con, seeder.name(), checksum);
+                con.commit();
+            } catch (Exception e) {
+                con.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            log.error("{} 시딩 실패", seeder.name(), e);
+            throw new CompletionException(e);
+        }
+        log.info("{} 시딩 완료 ({} ms)", seeder.name(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,35 @@
+package com.readingbuddy.backend.config.seed;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * 기동 시 기준 데이터(커리큘럼) 시딩 단위
+ * SeedRunner가 checksum()을 seed_manifest에 기록된 값과 비교해 같으면 건너뛰고,
+ * 다르면 apply()로 현재 DB와의 차이만 반영한 뒤 새 checksum을 기록한다.
+ */
+public interface Seeder {
+
+    /**
+     * seed_manifest에 기록되는 이름 (다른 시더의 dependsOn에서 참조)
+     */
+    String name();
+
+    /**
+     * 먼저 끝나야 하는 시더 이름. 선행 시더의 checksum이 바뀌면 이 시더도 다시 실행된다.
+     */
+    default List<String> dependsOn() {
+        return List.of();
+    }
+
+    /**
+     * 시드 내용의 checksum (내용이 같으면 항상 같은 값)
+     */
+    String checksum();
+
+    /**
+     * 현재 DB와 비교해 달라진 부분만 반영
+     * 커넥션은 autoCommit=false 상태로 전달되며 커밋·롤백은 호출 측이 한다.
+     */
+    void apply(Connection con) throws Exception;
+}
@@ -0,0 +1,61 @@
+package com.readingbuddy.backend.domain.bkt.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 풀이 이력으로 추정한 KC별 BKT 파라미터
+ * 추정 작업 한 번이 하나의 version을 만들고, 가장 큰 version이 현재 사용 중인 파라미터다.
+ * 이력이 부족한 KC는 해당 version에 행이 없으며 기본값을 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "bkt_kc_parameter",
+       uniqueConstraints = @UniqueConstraint(name = "uk_bkt_kc_parameter_version_kc", columnNames = {"version", "knowledge_component_id"}))
+public class BktKcParameter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "knowledge_component_id", nullable = false)
+    private KnowledgeComponent knowledgeComponent;
+
+    // 초기 숙달 확률
+    @Column(nullable = false)
+    private Float pInit;
+
+    // 학습 확률
+    @Column(nullable = false)
+    private Float pTrain;
+
+    // 추측 확률
+    @Column(nullable = false)
+    private Float pGuess;
+
+    // 실수 확률
+    @Column(nullable = false)
+    private Float pSlip;
+
+    // 추정에 사용한 관측 수, 시퀀스(사용자) 수
+    @Column(nullable = false)
+    private Long observations;
+
+    @Column(nullable = false)
+    private Integer sequences;
+
+    @Column(nullable = false)
+    private Double logLikelihood;
+
+    @Column(nullable = false)
+    private LocalDateTime fittedAt;
+}
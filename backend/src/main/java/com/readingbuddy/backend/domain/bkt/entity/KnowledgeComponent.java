@@ -3,8 +3,12 @@ package com.readingbuddy.backend.domain.bkt.entity;
 import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "reference.knowledge_component")
 @Table(name = "knowledge_component")
 @Getter
 @Setter
@@ -3,10 +3,14 @@ package com.readingbuddy.backend.domain.bkt.entity;
 import com.readingbuddy.backend.domain.train.entity.Letters;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "reference.letters_kc_map")
 @Getter
 @Builder
 @NoArgsConstructor
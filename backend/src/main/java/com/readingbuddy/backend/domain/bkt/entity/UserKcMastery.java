@@ -20,11 +20,12 @@ public class UserKcMastery {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    // 읽기 조회는 KcMasteryValues projection을 쓰므로 연관은 필요할 때만 로딩
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "knowledge_component")
     private KnowledgeComponent knowledgeComponent;
     
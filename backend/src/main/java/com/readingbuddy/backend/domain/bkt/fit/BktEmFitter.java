@@ -0,0 +1,230 @@
+package com.readingbuddy.backend.domain.bkt.fit;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * BKT 파라미터 EM(Baum-Welch) 추정
+ * 상태는 미숙달(U)/숙달(K) 두 개, K는 흡수 상태(망각 없음)인 HMM으로 본다.
+ * E-step은 시퀀스 구간을 나눠 ForkJoinPool에서 기대 빈도를 합산하고, M-step에서 파라미터를 다시 계산한다.
+ * 전방/후방 확률은 시점마다 정규화해 긴 시퀀스에서도 언더플로가 없다.
+ */
+public class BktEmFitter {
+
+    private static final double MIN_PROBABILITY = 0.001;
+    private static final double MAX_PROBABILITY = 0.999;
+    // 추측/실수 확률이 커지면 숙달과 미숙달의 의미가 뒤집히므로 상한을 둔다
+    private static final double MAX_GUESS = 0.6;
+    private static final double MAX_SLIP = 0.4;
+    // E-step 작업 하나가 맡는 최소 시퀀스 수
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private final ForkJoinPool pool;
+    private final int maxIterations;
+    private final double tolerance;
+
+    public BktEmFitter(ForkJoinPool pool, int maxIterations, double tolerance) {
+        this.pool = pool;
+        this.maxIterations = maxIterations;
+        this.tolerance = tolerance;
+    }
+
+    public FitResult fit(KcObservations observations, BktParameters initial) {
+        BktParameters params = clamp(initial);
+        double previousLogLikelihood = Double.NEGATIVE_INFINITY;
+        int iteration = 0;
+
+        while (iteration < maxIterations) {
+            iteration++;
+            ExpectedCounts counts = pool.invoke(new ExpectationTask(observations, params, 0, observations.sequences()));
+            params = counts.maximize(params);
+
+            double logLikelihood = counts.logLikelihood;
+            if (Math.abs(logLikelihood - previousLogLikelihood) <= tolerance * Math.abs(logLikelihood)) {
+                previousLogLikelihood = logLikelihood;
+                break;
+            }
+            previousLogLikelihood = logLikelihood;
+        }
+
+        // 최종 파라미터 기준 로그 우도
+        double logLikelihood = pool.invoke(new ExpectationTask(observations, params, 0, observations.sequences())).logLikelihood;
+        return new FitResult(params, logLikelihood, iteration);
+    }
+
+    public record FitResult(BktParameters parameters, double logLikelihood, int iterations) {
+    }
+
+    private static BktParameters clamp(BktParameters params) {
+        return new BktParameters(
+                clamp(params.pInit(), MAX_PROBABILITY),
+                clamp(params.pTrain(), MAX_PROBABILITY),
+                clamp(params.pGuess(), MAX_GUESS),
+                clamp(params.pSlip(), MAX_SLIP));
+    }
+
+    private static double clamp(double value, double max) {
+        if (Double.isNaN(value)) {
+            return MIN_PROBABILITY;
+        }
+        return Math.min(Math.max(value, MIN_PROBABILITY), max);
+    }
+
+    /**
+     * 시퀀스 구간 [from, to)의 기대 빈도 합산
+     */
+    private static final class ExpectationTask extends RecursiveTask<ExpectedCounts> {
+
+        private final KcObservations observations;
+        private final BktParameters params;
+        private final int from;
+        private final int to;
+
+        private ExpectationTask(KcObservations observations, BktParameters params, int from, int to) {
+            this.observations = observations;
+            this.params = params;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ExpectedCounts compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                return computeDirectly();
+            }
+            int middle = (from + to) >>> 1;
+            ExpectationTask left = new ExpectationTask(observations, params, from, middle);
+            left.fork();
+            ExpectedCounts right = new ExpectationTask(observations, params, middle, to).compute();
+            return right.merge(left.join());
+        }
+
+        private ExpectedCounts computeDirectly() {
+            ExpectedCounts counts = new ExpectedCounts();
+            int longest = 0;
+            for (int s = from; s < to; s++) {
+                longest = Math.max(longest, observations.end(s) - observations.start(s));
+            }
+            double[] alphaK = new double[longest];
+            double[] alphaU = new double[longest];
+            double[] scale = new double[longest];
+            double[] betaK = new double[longest];
+            double[] betaU = new double[longest];
+
+            for (int s = from; s < to; s++) {
+                accumulate(observations.start(s), observations.end(s), alphaK, alphaU, scale, betaK, betaU, counts);
+            }
+            return counts;
+        }
+
+        private void accumulate(int start, int end, double[] alphaK, double[] alphaU, double[] scale,
+                                double[] betaK, double[] betaU, ExpectedCounts counts) {
+            int length = end - start;
+            if (length == 0) {
+                return;
+            }
+            double init = params.pInit();
+            double train = params.pTrain();
+
+            // 전방 확률 (시점마다 정규화, 정규화 상수의 로그 합이 로그 우도)
+            for (int t = 0; t < length; t++) {
+                boolean correct = observations.correct(start + t);
+                double known;
+                double unknown;
+                if (t == 0) {
+                    known = init * emitKnown(correct);
+                    unknown = (1 - init) * emitUnknown(correct);
+                } else {
+                    known = (alphaK[t - 1] + alphaU[t - 1] * train) * emitKnown(correct);
+                    unknown = alphaU[t - 1] * (1 - train) * emitUnknown(correct);
+                }
+                double c = known + unknown;
+                scale[t] = c;
+                alphaK[t] = known / c;
+                alphaU[t] = unknown / c;
+                counts.logLikelihood += Math.log(c);
+            }
+
+            // 후방 확률
+            betaK[length - 1] = 1;
+            betaU[length - 1] = 1;
+            for (int t = length - 2; t >= 0; t--) {
+                boolean next = observations.correct(start + t + 1);
+                double c = scale[t + 1];
+                betaK[t] = emitKnown(next) * betaK[t + 1] / c;
+                betaU[t] = ((1 - train) * emitUnknown(next) * betaU[t + 1] + train * emitKnown(next) * betaK[t + 1]) / c;
+            }
+
+            // 기대 빈도
+            counts.sequences++;
+            for (int t = 0; t < length; t++) {
+                boolean correct = observations.correct(start + t);
+                double gammaK = alphaK[t] * betaK[t];
+                double gammaU = alphaU[t] * betaU[t];
+                double total = gammaK + gammaU;
+                gammaK /= total;
+                gammaU /= total;
+
+                if (t == 0) {
+                    counts.initKnown += gammaK;
+                }
+                if (t < length - 1) {
+                    boolean next = observations.correct(start + t + 1);
+                    counts.learned += alphaU[t] * train * emitKnown(next) * betaK[t + 1] / scale[t + 1];
+                    counts.unknownBeforeLast += gammaU;
+                }
+                counts.unknown += gammaU;
+                counts.known += gammaK;
+                if (correct) {
+                    counts.guessed += gammaU;
+                } else {
+                    counts.slipped += gammaK;
+                }
+            }
+        }
+
+        private double emitKnown(boolean correct) {
+            return correct ? 1 - params.pSlip() : params.pSlip();
+        }
+
+        private double emitUnknown(boolean correct) {
+            return correct ? params.pGuess() : 1 - params.pGuess();
+        }
+    }
+
+    private static final class ExpectedCounts {
+        private long sequences;
+        private double initKnown;
+        private double learned;
+        private double unknownBeforeLast;
+        private double unknown;
+        private double known;
+        private double guessed;
+        private double slipped;
+        private double logLikelihood;
+
+        private ExpectedCounts merge(ExpectedCounts other) {
+            sequences += other.sequences;
+            initKnown += other.initKnown;
+            learned += other.learned;
+            unknownBeforeLast += other.unknownBeforeLast;
+            unknown += other.unknown;
+            known += other.known;
+            guessed += other.guessed;
+            slipped += other.slipped;
+            logLikelihood += other.logLikelihood;
+            return this;
+        }
+
+        /**
+         * M-step. 분모가 0인 파라미터는 이전 값을 유지한다.
+         */
+        private BktParameters maximize(BktParameters previous) {
+            return clamp(new BktParameters(
+                    sequences > 0 ? initKnown / sequences : previous.pInit(),
+                    unknownBeforeLast > 0 ? learned / unknownBeforeLast : previous.pTrain(),
+                    unknown > 0 ? guessed / unknown : previous.pGuess(),
+                    known > 0 ? slipped / known : previous.pSlip()));
+        }
+    }
+}
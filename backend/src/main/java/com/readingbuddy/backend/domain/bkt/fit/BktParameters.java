@@ -0,0 +1,7 @@
+package com.readingbuddy.backend.domain.bkt.fit;
+
+/**
+ * KC 하나의 BKT 파라미터 (초기 숙달, 학습, 추측, 실수 확률)
+ */
+public record BktParameters(double pInit, double pTrain, double pGuess, double pSlip) {
+}
@@ -0,0 +1,57 @@
+package com.readingbuddy.backend.domain.bkt.fit;
+
+import java.util.Arrays;
+
+/**
+ * KC 하나의 관측 시퀀스 묶음
+ * 사용자별 시간순 정답 여부를 관측 1개당 1비트로 이어 붙이고, 시퀀스 시작 위치만 따로 둔다.
+ * 관측 100만 건이 약 125KB라 KC 단위로 메모리에 올려도 부담이 없다.
+ */
+public class KcObservations {
+
+    private long[] outcomes = new long[16];
+    private int[] starts = new int[16];
+    private int sequences;
+    private int size;
+    private long lastUserId;
+
+    /**
+     * 관측 추가. 사용자 id가 바뀌면 새 시퀀스를 시작한다 (사용자, 시간 순으로 정렬된 입력 전제)
+     */
+    public void add(long userId, boolean correct) {
+        if (sequences == 0 || userId != lastUserId) {
+            if (sequences == starts.length) {
+                starts = Arrays.copyOf(starts, sequences * 2);
+            }
+            starts[sequences++] = size;
+            lastUserId = userId;
+        }
+        if ((size >>> 6) == outcomes.length) {
+            outcomes = Arrays.copyOf(outcomes, outcomes.length * 2);
+        }
+        if (correct) {
+            outcomes[size >>> 6] |= 1L << size;
+        }
+        size++;
+    }
+
+    public int sequences() {
+        return sequences;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int start(int sequence) {
+        return starts[sequence];
+    }
+
+    int end(int sequence) {
+        return sequence + 1 < sequences ? starts[sequence + 1] : size;
+    }
+
+    boolean correct(int index) {
+        return (outcomes[index >>> 6] & (1L << index)) != 0;
+    }
+}
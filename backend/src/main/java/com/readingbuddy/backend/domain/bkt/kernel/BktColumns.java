@@ -0,0 +1,39 @@
+package com.readingbuddy.backend.domain.bkt.kernel;
+
+import lombok.Getter;
+
+/**
+ * 여러 (사용자, KC) 쌍의 BKT 파라미터를 열 단위 float 배열로 보관
+ * i번째 원소가 모두 같은 쌍을 가리키며, BktKernel은 이 배열들을 제자리에서 갱신한다.
+ */
+@Getter
+public class BktColumns {
+
+    private final float[] pLearn;
+    private final float[] pTrain;
+    private final float[] pGuess;
+    private final float[] pSlip;
+    private final int size;
+
+    public BktColumns(int size) {
+        this(new float[size], new float[size], new float[size], new float[size]);
+    }
+
+    public BktColumns(float[] pLearn, float[] pTrain, float[] pGuess, float[] pSlip) {
+        if (pTrain.length != pLearn.length || pGuess.length != pLearn.length || pSlip.length != pLearn.length) {
+            throw new IllegalArgumentException("BKT 파라미터 배열의 길이가 다릅니다.");
+        }
+        this.pLearn = pLearn;
+        this.pTrain = pTrain;
+        this.pGuess = pGuess;
+        this.pSlip = pSlip;
+        this.size = pLearn.length;
+    }
+
+    public void set(int index, float learn, float train, float guess, float slip) {
+        pLearn[index] = learn;
+        pTrain[index] = train;
+        pGuess[index] = guess;
+        pSlip[index] = slip;
+    }
+}
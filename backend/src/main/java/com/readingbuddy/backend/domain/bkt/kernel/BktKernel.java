@@ -0,0 +1,82 @@
+package com.readingbuddy.backend.domain.bkt.kernel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BKT 계산 커널
+ * 풀이 1건 갱신(BktService.updateLearnedMastery)은 정적 계산식을, 이력 재계산(MasteryReplayCalculator)은
+ * BktColumns의 각 쌍에 관측 하나씩을 한 번에 적용하는 update를 쓴다. 관측이 여러 개인 이력 재생은
+ * 시간 순서대로 update 호출을 반복하면 된다.
+ *
+ * - 정답률 = pLearn * (1 - pSlip) + (1 - pLearn) * pGuess
+ * - 정답이면 조건부 확률 = pLearn * (1 - pSlip) / 정답률, 오답이면 pLearn * pSlip / (1 - 정답률)
+ * - 새 pLearn = 조건부 확률 + (1 - 조건부 확률) * pTrain
+ * 분모가 0이 되는 극단값(pLearn = 1, pSlip = 0 등)은 MIN_DENOMINATOR로 막는다.
+ */
+public interface BktKernel {
+
+    float MIN_DENOMINATOR = 1e-6f;
+
+    /**
+     * 각 쌍의 현재 정답률을 out에 기록
+     */
+    void correctRates(BktColumns columns, float[] out);
+
+    /**
+     * observed[i]가 true인 쌍에만 correct[i] 관측을 반영해 pLearn을 갱신
+     */
+    void update(BktColumns columns, boolean[] correct, boolean[] observed);
+
+    String name();
+
+    static float correctRate(float pLearn, float pGuess, float pSlip) {
+        return pLearn * (1 - pSlip) + (1 - pLearn) * pGuess;
+    }
+
+    /**
+     * 쌍 하나에 관측 하나를 적용한 새 pLearn
+     */
+    static float updatedLearn(float pLearn, float pTrain, float pGuess, float pSlip, boolean correct) {
+        float rate = correctRate(pLearn, pGuess, pSlip);
+        float conditional = correct
+                ? pLearn * (1 - pSlip) / Math.max(rate, MIN_DENOMINATOR)
+                : pLearn * pSlip / Math.max(1 - rate, MIN_DENOMINATOR);
+        return conditional + (1 - conditional) * pTrain;
+    }
+
+    /**
+     * Vector API 모듈(jdk.incubator.vector)이 로드돼 있으면 벡터 커널, 아니면 스칼라 커널
+     */
+    static BktKernel create() {
+        return Holder.INSTANCE;
+    }
+
+    static BktKernel scalar() {
+        return new ScalarBktKernel();
+    }
+
+    @Slf4j
+    final class Holder {
+        private static final BktKernel INSTANCE = load();
+
+        private Holder() {
+        }
+
+        private static BktKernel load() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                try {
+                    // 모듈이 없을 때 벡터 클래스를 로드하지 않도록 이름으로 생성
+                    BktKernel kernel = (BktKernel) Class.forName(BktKernel.class.getPackageName() + ".VectorBktKernel")
+                            .getDeclaredConstructor()
+                            .newInstance();
+                    log.info("BKT 커널: {}", kernel.name());
+                    return kernel;
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    log.warn("Vector API 커널 로드 실패, 스칼라 커널 사용: {}", e.getMessage());
+                }
+            }
+            log.info("BKT 커널: scalar (--add-modules jdk.incubator.vector 없음)");
+            return new ScalarBktKernel();
+        }
+    }
+}
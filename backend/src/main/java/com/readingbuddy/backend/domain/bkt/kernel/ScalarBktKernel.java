@@ -0,0 +1,39 @@
+package com.readingbuddy.backend.domain.bkt.kernel;
+
+/**
+ * 원소 하나씩 계산하는 기본 커널 (벡터 커널의 나머지 구간도 이 계산식을 그대로 쓴다)
+ */
+final class ScalarBktKernel implements BktKernel {
+
+    @Override
+    public void correctRates(BktColumns columns, float[] out) {
+        float[] pLearn = columns.getPLearn();
+        float[] pGuess = columns.getPGuess();
+        float[] pSlip = columns.getPSlip();
+        for (int i = 0; i < columns.getSize(); i++) {
+            out[i] = BktKernel.correctRate(pLearn[i], pGuess[i], pSlip[i]);
+        }
+    }
+
+    @Override
+    public void update(BktColumns columns, boolean[] correct, boolean[] observed) {
+        updateRange(columns, correct, observed, 0, columns.getSize());
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static void updateRange(BktColumns columns, boolean[] correct, boolean[] observed, int from, int to) {
+        float[] pLearn = columns.getPLearn();
+        float[] pTrain = columns.getPTrain();
+        float[] pGuess = columns.getPGuess();
+        float[] pSlip = columns.getPSlip();
+        for (int i = from; i < to; i++) {
+            if (observed[i]) {
+                pLearn[i] = BktKernel.updatedLearn(pLearn[i], pTrain[i], pGuess[i], pSlip[i], correct[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.readingbuddy.backend.domain.bkt.kernel;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API(incubator) 커널
+ * 정답/오답 두 갈래를 모두 계산한 뒤 마스크로 고르고, 관측이 없는 레인은 기존 값을 유지한다.
+ * 레인 수로 나누어떨어지지 않는 나머지는 스칼라 계산식으로 처리한다.
+ * 연산 순서가 스칼라 커널과 같아 결과도 비트 단위로 같다.
+ * BktKernel.create()에서만 이름으로 생성한다 (--add-modules jdk.incubator.vector 필요).
+ */
+final class VectorBktKernel implements BktKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void correctRates(BktColumns columns, float[] out) {
+        float[] pLearn = columns.getPLearn();
+        float[] pGuess = columns.getPGuess();
+        float[] pSlip = columns.getPSlip();
+        int size = columns.getSize();
+        int bound = SPECIES.loopBound(size);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector learn = FloatVector.fromArray(SPECIES, pLearn, i);
+            FloatVector guess = FloatVector.fromArray(SPECIES, pGuess, i);
+            FloatVector slip = FloatVector.fromArray(SPECIES, pSlip, i);
+            correctRate(learn, guess, slip).intoArray(out, i);
+        }
+        for (; i < size; i++) {
+            out[i] = BktKernel.correctRate(pLearn[i], pGuess[i], pSlip[i]);
+        }
+    }
+
+    @Override
+    public void update(BktColumns columns, boolean[] correct, boolean[] observed) {
+        float[] pLearn = columns.getPLearn();
+        float[] pTrain = columns.getPTrain();
+        float[] pGuess = columns.getPGuess();
+        float[] pSlip = columns.getPSlip();
+        int size = columns.getSize();
+        int bound = SPECIES.loopBound(size);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Float> observedMask = VectorMask.fromArray(SPECIES, observed, i);
+            if (!observedMask.anyTrue()) {
+                continue;
+            }
+            VectorMask<Float> correctMask = VectorMask.fromArray(SPECIES, correct, i);
+
+            FloatVector learn = FloatVector.fromArray(SPECIES, pLearn, i);
+            FloatVector train = FloatVector.fromArray(SPECIES, pTrain, i);
+            FloatVector guess = FloatVector.fromArray(SPECIES, pGuess, i);
+            FloatVector slip = FloatVector.fromArray(SPECIES, pSlip, i);
+
+            FloatVector rate = correctRate(learn, guess, slip);
+            FloatVector ifCorrect = learn.mul(slip.neg().add(1f)).div(rate.max(MIN_DENOMINATOR));
+            FloatVector ifWrong = learn.mul(slip).div(rate.neg().add(1f).max(MIN_DENOMINATOR));
+            FloatVector conditional = ifWrong.blend(ifCorrect, correctMask);
+            FloatVector updated = conditional.add(conditional.neg().add(1f).mul(train));
+
+            learn.blend(updated, observedMask).intoArray(pLearn, i);
+        }
+        ScalarBktKernel.updateRange(columns, correct, observed, i, size);
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + SPECIES.length() + " lanes)";
+    }
+
+    private static FloatVector correctRate(FloatVector learn, FloatVector guess, FloatVector slip) {
+        return learn.mul(slip.neg().add(1f)).add(learn.neg().add(1f).mul(guess));
+    }
+}
@@ -0,0 +1,119 @@
+package com.readingbuddy.backend.domain.bkt.replay;
+
+import com.readingbuddy.backend.domain.bkt.fit.BktParameters;
+import com.readingbuddy.backend.domain.bkt.kernel.BktColumns;
+import com.readingbuddy.backend.domain.bkt.kernel.BktKernel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 한 명의 이벤트를 시간순으로 적용해 user_kc_mastery 이력을 다시 만든다.
+ * 입력 순서가 같으면 결과도 항상 같다 (공유 상태 없음, 여러 워커에서 동시에 사용 가능).
+ * - 초기 이벤트: KC 파라미터의 pInit으로 첫 행 생성
+ * - 풀이 이벤트: 직전 pLearn에 관측을 적용한 행 생성 (초기 행이 없던 KC는 초기 행부터 만든다)
+ *
+ * KC마다 pLearn은 서로 독립적으로 바뀌므로 사용자의 KC를 BktColumns의 열로 두고,
+ * KC별 n번째 풀이를 BktKernel.update 한 번으로 함께 적용한다 (n = 1, 2, ...).
+ * 행은 입력 순서대로 만든다.
+ */
+public class MasteryReplayCalculator {
+
+    private static final int SKIPPED = -1;
+
+    private final Map<Long, BktParameters> parameters;
+    private final BktKernel kernel;
+
+    public MasteryReplayCalculator(Map<Long, BktParameters> parameters) {
+        this(parameters, BktKernel.create());
+    }
+
+    public MasteryReplayCalculator(Map<Long, BktParameters> parameters, BktKernel kernel) {
+        this.parameters = parameters;
+        this.kernel = kernel;
+    }
+
+    public List<ReplayRow> replay(long userId, List<ReplayEvent> events) {
+        // 1. KC별 열 번호, 풀이 이벤트를 KC 안의 풀이 순번(차수)별로 묶기
+        Map<Long, Integer> columnByKc = new LinkedHashMap<>();
+        List<Integer> attemptCounts = new ArrayList<>();
+        List<List<Integer>> eventsByRound = new ArrayList<>();
+        int[] columnOf = new int[events.size()];
+
+        for (int e = 0; e < events.size(); e++) {
+            ReplayEvent event = events.get(e);
+            if (!parameters.containsKey(event.kcId())) {
+                // 삭제된 KC의 이력
+                columnOf[e] = SKIPPED;
+                continue;
+            }
+            Integer column = columnByKc.get(event.kcId());
+            if (column == null) {
+                column = columnByKc.size();
+                columnByKc.put(event.kcId(), column);
+                attemptCounts.add(0);
+            }
+            columnOf[e] = column;
+            if (event.isInitial()) {
+                continue;
+            }
+
+            int round = attemptCounts.get(column);
+            attemptCounts.set(column, round + 1);
+            if (round == eventsByRound.size()) {
+                eventsByRound.add(new ArrayList<>());
+            }
+            eventsByRound.get(round).add(e);
+        }
+
+        // 2. 열마다 pInit으로 시작
+        BktColumns columns = new BktColumns(columnByKc.size());
+        columnByKc.forEach((kcId, column) -> {
+            BktParameters params = parameters.get(kcId);
+            columns.set(column, (float) params.pInit(), (float) params.pTrain(),
+                    (float) params.pGuess(), (float) params.pSlip());
+        });
+
+        // 3. 차수마다 관측을 한 번에 적용하고 풀이 직후 pLearn을 기록
+        float[] learnedAfter = new float[events.size()];
+        boolean[] correct = new boolean[columns.getSize()];
+        boolean[] observed = new boolean[columns.getSize()];
+        for (List<Integer> round : eventsByRound) {
+            for (int e : round) {
+                observed[columnOf[e]] = true;
+                correct[columnOf[e]] = events.get(e).correct();
+            }
+            kernel.update(columns, correct, observed);
+            for (int e : round) {
+                learnedAfter[e] = columns.getPLearn()[columnOf[e]];
+                observed[columnOf[e]] = false;
+            }
+        }
+
+        // 4. 입력 순서대로 행 생성 (처음 나온 KC는 그 시각의 초기 행부터)
+        List<ReplayRow> rows = new ArrayList<>(events.size());
+        boolean[] started = new boolean[columns.getSize()];
+        for (int e = 0; e < events.size(); e++) {
+            int column = columnOf[e];
+            if (column == SKIPPED) {
+                continue;
+            }
+            ReplayEvent event = events.get(e);
+            float pTrain = columns.getPTrain()[column];
+            float pGuess = columns.getPGuess()[column];
+            float pSlip = columns.getPSlip()[column];
+
+            if (!started[column]) {
+                started[column] = true;
+                float pInit = (float) parameters.get(event.kcId()).pInit();
+                rows.add(new ReplayRow(userId, event.kcId(), pInit, pTrain, pGuess, pSlip, event.at()));
+            }
+            if (!event.isInitial()) {
+                rows.add(new ReplayRow(userId, event.kcId(), learnedAfter[e], pTrain, pGuess, pSlip, event.at()));
+            }
+        }
+        return rows;
+    }
+}
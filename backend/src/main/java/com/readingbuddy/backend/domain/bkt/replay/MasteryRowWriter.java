@@ -0,0 +1,78 @@
+package com.readingbuddy.backend.domain.bkt.replay;
+
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 재계산한 행을 테이블에 일괄 기록
+ * PostgreSQL이면 COPY FROM STDIN(csv), 그 외 드라이버는 JDBC batch insert로 기록한다.
+ */
+public final class MasteryRowWriter {
+
+    private static final String COLUMNS = "user_id, knowledge_component, p_learn, p_train, p_guess, p_slip, created_at, updated_at";
+
+    private MasteryRowWriter() {
+    }
+
+    public static long write(Connection connection, String table, List<ReplayRow> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return copy(connection.unwrap(PGConnection.class), table, rows);
+        }
+        return batchInsert(connection, table, rows);
+    }
+
+    static String toCsv(List<ReplayRow> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 96);
+        for (ReplayRow row : rows) {
+            String createdAt = Timestamp.valueOf(row.createdAt()).toString();
+            csv.append(row.userId()).append(',')
+                    .append(row.kcId()).append(',')
+                    .append(row.pLearn()).append(',')
+                    .append(row.pTrain()).append(',')
+                    .append(row.pGuess()).append(',')
+                    .append(row.pSlip()).append(',')
+                    .append(createdAt).append(',')
+                    .append(createdAt).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static long copy(PGConnection connection, String table, List<ReplayRow> rows) throws SQLException {
+        String sql = "COPY " + table + " (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+        try {
+            return connection.getCopyAPI().copyIn(sql, new StringReader(toCsv(rows)));
+        } catch (IOException e) {
+            throw new SQLException("COPY 실패: " + table, e);
+        }
+    }
+
+    private static long batchInsert(Connection connection, String table, List<ReplayRow> rows) throws SQLException {
+        String sql = "INSERT INTO " + table + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (ReplayRow row : rows) {
+                Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+                statement.setLong(1, row.userId());
+                statement.setLong(2, row.kcId());
+                statement.setFloat(3, row.pLearn());
+                statement.setFloat(4, row.pTrain());
+                statement.setFloat(5, row.pGuess());
+                statement.setFloat(6, row.pSlip());
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return rows.size();
+    }
+}
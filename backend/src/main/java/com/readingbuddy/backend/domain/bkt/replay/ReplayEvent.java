@@ -0,0 +1,14 @@
+package com.readingbuddy.backend.domain.bkt.replay;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재생 입력 이벤트
+ * correct가 null이면 초기 숙련도 생성(가입 시점), 아니면 해당 KC 문제 풀이 결과
+ */
+public record ReplayEvent(long kcId, Boolean correct, LocalDateTime at) {
+
+    public boolean isInitial() {
+        return correct == null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.readingbuddy.backend.domain.bkt.replay;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재계산한 user_kc_mastery 한 행
+ */
+public record ReplayRow(long userId, long kcId, float pLearn, float pTrain, float pGuess, float pSlip, LocalDateTime createdAt) {
+}
@@ -0,0 +1,20 @@
+package com.readingbuddy.backend.domain.bkt.repository;
+
+import com.readingbuddy.backend.domain.bkt.entity.BktKcParameter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BktKcParameterRepository extends JpaRepository<BktKcParameter, Long> {
+
+    @Query("SELECT MAX(p.version) FROM BktKcParameter p")
+    Optional<Integer> findLatestVersion();
+
+    @Query("SELECT p FROM BktKcParameter p WHERE p.version = :version")
+    List<BktKcParameter> findByVersion(@Param("version") Integer version);
+}
@@ -0,0 +1,11 @@
+package com.readingbuddy.backend.domain.bkt.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * user_kc_mastery 한 행의 값만 읽는 projection (읽기 전용 조회용)
+ * User, KnowledgeComponent를 로딩하지 않고 KC는 FK 값만 읽는다.
+ */
+public record KcMasteryValues(Long kcId, Float pLearn, Float pTrain, Float pGuess, Float pSlip,
+                              LocalDateTime updatedAt) {
+}
@@ -1,12 +1,17 @@
 package com.readingbuddy.backend.domain.bkt.repository;
 
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface KnowledgeComponentRepository extends JpaRepository<KnowledgeComponent, Long> {
+    // KC 구성은 시드 이후 바뀌지 않으므로 결과를 쿼리 캐시에 둔다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<KnowledgeComponent> findByStage(String stage);
 }
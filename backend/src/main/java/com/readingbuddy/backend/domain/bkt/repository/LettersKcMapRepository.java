@@ -1,8 +1,11 @@
 package com.readingbuddy.backend.domain.bkt.repository;
 
 import com.readingbuddy.backend.domain.bkt.entity.LettersKcMap;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,8 +15,10 @@ import java.util.List;
 public interface LettersKcMapRepository extends JpaRepository<LettersKcMap, LettersKcMap.LettersKcMapId> {
 
     @Query("SELECT lkm FROM LettersKcMap lkm WHERE lkm.knowledgeComponent.id = :kcId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LettersKcMap> findByKnowledgeComponentId(@Param("kcId") Long kcId);
 
     @Query("SELECT lkm FROM LettersKcMap lkm WHERE lkm.letters.id = :letterId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LettersKcMap> findByLettersId(@Param("letterId") String letterId);
 }
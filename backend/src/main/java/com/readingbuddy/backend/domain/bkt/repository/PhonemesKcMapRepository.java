@@ -1,12 +1,16 @@
 package com.readingbuddy.backend.domain.bkt.repository;
 
 import com.readingbuddy.backend.domain.bkt.entity.PhonemesKcMap;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface PhonemesKcMapRepository extends JpaRepository<PhonemesKcMap, PhonemesKcMap.phonemesKcMapId> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PhonemesKcMap> findByKnowledgeComponent_Id(Long kcId);
 }
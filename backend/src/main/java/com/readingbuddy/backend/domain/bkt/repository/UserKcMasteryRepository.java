@@ -3,42 +3,191 @@ package com.readingbuddy.backend.domain.bkt.repository;
 import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
 import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
 import com.readingbuddy.backend.domain.dashboard.dto.response.DailyKcMasteryAvg;
-import com.readingbuddy.backend.domain.dashboard.dto.response.DailyKcMasteryByDateResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * 읽기 전용 조회는 KcMasteryValues로 값만 읽는다 (User, KnowledgeComponent 조인·로딩 없음).
+ * 엔티티를 돌려주는 조회는 새 이력을 저장하는 BKT 갱신 경로 하나뿐이다.
+ */
 @Repository
 public interface UserKcMasteryRepository extends JpaRepository<UserKcMastery, Long> {
-    Optional<UserKcMastery> findFirstByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtDesc(Long userId, Long knowledgeComponentId);
+    // BKT 갱신용 (toBuilder로 새 이력을 만든다, 연관은 LAZY 프록시 그대로 복사)
+    // 메서드 이름으로 만든 쿼리는 users, knowledge_component를 left join하므로 FK로 직접 거른다
+    @Query("""
+          SELECT ukm
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id = :kcId
+          ORDER BY ukm.createdAt DESC
+          LIMIT 1
+          """)
+    Optional<UserKcMastery> findFirstByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtDesc(
+            @Param("userId") Long userId, @Param("kcId") Long knowledgeComponentId);
+
+    // KC의 최신 숙련도 (정답률 계산용)
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id = :kcId
+          ORDER BY ukm.createdAt DESC
+          LIMIT 1
+          """)
+    Optional<KcMasteryValues> findLatestValues(@Param("userId") Long userId, @Param("kcId") Long kcId);
+
+    /**
+     * 여러 KC의 최신 숙련도를 한 번에 조회 (KC별 가장 최근 createdAt 행)
+     * KC ID 순, 같은 시각이 여럿이면 id가 큰 행이 먼저
+     */
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id IN :kcIds
+          AND ukm.createdAt = (
+            SELECT MAX(latest.createdAt)
+            FROM UserKcMastery latest
+            WHERE latest.user.id = ukm.user.id
+            AND latest.knowledgeComponent.id = ukm.knowledgeComponent.id
+          )
+          ORDER BY ukm.knowledgeComponent.id ASC, ukm.id DESC
+          """)
+    List<KcMasteryValues> findLatestByUserIdAndKcIds(@Param("userId") Long userId, @Param("kcIds") List<Long> kcIds);
 
-    List<UserKcMastery> findByUser_IdAndKnowledgeComponent_IdIn(Long userId, List<Long> kcIds);
+    /**
+     * 사용자의 KC별 최신 숙련도 (KC ID 순, 같은 시각이 여럿이면 id가 큰 행이 먼저)
+     */
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.createdAt = (
+            SELECT MAX(latest.createdAt)
+            FROM UserKcMastery latest
+            WHERE latest.user.id = ukm.user.id
+            AND latest.knowledgeComponent.id = ukm.knowledgeComponent.id
+          )
+          ORDER BY ukm.knowledgeComponent.id ASC, ukm.id DESC
+          """)
+    List<KcMasteryValues> findLatestMasteryValuesByUserId(@Param("userId") Long userId);
 
-    UserKcMastery findByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtDesc(Long userId, Long knowledgeComponentId);
+    /**
+     * 여러 KC의 기간 내 숙련도 이력을 KC별 시간순으로 스트리밍 조회
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id IN :kcIds
+          AND ukm.createdAt BETWEEN :startDate AND :endDate
+          ORDER BY ukm.knowledgeComponent.id ASC, ukm.createdAt ASC, ukm.id ASC
+          """)
+    Stream<KcMasteryValues> streamMasteryHistoryByKc(
+            @Param("userId") Long userId,
+            @Param("kcIds") List<Long> kcIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
 
-    // KC 숙련도 변화 추이 조회 (시간순 정렬)
-    List<UserKcMastery> findByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtAsc(Long userId, Long knowledgeComponentId);
+    /**
+     * 여러 KC의 기간 내 숙련도 이력을 updatedAt 순으로 스트리밍 조회 (같은 시각끼리 평균을 내기 위함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id IN :kcIds
+          AND ukm.createdAt BETWEEN :startDate AND :endDate
+          ORDER BY ukm.updatedAt ASC, ukm.knowledgeComponent.id ASC, ukm.createdAt ASC
+          """)
+    Stream<KcMasteryValues> streamMasteryHistoryByUpdatedAt(
+            @Param("userId") Long userId,
+            @Param("kcIds") List<Long> kcIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
 
     // KC 숙련도 변화 추이 조회 (기간 필터링, 시간순 정렬)
-    List<UserKcMastery> findByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtAsc(
-            Long userId, Long knowledgeComponentId, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id = :kcId
+          AND ukm.createdAt BETWEEN :startDate AND :endDate
+          ORDER BY ukm.createdAt ASC
+          """)
+    List<KcMasteryValues> findMasteryHistory(
+            @Param("userId") Long userId,
+            @Param("kcId") Long kcId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
 
     // 특정 기간 내 KC의 최신 숙련도 조회
-    Optional<UserKcMastery> findFirstByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtDesc(
-            Long userId, Long knowledgeComponentId, LocalDateTime startDateTime, LocalDateTime endDateTime);
-
-    // 특정 기간 내 KC의 최초 숙련도 조회
-    Optional<UserKcMastery> findFirstByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtAsc(
-            Long userId, Long knowledgeComponentId, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id = :kcId
+          AND ukm.createdAt BETWEEN :startDate AND :endDate
+          ORDER BY ukm.createdAt DESC
+          LIMIT 1
+          """)
+    Optional<KcMasteryValues> findLatestValuesBetween(
+            @Param("userId") Long userId,
+            @Param("kcId") Long kcId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
 
-    // 특정 시점 이전의 KC 최신 숙련도 조회
-    Optional<UserKcMastery> findFirstByUser_IdAndKnowledgeComponent_IdAndCreatedAtBeforeOrderByCreatedAtDesc(
-            Long userId, Long knowledgeComponentId, LocalDateTime beforeDateTime);
+    /**
+     * 여러 KC의 초기값 후보를 한 번에 조회
+     * KC별로 시작 날짜 당일의 가장 빠른 행과 그 이전의 가장 최근 행을 읽는다.
+     * KC ID 순, 같은 KC 안에서는 createdAt 내림차순이므로 당일 행이 있으면 먼저 온다.
+     */
+    @Query("""
+          SELECT new com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues(
+            ukm.knowledgeComponent.id, ukm.pLearn, ukm.pTrain, ukm.pGuess, ukm.pSlip, ukm.updatedAt)
+          FROM UserKcMastery ukm
+          WHERE ukm.user.id = :userId
+          AND ukm.knowledgeComponent.id IN :kcIds
+          AND (ukm.createdAt = (
+                SELECT MIN(sameDay.createdAt)
+                FROM UserKcMastery sameDay
+                WHERE sameDay.user.id = ukm.user.id
+                AND sameDay.knowledgeComponent.id = ukm.knowledgeComponent.id
+                AND sameDay.createdAt BETWEEN :dayStart AND :dayEnd
+              )
+              OR ukm.createdAt = (
+                SELECT MAX(prior.createdAt)
+                FROM UserKcMastery prior
+                WHERE prior.user.id = ukm.user.id
+                AND prior.knowledgeComponent.id = ukm.knowledgeComponent.id
+                AND prior.createdAt < :dayStart
+              ))
+          ORDER BY ukm.knowledgeComponent.id ASC, ukm.createdAt DESC, ukm.id ASC
+          """)
+    List<KcMasteryValues> findInitialValueCandidates(
+            @Param("userId") Long userId,
+            @Param("kcIds") List<Long> kcIds,
+            @Param("dayStart") LocalDateTime dayStart,
+            @Param("dayEnd") LocalDateTime dayEnd);
 
     /**
      * 특정 카테고리 리스트에 해당하는 mastery의 날짜별 평균 계산
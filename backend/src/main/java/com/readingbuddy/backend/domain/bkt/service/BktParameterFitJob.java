@@ -0,0 +1,192 @@
+package com.readingbuddy.backend.domain.bkt.service;
+
+import com.readingbuddy.backend.common.properties.BktFitProperties;
+import com.readingbuddy.backend.domain.bkt.entity.BktKcParameter;
+import com.readingbuddy.backend.domain.bkt.fit.BktEmFitter;
+import com.readingbuddy.backend.domain.bkt.fit.BktParameters;
+import com.readingbuddy.backend.domain.bkt.fit.KcObservations;
+import com.readingbuddy.backend.domain.bkt.repository.BktKcParameterRepository;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * KC별 BKT 파라미터 오프라인 추정
+ * 풀이 이력을 (KC, 사용자, 풀이 시각) 순서의 커서로 읽으며 KC가 바뀔 때마다 직전 KC를 EM으로 추정한다.
+ * 메모리에는 KC 하나의 관측(1비트/건)만 올라가므로 전체 이력 크기와 무관하다.
+ * 결과는 bkt_kc_parameter에 새 version으로 한 번에 저장하고, BktService가 신규 숙련도 생성 시 사용한다.
+ */
+@Slf4j
+@Component
+public class BktParameterFitJob {
+
+    private static final String OBSERVATION_SQL = """
+            SELECT m.knowledge_component_id, kc.stage, s.user_id, p.is_correct
+            FROM train_problem_histories_kc_map m
+            JOIN trained_problem_histories p ON p.id = m.trained_problem_histories_id
+            JOIN trained_stage_histories s ON s.id = p.trained_stage_id
+            JOIN knowledge_component kc ON kc.id = m.knowledge_component_id
+            ORDER BY m.knowledge_component_id, s.user_id, p.solved_at, p.id
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final KnowledgeComponentRepository knowledgeComponentRepository;
+    private final BktKcParameterRepository bktKcParameterRepository;
+    private final BktFitProperties properties;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BktParameterFitJob(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              KnowledgeComponentRepository knowledgeComponentRepository,
+                              BktKcParameterRepository bktKcParameterRepository,
+                              BktFitProperties properties) {
+        // PostgreSQL은 트랜잭션 안에서 fetchSize가 있어야 결과를 커서로 나눠 받는다
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.knowledgeComponentRepository = knowledgeComponentRepository;
+        this.bktKcParameterRepository = bktKcParameterRepository;
+        this.properties = properties;
+    }
+
+    // 매주 일요일 새벽 3시
+    @Scheduled(cron = "${bkt.fit.cron:0 0 3 * * SUN}")
+    public void scheduledFit() {
+        if (!properties.getEnabled()) {
+            return;
+        }
+        fit();
+    }
+
+    /**
+     * 전체 이력으로 파라미터를 추정해 새 version으로 저장
+     * @return 저장한 version (이미 실행 중이거나 추정한 KC가 없으면 empty)
+     */
+    public Optional<Integer> fit() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("BKT 파라미터 추정이 이미 실행 중입니다.");
+            return Optional.empty();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(properties.getParallelism());
+        try {
+            long startedAt = System.currentTimeMillis();
+            BktEmFitter fitter = new BktEmFitter(pool, properties.getMaxIterations(), properties.getTolerance());
+            List<FittedKc> fitted = new ArrayList<>();
+            KcStream stream = new KcStream(fitter, fitted);
+
+            readOnlyTransaction.executeWithoutResult(status ->
+                    streamingJdbcTemplate.query(OBSERVATION_SQL, stream::accept));
+            stream.finish();
+
+            if (fitted.isEmpty()) {
+                log.info("BKT 파라미터 추정 대상 KC 없음 (관측 {}건)", stream.totalObservations);
+                return Optional.empty();
+            }
+
+            Integer version = writeTransaction.execute(status -> save(fitted));
+            log.info("BKT 파라미터 추정 완료: version={}, kc={}개, 관측 {}건, {}ms",
+                    version, fitted.size(), stream.totalObservations, System.currentTimeMillis() - startedAt);
+            return Optional.ofNullable(version);
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private Integer save(List<FittedKc> fitted) {
+        int version = bktKcParameterRepository.findLatestVersion().orElse(0) + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BktKcParameter> rows = new ArrayList<>(fitted.size());
+        for (FittedKc kc : fitted) {
+            BktParameters params = kc.result().parameters();
+            rows.add(BktKcParameter.builder()
+                    .version(version)
+                    .knowledgeComponent(knowledgeComponentRepository.getReferenceById(kc.kcId()))
+                    .pInit((float) params.pInit())
+                    .pTrain((float) params.pTrain())
+                    .pGuess((float) params.pGuess())
+                    .pSlip((float) params.pSlip())
+                    .observations(kc.observations())
+                    .sequences(kc.sequences())
+                    .logLikelihood(kc.result().logLikelihood())
+                    .fittedAt(now)
+                    .build());
+        }
+        bktKcParameterRepository.saveAll(rows);
+        return version;
+    }
+
+    /**
+     * EM 시작값: 서비스 기본값에서 초기 숙달 확률만 0.1로 (0에 가까우면 수렴이 느림)
+     */
+    private static BktParameters startParameters(String stage) {
+        BktParameters defaults = BktService.defaultParameters(stage);
+        return new BktParameters(0.1, defaults.pTrain(), defaults.pGuess(), defaults.pSlip());
+    }
+
+    private record FittedKc(long kcId, long observations, int sequences, BktEmFitter.FitResult result) {
+    }
+
+    /**
+     * 커서 행을 KC 단위로 모아 KC가 바뀔 때 추정
+     */
+    private final class KcStream {
+
+        private final BktEmFitter fitter;
+        private final List<FittedKc> fitted;
+        private long currentKcId = -1;
+        private String currentStage;
+        private KcObservations observations;
+        private long totalObservations;
+
+        private KcStream(BktEmFitter fitter, List<FittedKc> fitted) {
+            this.fitter = fitter;
+            this.fitted = fitted;
+        }
+
+        private void accept(ResultSet rs) throws SQLException {
+            long kcId = rs.getLong(1);
+            if (kcId != currentKcId) {
+                finish();
+                currentKcId = kcId;
+                currentStage = rs.getString(2);
+                observations = new KcObservations();
+            }
+            observations.add(rs.getLong(3), rs.getBoolean(4));
+            totalObservations++;
+        }
+
+        private void finish() {
+            if (observations == null) {
+                return;
+            }
+            if (observations.size() >= properties.getMinObservations()) {
+                BktEmFitter.FitResult result = fitter.fit(observations, startParameters(currentStage));
+                fitted.add(new FittedKc(currentKcId, observations.size(), observations.sequences(), result));
+                log.info("KC {} 추정: {} (관측 {}건, 반복 {}회)", currentKcId, result.parameters(), observations.size(), result.iterations());
+            } else {
+                log.info("KC {} 관측 부족으로 건너뜀 ({}건)", currentKcId, observations.size());
+            }
+            observations = null;
+        }
+    }
+}
@@ -1,23 +1,34 @@
 package com.readingbuddy.backend.domain.bkt.service;
 
+import com.readingbuddy.backend.common.event.KcMasteryUpdatedEvent;
+import com.readingbuddy.backend.common.jfr.BktMasteryUpdateEvent;
+import com.readingbuddy.backend.common.jfr.PhonemeSelectionEvent;
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
 import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
+import com.readingbuddy.backend.domain.bkt.fit.BktParameters;
+import com.readingbuddy.backend.domain.bkt.kernel.BktKernel;
 import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
+import com.readingbuddy.backend.domain.bkt.repository.BktKcParameterRepository;
+import com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues;
 import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
 import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
 import com.readingbuddy.backend.domain.dashboard.dto.response.DailyKcMasteryAvg;
 import com.readingbuddy.backend.domain.dashboard.dto.response.DailyKcMasteryByDateResponse;
-import com.readingbuddy.backend.domain.train.dto.result.KcWithCorrectRate;
 import com.readingbuddy.backend.domain.bkt.entity.PhonemesKcMap;
 import com.readingbuddy.backend.domain.bkt.repository.PhonemesKcMapRepository;
 import com.readingbuddy.backend.domain.train.dto.result.PhonemeWithKcIdAndCandidate;
 import com.readingbuddy.backend.domain.train.entity.Phonemes;
 import com.readingbuddy.backend.domain.train.repository.TrainedProblemHistoriesRepository;
 import com.readingbuddy.backend.domain.user.entity.TrainedProblemHistories;
+import com.readingbuddy.backend.domain.user.entity.User;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -37,6 +48,80 @@ public class BktService {
     private final KnowledgeComponentRepository knowledgeComponentRepository;
     private final PhonemesKcMapRepository phonemesKcMapRepository;
     private final TrainedProblemHistoriesRepository trainedProblemHistoriesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BktKcParameterRepository bktKcParameterRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 추정된 파라미터가 없는 KC의 기본값
+    private static final float DEFAULT_P_LEARN = 0.0f;   // 초기 숙달 확률 (아직 학습하지 않음)
+    private static final float DEFAULT_P_TRAIN = 0.1f;   // 학습 확률 (한 번 연습할 때 배울 확률)
+    private static final float DEFAULT_P_SLIP = 0.1f;    // 실수 확률 (알지만 틀릴 확률)
+
+    /**
+     * 신규 사용자의 KC별 초기 숙련도 생성
+     * 가장 최근 version의 추정 파라미터(bkt_kc_parameter)를 쓰고, 없는 KC는 기본값을 쓴다.
+     */
+    public List<UserKcMastery> createInitialMasteries(User user, List<KnowledgeComponent> kcs, LocalDateTime now) {
+        Map<Long, BktParameters> parameters = getCurrentParameters(kcs);
+
+        List<UserKcMastery> masteries = new ArrayList<>(kcs.size());
+        for (KnowledgeComponent kc : kcs) {
+            BktParameters parameter = parameters.get(kc.getId());
+            masteries.add(UserKcMastery.builder()
+                    .user(user)
+                    .knowledgeComponent(kc)
+                    .pLearn((float) parameter.pInit())
+                    .pTrain((float) parameter.pTrain())
+                    .pGuess((float) parameter.pGuess())
+                    .pSlip((float) parameter.pSlip())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return masteries;
+    }
+
+    /**
+     * KC별 현재 BKT 파라미터 (가장 최근 version의 추정값, 없으면 기본값)
+     */
+    public Map<Long, BktParameters> getCurrentParameters(List<KnowledgeComponent> kcs) {
+        Map<Long, BktParameters> fitted = new HashMap<>();
+        bktKcParameterRepository.findLatestVersion().ifPresent(version ->
+                bktKcParameterRepository.findByVersion(version).forEach(parameter ->
+                        fitted.put(parameter.getKnowledgeComponent().getId(), new BktParameters(
+                                parameter.getPInit(), parameter.getPTrain(), parameter.getPGuess(), parameter.getPSlip()))));
+
+        Map<Long, BktParameters> parameters = new HashMap<>();
+        for (KnowledgeComponent kc : kcs) {
+            parameters.put(kc.getId(), fitted.getOrDefault(kc.getId(), defaultParameters(kc.getStage())));
+        }
+        return parameters;
+    }
+
+    /**
+     * 추정 전 기본 파라미터 (파라미터 추정 작업의 EM 시작값으로도 사용)
+     */
+    public static BktParameters defaultParameters(String stage) {
+        return new BktParameters(DEFAULT_P_LEARN, DEFAULT_P_TRAIN, getGuessProbabilityByStage(stage), DEFAULT_P_SLIP);
+    }
+
+    /**
+     * 단계별 추측 확률(p_g) 반환
+     * @param stage 단계 (예: "1.1.1", "1.1.2", "1.2.1", "1.2.2", "3", "4")
+     * @return 추측 확률
+     */
+    private static float getGuessProbabilityByStage(String stage) {
+        return switch (stage) {
+            case "1.1.1" -> 0.5f;   // 모음 기초 (2지선다)
+            case "1.1.2" -> 0.33f;  // 모음 심화 (3지선다)
+            case "1.2.1" -> 0.5f;   // 자음 기초 (2지선다)
+            case "1.2.2" -> 0.33f;  // 자음 심화 (3지선다)
+            case "3" -> 0.2f;       // 3단계 (5지선다)
+            case "4" -> 0.2f;       // 4단계 (5지선다)
+            default -> 0.2f;        // 기본값
+        };
+    }
+
     /**
      * TODO: 유저와 stage 가 들어오면 해당 stage에 대한 kc들의 숙련도 출력 (부족한 부분까지 sorting) 해서 주기
      */
@@ -45,30 +130,42 @@ public class BktService {
      * TODO: 유저, kc가 들어오면 해당 kc에 대한 정답률 반환
      */
     public Float getCorrectAnswerRate(Long userId, Long kcId) {
-        UserKcMastery userKcMastery = userKcMasteryRepository.findFirstByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtDesc(userId, kcId)
+        KcMasteryValues mastery = userKcMasteryRepository.findLatestValues(userId, kcId)
                 .orElseThrow(() -> new IllegalArgumentException("UserKcMastery를 찾을 수 없습니다: userId=" + userId + ", kcId=" + kcId));
-        /**
-         * 정답을 맞출 확률 = 이미 알고 있을 확률  * 실수 하지 않을 확룰 + 모를 확률 * 찍어서 맞출 확률
-         */
-        return userKcMastery.getPLearn() * (1 - userKcMastery.getPSlip()) + (1 - userKcMastery.getPLearn()) * (userKcMastery.getPGuess());
+        return correctRateOf(mastery);
+    }
+
+    /**
+     * 정답을 맞출 확률 = 이미 알고 있을 확률  * 실수 하지 않을 확룰 + 모를 확률 * 찍어서 맞출 확률
+     */
+    public static Float correctRateOf(UserKcMastery userKcMastery) {
+        return correctRateOf(userKcMastery.getPLearn(), userKcMastery.getPGuess(), userKcMastery.getPSlip());
+    }
+
+    public static Float correctRateOf(KcMasteryValues mastery) {
+        return correctRateOf(mastery.pLearn(), mastery.pGuess(), mastery.pSlip());
+    }
+
+    private static Float correctRateOf(float pLearn, float pGuess, float pSlip) {
+        return BktKernel.correctRate(pLearn, pGuess, pSlip);
     }
 
 
     /**
      * TODO: 유저, stage와 문제의 합불이 들어오면 해당 문제에 해당 하는 kc에 대한 숙련도 update
      */
-    public void updateLearnedMastery(Long userId, Long kcId, Boolean isCorrect, Float correctRate) {
+    // stage는 호출하는 쪽에서 이미 읽은 KC의 단계를 받는다 (LAZY인 KC를 다시 읽지 않도록)
+    @Transactional
+    public void updateLearnedMastery(Long userId, String stage, Long kcId, Boolean isCorrect) {
+        BktMasteryUpdateEvent event = new BktMasteryUpdateEvent();
+        event.begin();
+
         UserKcMastery userKcMastery = userKcMasteryRepository.findFirstByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtDesc(userId, kcId)
                 .orElseThrow(() -> new IllegalArgumentException("UserKcMastery를 찾을 수 없습니다: userId=" + userId + ", kcId=" + kcId));
 
-        float conditionalProbability = 0F;
-        if (isCorrect) {
-            conditionalProbability = (userKcMastery.getPLearn() * (1 - userKcMastery.getPSlip())) / correctRate;
-        } else {
-            conditionalProbability = (userKcMastery.getPLearn() * (userKcMastery.getPSlip())) / (1 - correctRate);
-        }
-
-        Float updatedLearnedMastery = conditionalProbability + (1 - conditionalProbability) * userKcMastery.getPTrain();
+        // 일괄 재계산(MasteryReplayJob)과 같은 계산식과 분모 하한을 쓴다
+        Float updatedLearnedMastery = BktKernel.updatedLearn(userKcMastery.getPLearn(), userKcMastery.getPTrain(),
+                userKcMastery.getPGuess(), userKcMastery.getPSlip(), Boolean.TRUE.equals(isCorrect));
 
         UserKcMastery updatedKcMastery = userKcMastery.toBuilder()
                 .id(null)
@@ -78,31 +175,21 @@ public class BktService {
                 .build();
 
         userKcMasteryRepository.save(updatedKcMastery);
-    }
-
-    /**
-     * userId, stage에서 정답률이 낮은 KC 순으로 반환
-     */
-    public List<KcWithCorrectRate> getLowestCorrectRateKcsByStage(Long userId, String stage) {
-        // stage에 속하는 모든 KC 조회
-        List<KnowledgeComponent> kcs = knowledgeComponentRepository.findByStage(stage);
 
-        // 각 KC에 대한 정답률 계산 및 DTO 생성
-        List<KcWithCorrectRate> kcWithRates = new ArrayList<>();
-        for (KnowledgeComponent kc : kcs) {
-            try {
-                Float correctRate = getCorrectAnswerRate(userId, kc.getId());
-                kcWithRates.add(new KcWithCorrectRate(kc, correctRate));
-            } catch (Exception e) {
-                // UserKcMastery가 없는 경우, 정답률을 0으로 간주 (가장 낮은 우선순위)
-                kcWithRates.add(new KcWithCorrectRate(kc, 0.0f));
-            }
+        // 출제 순서 힙에는 커밋된 뒤에 새 정답률 반영 (롤백되면 힙도 그대로 둔다)
+        eventPublisher.publishEvent(new KcMasteryUpdatedEvent(userId, stage, kcId, correctRateOf(updatedKcMastery)));
+
+        event.end();
+        // 녹화 중일 때만 필드를 채운다
+        if (event.shouldCommit()) {
+            event.setUserId(userId);
+            event.setKcId(kcId);
+            event.setStage(stage);
+            event.setCorrect(Boolean.TRUE.equals(isCorrect));
+            event.setPLearnBefore(userKcMastery.getPLearn());
+            event.setPLearnAfter(updatedLearnedMastery);
+            event.commit();
         }
-
-        // 정답률이 낮은 순으로 정렬
-        return kcWithRates.stream()
-                .sorted(Comparator.comparing(KcWithCorrectRate::getCorrectRate))
-                .collect(Collectors.toList());
     }
 
     /**
@@ -112,7 +199,13 @@ public class BktService {
     /**
      * TODO: 유저와 stage 가 들어오면 해당 stage에 대한 kc들의 숙련도가 충분한지 출력
      */
-    public PhonemeWithKcIdAndCandidate selectPhonemeUsingBitMask(Long userId, Long kcId, Set<Long> excludedPhonemeIds) {
+    public PhonemeWithKcIdAndCandidate selectPhonemeUsingBitMask(Long userId, String stage, Long kcId, Set<Long> excludedPhonemeIds) {
+        // 선택 시간은 training.bitmask.selection (result: available|reset|duplicate)
+        Timer.Sample selection = Timer.start(meterRegistry);
+        PhonemeSelectionEvent event = new PhonemeSelectionEvent();
+        event.begin();
+        String result = "available";
+
         // 1. 선택된 KC에 해당하는 모든 Phonemes 조회
         List<Phonemes> kcPhonemes = phonemesKcMapRepository.findByKnowledgeComponent_Id(kcId)
                 .stream()
@@ -140,8 +233,11 @@ public class BktService {
             }
         }
 
+        int availableCount = availablePhonemes.size();
+
         // 4. 그래도 없으면 전체 Phoneme에서 제외 목록만 고려
         if (availablePhonemes.isEmpty()) {
+            result = "reset";
             availablePhonemes = kcPhonemes.stream()
                     .filter(p -> !excludedPhonemeIds.contains(p.getId()))
                     .collect(Collectors.toList());
@@ -150,12 +246,27 @@ public class BktService {
         // 5. 최종적으로 사용 가능한 Phoneme이 없으면 랜덤 선택 (중복 허용)
         if (availablePhonemes.isEmpty()) {
             log.error("사용 가능한 Phoneme이 전혀 없음. 중복을 허용하여 랜덤 선택");
+            result = "duplicate";
             availablePhonemes = kcPhonemes;
         }
 
         // 6. 사용 가능한 Phoneme 중 랜덤 선택
         Phonemes selected = availablePhonemes.get(new Random().nextInt(availablePhonemes.size()));
         log.info("선택된 Phoneme: {}", selected.getValue());
+        selection.stop(Timer.builder("training.bitmask.selection")
+                .tag("stage", stage)
+                .tag("result", result)
+                .register(meterRegistry));
+        event.end();
+        if (event.shouldCommit()) {
+            event.setUserId(userId);
+            event.setKcId(kcId);
+            event.setStage(stage);
+            event.setPhonemeRows(kcPhonemes.size());
+            event.setAvailableCount(availableCount);
+            event.setResult(result);
+            event.commit();
+        }
         return PhonemeWithKcIdAndCandidate.builder()
                 .phonemes(selected)
                 .candidateList(candidateListStr)
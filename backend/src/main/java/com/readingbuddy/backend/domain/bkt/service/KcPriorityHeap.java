@@ -0,0 +1,142 @@
+package com.readingbuddy.backend.domain.bkt.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * KC id → 우선순위 키(기대 정답률)를 담는 인덱스 최소 힙
+ * 위치 인덱스를 함께 관리해 키 갱신이 O(log n), 상위 k개 조회는 힙을 건드리지 않고 O(k log k)
+ * 키가 같으면 KC id가 작은 쪽이 먼저 나온다.
+ */
+final class KcPriorityHeap {
+
+    private long[] kcIds;
+    private float[] keys;
+    private int size;
+    private final Map<Long, Integer> positions;
+
+    KcPriorityHeap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.kcIds = new long[capacity];
+        this.keys = new float[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long kcId) {
+        return positions.containsKey(kcId);
+    }
+
+    float keyOf(long kcId) {
+        Integer position = positions.get(kcId);
+        if (position == null) {
+            throw new IllegalArgumentException("힙에 없는 KC입니다: kcId=" + kcId);
+        }
+        return keys[position];
+    }
+
+    /**
+     * KC가 없으면 추가하고, 있으면 키를 갱신한 뒤 위치를 다시 맞춘다.
+     */
+    void upsert(long kcId, float key) {
+        Integer position = positions.get(kcId);
+        if (position == null) {
+            if (size == kcIds.length) {
+                kcIds = Arrays.copyOf(kcIds, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            kcIds[size] = kcId;
+            keys[size] = key;
+            positions.put(kcId, size);
+            siftUp(size++);
+            return;
+        }
+
+        float previous = keys[position];
+        keys[position] = key;
+        if (key < previous) {
+            siftUp(position);
+        } else if (key > previous) {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * 키가 작은 순서로 최대 k개의 KC id 반환 (힙은 변경하지 않음)
+     */
+    long[] top(int k) {
+        int limit = Math.min(k, size);
+        long[] result = new long[limit];
+        if (limit == 0) {
+            return result;
+        }
+
+        // 후보 경계만 보조 힙에 올려 두고 꺼낼 때마다 자식 두 개를 추가
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(limit * 2, this::compare);
+        frontier.add(0);
+        for (int i = 0; i < limit; i++) {
+            int position = frontier.poll();
+            result[i] = kcIds[position];
+            int left = 2 * position + 1;
+            if (left < size) {
+                frontier.add(left);
+            }
+            if (left + 1 < size) {
+                frontier.add(left + 1);
+            }
+        }
+        return result;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (compare(position, parent) >= 0) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            if (left < size && compare(left, smallest) < 0) {
+                smallest = left;
+            }
+            if (left + 1 < size && compare(left + 1, smallest) < 0) {
+                smallest = left + 1;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private int compare(int a, int b) {
+        int byKey = Float.compare(keys[a], keys[b]);
+        return byKey != 0 ? byKey : Long.compare(kcIds[a], kcIds[b]);
+    }
+
+    private void swap(int a, int b) {
+        long kcId = kcIds[a];
+        kcIds[a] = kcIds[b];
+        kcIds[b] = kcId;
+
+        float key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+
+        positions.put(kcIds[a], a);
+        positions.put(kcIds[b], b);
+    }
+}
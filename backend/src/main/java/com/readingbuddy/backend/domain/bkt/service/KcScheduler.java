@@ -0,0 +1,235 @@
+package com.readingbuddy.backend.domain.bkt.service;
+
+import com.readingbuddy.backend.common.event.KcMasteryUpdatedEvent;
+import com.readingbuddy.backend.common.properties.KcSchedulerProperties;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
+import com.readingbuddy.backend.domain.train.dto.result.KcWithCorrectRate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 KC 출제 순서 관리
+ * (사용자, 단계)마다 기대 정답률을 키로 하는 인덱스 힙을 두고, BKT 갱신이 커밋될 때마다 해당 KC의 키만 고친다.
+ * 출제 시에는 정답률이 낮은 KC부터 n개를 힙에서 바로 꺼내므로 요청마다 정답률을 다시 계산하지 않는다.
+ * 힙이 없는 (사용자, 단계)는 첫 요청 때 최신 숙련도를 한 번에 읽어 만든다.
+ * 읽는 도중 커밋된 갱신은 DB 결과에 빠져 있을 수 있으므로 따로 모아 두었다가 힙을 넣은 직후 다시 적용한다.
+ */
+@Slf4j
+@Component
+public class KcScheduler {
+
+    private final KnowledgeComponentRepository knowledgeComponentRepository;
+    private final UserKcMasteryRepository userKcMasteryRepository;
+    private final int maxEntries;
+
+    // KC는 시드 데이터라 단계별로 한 번만 읽는다
+    private final Map<String, Map<Long, KnowledgeComponent>> stageKcs = new ConcurrentHashMap<>();
+    private final Map<ScheduleKey, KcPriorityHeap> schedules;
+    // DB에서 읽고 있는 힙별로 그동안 들어온 갱신 (schedules 락으로 보호)
+    private final Map<ScheduleKey, List<PendingLoad>> loading = new HashMap<>();
+
+    public KcScheduler(KnowledgeComponentRepository knowledgeComponentRepository,
+                       UserKcMasteryRepository userKcMasteryRepository,
+                       KcSchedulerProperties properties) {
+        this.knowledgeComponentRepository = knowledgeComponentRepository;
+        this.userKcMasteryRepository = userKcMasteryRepository;
+        this.maxEntries = properties.getMaxEntries();
+        this.schedules = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScheduleKey, KcPriorityHeap> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 기대 정답률이 낮은 순으로 최대 n개의 KC 반환
+     * 숙련도 기록이 없는 KC는 정답률 0으로 보고 가장 먼저 나온다.
+     */
+    public List<KcWithCorrectRate> nextKcs(Long userId, String stage, int n) {
+        Map<Long, KnowledgeComponent> kcs = getStageKcs(stage);
+        if (kcs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        KcPriorityHeap heap = getOrLoad(userId, stage, kcs);
+
+        List<KcWithCorrectRate> result = new ArrayList<>(Math.min(n, kcs.size()));
+        synchronized (heap) {
+            for (long kcId : heap.top(n)) {
+                result.add(new KcWithCorrectRate(kcs.get(kcId), heap.keyOf(kcId)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단계의 모든 KC를 기대 정답률이 낮은 순으로 반환
+     */
+    public List<KcWithCorrectRate> rankedKcs(Long userId, String stage) {
+        return nextKcs(userId, stage, Integer.MAX_VALUE);
+    }
+
+    /**
+     * BKT 갱신 결과 반영
+     * 힙을 읽고 있는 중이면 갱신을 모아 두었다가 힙을 넣은 직후 적용하고,
+     * 아무도 읽고 있지 않은 (사용자, 단계)는 다음 조회 때 DB에서 최신 값을 읽으므로 건너뛴다.
+     */
+    public void update(Long userId, String stage, Long kcId, float correctRate) {
+        ScheduleKey key = new ScheduleKey(userId, stage);
+        KcPriorityHeap heap;
+        synchronized (schedules) {
+            heap = schedules.get(key);
+            if (heap == null) {
+                for (PendingLoad pending : loading.getOrDefault(key, List.of())) {
+                    pending.updates.add(new PendingUpdate(kcId, correctRate));
+                }
+                return;
+            }
+        }
+        synchronized (heap) {
+            if (heap.contains(kcId)) {
+                heap.upsert(kcId, correctRate);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleKcMasteryUpdated(KcMasteryUpdatedEvent event) {
+        update(event.getUserId(), event.getStage(), event.getKcId(), event.getCorrectRate());
+    }
+
+    /**
+     * 사용자의 모든 단계 힙 제거 (다음 조회 때 DB에서 다시 만든다)
+     */
+    public void invalidate(Long userId) {
+        synchronized (schedules) {
+            schedules.keySet().removeIf(key -> key.userId().equals(userId));
+            loading.forEach((key, pendings) -> {
+                if (key.userId().equals(userId)) {
+                    pendings.forEach(pending -> pending.discarded = true);
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 힙 제거 (숙련도 테이블 전체를 다시 계산한 뒤 사용)
+     */
+    public void clear() {
+        synchronized (schedules) {
+            schedules.clear();
+            loading.values().forEach(pendings -> pendings.forEach(pending -> pending.discarded = true));
+        }
+    }
+
+    private KcPriorityHeap getOrLoad(Long userId, String stage, Map<Long, KnowledgeComponent> kcs) {
+        ScheduleKey key = new ScheduleKey(userId, stage);
+        PendingLoad pending = new PendingLoad();
+        synchronized (schedules) {
+            KcPriorityHeap heap = schedules.get(key);
+            if (heap != null) {
+                return heap;
+            }
+            // DB 조회를 시작하기 전에 등록해야 조회 이후 커밋된 갱신을 놓치지 않는다
+            loading.computeIfAbsent(key, k -> new ArrayList<>()).add(pending);
+        }
+
+        // DB 조회는 락 밖에서
+        KcPriorityHeap loaded;
+        try {
+            loaded = load(userId, kcs);
+        } catch (RuntimeException e) {
+            synchronized (schedules) {
+                removePending(key, pending);
+            }
+            throw e;
+        }
+
+        synchronized (schedules) {
+            removePending(key, pending);
+            // 읽는 동안 invalidate/clear 됐다면 이번 결과만 쓰고 캐시하지 않는다
+            if (pending.discarded) {
+                return loaded;
+            }
+            // 동시에 만든 경우 먼저 들어간 힙을 사용 (그 힙은 자기 대기열을 적용했고 이후 갱신은 직접 받았다)
+            KcPriorityHeap existing = schedules.putIfAbsent(key, loaded);
+            if (existing != null) {
+                return existing;
+            }
+            synchronized (loaded) {
+                for (PendingUpdate update : pending.updates) {
+                    if (loaded.contains(update.kcId())) {
+                        loaded.upsert(update.kcId(), update.correctRate());
+                    }
+                }
+            }
+            return loaded;
+        }
+    }
+
+    private void removePending(ScheduleKey key, PendingLoad pending) {
+        List<PendingLoad> pendings = loading.get(key);
+        if (pendings == null) {
+            return;
+        }
+        pendings.remove(pending);
+        if (pendings.isEmpty()) {
+            loading.remove(key);
+        }
+    }
+
+    private KcPriorityHeap load(Long userId, Map<Long, KnowledgeComponent> kcs) {
+        KcPriorityHeap heap = new KcPriorityHeap(kcs.size());
+        Map<Long, KcMasteryValues> latest = new HashMap<>();
+        for (KcMasteryValues mastery : userKcMasteryRepository.findLatestByUserIdAndKcIds(userId, new ArrayList<>(kcs.keySet()))) {
+            // createdAt이 같은 행이 여러 개면 나중에 저장된 행(먼저 온 행)을 사용
+            latest.putIfAbsent(mastery.kcId(), mastery);
+        }
+
+        for (Long kcId : kcs.keySet()) {
+            KcMasteryValues mastery = latest.get(kcId);
+            heap.upsert(kcId, mastery == null ? 0.0f : BktService.correctRateOf(mastery));
+        }
+        return heap;
+    }
+
+    private Map<Long, KnowledgeComponent> getStageKcs(String stage) {
+        Map<Long, KnowledgeComponent> cached = stageKcs.get(stage);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<Long, KnowledgeComponent> kcs = new LinkedHashMap<>();
+        for (KnowledgeComponent kc : knowledgeComponentRepository.findByStage(stage)) {
+            kcs.put(kc.getId(), kc);
+        }
+        // 시딩 전이라 비어 있으면 캐시하지 않고 다음 요청에서 다시 읽는다
+        if (kcs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        log.info("KC 스케줄러 단계 로드: stage={}, kcCount={}", stage, kcs.size());
+        Map<Long, KnowledgeComponent> existing = stageKcs.putIfAbsent(stage, Collections.unmodifiableMap(kcs));
+        return existing != null ? existing : stageKcs.get(stage);
+    }
+
+    private record ScheduleKey(Long userId, String stage) {
+    }
+
+    private record PendingUpdate(long kcId, float correctRate) {
+    }
+
+    /**
+     * DB에서 힙을 읽는 동안 들어온 갱신
+     */
+    private static final class PendingLoad {
+        private final List<PendingUpdate> updates = new ArrayList<>();
+        private boolean discarded;
+    }
+}
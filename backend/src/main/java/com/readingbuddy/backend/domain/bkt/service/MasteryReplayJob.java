@@ -0,0 +1,394 @@
+package com.readingbuddy.backend.domain.bkt.service;
+
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
+import com.readingbuddy.backend.common.properties.BktReplayProperties;
+import com.readingbuddy.backend.domain.bkt.replay.MasteryReplayCalculator;
+import com.readingbuddy.backend.domain.bkt.replay.MasteryRowWriter;
+import com.readingbuddy.backend.domain.bkt.replay.ReplayEvent;
+import com.readingbuddy.backend.domain.bkt.replay.ReplayRow;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * user_kc_mastery 전체 재계산
+ * BKT 계산식이나 파라미터가 바뀐 뒤 기존 숙련도 이력을 풀이 기록으로부터 다시 만든다.
+ *
+ * 1. 섀도 테이블(user_kc_mastery_replay)을 원본과 같은 구조로 만든다.
+ * 2. 초기 숙련도 시점과 풀이 기록을 (사용자, 시각) 순서의 커서로 읽어 사용자 단위로 워커에 나눠 준다.
+ * 3. 워커는 MasteryReplayCalculator로 사용자 이력을 다시 계산하고, 기록 스레드가 COPY로 섀도 테이블에 적재한다.
+ * 4. 원본의 외래 키를 섀도 테이블에 다시 걸고, 원본을 잠근 뒤 재계산 중에 새 기록이 생긴 사용자만 다시 계산한다.
+ *    id 시퀀스를 원본의 최대 id 뒤로 맞춘 다음 테이블 이름을 바꿔 한 트랜잭션으로 교체한다.
+ *
+ * 진행 상황은 bkt.replay.* 지표(처리 사용자 수, 기록 행 수, 처리량, 남은 시간)로 확인한다.
+ * CREATE TABLE ... LIKE, COPY, 테이블 이름 변경을 사용하므로 PostgreSQL 전용이다.
+ */
+@Slf4j
+@Component
+public class MasteryReplayJob {
+
+    static final String LIVE_TABLE = "user_kc_mastery";
+    static final String SHADOW_TABLE = "user_kc_mastery_replay";
+    static final String OLD_TABLE = "user_kc_mastery_old";
+
+    private static final String METRIC_NAME = "bkt.replay";
+    // 커서를 연 뒤에 커밋된 기록까지 놓치지 않도록 스냅샷 이전 이 시간만큼은 교체 직전에 다시 계산
+    private static final long SNAPSHOT_MARGIN_SECONDS = 60;
+
+    // %1$s: 초기 숙련도 조건, %2$s: 풀이 기록 조건
+    private static final String EVENT_SQL = """
+            SELECT user_id, kc_id, is_correct, event_at
+            FROM (
+              SELECT ukm.user_id AS user_id, ukm.knowledge_component AS kc_id,
+                     CAST(NULL AS BOOLEAN) AS is_correct, MIN(ukm.created_at) AS event_at,
+                     0 AS kind, CAST(0 AS BIGINT) AS event_id
+              FROM user_kc_mastery ukm
+              WHERE %1$s
+              GROUP BY ukm.user_id, ukm.knowledge_component
+              UNION ALL
+              SELECT s.user_id, m.knowledge_component_id, p.is_correct, p.solved_at, 1, p.id
+              FROM train_problem_histories_kc_map m
+              JOIN trained_problem_histories p ON p.id = m.trained_problem_histories_id
+              JOIN trained_stage_histories s ON s.id = p.trained_stage_id
+              WHERE %2$s
+            ) events
+            ORDER BY user_id, event_at, kind, event_id
+            """;
+    private static final String SNAPSHOT_EVENT_SQL = EVENT_SQL.formatted("ukm.created_at <= ?", "p.id <= ?");
+    private static final String USER_EVENT_SQL = EVENT_SQL.formatted("ukm.user_id = ?", "s.user_id = ?");
+    private static final List<ReplayRow> END_OF_ROWS = List.of();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final DataSource dataSource;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final BktService bktService;
+    private final KcScheduler kcScheduler;
+    private final KnowledgeComponentRepository knowledgeComponentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BktReplayProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalUsers = new AtomicLong();
+    private final AtomicLong processedUsers = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private volatile long startedAtNanos;
+
+    public MasteryReplayJob(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            BktService bktService,
+                            KcScheduler kcScheduler,
+                            KnowledgeComponentRepository knowledgeComponentRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            BktReplayProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = jdbcTemplate.getDataSource();
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.bktService = bktService;
+        this.kcScheduler = kcScheduler;
+        this.knowledgeComponentRepository = knowledgeComponentRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+
+        Gauge.builder(METRIC_NAME + ".running", running, r -> r.get() ? 1 : 0).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".users.total", totalUsers, AtomicLong::get).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".users.processed", processedUsers, AtomicLong::get).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".rows.written", rowsWritten, AtomicLong::get).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".throughput", this, MasteryReplayJob::rowsPerSecond)
+                .baseUnit("rows/s").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".eta", this, MasteryReplayJob::etaSeconds)
+                .baseUnit("seconds").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        if (!properties.getRunOnStartup()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                replay();
+            } catch (Exception e) {
+                log.error("숙련도 재계산 실패", e);
+            }
+        }, "mastery-replay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 전체 재계산 후 원본 테이블 교체
+     * @return 교체했으면 true, 이미 실행 중이면 false
+     */
+    public boolean replay() throws InterruptedException {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("숙련도 재계산이 이미 실행 중입니다.");
+            return false;
+        }
+        try {
+            runReplay();
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void runReplay() throws InterruptedException {
+        startedAtNanos = System.nanoTime();
+        processedUsers.set(0);
+        rowsWritten.set(0);
+
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        long maxAttemptId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM trained_problem_histories", Long.class);
+        totalUsers.set(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT user_id) FROM " + LIVE_TABLE, Long.class));
+        MasteryReplayCalculator calculator = new MasteryReplayCalculator(
+                bktService.getCurrentParameters(knowledgeComponentRepository.findAll()));
+        log.info("숙련도 재계산 시작: 사용자 {}명, 풀이 기록 id <= {}", totalUsers.get(), maxAttemptId);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + SHADOW_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + SHADOW_TABLE + " (LIKE " + LIVE_TABLE + " INCLUDING ALL)");
+
+        List<Long> userIds;
+        try {
+            userIds = loadShadowTable(calculator, snapshotAt, maxAttemptId);
+        } catch (RuntimeException | InterruptedException e) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + SHADOW_TABLE);
+            throw e;
+        }
+
+        LocalDateTime catchUpFrom = snapshotAt.minusSeconds(SNAPSHOT_MARGIN_SECONDS);
+        int caughtUp = writeTransaction.execute(status -> swap(calculator, catchUpFrom));
+
+        kcScheduler.clear();
+        userIds.forEach(userId -> eventPublisher.publishEvent(new LearningRecordChangedEvent(userId)));
+        log.info("숙련도 재계산 완료: 사용자 {}명, {}행, 교체 직전 재계산 {}명, {}초",
+                processedUsers.get(), rowsWritten.get(), caughtUp, (System.nanoTime() - startedAtNanos) / 1_000_000_000L);
+    }
+
+    /**
+     * 커서 → 사용자별 워커 → COPY 기록 스레드로 섀도 테이블 적재
+     * @return 재계산한 사용자 id
+     */
+    private List<Long> loadShadowTable(MasteryReplayCalculator calculator, LocalDateTime snapshotAt, long maxAttemptId)
+            throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        BlockingQueue<List<ReplayRow>> rowQueue = new ArrayBlockingQueue<>(properties.getWorkers() * 4);
+        Thread writer = new Thread(() -> writeRows(rowQueue, failure), "mastery-replay-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(
+                properties.getWorkers(), properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mastery-replay-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 대기열이 차면 커서 스레드가 직접 계산해 읽기 속도를 맞춘다
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        List<Long> userIds = new ArrayList<>();
+        try {
+            UserEventGrouper grouper = new UserEventGrouper((userId, events) -> {
+                if (failure.get() != null) {
+                    throw new IllegalStateException("숙련도 재계산 중단", failure.get());
+                }
+                userIds.add(userId);
+                workers.execute(() -> {
+                    try {
+                        enqueue(rowQueue, calculator.replay(userId, events), failure);
+                        processedUsers.incrementAndGet();
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                });
+            });
+            readOnlyTransaction.executeWithoutResult(status ->
+                    streamingJdbcTemplate.query(SNAPSHOT_EVENT_SQL, grouper,
+                            Timestamp.valueOf(snapshotAt), maxAttemptId));
+            grouper.finish();
+        } finally {
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.HOURS);
+            enqueue(rowQueue, END_OF_ROWS, failure);
+            writer.join();
+        }
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("숙련도 재계산 실패", failure.get());
+        }
+        return userIds;
+    }
+
+    private void enqueue(BlockingQueue<List<ReplayRow>> rowQueue, List<ReplayRow> rows, AtomicReference<Throwable> failure)
+            throws InterruptedException {
+        // 기록 스레드가 실패해 더 이상 꺼내지 않으면 대기하지 않고 버린다
+        while (!rowQueue.offer(rows, 1, TimeUnit.SECONDS)) {
+            if (failure.get() != null) {
+                return;
+            }
+        }
+    }
+
+    private void writeRows(BlockingQueue<List<ReplayRow>> rowQueue, AtomicReference<Throwable> failure) {
+        List<ReplayRow> buffer = new ArrayList<>(properties.getCopyBatchRows());
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            while (true) {
+                List<ReplayRow> rows = rowQueue.take();
+                if (rows == END_OF_ROWS) {
+                    break;
+                }
+                buffer.addAll(rows);
+                if (buffer.size() >= properties.getCopyBatchRows()) {
+                    rowsWritten.addAndGet(MasteryRowWriter.write(connection, SHADOW_TABLE, buffer));
+                    buffer.clear();
+                }
+            }
+            rowsWritten.addAndGet(MasteryRowWriter.write(connection, SHADOW_TABLE, buffer));
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+    }
+
+    /**
+     * 원본을 잠그고, 스냅샷 이후 기록이 생긴 사용자를 다시 계산한 뒤 테이블 교체
+     * @return 다시 계산한 사용자 수
+     */
+    private int swap(MasteryReplayCalculator calculator, LocalDateTime catchUpFrom) {
+        // 검증 스캔은 원본을 잠그기 전에 끝낸다
+        copyForeignKeys();
+
+        jdbcTemplate.execute("LOCK TABLE " + LIVE_TABLE + " IN ACCESS EXCLUSIVE MODE");
+
+        List<Long> lateUsers = jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM " + LIVE_TABLE + " WHERE created_at > ?", Long.class,
+                Timestamp.valueOf(catchUpFrom));
+        for (Long userId : lateUsers) {
+            List<ReplayEvent> events = new ArrayList<>();
+            jdbcTemplate.query(USER_EVENT_SQL, (RowCallbackHandler) rs -> events.add(toEvent(rs)), userId, userId);
+            List<ReplayRow> rows = calculator.replay(userId, events);
+
+            jdbcTemplate.update("DELETE FROM " + SHADOW_TABLE + " WHERE user_id = ?", userId);
+            jdbcTemplate.execute((ConnectionCallback<Long>) connection -> MasteryRowWriter.write(connection, SHADOW_TABLE, rows));
+        }
+
+        // 섀도 테이블의 id 시퀀스는 1부터 새로 시작하므로, 교체 후 발급되는 id가 기존 id와 겹치지 않도록 맞춘다
+        jdbcTemplate.queryForObject(
+                "SELECT setval(pg_get_serial_sequence(?, 'id'), GREATEST("
+                        + "(SELECT COALESCE(MAX(id), 0) FROM " + LIVE_TABLE + "), "
+                        + "(SELECT COALESCE(MAX(id), 0) FROM " + SHADOW_TABLE + ")) + 1, false)",
+                Long.class, SHADOW_TABLE);
+
+        jdbcTemplate.execute("ALTER TABLE " + LIVE_TABLE + " RENAME TO " + OLD_TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW_TABLE + " RENAME TO " + LIVE_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + OLD_TABLE);
+        return lateUsers.size();
+    }
+
+    /**
+     * 원본의 외래 키(users, knowledge_component)를 같은 이름으로 섀도 테이블에 추가
+     * CREATE TABLE ... LIKE ... INCLUDING ALL은 외래 키를 복사하지 않는다. 제약 이름은 테이블마다 따로라서 그대로 쓸 수 있다.
+     */
+    private void copyForeignKeys() {
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint "
+                        + "WHERE conrelid = CAST(? AS regclass) AND contype = 'f'", LIVE_TABLE);
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            String name = ((String) foreignKey.get("conname")).replace("\"", "\"\"");
+            jdbcTemplate.execute("ALTER TABLE " + SHADOW_TABLE + " ADD CONSTRAINT \"" + name + "\" " + foreignKey.get("definition"));
+        }
+        log.info("섀도 테이블 외래 키 {}개 추가", foreignKeys.size());
+    }
+
+    private static ReplayEvent toEvent(ResultSet rs) throws SQLException {
+        boolean correct = rs.getBoolean(3);
+        Boolean outcome = rs.wasNull() ? null : correct;
+        return new ReplayEvent(rs.getLong(2), outcome, rs.getTimestamp(4).toLocalDateTime());
+    }
+
+    private double rowsPerSecond() {
+        double elapsed = (System.nanoTime() - startedAtNanos) / 1e9;
+        return running.get() && elapsed > 0 ? rowsWritten.get() / elapsed : 0;
+    }
+
+    private double etaSeconds() {
+        long processed = processedUsers.get();
+        if (!running.get() || processed == 0) {
+            return 0;
+        }
+        double elapsed = (System.nanoTime() - startedAtNanos) / 1e9;
+        return Math.max(totalUsers.get() - processed, 0) * elapsed / processed;
+    }
+
+    /**
+     * 사용자 순으로 정렬된 커서 행을 사용자 단위 이벤트 목록으로 묶는다
+     */
+    private static final class UserEventGrouper implements RowCallbackHandler {
+
+        private final UserEventsConsumer consumer;
+        private long currentUserId = -1;
+        private List<ReplayEvent> events;
+
+        private UserEventGrouper(UserEventsConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long userId = rs.getLong(1);
+            if (userId != currentUserId) {
+                finish();
+                currentUserId = userId;
+                events = new ArrayList<>();
+            }
+            events.add(toEvent(rs));
+        }
+
+        private void finish() {
+            if (events != null) {
+                consumer.accept(currentUserId, events);
+                events = null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface UserEventsConsumer {
+        void accept(long userId, List<ReplayEvent> events);
+    }
+}
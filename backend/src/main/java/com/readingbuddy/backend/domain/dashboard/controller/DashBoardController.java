@@ -6,7 +6,11 @@ import com.readingbuddy.backend.domain.dashboard.dto.response.*;
 import com.amazonaws.Response;
 import com.readingbuddy.backend.auth.dto.CustomUserDetails;
 import com.readingbuddy.backend.common.util.format.ApiResponse;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.dashboard.dto.request.PracticeHistoryCursor;
 import com.readingbuddy.backend.domain.dashboard.service.DashBoardService;
+import com.readingbuddy.backend.domain.dashboard.service.DashBoardStreamService;
+import com.readingbuddy.backend.domain.dashboard.service.PracticeHistoryStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -35,6 +40,8 @@ import java.util.List;
 public class DashBoardController {
 
     private final DashBoardService dashBoardService;
+    private final PracticeHistoryStreamService practiceHistoryStreamService;
+    private final DashBoardStreamService dashBoardStreamService;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
 
     /**
@@ -115,7 +122,7 @@ public class DashBoardController {
     @Operation(summary = "Stage별 KC 숙련도 변화 추이 조회",
                description = "특정 stage에 속한 모든 KC의 시간별 숙련도 변화 추이를 조회합니다. 기간을 지정하지 않으면 최근 한 달 이력을 조회합니다.")
     @GetMapping("/stage/kc-mastery-trend")
-    public ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> getStageKcMasteryTrend(
+    public ResponseEntity<?> getStageKcMasteryTrend(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @Parameter(description = "스테이지 정보", required = true, example = "1.1.1")
             @RequestParam String stage,
@@ -153,10 +160,15 @@ public class DashBoardController {
                 parsedStartDate = parsedEndDate.minusMonths(1);
             }
 
-            StageKcMasteryTrendResponse response = dashBoardService.getStageKcMasteryTrend(userId, stage, parsedStartDate, parsedEndDate);
+            // 없는 stage는 응답을 쓰기 전에 400으로 처리
+            List<KnowledgeComponent> kcs = dashBoardStreamService.getStageKcs(stage);
 
-            return ResponseEntity.status(HttpStatus.OK)
-                    .body(ApiResponse.success("Stage별 KC 숙련도 변화 추이가 조회되었습니다.", response));
+            byte[] body = dashBoardStreamService.getStageKcMasteryTrendJson(
+                    userId, stage, kcs, parsedStartDate, parsedEndDate);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
         } catch (DateTimeParseException e) {
             log.error("날짜 형식 오류", e);
             return ResponseEntity.badRequest()
@@ -369,16 +381,17 @@ public class DashBoardController {
     @Operation(summary = "모든 KC 평균 숙련도 조회",
                description = "사용자의 모든 KC에 대한 현재 숙련도와 전체 평균을 조회합니다.")
     @GetMapping("/kc/all-mastery")
-    public ResponseEntity<ApiResponse<AllKcAverageMasteryResponse>> getAllKcAverageMastery(
+    public ResponseEntity<?> getAllKcAverageMastery(
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
 
         try {
             Long userId = customUserDetails.getId();
 
-            AllKcAverageMasteryResponse response = dashBoardService.getAllKcAverageMastery(userId);
+            byte[] body = dashBoardStreamService.getAllKcAverageMasteryJson(userId);
 
-            return ResponseEntity.status(HttpStatus.OK)
-                    .body(ApiResponse.success("모든 KC의 평균 숙련도가 조회되었습니다.", response));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
         } catch (Exception e) {
             log.error("모든 KC 평균 숙련도 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -416,25 +429,48 @@ public class DashBoardController {
     }
 
     /**
-     * 특정 날짜의 훈련 기록 조회 API
+     * 특정 날짜의 훈련 기록 조회 API (커서 페이지네이션)
+     * @param date 조회 날짜 (yyMMdd 형식)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지당 세션 수 (기본값: 100, 최대: 100)
+     * @return 세션 목록, 다음 페이지 커서
      */
-    @GetMapping("/practice/list")
-    public ResponseEntity<ApiResponse<StageProblemListResponse>> getStageProblemListByDate(
+    @GetMapping(value = "/practice/list", params = "date")
+    public ResponseEntity<?> getStageProblemListByDate(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
-            @RequestParam("date") String date) {
+            @RequestParam("date") String date,
+            @Parameter(description = "다음 페이지 커서", required = false)
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지당 세션 수", required = false)
+            @RequestParam(value = "size", defaultValue = "100") int size) {
 
         try {
             Long userId = customUserDetails.getId();
             LocalDate parsedDate = parseDate(date);
 
-            StageProblemListResponse response = dashBoardService.getStageProblemListByDate(userId, parsedDate);
+            if (size < 1 || size > PracticeHistoryStreamService.MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("size는 1 이상 " + PracticeHistoryStreamService.MAX_PAGE_SIZE + " 이하로 입력해주세요."));
+            }
+
+            PracticeHistoryCursor parsedCursor = (cursor != null && !cursor.isEmpty())
+                    ? PracticeHistoryCursor.decode(cursor)
+                    : null;
+
+            byte[] body = practiceHistoryStreamService.getStageProblemListByDateJson(
+                    userId, parsedDate, parsedCursor, size);
 
-            return ResponseEntity.ok(ApiResponse.success("일별 훈련 기록이 조회되었습니다.", response));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
 
         } catch (DateTimeParseException e) {
             log.error("날짜 형식 오류", e);
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("날짜 형식이 올바르지 않습니다. yyMMdd 형식으로 입력해주세요. (예: 250111)"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         }  catch (Exception e) {
             log.error("일별 훈련 기록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -442,6 +478,67 @@ public class DashBoardController {
         }
     }
 
+    /**
+     * 기간별 훈련 기록 조회 API (커서 페이지네이션)
+     * @param startDate 조회 시작 날짜 (yyMMdd 형식)
+     * @param endDate 조회 종료 날짜 (yyMMdd 형식)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지당 세션 수 (기본값: 20, 최대: 100)
+     * @return 세션 목록, 다음 페이지 커서
+     */
+    @Operation(summary = "기간별 훈련 기록 조회",
+               description = "기간 내 훈련 세션과 문제 이력을 세션 단위 커서 페이지네이션으로 조회합니다. 응답의 nextCursor로 다음 페이지를 조회합니다.")
+    @GetMapping(value = "/practice/list", params = {"startdate", "enddate"})
+    public ResponseEntity<?> getStageProblemListByRange(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "조회 시작 날짜 (yyMMdd 형식, 예: 250101)", required = true)
+            @RequestParam("startdate") String startDate,
+            @Parameter(description = "조회 종료 날짜 (yyMMdd 형식, 예: 250131)", required = true)
+            @RequestParam("enddate") String endDate,
+            @Parameter(description = "다음 페이지 커서", required = false)
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지당 세션 수", required = false)
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        try {
+            Long userId = customUserDetails.getId();
+            LocalDate parsedStartDate = parseDate(startDate);
+            LocalDate parsedEndDate = parseDate(endDate);
+
+            if (parsedStartDate.isAfter(parsedEndDate)) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("시작 날짜는 종료 날짜보다 이전이어야 합니다."));
+            }
+            if (size < 1 || size > PracticeHistoryStreamService.MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("size는 1 이상 " + PracticeHistoryStreamService.MAX_PAGE_SIZE + " 이하로 입력해주세요."));
+            }
+
+            PracticeHistoryCursor parsedCursor = (cursor != null && !cursor.isEmpty())
+                    ? PracticeHistoryCursor.decode(cursor)
+                    : null;
+
+            byte[] body = practiceHistoryStreamService.getStageProblemListByRangeJson(
+                    userId, parsedStartDate, parsedEndDate, parsedCursor, size);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+
+        } catch (DateTimeParseException e) {
+            log.error("날짜 형식 오류", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("날짜 형식이 올바르지 않습니다. yyMMdd 형식으로 입력해주세요. (예: 250111)"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("기간별 훈련 기록 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("기간별 훈련 기록 조회 중 오류가 발생했습니다." + e.getMessage()));
+        }
+    }
+
 
     //== 헬퍼 메서드 ==//
     /**
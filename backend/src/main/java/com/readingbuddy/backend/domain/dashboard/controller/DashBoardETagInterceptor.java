@@ -0,0 +1,56 @@
+package com.readingbuddy.backend.domain.dashboard.controller;
+
+import com.readingbuddy.backend.auth.dto.CustomUserDetails;
+import com.readingbuddy.backend.domain.dashboard.service.DashBoardCacheManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 대시보드 GET 요청의 ETag 처리
+ * If-None-Match가 현재 ETag와 같으면 컨트롤러를 거치지 않고 304를 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashBoardETagInterceptor implements HandlerInterceptor {
+
+    private final DashBoardCacheManager dashBoardCacheManager;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return true;
+        }
+
+        String eTag = dashBoardCacheManager.getETag(userDetails.getId());
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean matches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            if (candidate.trim().equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
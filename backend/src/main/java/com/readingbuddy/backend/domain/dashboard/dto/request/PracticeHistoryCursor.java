@@ -0,0 +1,39 @@
+package com.readingbuddy.backend.domain.dashboard.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 훈련 기록 페이지 커서 (마지막으로 내려준 세션의 시작 시간과 ID)
+ * 클라이언트에는 Base64 URL 문자열로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PracticeHistoryCursor {
+
+    private final LocalDateTime startedAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = startedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PracticeHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new PracticeHistoryCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -16,7 +16,9 @@ import java.util.List;
 public class StageProblemListResponse {
 
     private LocalDate date;  // 조회한 날짜
-    private List<SessionInfo> session;  // 해당 날짜의 세션 목록
+    private List<SessionInfo> session;  // 해당 날짜의 세션 목록 (한 페이지)
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+    private Boolean hasNext;  // 다음 페이지 존재 여부
 
     /**
      * Session 정보
@@ -2,9 +2,11 @@ package com.readingbuddy.backend.domain.dashboard.repository;
 
 import com.readingbuddy.backend.domain.user.entity.AttendHistories;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,4 +36,22 @@ public interface AttendanceHistoriesRepository extends JpaRepository<AttendHisto
             @Param("userId") Long userId,
             @Param("date") LocalDate date);
 
+    /**
+     * 특정 날짜에 출석한 사용자 ID 목록 조회
+     */
+    @Query("SELECT ah.user.id FROM AttendHistories ah WHERE ah.attendDate = :date")
+    List<Long> findUserIdsByAttendDate(@Param("date") LocalDate date);
+
+    /**
+     * 출석 기록 추가 (이미 있으면 무시)
+     * @return 추가된 행 수 (이미 출석했다면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO attend_histories (user_id, attend_date, playtime) " +
+            "VALUES (:userId, :date, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date);
+
 }
@@ -1,7 +1,7 @@
 package com.readingbuddy.backend.domain.dashboard.service;
 
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
-import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
+import com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues;
 import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
 import com.readingbuddy.backend.domain.dashboard.dto.response.StageKcMasteryTrendResponse;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +10,11 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,57 +23,28 @@ public class CalculateService {
     private final UserKcMasteryRepository userKcMasteryRepository;
 
     /**
-     * 단일 KC의 초기값 계산
+     * 여러 KC의 초기값을 한 번의 쿼리로 계산
      * @param userId 사용자 ID
-     * @param kcId KC ID
+     * @param kcIds KC ID 리스트
      * @param startDateTime 조회 시작 시점
-     * @return 초기 MasteryPoint (시작 시점의 값 또는 그 이전 최신값, 없으면 0)
+     * @return KC ID별 초기 MasteryPoint (kcIds 순서, 시작 날짜 당일의 가장 빠른 값 또는 그 이전 최신값, 없으면 0)
      */
-    public StageKcMasteryTrendResponse.MasteryPoint calculateInitialMastery(Long userId, Long kcId, LocalDateTime startDateTime) {
+    public Map<Long, StageKcMasteryTrendResponse.MasteryPoint> calculateInitialMasteries(Long userId, List<Long> kcIds, LocalDateTime startDateTime) {
         // 시작 날짜(day) 범위 계산
         LocalDateTime dayStart = startDateTime.toLocalDate().atStartOfDay();
         LocalDateTime dayEnd = startDateTime.toLocalDate().atTime(LocalTime.MAX);
 
-        // 1. 시작 날짜 당일의 데이터 조회 (가장 빠른 시간의 데이터)
-        Optional<UserKcMastery> sameDayValue = userKcMasteryRepository
-                .findFirstByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtAsc(
-                        userId, kcId, dayStart, dayEnd);
-
-        if (sameDayValue.isPresent()) {
-            UserKcMastery mastery = sameDayValue.get();
-            return StageKcMasteryTrendResponse.MasteryPoint.builder()
-                    .pLearn(mastery.getPLearn())
-                    .pTrain(mastery.getPTrain())
-                    .pGuess(mastery.getPGuess())
-                    .pSlip(mastery.getPSlip())
-                    .updatedAt(mastery.getUpdatedAt())
-                    .build();
+        // KC별 후보는 당일 값이 이전 값보다 먼저 오므로 첫 행을 사용
+        Map<Long, KcMasteryValues> initialByKc = new HashMap<>();
+        for (KcMasteryValues row : userKcMasteryRepository.findInitialValueCandidates(userId, kcIds, dayStart, dayEnd)) {
+            initialByKc.putIfAbsent(row.kcId(), row);
         }
 
-        // 2. 시작 날짜 이전의 최신값 조회
-        Optional<UserKcMastery> beforeValue = userKcMasteryRepository
-                .findFirstByUser_IdAndKnowledgeComponent_IdAndCreatedAtBeforeOrderByCreatedAtDesc(
-                        userId, kcId, dayStart);
-
-        if (beforeValue.isPresent()) {
-            UserKcMastery mastery = beforeValue.get();
-            return StageKcMasteryTrendResponse.MasteryPoint.builder()
-                    .pLearn(mastery.getPLearn())
-                    .pTrain(mastery.getPTrain())
-                    .pGuess(mastery.getPGuess())
-                    .pSlip(mastery.getPSlip())
-                    .updatedAt(mastery.getUpdatedAt())
-                    .build();
+        Map<Long, StageKcMasteryTrendResponse.MasteryPoint> initialMasteries = new LinkedHashMap<>();
+        for (Long kcId : kcIds) {
+            initialMasteries.put(kcId, toMasteryPoint(initialByKc.get(kcId)));
         }
-
-        // 3. 값이 없으면 0으로 초기화
-        return StageKcMasteryTrendResponse.MasteryPoint.builder()
-                .pLearn(0.0f)
-                .pTrain(0.0f)
-                .pGuess(0.0f)
-                .pSlip(0.0f)
-                .updatedAt(null)
-                .build();
+        return initialMasteries;
     }
 
     /**
@@ -82,9 +55,11 @@ public class CalculateService {
      * @return 그룹 평균 초기 MasteryPoint
      */
     public StageKcMasteryTrendResponse.MasteryPoint calculateGroupInitialMastery(Long userId, List<KnowledgeComponent> groupKcs, LocalDateTime startDateTime) {
-        List<StageKcMasteryTrendResponse.MasteryPoint> kcInitialValues = groupKcs.stream()
-                .map(kc -> calculateInitialMastery(userId, kc.getId(), startDateTime))
-                .collect(Collectors.toList());
+        List<Long> kcIds = groupKcs.stream()
+                .map(KnowledgeComponent::getId)
+                .toList();
+        Collection<StageKcMasteryTrendResponse.MasteryPoint> kcInitialValues =
+                calculateInitialMasteries(userId, kcIds, startDateTime).values();
 
         // 평균 계산
         float avgPLearn = (float) kcInitialValues.stream()
@@ -119,4 +94,24 @@ public class CalculateService {
                 .updatedAt(latestUpdatedAt)
                 .build();
     }
+
+    private StageKcMasteryTrendResponse.MasteryPoint toMasteryPoint(KcMasteryValues mastery) {
+        // 값이 없으면 0으로 초기화
+        if (mastery == null) {
+            return StageKcMasteryTrendResponse.MasteryPoint.builder()
+                    .pLearn(0.0f)
+                    .pTrain(0.0f)
+                    .pGuess(0.0f)
+                    .pSlip(0.0f)
+                    .updatedAt(null)
+                    .build();
+        }
+        return StageKcMasteryTrendResponse.MasteryPoint.builder()
+                .pLearn(mastery.pLearn())
+                .pTrain(mastery.pTrain())
+                .pGuess(mastery.pGuess())
+                .pSlip(mastery.pSlip())
+                .updatedAt(mastery.updatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,222 @@
+package com.readingbuddy.backend.domain.dashboard.service;
+
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
+import com.readingbuddy.backend.common.properties.DashBoardCacheProperties;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 회원별 대시보드 조회 결과 캐시
+ * 학습 기록이 바뀌면 회원의 버전을 올려 이전 결과를 무효화하고, 전체 항목 수는 LRU로 제한한다.
+ * 버전은 전역 순번에서 받는다. 회원별 버전도 LRU로 제한하고, 밀려난 회원은 지금까지 밀려난 버전 중
+ * 가장 큰 값을 쓴다. 그래서 다시 나타난 회원의 버전은 무효화 전에 받았던 값으로 돌아가지 않는다.
+ * 응답 본문(byte[])은 전체 크기도 제한한다. 한 본문이 max-entry-bytes를 넘으면 저장하지 않고,
+ * 합계가 max-bytes를 넘으면 오래 사용하지 않은 항목부터 제거한다.
+ */
+@Slf4j
+@Component
+public class DashBoardCacheManager {
+
+    private final int maxEntries;
+    private final int maxUsers;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final Map<CacheKey, CacheEntry> entries;
+    private final Map<Long, Long> userVersions;
+    private final AtomicLong versionSequence = new AtomicLong();
+    // userVersions에서 밀려난 버전 중 가장 큰 값 (userVersions로 동기화)
+    private long evictedVersionFloor = 0L;
+    // entries에 저장된 응답 본문 크기 합계 (entries로 동기화)
+    private long cachedBytes = 0L;
+
+    // 서버 재시작 후 같은 버전 번호로 이전 ETag가 재사용되지 않도록 인스턴스 식별자를 붙인다.
+    private final String instanceId = Long.toHexString(System.currentTimeMillis());
+
+    public DashBoardCacheManager(DashBoardCacheProperties properties) {
+        this.maxEntries = properties.getMaxEntries();
+        this.maxUsers = properties.getMaxUsers();
+        this.maxBytes = properties.getMaxBytes();
+        this.maxEntryBytes = properties.getMaxEntryBytes();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                cachedBytes -= eldest.getValue().bytes;
+                return true;
+            }
+        };
+        this.userVersions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= maxUsers) {
+                    return false;
+                }
+                evictedVersionFloor = Math.max(evictedVersionFloor, eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 결과 조회, 없거나 무효화된 경우 loader로 조회 후 저장
+     * @param userId 회원 ID
+     * @param endpoint 조회 종류
+     * @param params 조회 파라미터
+     * @param loader 실제 조회 로직
+     */
+    public <T> T getOrLoad(Long userId, String endpoint, List<Object> params, Supplier<T> loader) {
+        return getOrLoad(userId, endpoint, params, loader, value -> 0L);
+    }
+
+    /**
+     * 캐시된 응답 본문 조회, 없거나 무효화된 경우 writer로 출력한 JSON을 byte[]로 저장
+     * 호출한 스레드에서 끝까지 출력하므로 SQL 개수 검사와 오류 응답이 다른 조회와 같게 적용된다.
+     * @param writer 응답 본문 출력 로직 (IOException은 UncheckedIOException으로 전달)
+     */
+    public byte[] getOrWrite(Long userId, String endpoint, List<Object> params, BodyWriter writer) {
+        return getOrLoad(userId, endpoint, params, () -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                writer.write(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }, body -> body.length);
+    }
+
+    /**
+     * @param sizer 저장할 값의 크기 (바이트), max-entry-bytes를 넘으면 저장하지 않는다
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getOrLoad(Long userId, String endpoint, List<Object> params, Supplier<T> loader,
+                            ToLongFunction<T> sizer) {
+        CacheKey key = new CacheKey(userId, endpoint, params);
+        long version = getVersion(userId);
+
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null && entry.version == version) {
+                return (T) entry.value;
+            }
+        }
+
+        T value = loader.get();
+        long bytes = sizer.applyAsLong(value);
+        if (bytes > maxEntryBytes) {
+            return value;
+        }
+
+        synchronized (entries) {
+            // 조회 도중 무효화된 경우 오래된 결과를 저장하지 않는다.
+            if (getVersion(userId) == version) {
+                CacheEntry previous = entries.put(key, new CacheEntry(version, value, bytes));
+                if (previous != null) {
+                    cachedBytes -= previous.bytes;
+                }
+                cachedBytes += bytes;
+                trimToMaxBytes();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 회원의 현재 대시보드 상태에 대한 strong ETag
+     * 버전은 회원 간에 겹칠 수 있으므로(무효화 이력이 없는 회원은 같은 값) 회원 ID를 포함해서
+     * 같은 기기에서 다른 회원이 이전 회원의 응답으로 304를 받지 않게 한다.
+     * 날짜가 바뀌면 기본 조회 기간도 바뀌므로 오늘 날짜를 포함한다.
+     */
+    public String getETag(Long userId) {
+        return "\"" + instanceId + "-" + Long.toHexString(userId) + "-" + Long.toHexString(getVersion(userId))
+                + "-" + Long.toHexString(LocalDate.now().toEpochDay()) + "\"";
+    }
+
+    /**
+     * 회원의 캐시 무효화
+     * 버전만 올리고, 남은 항목은 조회 시 무시되다가 LRU로 밀려난다.
+     */
+    public void evict(Long userId) {
+        synchronized (userVersions) {
+            userVersions.put(userId, versionSequence.incrementAndGet());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleLearningRecordChanged(LearningRecordChangedEvent event) {
+        log.debug("대시보드 캐시 무효화 - userId: {}", event.getUserId());
+        evict(event.getUserId());
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long cachedBytes() {
+        synchronized (entries) {
+            return cachedBytes;
+        }
+    }
+
+    public int trackedUsers() {
+        synchronized (userVersions) {
+            return userVersions.size();
+        }
+    }
+
+    // entries 잠금 안에서 호출
+    private void trimToMaxBytes() {
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (cachedBytes > maxBytes && iterator.hasNext()) {
+            cachedBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private long getVersion(Long userId) {
+        synchronized (userVersions) {
+            Long version = userVersions.get(userId);
+            return version != null ? version : evictedVersionFloor;
+        }
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class CacheKey {
+        private final Long userId;
+        private final String endpoint;
+        private final List<Object> params;
+    }
+
+    @RequiredArgsConstructor
+    private static class CacheEntry {
+        private final long version;
+        private final Object value;
+        private final long bytes;
+    }
+}
@@ -1,8 +1,6 @@
 package com.readingbuddy.backend.domain.dashboard.service;
 
 import com.readingbuddy.backend.domain.dashboard.dto.response.*;
-import com.readingbuddy.backend.domain.dashboard.dto.response.StageKcMasteryTrendResponse.KcTrend;
-import com.readingbuddy.backend.domain.dashboard.dto.response.StageKcMasteryTrendResponse.MasteryPoint;
 import com.readingbuddy.backend.domain.train.repository.TrainedStageHistoriesRepository;
 import com.readingbuddy.backend.domain.user.entity.TrainedProblemHistories;
 import com.readingbuddy.backend.domain.user.entity.TrainedStageHistories;
@@ -21,8 +19,8 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.stream.Collectors;
 
-import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues;
 import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
 import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
 
@@ -35,7 +33,7 @@ public class DashBoardService {
     private final TrainedProblemHistoriesRepository trainedProblemHistoriesRepository;
     private final UserKcMasteryRepository userKcMasteryRepository;
     private final KnowledgeComponentRepository knowledgeComponentRepository;
-    private final CalculateService calculateService;
+    private final DashBoardCacheManager dashBoardCacheManager;
 
     /**
      * 사용자별 해당 스테이지의 통계 정보 조회
@@ -44,6 +42,11 @@ public class DashBoardService {
      * @return 스테이지 통계 정보 (전체 문제 수, 맞힌 문제 수, 정답률)
      */
     public StageInfoResponse getStageInfo(Long userId, String stage) {
+        return dashBoardCacheManager.getOrLoad(userId, "stage/info", List.of(stage),
+                () -> loadStageInfo(userId, stage));
+    }
+
+    private StageInfoResponse loadStageInfo(Long userId, String stage) {
         // 해당 사용자의 특정 스테이지에 대한 모든 기록 조회
         List<TrainedStageHistories> histories = trainedStageHistoriesRepository.findByUserIdAndStage(userId, stage);
 
@@ -57,9 +60,8 @@ public class DashBoardService {
         }
 
         // 모든 세션의 문제 이력 조회
-        List<TrainedProblemHistories> allProblems = histories.stream()
-                .flatMap(history -> trainedProblemHistoriesRepository.findByTrainedStageHistories(history).stream())
-                .collect(Collectors.toList());
+        List<TrainedProblemHistories> allProblems = trainedProblemHistoriesRepository
+                .findByTrainedStageHistoriesIn(histories);
 
         // problemNumber와 solvedAt 날짜 조합으로 distinct하여 전체 문제 수 계산
         int totalProblemCount = (int) allProblems.stream()
@@ -102,6 +104,11 @@ public class DashBoardService {
      * 특정 기간의 출석 기록 조회
      */
     public AttendanceResponse getAttendanceHistoriesByDate(Long userId, LocalDate startDate, LocalDate endDate) {
+        return dashBoardCacheManager.getOrLoad(userId, "attendance/period", List.of(startDate, endDate),
+                () -> loadAttendanceHistoriesByDate(userId, startDate, endDate));
+    }
+
+    private AttendanceResponse loadAttendanceHistoriesByDate(Long userId, LocalDate startDate, LocalDate endDate) {
         // 기간별 출석 기록 조회
         List<AttendHistories> attendanceHistories = attendanceHistoriesRepository
                 .findByUserIdAndDateRange(userId, startDate, endDate);
@@ -132,6 +139,11 @@ public class DashBoardService {
      * @return 스테이지의 problem_number별 평균 시도 횟수
      */
     public StageTryAvgResponse getStageTryAverage(Long userId, String stage) {
+        return dashBoardCacheManager.getOrLoad(userId, "stage/try-avg", List.of(stage),
+                () -> loadStageTryAverage(userId, stage));
+    }
+
+    private StageTryAvgResponse loadStageTryAverage(Long userId, String stage) {
         // 해당 사용자의 특정 스테이지에 대한 모든 기록 조회 (세션 수 계산용)
         List<TrainedStageHistories> histories = trainedStageHistoriesRepository.findByUserIdAndStage(userId, stage);
 
@@ -158,6 +170,11 @@ public class DashBoardService {
      * 특정 날짜의 출석 기록 조회
      */
     public AttendanceResponse getDailyAttendance(Long userId, LocalDate date) {
+        return dashBoardCacheManager.getOrLoad(userId, "attendance/daily", List.of(date),
+                () -> loadDailyAttendance(userId, date));
+    }
+
+    private AttendanceResponse loadDailyAttendance(Long userId, LocalDate date) {
 
         Optional<AttendHistories> attendHistory =  attendanceHistoriesRepository.findByUserIdAndDate(userId, date);
 
@@ -189,6 +206,11 @@ public class DashBoardService {
      * @return 최근 스테이지 세션의 정답률
      */
     public StageCorrectRateResponse getStageCorrectRate(Long userId, String stage) {
+        return dashBoardCacheManager.getOrLoad(userId, "stage/correct-rate", List.of(stage),
+                () -> loadStageCorrectRate(userId, stage));
+    }
+
+    private StageCorrectRateResponse loadStageCorrectRate(Long userId, String stage) {
         // 해당 사용자의 특정 스테이지에 대한 최근 세션 조회
         Optional<TrainedStageHistories> latestHistory =
                 trainedStageHistoriesRepository.findFirstByUserIdAndStageOrderByIdDesc(userId, stage);
@@ -232,6 +254,11 @@ public class DashBoardService {
      * 사용자별 틀린 음소 조회 (내림차순)
      */
     public List<PhonemesWrongRankResponse> getWrongPhonemesRanking(Long userId, int limit) {
+        return dashBoardCacheManager.getOrLoad(userId, "mistake/phonemes/rank", List.of(limit),
+                () -> loadWrongPhonemesRanking(userId, limit));
+    }
+
+    private List<PhonemesWrongRankResponse> loadWrongPhonemesRanking(Long userId, int limit) {
         List<Object[]> results = trainedProblemHistoriesRepository.getWrongPhonemesRanking(userId, limit);
 
         return results.stream()
@@ -247,7 +274,12 @@ public class DashBoardService {
     /**
      * 사용자별 시도 횟수가 많음 음소 조회 (내림차순)
      */
-     public List<PhonemesTryRankResponse> getTryPhonemesRanking(Long userId, int limit) {
+    public List<PhonemesTryRankResponse> getTryPhonemesRanking(Long userId, int limit) {
+        return dashBoardCacheManager.getOrLoad(userId, "try/phonemes/rank", List.of(limit),
+                () -> loadTryPhonemesRanking(userId, limit));
+    }
+
+    private List<PhonemesTryRankResponse> loadTryPhonemesRanking(Long userId, int limit) {
          List<Object[]> results = trainedProblemHistoriesRepository.getTryPhonemesRanking(userId, limit);
 
          return results.stream()
@@ -269,6 +301,11 @@ public class DashBoardService {
      * @return KC 숙련도 변화 추이
      */
     public KcMasteryTrendResponse getKcMasteryTrend(Long userId, Long kcId, LocalDate startDate, LocalDate endDate) {
+        return dashBoardCacheManager.getOrLoad(userId, "kc/mastery-trend", List.of(kcId, startDate, endDate),
+                () -> loadKcMasteryTrend(userId, kcId, startDate, endDate));
+    }
+
+    private KcMasteryTrendResponse loadKcMasteryTrend(Long userId, Long kcId, LocalDate startDate, LocalDate endDate) {
         // KC 정보 조회
         KnowledgeComponent kc = knowledgeComponentRepository.findById(kcId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 Knowledge Component ID입니다: " + kcId));
@@ -278,18 +315,17 @@ public class DashBoardService {
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
 
         // 해당 사용자의 KC 숙련도 변화 이력 조회 (시간순, 기간 필터링)
-        List<UserKcMastery> masteryHistory = userKcMasteryRepository
-                .findByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtAsc(
-                        userId, kcId, startDateTime, endDateTime);
+        List<KcMasteryValues> masteryHistory = userKcMasteryRepository
+                .findMasteryHistory(userId, kcId, startDateTime, endDateTime);
 
         // MasteryPoint 리스트로 변환
         List<KcMasteryTrendResponse.MasteryPoint> masteryTrend = masteryHistory.stream()
                 .map(mastery -> KcMasteryTrendResponse.MasteryPoint.builder()
-                        .p_l(mastery.getPLearn())
-                        .p_t(mastery.getPTrain())
-                        .p_g(mastery.getPGuess())
-                        .p_s(mastery.getPSlip())
-                        .updatedAt(mastery.getUpdatedAt())
+                        .p_l(mastery.pLearn())
+                        .p_t(mastery.pTrain())
+                        .p_g(mastery.pGuess())
+                        .p_s(mastery.pSlip())
+                        .updatedAt(mastery.updatedAt())
                         .build())
                 .collect(Collectors.toList());
 
@@ -310,6 +346,11 @@ public class DashBoardService {
      * @return stage별 KC 숙련도 목록
      */
     public StageMasteryResponse getStageMastery(Long userId, String stage, LocalDate startDate, LocalDate endDate) {
+        return dashBoardCacheManager.getOrLoad(userId, "stage/mastery", List.of(stage, startDate, endDate),
+                () -> loadStageMastery(userId, stage, startDate, endDate));
+    }
+
+    private StageMasteryResponse loadStageMastery(Long userId, String stage, LocalDate startDate, LocalDate endDate) {
         // 해당 stage에 속한 모든 KC 조회
         List<KnowledgeComponent> kcs = knowledgeComponentRepository.findByStage(stage);
 
@@ -324,9 +365,8 @@ public class DashBoardService {
         // 각 KC의 해당 기간 내 최신 숙련도 조회
         List<StageMasteryResponse.KcMastery> kcMasteries = kcs.stream()
                 .map(kc -> {
-                    Optional<UserKcMastery> latestMastery = userKcMasteryRepository
-                            .findFirstByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtDesc(
-                                    userId, kc.getId(), startDateTime, endDateTime);
+                    Optional<KcMasteryValues> latestMastery = userKcMasteryRepository
+                            .findLatestValuesBetween(userId, kc.getId(), startDateTime, endDateTime);
 
                     // 숙련도 데이터가 없는 경우 기본값 (초기 상태)
                     if (latestMastery.isEmpty()) {
@@ -341,15 +381,15 @@ public class DashBoardService {
                                 .build();
                     }
 
-                    UserKcMastery mastery = latestMastery.get();
+                    KcMasteryValues mastery = latestMastery.get();
                     return StageMasteryResponse.KcMastery.builder()
                             .kcId(kc.getId())
                             .kcCategory(kc.getCategory().name())
-                            .pLearn(mastery.getPLearn())
-                            .pTrain(mastery.getPTrain())
-                            .pGuess(mastery.getPGuess())
-                            .pSlip(mastery.getPSlip())
-                            .updatedAt(mastery.getUpdatedAt())
+                            .pLearn(mastery.pLearn())
+                            .pTrain(mastery.pTrain())
+                            .pGuess(mastery.pGuess())
+                            .pSlip(mastery.pSlip())
+                            .updatedAt(mastery.updatedAt())
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -370,289 +410,4 @@ public class DashBoardService {
                 .build();
     }
 
-    /**
-     * 특정 날짜의 훈련 기록 조회
-     */
-    public StageProblemListResponse getStageProblemListByDate(Long userId, LocalDate date) {
-        // 날짜 범위 설정 (해당 날짜의 00:00:00 ~ 23:59:59)
-        LocalDateTime startDateTime = date.atStartOfDay();
-        LocalDateTime endDateTime = date.atTime(LocalTime.MAX);
-
-        // 해당 날짜의 모든 훈련 세션 조회
-        List<TrainedStageHistories> sessions = trainedStageHistoriesRepository
-                .getStageProblemListByDate(userId, startDateTime, endDateTime);
-
-        // 세션별로 문제 정보 조회 및 변환
-        List<StageProblemListResponse.SessionInfo> sessionInfos = sessions.stream()
-                .map(stage -> {
-                    // 해당 세션의 모든 문제 이력 조회
-                    List<TrainedProblemHistories> problems = trainedProblemHistoriesRepository
-                            .findByTrainedStageHistories(stage);
-
-                    // 중복되지 않는 problemNumber의 개수 계산
-                    int totalCount = (int) problems.stream()
-                            .map(TrainedProblemHistories::getProblemNumber)
-                            .distinct()
-                            .count();
-
-                    // 문제 정보를 DTO로 변환
-                    List<StageProblemListResponse.ProblemInfo> problemInfos = problems.stream()
-                            .map(problem -> StageProblemListResponse.ProblemInfo.builder()
-                                    .problemId(problem.getId())
-                                    .problemNumber(problem.getProblemNumber())
-                                    .problem(problem.getProblem())
-                                    .answer(problem.getAnswer())
-                                    .isCorrect(problem.getIsCorrect())
-                                    .isReplyCorrect(problem.getIsReplyCorrect())
-                                    .attemptNumber(problem.getAttemptNumber())
-                                    .audioUrl(problem.getAudioUrl())
-                                    .solvedAt(problem.getSolvedAt())
-                                    .build())
-                            .sorted((p1, p2) -> p1.getProblemNumber().compareTo(p2.getProblemNumber()))
-                            .collect(Collectors.toList());
-
-                    // 세션 정보 생성
-                    return StageProblemListResponse.SessionInfo.builder()
-                            .trainedStageHistoryId(stage.getId())
-                            .stage(stage.getStage())
-                            .startedAt(stage.getStartedAt())
-                            .totalCount(totalCount)
-                            .correctCount(stage.getCorrectCount())
-                            .wrongCount(stage.getWrongCount())
-                            .problems(problemInfos)
-                            .build();
-                }).collect(Collectors.toList());
-
-        return StageProblemListResponse.builder()
-                .date(date)
-                .session(sessionInfos)
-                .build();
-    }
-
-    /**
-     * 특정 stage에 속한 모든 KC의 숙련도 변화 추이 조회
-     * @param userId 사용자 ID
-     * @param stage 스테이지 정보
-     * @param startDate 조회 시작 날짜
-     * @param endDate 조회 종료 날짜
-     * @return stage별 모든 KC의 숙련도 변화 추이
-     */
-    public StageKcMasteryTrendResponse getStageKcMasteryTrend(Long userId, String stage, LocalDate startDate, LocalDate endDate) {
-        // 해당 stage에 속한 모든 KC 조회
-        List<KnowledgeComponent> kcs = knowledgeComponentRepository.findByStage(stage);
-
-        if (kcs.isEmpty()) {
-            throw new IllegalArgumentException("해당 stage에 대한 Knowledge Component가 존재하지 않습니다: " + stage);
-        }
-
-        // LocalDate를 LocalDateTime으로 변환
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        // 4.1, 4.2 stage의 경우 초성/중성/종성별로 그룹화하여 평균 처리
-        if (stage.equals("4.1") || stage.equals("4.2")) {
-            return getStageKcMasteryTrendGrouped(userId, stage, kcs, startDateTime, endDateTime);
-        }
-
-        // 기존 로직: 각 KC의 숙련도 변화 추이 조회
-        List<KcTrend> kcTrends = kcs.stream()
-                .map(kc -> {
-                    // 해당 KC의 기간 내 모든 숙련도 이력 조회
-                    List<UserKcMastery> masteryHistory = userKcMasteryRepository
-                            .findByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtAsc(
-                                    userId, kc.getId(), startDateTime, endDateTime);
-
-                    // 초기값 계산: 시작 날짜의 값 또는 그 이전 최신값
-                    MasteryPoint initialMastery = calculateService.calculateInitialMastery(userId, kc.getId(), startDateTime);
-
-                    // MasteryPoint 리스트로 변환
-                    List<MasteryPoint> masteryTrend = masteryHistory.stream()
-                            .map(mastery -> MasteryPoint.builder()
-                                    .pLearn(mastery.getPLearn())
-                                    .pTrain(mastery.getPTrain())
-                                    .pGuess(mastery.getPGuess())
-                                    .pSlip(mastery.getPSlip())
-                                    .updatedAt(mastery.getUpdatedAt())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    return KcTrend.builder()
-                            .kcId(kc.getId())
-                            .kcCategory(kc.getCategory().name())
-                            .kcDescription(kc.getCategory().getDescription())
-                            .initialMastery(initialMastery)
-                            .masteryTrend(masteryTrend)
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        return StageKcMasteryTrendResponse.builder()
-                .stage(stage)
-                .kcTrends(kcTrends)
-                .build();
-    }
-
-    /**
-     * 4.1, 4.2 stage의 경우 초성/중성/종성별로 그룹화하여 평균 계산
-     */
-    private StageKcMasteryTrendResponse getStageKcMasteryTrendGrouped(
-            Long userId, String stage, List<KnowledgeComponent> kcs,
-            LocalDateTime startDateTime, LocalDateTime endDateTime) {
-
-        // KC를 초성/중성/종성으로 그룹화
-        java.util.Map<String, List<KnowledgeComponent>> kcsByGroup = kcs.stream()
-                .collect(Collectors.groupingBy(kc -> {
-                    String categoryName = kc.getCategory().name();
-                    if (categoryName.contains("ONSET")) {
-                        return "초성";
-                    } else if (categoryName.contains("NUCLEUS")) {
-                        return "중성";
-                    } else if (categoryName.contains("CODA")) {
-                        return "종성";
-                    } else {
-                        return "기타";
-                    }
-                }));
-
-        // 각 그룹별로 평균 숙련도 변화 추이 계산
-        List<KcTrend> kcTrends = kcsByGroup.entrySet().stream()
-                .map(entry -> {
-                    String groupName = entry.getKey();
-                    List<KnowledgeComponent> groupKcs = entry.getValue();
-
-                    // 그룹 초기값 계산: 각 KC의 초기값을 평균
-                    MasteryPoint groupInitialMastery = calculateService.calculateGroupInitialMastery(userId, groupKcs, startDateTime);
-
-                    // 모든 KC의 숙련도 이력을 시간대별로 수집
-                    java.util.Map<LocalDateTime, List<UserKcMastery>> masteryByTime = new java.util.HashMap<>();
-
-                    for (KnowledgeComponent kc : groupKcs) {
-                        List<UserKcMastery> masteryHistory = userKcMasteryRepository
-                                .findByUser_IdAndKnowledgeComponent_IdAndCreatedAtBetweenOrderByCreatedAtAsc(
-                                        userId, kc.getId(), startDateTime, endDateTime);
-
-                        for (UserKcMastery mastery : masteryHistory) {
-                            masteryByTime.computeIfAbsent(mastery.getUpdatedAt(), k -> new java.util.ArrayList<>())
-                                    .add(mastery);
-                        }
-                    }
-
-                    // 시간대별로 평균 계산
-                    List<MasteryPoint> masteryTrend = masteryByTime.entrySet().stream()
-                            .sorted(java.util.Map.Entry.comparingByKey())
-                            .map(timeEntry -> {
-                                List<UserKcMastery> masteries = timeEntry.getValue();
-
-                                float avgPLearn = (float) masteries.stream()
-                                        .mapToDouble(UserKcMastery::getPLearn)
-                                        .average()
-                                        .orElse(0.0);
-                                float avgPTrain = (float) masteries.stream()
-                                        .mapToDouble(UserKcMastery::getPTrain)
-                                        .average()
-                                        .orElse(0.0);
-                                float avgPGuess = (float) masteries.stream()
-                                        .mapToDouble(UserKcMastery::getPGuess)
-                                        .average()
-                                        .orElse(0.0);
-                                float avgPSlip = (float) masteries.stream()
-                                        .mapToDouble(UserKcMastery::getPSlip)
-                                        .average()
-                                        .orElse(0.0);
-
-                                return MasteryPoint.builder()
-                                        .pLearn(avgPLearn)
-                                        .pTrain(avgPTrain)
-                                        .pGuess(avgPGuess)
-                                        .pSlip(avgPSlip)
-                                        .updatedAt(timeEntry.getKey())
-                                        .build();
-                            })
-                            .collect(Collectors.toList());
-
-                    return KcTrend.builder()
-                            .kcId(null) // 그룹화된 경우 특정 KC ID가 없음
-                            .kcCategory(groupName)
-                            .kcDescription(groupName + ((stage.equals("4.1")) ? " 분절" : " 합성") +  " 평균")
-                            .initialMastery(groupInitialMastery)
-                            .masteryTrend(masteryTrend)
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        return StageKcMasteryTrendResponse.builder()
-                .stage(stage)
-                .kcTrends(kcTrends)
-                .build();
-    }
-
-    /**
-     * 모든 KC의 평균 숙련도 조회
-     * @param userId 사용자 ID
-     * @return 모든 KC의 현재 숙련도 및 전체 평균
-     */
-    public AllKcAverageMasteryResponse getAllKcAverageMastery(Long userId) {
-        // 모든 KC 조회
-        List<KnowledgeComponent> allKcs = knowledgeComponentRepository.findAll();
-
-        if (allKcs.isEmpty()) {
-            return AllKcAverageMasteryResponse.builder()
-                    .totalKcCount(0)
-                    .overallAverageMastery(0.0)
-                    .kcMasteries(List.of())
-                    .build();
-        }
-
-        // 각 KC의 최신 숙련도 조회
-        List<AllKcAverageMasteryResponse.KcMasteryInfo> kcMasteries = allKcs.stream()
-                .map(kc -> {
-                    Optional<UserKcMastery> latestMastery = userKcMasteryRepository
-                            .findFirstByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtDesc(userId, kc.getId());
-
-                    // 숙련도 데이터가 없는 경우 기본값 (초기 상태)
-                    if (latestMastery.isEmpty()) {
-                        return AllKcAverageMasteryResponse.KcMasteryInfo.builder()
-                                .kcId(kc.getId())
-                                .kcCategory(kc.getCategory().name())
-                                .kcDescription(kc.getCategory().getDescription())
-                                .stage(kc.getStage())
-                                .pLearn(0.0f)
-                                .pTrain(0.0f)
-                                .pGuess(0.0f)
-                                .pSlip(0.0f)
-                                .updatedAt(null)
-                                .build();
-                    }
-
-                    UserKcMastery mastery = latestMastery.get();
-                    return AllKcAverageMasteryResponse.KcMasteryInfo.builder()
-                            .kcId(kc.getId())
-                            .kcCategory(kc.getCategory().name())
-                            .kcDescription(kc.getCategory().getDescription())
-                            .stage(kc.getStage())
-                            .pLearn(mastery.getPLearn())
-                            .pTrain(mastery.getPTrain())
-                            .pGuess(mastery.getPGuess())
-                            .pSlip(mastery.getPSlip())
-                            .updatedAt(mastery.getUpdatedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        // 전체 평균 숙련도 계산
-        double overallAverage = kcMasteries.stream()
-                .mapToDouble(AllKcAverageMasteryResponse.KcMasteryInfo::getPLearn)
-                .average()
-                .orElse(0.0);
-
-        // 소수점 4자리까지 반올림
-        overallAverage = Math.round(overallAverage * 10000.0) / 10000.0;
-
-        return AllKcAverageMasteryResponse.builder()
-                .totalKcCount(allKcs.size())
-                .overallAverageMastery(overallAverage)
-                .kcMasteries(kcMasteries)
-                .build();
-    }
-
 }
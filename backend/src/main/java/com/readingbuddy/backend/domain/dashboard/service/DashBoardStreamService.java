@@ -0,0 +1,303 @@
+package com.readingbuddy.backend.domain.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
+import com.readingbuddy.backend.domain.dashboard.dto.response.AllKcAverageMasteryResponse.KcMasteryInfo;
+import com.readingbuddy.backend.domain.dashboard.dto.response.StageKcMasteryTrendResponse.MasteryPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * KC 숙련도 추이, 모든 KC 평균 숙련도를 DTO 트리를 만들지 않고 JSON으로 바로 출력
+ * 숙련도 이력은 스트리밍 쿼리의 행을 읽는 즉시 출력한다.
+ * 점 하나(MasteryPoint, KcMasteryInfo)는 기존 DTO로 직렬화해서 필드 이름(plearn 등)과 날짜 형식을 기존 응답과 같게 유지한다.
+ * 컨트롤러는 출력 결과를 회원별 대시보드 캐시에 byte[]로 저장한 get...Json을 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashBoardStreamService {
+
+    private final KnowledgeComponentRepository knowledgeComponentRepository;
+    private final UserKcMasteryRepository userKcMasteryRepository;
+    private final CalculateService calculateService;
+    private final ObjectMapper objectMapper;
+    private final DashBoardCacheManager dashBoardCacheManager;
+
+    /**
+     * stage에 속한 KC 조회 (응답을 쓰기 전에 호출해서 없는 stage는 400으로 처리)
+     */
+    public List<KnowledgeComponent> getStageKcs(String stage) {
+        List<KnowledgeComponent> kcs = knowledgeComponentRepository.findByStage(stage);
+
+        if (kcs.isEmpty()) {
+            throw new IllegalArgumentException("해당 stage에 대한 Knowledge Component가 존재하지 않습니다: " + stage);
+        }
+        return kcs;
+    }
+
+    /**
+     * stage에 속한 모든 KC의 숙련도 변화 추이 JSON (캐시 사용)
+     * @param kcs getStageKcs로 조회한 KC 목록
+     */
+    @Transactional(readOnly = true)
+    public byte[] getStageKcMasteryTrendJson(Long userId, String stage, List<KnowledgeComponent> kcs,
+                                             LocalDate startDate, LocalDate endDate) {
+        return dashBoardCacheManager.getOrWrite(userId, "stage/kc-mastery-trend", List.of(stage, startDate, endDate),
+                out -> writeStageKcMasteryTrend(userId, stage, kcs, startDate, endDate, out));
+    }
+
+    /**
+     * 모든 KC의 최신 숙련도와 전체 평균 JSON (캐시 사용)
+     */
+    @Transactional(readOnly = true)
+    public byte[] getAllKcAverageMasteryJson(Long userId) {
+        return dashBoardCacheManager.getOrWrite(userId, "kc/all-mastery", List.of(),
+                out -> writeAllKcAverageMastery(userId, out));
+    }
+
+    /**
+     * stage에 속한 모든 KC의 숙련도 변화 추이 출력 (StageKcMasteryTrendResponse와 같은 JSON)
+     * 4.1, 4.2 stage는 초성/중성/종성별로 묶어 같은 시각의 값을 평균낸다.
+     * @param kcs getStageKcs로 조회한 KC 목록
+     */
+    @Transactional(readOnly = true)
+    public void writeStageKcMasteryTrend(Long userId, String stage, List<KnowledgeComponent> kcs,
+                                         LocalDate startDate, LocalDate endDate,
+                                         OutputStream out) throws IOException {
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "Stage별 KC 숙련도 변화 추이가 조회되었습니다.");
+            generator.writeObjectFieldStart("data");
+            generator.writeStringField("stage", stage);
+            generator.writeArrayFieldStart("kcTrends");
+
+            if (stage.equals("4.1") || stage.equals("4.2")) {
+                writeGroupedKcTrends(generator, userId, stage, kcs, startDateTime, endDateTime);
+            } else {
+                writeKcTrends(generator, userId, kcs, startDateTime, endDateTime);
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+
+    /**
+     * 모든 KC의 최신 숙련도와 전체 평균 출력 (AllKcAverageMasteryResponse와 같은 JSON)
+     * KC별 최신값은 한 번의 쿼리로 읽는다. 행 수는 KC 수를 넘지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public void writeAllKcAverageMastery(Long userId, OutputStream out) throws IOException {
+        List<KnowledgeComponent> allKcs = knowledgeComponentRepository.findAll();
+
+        // 같은 시각의 최신값이 여럿이면 먼저 온 행(id가 큰 행)을 사용
+        Map<Long, KcMasteryValues> latestByKc = new HashMap<>();
+        for (KcMasteryValues row : userKcMasteryRepository.findLatestMasteryValuesByUserId(userId)) {
+            latestByKc.putIfAbsent(row.kcId(), row);
+        }
+
+        // 숙련도 데이터가 없는 KC는 0으로 계산
+        DoubleSummaryStatistics pLearn = new DoubleSummaryStatistics();
+        for (KnowledgeComponent kc : allKcs) {
+            KcMasteryValues row = latestByKc.get(kc.getId());
+            pLearn.accept(row != null ? row.pLearn() : 0.0f);
+        }
+
+        // 소수점 4자리까지 반올림
+        double overallAverage = Math.round(pLearn.getAverage() * 10000.0) / 10000.0;
+
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "모든 KC의 평균 숙련도가 조회되었습니다.");
+            generator.writeObjectFieldStart("data");
+            generator.writeNumberField("totalKcCount", allKcs.size());
+            generator.writeNumberField("overallAverageMastery", overallAverage);
+            generator.writeArrayFieldStart("kcMasteries");
+
+            for (KnowledgeComponent kc : allKcs) {
+                KcMasteryValues row = latestByKc.get(kc.getId());
+                generator.writeObject(KcMasteryInfo.builder()
+                        .kcId(kc.getId())
+                        .kcCategory(kc.getCategory().name())
+                        .kcDescription(kc.getCategory().getDescription())
+                        .stage(kc.getStage())
+                        .pLearn(row != null ? row.pLearn() : 0.0f)
+                        .pTrain(row != null ? row.pTrain() : 0.0f)
+                        .pGuess(row != null ? row.pGuess() : 0.0f)
+                        .pSlip(row != null ? row.pSlip() : 0.0f)
+                        .updatedAt(row != null ? row.updatedAt() : null)
+                        .build());
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+
+    /**
+     * KC별 숙련도 이력 출력 (KC ID 순)
+     * 모든 KC의 이력을 KC, 시간 순으로 한 번에 읽고 KC가 바뀔 때마다 다음 KC로 넘어간다.
+     */
+    private void writeKcTrends(JsonGenerator generator, Long userId, List<KnowledgeComponent> kcs,
+                               LocalDateTime startDateTime, LocalDateTime endDateTime) throws IOException {
+        List<KnowledgeComponent> sortedKcs = kcs.stream()
+                .sorted(Comparator.comparing(KnowledgeComponent::getId))
+                .toList();
+
+        // 초기값 계산: 시작 날짜의 값 또는 그 이전 최신값 (이력 스트림을 열기 전에 모든 KC를 한 번에 조회)
+        List<Long> kcIds = sortedKcs.stream().map(KnowledgeComponent::getId).toList();
+        Map<Long, MasteryPoint> initialMasteries = calculateService.calculateInitialMasteries(userId, kcIds, startDateTime);
+
+        try (Stream<KcMasteryValues> rows = userKcMasteryRepository.streamMasteryHistoryByKc(
+                userId, kcIds, startDateTime, endDateTime)) {
+
+            Iterator<KcMasteryValues> iterator = rows.iterator();
+            KcMasteryValues row = iterator.hasNext() ? iterator.next() : null;
+
+            for (KnowledgeComponent kc : sortedKcs) {
+                generator.writeStartObject();
+                generator.writeNumberField("kcId", kc.getId());
+                generator.writeStringField("kcCategory", kc.getCategory().name());
+                generator.writeStringField("kcDescription", kc.getCategory().getDescription());
+                generator.writeObjectField("initialMastery", initialMasteries.get(kc.getId()));
+                generator.writeArrayFieldStart("masteryTrend");
+
+                while (row != null && kc.getId().equals(row.kcId())) {
+                    generator.writeObject(toMasteryPoint(row));
+                    row = iterator.hasNext() ? iterator.next() : null;
+                }
+
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    /**
+     * 초성/중성/종성 그룹별 평균 숙련도 이력 출력
+     */
+    private void writeGroupedKcTrends(JsonGenerator generator, Long userId, String stage,
+                                      List<KnowledgeComponent> kcs, LocalDateTime startDateTime,
+                                      LocalDateTime endDateTime) throws IOException {
+        Map<String, List<KnowledgeComponent>> kcsByGroup = kcs.stream()
+                .collect(Collectors.groupingBy(this::groupOf));
+
+        for (Map.Entry<String, List<KnowledgeComponent>> entry : kcsByGroup.entrySet()) {
+            String groupName = entry.getKey();
+            List<KnowledgeComponent> groupKcs = entry.getValue();
+
+            generator.writeStartObject();
+            generator.writeNullField("kcId"); // 그룹화된 경우 특정 KC ID가 없음
+            generator.writeStringField("kcCategory", groupName);
+            generator.writeStringField("kcDescription", groupName + (stage.equals("4.1") ? " 분절" : " 합성") + " 평균");
+            generator.writeObjectField("initialMastery",
+                    calculateService.calculateGroupInitialMastery(userId, groupKcs, startDateTime));
+            generator.writeArrayFieldStart("masteryTrend");
+
+            List<Long> kcIds = groupKcs.stream().map(KnowledgeComponent::getId).toList();
+            try (Stream<KcMasteryValues> rows = userKcMasteryRepository.streamMasteryHistoryByUpdatedAt(
+                    userId, kcIds, startDateTime, endDateTime)) {
+                writeAveragedTrend(generator, rows.iterator());
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * updatedAt 순으로 읽은 행에서 같은 시각끼리 평균을 내어 출력
+     */
+    private void writeAveragedTrend(JsonGenerator generator, Iterator<KcMasteryValues> iterator) throws IOException {
+        LocalDateTime currentTime = null;
+        DoubleSummaryStatistics[] stats = null;
+
+        while (iterator.hasNext()) {
+            KcMasteryValues row = iterator.next();
+            LocalDateTime updatedAt = row.updatedAt();
+
+            if (!updatedAt.equals(currentTime)) {
+                if (currentTime != null) {
+                    generator.writeObject(toAveragePoint(stats, currentTime));
+                }
+                currentTime = updatedAt;
+                stats = new DoubleSummaryStatistics[]{
+                        new DoubleSummaryStatistics(), new DoubleSummaryStatistics(),
+                        new DoubleSummaryStatistics(), new DoubleSummaryStatistics()};
+            }
+            stats[0].accept(row.pLearn());
+            stats[1].accept(row.pTrain());
+            stats[2].accept(row.pGuess());
+            stats[3].accept(row.pSlip());
+        }
+
+        if (currentTime != null) {
+            generator.writeObject(toAveragePoint(stats, currentTime));
+        }
+    }
+
+    private String groupOf(KnowledgeComponent kc) {
+        String categoryName = kc.getCategory().name();
+        if (categoryName.contains("ONSET")) {
+            return "초성";
+        } else if (categoryName.contains("NUCLEUS")) {
+            return "중성";
+        } else if (categoryName.contains("CODA")) {
+            return "종성";
+        } else {
+            return "기타";
+        }
+    }
+
+    private MasteryPoint toMasteryPoint(KcMasteryValues row) {
+        return MasteryPoint.builder()
+                .pLearn(row.pLearn())
+                .pTrain(row.pTrain())
+                .pGuess(row.pGuess())
+                .pSlip(row.pSlip())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
+    private MasteryPoint toAveragePoint(DoubleSummaryStatistics[] stats, LocalDateTime updatedAt) {
+        return MasteryPoint.builder()
+                .pLearn((float) stats[0].getAverage())
+                .pTrain((float) stats[1].getAverage())
+                .pGuess((float) stats[2].getAverage())
+                .pSlip((float) stats[3].getAverage())
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
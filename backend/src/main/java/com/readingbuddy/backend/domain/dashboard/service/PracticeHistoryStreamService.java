@@ -0,0 +1,234 @@
+package com.readingbuddy.backend.domain.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingbuddy.backend.domain.dashboard.dto.request.PracticeHistoryCursor;
+import com.readingbuddy.backend.domain.train.repository.TrainedStageHistoriesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 일별, 기간별 훈련 기록을 커서 단위로 조회하여 JSON으로 바로 출력
+ * 세션과 문제 이력을 한 번의 join 쿼리로 읽고, 행을 읽는 즉시 출력한다.
+ * 컨트롤러는 출력 결과를 회원별 대시보드 캐시에 byte[]로 저장한 get...Json을 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PracticeHistoryStreamService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final TrainedStageHistoriesRepository trainedStageHistoriesRepository;
+    private final ObjectMapper objectMapper;
+    private final DashBoardCacheManager dashBoardCacheManager;
+
+    /**
+     * 특정 날짜의 훈련 기록 한 페이지 JSON (캐시 사용)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public byte[] getStageProblemListByDateJson(Long userId, LocalDate date, PracticeHistoryCursor cursor, int size) {
+        String cursorKey = cursor != null ? cursor.encode() : "";
+        return dashBoardCacheManager.getOrWrite(userId, "practice/list/daily", List.of(date, cursorKey, size),
+                out -> writeStageProblemListByDate(userId, date, cursor, size, out));
+    }
+
+    /**
+     * 기간 내 훈련 기록 한 페이지 JSON (캐시 사용)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public byte[] getStageProblemListByRangeJson(Long userId, LocalDate startDate, LocalDate endDate,
+                                                 PracticeHistoryCursor cursor, int size) {
+        String cursorKey = cursor != null ? cursor.encode() : "";
+        return dashBoardCacheManager.getOrWrite(userId, "practice/list/period",
+                List.of(startDate, endDate, cursorKey, size),
+                out -> writeStageProblemListByRange(userId, startDate, endDate, cursor, size, out));
+    }
+
+    /**
+     * 특정 날짜에 시작된 훈련 기록을 세션 size개 단위로 출력 (StageProblemListResponse와 같은 JSON)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지당 세션 수
+     */
+    @Transactional(readOnly = true)
+    public void writeStageProblemListByDate(Long userId, LocalDate date, PracticeHistoryCursor cursor, int size,
+                                            OutputStream out) throws IOException {
+        LocalDateTime startDateTime = date.atStartOfDay();
+        LocalDateTime endDateTime = date.atTime(LocalTime.MAX);
+
+        // 첫 페이지는 (시작 시간, 0) 이후 전체
+        LocalDateTime cursorStartedAt = cursor != null ? cursor.getStartedAt() : startDateTime;
+        Long cursorId = cursor != null ? cursor.getId() : 0L;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 세션 더 조회
+        try (Stream<Object[]> rows = trainedStageHistoriesRepository.streamStageProblemListByRange(
+                     userId, startDateTime, endDateTime, cursorStartedAt, cursorId, size + 1);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "일별 훈련 기록이 조회되었습니다.");
+            generator.writeObjectFieldStart("data");
+            generator.writePOJOField("date", date);
+            writeSessionPage(generator, rows.iterator(), size);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+
+    /**
+     * 기간 내 훈련 기록을 세션 size개 단위로 출력
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지당 세션 수
+     */
+    @Transactional(readOnly = true)
+    public void writeStageProblemListByRange(Long userId, LocalDate startDate, LocalDate endDate,
+                                             PracticeHistoryCursor cursor, int size,
+                                             OutputStream out) throws IOException {
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+
+        // 첫 페이지는 (시작 시간, 0) 이후 전체
+        LocalDateTime cursorStartedAt = cursor != null ? cursor.getStartedAt() : startDateTime;
+        Long cursorId = cursor != null ? cursor.getId() : 0L;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 세션 더 조회
+        try (Stream<Object[]> rows = trainedStageHistoriesRepository.streamStageProblemListByRange(
+                     userId, startDateTime, endDateTime, cursorStartedAt, cursorId, size + 1);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "기간별 훈련 기록이 조회되었습니다.");
+            generator.writeObjectFieldStart("data");
+            generator.writePOJOField("startDate", startDate);
+            generator.writePOJOField("endDate", endDate);
+            writeSessionPage(generator, rows.iterator(), size);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+
+    /**
+     * session 배열과 nextCursor, hasNext 필드 출력
+     */
+    private void writeSessionPage(JsonGenerator generator, Iterator<Object[]> iterator, int size) throws IOException {
+        generator.writeArrayFieldStart("session");
+        PracticeHistoryCursor nextCursor = writeSessions(generator, iterator, size);
+        boolean hasNext = nextCursor != null;
+        generator.writeEndArray();
+        if (hasNext) {
+            generator.writeStringField("nextCursor", nextCursor.encode());
+        } else {
+            generator.writeNullField("nextCursor");
+        }
+        generator.writeBooleanField("hasNext", hasNext);
+    }
+
+    /**
+     * 세션 ID 순으로 묶인 행을 세션 객체로 출력
+     * @param size 출력할 최대 세션 수
+     * @return 세션이 더 남아 있으면 마지막으로 출력한 세션의 커서, 아니면 null
+     */
+    private PracticeHistoryCursor writeSessions(JsonGenerator generator, Iterator<Object[]> iterator,
+                                                int size) throws IOException {
+        Long currentSessionId = null;
+        PracticeHistoryCursor lastCursor = null;
+        int sessionCount = 0;
+        boolean hasNext = false;
+
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            Long sessionId = toLong(row[0]);
+
+            if (!sessionId.equals(currentSessionId)) {
+                if (currentSessionId != null) {
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                if (sessionCount == size) {
+                    hasNext = true;
+                    currentSessionId = null;
+                    break;
+                }
+
+                LocalDateTime startedAt = toLocalDateTime(row[2]);
+                writeSessionHeader(generator, row, sessionId, startedAt);
+                generator.writeArrayFieldStart("problems");
+
+                currentSessionId = sessionId;
+                lastCursor = new PracticeHistoryCursor(startedAt, sessionId);
+                sessionCount++;
+            }
+
+            // 문제 이력이 없는 세션은 LEFT JOIN 결과로 문제 컬럼이 null
+            if (row[6] != null) {
+                writeProblem(generator, row);
+            }
+        }
+
+        if (currentSessionId != null) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return hasNext ? lastCursor : null;
+    }
+
+    private void writeSessionHeader(JsonGenerator generator, Object[] row, Long sessionId,
+                                    LocalDateTime startedAt) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("trainedStageHistoryId", sessionId);
+        generator.writeStringField("stage", (String) row[1]);
+        generator.writePOJOField("startedAt", startedAt);
+        generator.writeNumberField("totalCount", toInteger(row[3]));
+        generator.writeNumberField("correctCount", toInteger(row[4]));
+        generator.writeNumberField("wrongCount", toInteger(row[5]));
+    }
+
+    private void writeProblem(JsonGenerator generator, Object[] row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("problemId", toLong(row[6]));
+        generator.writeNumberField("problemNumber", toInteger(row[7]));
+        generator.writeStringField("problem", (String) row[8]);
+        generator.writeStringField("answer", (String) row[9]);
+        generator.writePOJOField("isCorrect", row[10]);
+        generator.writePOJOField("isReplyCorrect", row[11]);
+        generator.writeNumberField("attemptNumber", toInteger(row[12]));
+        generator.writeStringField("audioUrl", (String) row[13]);
+        generator.writePOJOField("solvedAt", toLocalDateTime(row[14]));
+        generator.writeEndObject();
+    }
+
+    private Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
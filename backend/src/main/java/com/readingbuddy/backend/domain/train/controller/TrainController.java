@@ -25,9 +25,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TrainController {
 
+    // /set의 기본 문제 수, 스테이지 시작 시 미리 생성하는 세트도 같은 개수로 만들어야 /set에서 사용된다
+    private static final String DEFAULT_PROBLEM_COUNT = "5";
+
     private final ProblemGenerateService problemGenerateService;
-    private final VowelTrainService vowelTrainService;
-    private final ConsonantTrainService consonantTrainService;
+    private final ProblemSetPrefetcher problemSetPrefetcher;
     private final TrainManager trainManager;
     private final TrainedStageService trainedStageService;
     private final S3Service s3Service;
@@ -44,7 +46,7 @@ public class TrainController {
     public ResponseEntity<ApiResponse<?>> generateTrainSet(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestParam String stage,
-            @RequestParam(defaultValue = "5") Integer count,
+            @RequestParam(defaultValue = DEFAULT_PROBLEM_COUNT) Integer count,
             @RequestParam String stageSessionId) {
 
         try {
@@ -57,11 +59,7 @@ public class TrainController {
 
             switch (stage) {
                 case "1.1.1", "1.1.2":
-                    if (stage.equals("1.1.1")) {
-                        problems = vowelTrainService.getBasicProblem(userId, count);
-                    } else {
-                        problems = vowelTrainService.getAdvancedProblem(userId, count);
-                    }
+                    problems = problemSetPrefetcher.getProblemSet(userId, stage, count);
 
                     problemSetResponse = ProblemSetResponse.builder()
                             .problems(problems)
@@ -79,11 +77,7 @@ public class TrainController {
                             .body(ApiResponse.success(message, problemSetResponse));
 
                 case "1.2.1", "1.2.2":
-                    if(stage.equals("1.2.1")){
-                        problems = consonantTrainService.getBasicProblem(userId,count);
-                    }else{
-                        problems = consonantTrainService.getAdvancedProblem(userId,count);
-                    }
+                    problems = problemSetPrefetcher.getProblemSet(userId, stage, count);
 
                     problemSetResponse = ProblemSetResponse.builder()
                             .problems(problems)
@@ -108,7 +102,7 @@ public class TrainController {
                     return ResponseEntity.status(HttpStatus.CREATED)
                             .body(ApiResponse.success("음절 개수 세기 문제가 생성되었습니다.", problemSetResponse));
                 case "3", "4.1", "4.2":
-                    problems = problemGenerateService.extractLetters(stage, count, userId);
+                    problems = problemSetPrefetcher.getProblemSet(userId, stage, count);
 
                     problemSetResponse = ProblemSetResponse.builder()
                             .problems(problems)
@@ -162,7 +156,7 @@ public class TrainController {
             Long userId = customUserDetails.getId();
 
             // S3에 업로드
-            String audioUrl = s3Service.uploadAudioFile(audioFile, stageSessionId, userId, problemNumber);
+            String audioUrl = s3Service.uploadAudioFile(audioFile, stage, stageSessionId, userId, problemNumber);
 
             // AI 서버로 음성 전송하고 응답 받기 (동기)
             VoiceCheckResponse aiResponse = trainManager.sendVoiceToAI(stageSessionId, audioFile, stage, problemNumber, target);
@@ -209,6 +203,8 @@ public class TrainController {
             Long userId = customUserDetails.getId();
             StageStartResponse response = trainedStageService.startStage(userId, stage);
             authService.checkAttendance(userId);
+            // 곧 이어질 문제 세트 요청을 위해 미리 생성
+            problemSetPrefetcher.prefetch(userId, stage, Integer.parseInt(DEFAULT_PROBLEM_COUNT));
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("스테이지가 시작되었습니다.", response));
         } catch (BadRequestException e) {
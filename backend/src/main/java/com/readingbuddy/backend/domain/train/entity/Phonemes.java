@@ -3,8 +3,12 @@ package com.readingbuddy.backend.domain.train.entity;
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "reference.phonemes")
 @Getter
 @Table(name = "phonemes",
        uniqueConstraints = @UniqueConstraint(columnNames = {"category", "\"value\""}))
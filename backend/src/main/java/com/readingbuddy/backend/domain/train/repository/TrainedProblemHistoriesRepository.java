@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,11 @@ public interface TrainedProblemHistoriesRepository extends JpaRepository<Trained
      */
     List<TrainedProblemHistories> findByTrainedStageHistories(TrainedStageHistories session);
 
+    /**
+     * 여러 세션의 문제 이력을 한 번에 조회 (세션별 조회 반복 방지)
+     */
+    List<TrainedProblemHistories> findByTrainedStageHistoriesIn(Collection<TrainedStageHistories> sessions);
+
     /**
      * 특정 user의 특정 stage에 대한 최신 문제 이력 조회 (candidateList 확인용)
      * Spring Data JPA 메서드 네이밍 규칙 사용 (First = 최신 1개)
@@ -1,14 +1,18 @@
 package com.readingbuddy.backend.domain.train.repository;
 
 import com.readingbuddy.backend.domain.user.entity.TrainedStageHistories;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TrainedStageHistoriesRepository extends JpaRepository<TrainedStageHistories, Long> {
@@ -57,19 +61,52 @@ public interface TrainedStageHistoriesRepository extends JpaRepository<TrainedSt
     Double getAverageTryCountPerProblem(@Param("userId") Long userId, @Param("stage") String stage);
 
     /**
-     * 특정 날짜에 시작된 훈련 세션 조회
+     * 기간 내 훈련 세션과 문제 이력을 한 번에 조회 (keyset 페이지네이션)
+     * (started_at, id)가 커서보다 큰 세션을 sessionLimit개까지 가져와 문제 이력과 join 한다.
+     * 각 행: 세션 ID, stage, 시작 시간, 문제 수(중복 제외), 정답 수, 오답 수,
+     *       문제 기록 ID, 문제 번호, 문제, 정답, 정답 여부, 발음 정답 여부, 시도 횟수, 오디오 URL, 풀이 시간
      */
-    @Query("""
-            SELECT tsh
-            FROM TrainedStageHistories tsh
-            WHERE tsh.user.id = :userId
-            AND tsh.startedAt >= :startDate
-            AND tsh.startedAt <= :endDate
-            ORDER BY tsh.startedAt ASC
-            """)
-    List<TrainedStageHistories> getStageProblemListByDate(
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query(value = """
+        SELECT
+            tsh.id,
+            tsh.stage,
+            tsh.started_at,
+            (SELECT COUNT(DISTINCT c.problem_number)
+             FROM trained_problem_histories c
+             WHERE c.trained_stage_id = tsh.id) AS total_count,
+            tsh.correct_count,
+            tsh.wrong_count,
+            tph.id,
+            tph.problem_number,
+            tph.problem,
+            tph.answer,
+            tph.is_correct,
+            tph.is_reply_correct,
+            tph.attempt_number,
+            tph.audio_url,
+            tph.solved_at
+        FROM (
+            SELECT s.id, s.stage, s.started_at, s.correct_count, s.wrong_count
+            FROM trained_stage_histories s
+            WHERE s.user_id = :userId
+            AND s.started_at >= :startDate
+            AND s.started_at <= :endDate
+            AND (s.started_at > :cursorStartedAt
+                 OR (s.started_at = :cursorStartedAt AND s.id > :cursorId))
+            ORDER BY s.started_at ASC, s.id ASC
+            LIMIT :sessionLimit
+        ) tsh
+        LEFT JOIN trained_problem_histories tph ON tph.trained_stage_id = tsh.id
+        ORDER BY tsh.started_at ASC, tsh.id ASC, tph.problem_number ASC, tph.id ASC
+        """,
+        nativeQuery = true)
+    Stream<Object[]> streamStageProblemListByRange(
             @Param("userId") Long userId,
             @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorStartedAt") LocalDateTime cursorStartedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("sessionLimit") int sessionLimit);
 
 }
@@ -1,15 +1,19 @@
 package com.readingbuddy.backend.domain.train.service;
 
+import com.readingbuddy.backend.common.jfr.ProblemGenerationEvent;
 import com.readingbuddy.backend.common.util.function.PhonemeCounter;
 import com.readingbuddy.backend.domain.bkt.entity.LettersKcMap;
 import com.readingbuddy.backend.domain.bkt.repository.LettersKcMapRepository;
 import com.readingbuddy.backend.domain.bkt.service.BktService;
+import com.readingbuddy.backend.domain.bkt.service.KcScheduler;
 import com.readingbuddy.backend.domain.train.dto.result.*;
 import com.readingbuddy.backend.domain.train.entity.Letters;
 import com.readingbuddy.backend.domain.train.entity.Phonemes;
 import com.readingbuddy.backend.domain.train.entity.Words;
 import com.readingbuddy.backend.domain.train.repository.LettersRepository;
 import com.readingbuddy.backend.domain.train.repository.WordsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +30,8 @@ public class ProblemGenerateService {
     private final WordsRepository wordsRepository;
     private final BktService bktService;
     private final LettersKcMapRepository lettersKcMapRepository;
+    private final KcScheduler kcScheduler;
+    private final MeterRegistry meterRegistry;
 
     private static final int START = 0xAC00; // '가'
     private static final int END   = 0xD7A3; // '힣'
@@ -34,7 +40,7 @@ public class ProblemGenerateService {
     private final Random random = new Random();
 
     // Letters와 원본 인덱스를 함께 관리하는 내부 클래스
-    private static class LetterWithIndex {
+    static class LetterWithIndex {
         final Letters letter;
         final int index;
 
@@ -56,15 +62,19 @@ public class ProblemGenerateService {
     }
 
     public List<ProblemResult> generateStage3(Long userId, Integer cnt) {
+        ProblemGenerationEvent event = new ProblemGenerationEvent();
+        event.begin();
         List<ProblemResult> results = new ArrayList<>();
-
-        // 정답률이 낮은 순으로 정렬된 KC 목록 가져오기
-        List<KcWithCorrectRate> kcList = bktService.getLowestCorrectRateKcsByStage(userId, "3");
+        int letterRows = 0;
 
         // KC별 문제 개수: 첫 번째 KC는 3개, 두 번째 KC는 2개
         int[] problemCounts = {cnt / 2 + 1, cnt / 2};
 
-        for (int idx = 0; idx < Math.min(kcList.size(), problemCounts.length); idx++) {
+        // 정답률이 가장 낮은 KC 두 개 가져오기
+        List<KcWithCorrectRate> kcList = kcScheduler.nextKcs(userId, "3", problemCounts.length);
+        int kcCount = Math.min(kcList.size(), problemCounts.length);
+
+        for (int idx = 0; idx < kcCount; idx++) {
             KcWithCorrectRate kcWithRate = kcList.get(idx);
             Long kcId = kcWithRate.getKnowledgeComponent().getId();
 
@@ -77,6 +87,7 @@ public class ProblemGenerateService {
             String candidateList = bktService.getCandidateBitMask(userId, kcId);
 
             // 1. 사용 가능한 Letters 필터링 (비트마스크 기반)
+            Timer.Sample selection = Timer.start(meterRegistry);
             List<LetterWithIndex> availableLetters = filterAvailableLetters(letters, candidateList);
             boolean wasReset = availableLetters.size() == letters.size() && !candidateList.equals("0");
 
@@ -87,21 +98,51 @@ public class ProblemGenerateService {
             // 3. candidateList 업데이트 (부족해서 추가 선택한 경우 리셋)
             boolean needsReset = wasReset || selectedLetters.size() > availableLetters.size();
             String updatedCandidateList = updateCandidateList(selectedLetters, candidateList, needsReset);
+            selection.stop(bitmaskSelectionTimer("3", needsReset));
 
             // 4. Stage3Problem 생성 및 추가
             results.addAll(createStage3Problems(selectedLetters, kcId, updatedCandidateList));
+            letterRows += letters.size();
         }
 
+        commitGenerationEvent(event, userId, "3", cnt, kcCount, letterRows, results.size());
         return results;
     }
 
+    /**
+     * 녹화 중일 때만 ProblemGenerationEvent 기록
+     */
+    private static void commitGenerationEvent(ProblemGenerationEvent event, Long userId, String stage, Integer cnt,
+                                              int kcCount, int letterRows, int problemCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setUserId(userId);
+            event.setStage(stage);
+            event.setRequestedCount(cnt);
+            event.setKcCount(kcCount);
+            event.setLetterRows(letterRows);
+            event.setProblemCount(problemCount);
+            event.commit();
+        }
+    }
+
+    /**
+     * 비트마스크 기반 문제 선택 시간 (result: available|reset)
+     */
+    private Timer bitmaskSelectionTimer(String stage, boolean reset) {
+        return Timer.builder("training.bitmask.selection")
+                .tag("stage", stage)
+                .tag("result", reset ? "reset" : "available")
+                .register(meterRegistry);
+    }
+
     /**
      * candidateList를 기반으로 사용 가능한 Letters 필터링
      * @param letters 전체 Letters 리스트
      * @param candidateList 비트마스크 (BigInteger String)
      * @return 사용 가능한 LetterWithIndex 리스트
      */
-    private List<LetterWithIndex> filterAvailableLetters(List<Letters> letters, String candidateList) {
+    List<LetterWithIndex> filterAvailableLetters(List<Letters> letters, String candidateList) {
         BigInteger bitmask = new BigInteger(candidateList);
         List<LetterWithIndex> available = new ArrayList<>();
         for (int i = 0; i < letters.size(); i++) {
@@ -129,7 +170,7 @@ public class ProblemGenerateService {
      * @param count 선택할 개수
      * @return 선택된 LetterWithIndex 리스트
      */
-    private List<LetterWithIndex> selectRandomLetters(List<LetterWithIndex> available, List<Letters> allLetters, int count) {
+    List<LetterWithIndex> selectRandomLetters(List<LetterWithIndex> available, List<Letters> allLetters, int count) {
         List<LetterWithIndex> selected = new ArrayList<>();
 
         // 1단계: available에서 선택
@@ -183,7 +224,7 @@ public class ProblemGenerateService {
      * @param wasReset candidateList가 리셋되었는지 여부
      * @return 업데이트된 candidateList (BigInteger String)
      */
-    private String updateCandidateList(List<LetterWithIndex> selectedLetters, String candidateList, boolean wasReset) {
+    String updateCandidateList(List<LetterWithIndex> selectedLetters, String candidateList, boolean wasReset) {
         // 리셋되었으면 0부터 시작
         BigInteger updated = wasReset ? BigInteger.ZERO : new BigInteger(candidateList);
 
@@ -252,16 +293,21 @@ public class ProblemGenerateService {
             return generateStage4_1(userId, cnt);
         }
 
+        // 4.1은 고정 단어 하나라 이벤트로 남기지 않는다
+        ProblemGenerationEvent event = new ProblemGenerationEvent();
+        event.begin();
         List<ProblemResult> results = new ArrayList<>();
+        int letterRows = 0;
 
-        // 정답률이 낮은 순으로 정렬된 KC 목록 가져오기
-        List<KcWithCorrectRate> kcList = bktService.getLowestCorrectRateKcsByStage(userId, stage);
+        // 정답률이 낮은 순으로 최대 Cnt개의 KC 가져오기
+        List<KcWithCorrectRate> kcList = kcScheduler.nextKcs(userId, stage, cnt);
 
         // Stage 4: KC당 1개씩, 최대 Cnt KC
         int maxKcCount = cnt;
         int problemPerKc = 1;
 
-        for (int idx = 0; idx < Math.min(kcList.size(), maxKcCount); idx++) {
+        int kcCount = Math.min(kcList.size(), maxKcCount);
+        for (int idx = 0; idx < kcCount; idx++) {
             KcWithCorrectRate kcWithRate = kcList.get(idx);
             Long kcId = kcWithRate.getKnowledgeComponent().getId();
 
@@ -274,6 +320,7 @@ public class ProblemGenerateService {
             String candidateList = bktService.getCandidateBitMask(userId, kcId);
 
             // 1. 사용 가능한 Letters 필터링 (비트마스크 기반)
+            Timer.Sample selection = Timer.start(meterRegistry);
             List<LetterWithIndex> availableLetters = filterAvailableLetters(letters, candidateList);
             boolean wasReset = availableLetters.size() == letters.size() && !candidateList.equals("0");
 
@@ -283,11 +330,14 @@ public class ProblemGenerateService {
             // 3. candidateList 업데이트 (부족해서 추가 선택한 경우 리셋)
             boolean needsReset = wasReset || selectedLetters.size() > availableLetters.size();
             String updatedCandidateList = updateCandidateList(selectedLetters, candidateList, needsReset);
+            selection.stop(bitmaskSelectionTimer(stage, needsReset));
 
             // 4. Stage4Problem 생성 및 추가
             results.addAll(createStage4Problems(selectedLetters, kcId, updatedCandidateList));
+            letterRows += letters.size();
         }
 
+        commitGenerationEvent(event, userId, stage, cnt, kcCount, letterRows, results.size());
         return results;
     }
 
@@ -0,0 +1,256 @@
+package com.readingbuddy.backend.domain.train.service;
+
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
+import com.readingbuddy.backend.common.properties.ProblemPrefetchProperties;
+import com.readingbuddy.backend.domain.train.dto.result.ProblemResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 다음 문제 세트 미리 생성
+ * 스테이지 시작 시와 세트를 가져간 직후 같은 단계의 다음 세트를 백그라운드에서 만들어 두고,
+ * 다음 /api/train/set 요청은 만들어 둔 세트로 바로 응답한다.
+ * 새 풀이 기록으로 숙련도가 바뀌면 해당 사용자의 세트는 버리고, 풀이가 refresh-delay-ms 동안 멈추면
+ * (스테이지의 마지막 풀이 뒤) 버린 단계의 세트를 바뀐 숙련도로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ProblemSetPrefetcher implements DisposableBean {
+
+    // 사용자 숙련도에 따라 문제가 달라지는 단계만 미리 생성
+    private static final Set<String> PREFETCH_STAGES = Set.of("1.1.1", "1.1.2", "1.2.1", "1.2.2", "3", "4.1", "4.2");
+
+    private final VowelTrainService vowelTrainService;
+    private final ConsonantTrainService consonantTrainService;
+    private final ProblemGenerateService problemGenerateService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService refreshScheduler;
+    private final int maxEntries;
+    private final long waitTimeoutMs;
+    private final long refreshDelayMs;
+
+    private final Map<PrefetchKey, PrefetchedSet> prefetched;
+    private final Map<Long, Long> userVersions = new ConcurrentHashMap<>();
+    // 사용자별 다시 만들 단계와 문제 수, 풀이가 이어지는 동안은 예약을 뒤로 미룬다
+    private final Map<Long, PendingRefresh> pendingRefreshes = new ConcurrentHashMap<>();
+
+    public ProblemSetPrefetcher(VowelTrainService vowelTrainService,
+                                ConsonantTrainService consonantTrainService,
+                                ProblemGenerateService problemGenerateService,
+                                PlatformTransactionManager transactionManager,
+                                ProblemPrefetchProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.vowelTrainService = vowelTrainService;
+        this.consonantTrainService = consonantTrainService;
+        this.problemGenerateService = problemGenerateService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+
+        this.maxEntries = properties.getMaxEntries();
+        this.waitTimeoutMs = properties.getWaitTimeoutMs();
+        this.refreshDelayMs = properties.getRefreshDelayMs();
+        this.prefetched = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PrefetchKey, PrefetchedSet> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "problem-prefetch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "problem-prefetch-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("training.prefetch.entries", this, ProblemSetPrefetcher::size).register(meterRegistry);
+    }
+
+    /**
+     * 문제 세트 조회
+     * 미리 만들어 둔 세트가 유효하면 그대로 반환하고, 없으면 직접 생성한다.
+     * 어느 경우든 다음 세트를 백그라운드에서 다시 준비한다.
+     */
+    public List<ProblemResult> getProblemSet(Long userId, String stage, int count) {
+        Optional<List<ProblemResult>> taken = takePrefetched(userId, stage, count);
+        Counter.builder("training.prefetch.requests")
+                .tag("stage", stage)
+                .tag("result", taken.isPresent() ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+        List<ProblemResult> problems = taken.orElseGet(() -> generate(userId, stage, count, "request"));
+        prefetch(userId, stage, count);
+        return problems;
+    }
+
+    public void prefetch(Long userId, String stage, int count) {
+        if (!PREFETCH_STAGES.contains(stage)) {
+            return;
+        }
+
+        long version = currentVersion(userId);
+        CompletableFuture<List<ProblemResult>> problems;
+        try {
+            problems = CompletableFuture.supplyAsync(
+                    () -> readOnlyTransaction.execute(status -> generate(userId, stage, count, "prefetch")), executor);
+        } catch (RejectedExecutionException e) {
+            // 미리 생성은 최선 노력, 밀려 있으면 요청 시점에 생성
+            log.debug("문제 세트 미리 생성 생략 - userId: {}, stage: {}", userId, stage);
+            return;
+        }
+
+        synchronized (prefetched) {
+            prefetched.put(new PrefetchKey(userId, stage), new PrefetchedSet(count, version, problems));
+        }
+    }
+
+    public void invalidate(Long userId) {
+        userVersions.merge(userId, 1L, Long::sum);
+        Map<String, Integer> discarded = new HashMap<>();
+        synchronized (prefetched) {
+            for (String stage : PREFETCH_STAGES) {
+                PrefetchedSet removed = prefetched.remove(new PrefetchKey(userId, stage));
+                if (removed != null) {
+                    discarded.put(stage, removed.count());
+                }
+            }
+        }
+        scheduleRefresh(userId, discarded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleLearningRecordChanged(LearningRecordChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    public int size() {
+        synchronized (prefetched) {
+            return prefetched.size();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshScheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 버린 세트 다시 만들기 예약 (debounce)
+     * 새 풀이가 들어올 때마다 예약을 취소하고 다시 걸어, 마지막 풀이 뒤 refreshDelayMs가 지나면 한 번만 만든다.
+     */
+    private void scheduleRefresh(Long userId, Map<String, Integer> discarded) {
+        if (refreshDelayMs <= 0) {
+            return;
+        }
+
+        pendingRefreshes.compute(userId, (id, pending) -> {
+            Map<String, Integer> stageCounts = new HashMap<>(discarded);
+            if (pending != null) {
+                pending.task().cancel(false);
+                pending.stageCounts().forEach(stageCounts::putIfAbsent);
+            }
+            if (stageCounts.isEmpty()) {
+                return null;
+            }
+            ScheduledFuture<?> task = refreshScheduler.schedule(() -> refresh(id), refreshDelayMs, TimeUnit.MILLISECONDS);
+            return new PendingRefresh(stageCounts, task);
+        });
+    }
+
+    private void refresh(Long userId) {
+        PendingRefresh pending = pendingRefreshes.remove(userId);
+        if (pending == null) {
+            return;
+        }
+        pending.stageCounts().forEach((stage, count) -> prefetch(userId, stage, count));
+    }
+
+    private Optional<List<ProblemResult>> takePrefetched(Long userId, String stage, int count) {
+        PrefetchedSet prefetchedSet;
+        synchronized (prefetched) {
+            prefetchedSet = prefetched.remove(new PrefetchKey(userId, stage));
+        }
+        if (prefetchedSet == null
+                || prefetchedSet.count() != count
+                || prefetchedSet.version() != currentVersion(userId)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(prefetchedSet.problems().get(waitTimeoutMs, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("미리 생성한 문제 세트 사용 불가 - userId: {}, stage: {}", userId, stage, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 단계별 문제 생성, 소요 시간은 training.problem.generation (source: request|prefetch)
+     */
+    private List<ProblemResult> generate(Long userId, String stage, int count, String source) {
+        Timer timer = Timer.builder("training.problem.generation")
+                .tag("stage", stage)
+                .tag("source", source)
+                .register(meterRegistry);
+        return timer.record(() -> generate(userId, stage, count));
+    }
+
+    private List<ProblemResult> generate(Long userId, String stage, int count) {
+        return switch (stage) {
+            case "1.1.1" -> vowelTrainService.getBasicProblem(userId, count);
+            case "1.1.2" -> vowelTrainService.getAdvancedProblem(userId, count);
+            case "1.2.1" -> consonantTrainService.getBasicProblem(userId, count);
+            case "1.2.2" -> consonantTrainService.getAdvancedProblem(userId, count);
+            case "3", "4.1", "4.2" -> problemGenerateService.extractLetters(stage, count, userId);
+            default -> throw new IllegalArgumentException("유효하지 않은 단계입니다. " + stage);
+        };
+    }
+
+    private long currentVersion(Long userId) {
+        return userVersions.getOrDefault(userId, 0L);
+    }
+
+    private record PrefetchKey(Long userId, String stage) {
+    }
+
+    private record PrefetchedSet(int count, long version, CompletableFuture<List<ProblemResult>> problems) {
+    }
+
+    private record PendingRefresh(Map<String, Integer> stageCounts, ScheduledFuture<?> task) {
+    }
+}
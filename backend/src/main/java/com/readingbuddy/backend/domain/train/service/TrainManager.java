@@ -1,9 +1,13 @@
 package com.readingbuddy.backend.domain.train.service;
 
+import com.readingbuddy.backend.common.jfr.AiVoiceCheckEvent;
 import com.readingbuddy.backend.common.util.function.HangulChecker;
 import com.readingbuddy.backend.domain.train.dto.response.VoiceCheckResponse;
 import com.readingbuddy.backend.domain.train.dto.result.StageSessionInfo;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
@@ -24,11 +28,19 @@ import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TrainManager {
 
+    private static final String AI_METRIC_NAME = "ai.server.requests";
+
     private final Map<String, StageSessionInfo> stageSessions = new ConcurrentHashMap<>();
     private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+
+    public TrainManager(WebClient webClient, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("training.sessions.active", this, TrainManager::sessionCount).register(meterRegistry);
+    }
 
     public String generateQuestionSession(Long id) {
         String stageSessionId = UUID.randomUUID().toString();
@@ -89,6 +101,9 @@ public class TrainManager {
             throw new RuntimeException("오디오 파일 처리 중 오류가 발생했습니다.", e);
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AiVoiceCheckEvent event = new AiVoiceCheckEvent();
+        event.begin();
         try {
             long apiStartTime = System.currentTimeMillis();
             log.info("AI 서버 요청 시작 - path: {}, target: {}, fileName: {}", path, target, audioFile.getOriginalFilename());
@@ -114,6 +129,13 @@ public class TrainManager {
                 Map<String, Object> responseMap = (Map<String, Object>) response;
                 Boolean isCorrect = (Boolean) responseMap.get("is_correct");
                 List<String> decomposed = (List<String>) responseMap.get("decoded_tokens");
+                recordAiCall(sample, event, path, stage, "success", stageSessionInfo, problemNumber, audioFile);
+                Counter.builder("ai.server.answers")
+                        .tag("route", path)
+                        .tag("stage", stage)
+                        .tag("correct", String.valueOf(Boolean.TRUE.equals(isCorrect)))
+                        .register(meterRegistry)
+                        .increment();
 
                 // 세션 정보에 결과 저장
                 if (stageSessionInfo != null) {
@@ -128,18 +150,55 @@ public class TrainManager {
                         .build();
             } else {
                 log.error("예상하지 못한 응답 형식: {}", response.getClass().getName());
+                recordAiCall(sample, event, path, stage, "unexpected_response", stageSessionInfo, problemNumber, audioFile);
                 return VoiceCheckResponse.builder()
                         .isReplyCorrect(false)
                         .build();
             }
         } catch (Exception e) {
             log.error("AI 서버 호출 실패: problemId={}, error={}", problemNumber, e.getMessage(), e);
+            recordAiCall(sample, event, path, stage, "error", stageSessionInfo, problemNumber, audioFile);
             return VoiceCheckResponse.builder()
                     .isReplyCorrect(false)
                     .build();
         }
     }
 
+    /**
+     * AI 서버 호출 시간 기록, JFR 녹화 중이면 AiVoiceCheckEvent도 남긴다
+     */
+    private void recordAiCall(Timer.Sample sample, AiVoiceCheckEvent event, String route, String stage, String outcome,
+                              StageSessionInfo stageSessionInfo, Integer problemNumber, MultipartFile audioFile) {
+        sample.stop(aiTimer(route, stage, outcome));
+        event.end();
+        if (event.shouldCommit()) {
+            if (stageSessionInfo != null && stageSessionInfo.getTrainedStageHistoriesId() != null) {
+                event.setTrainedStageHistoriesId(stageSessionInfo.getTrainedStageHistoriesId());
+            }
+            event.setStage(stage);
+            event.setProblemNumber(problemNumber != null ? problemNumber : 0);
+            event.setRoute(route);
+            event.setAudioBytes(audioFile.getSize());
+            event.setOutcome(outcome);
+            event.commit();
+        }
+    }
+
+    /**
+     * AI 서버 호출 시간 (route: /check/word|syllable|jamo, outcome: success|unexpected_response|error)
+     */
+    private Timer aiTimer(String route, String stage, String outcome) {
+        return Timer.builder(AI_METRIC_NAME)
+                .tag("route", route)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private int sessionCount() {
+        return stageSessions.size();
+    }
+
     public void clearExpiredSessions() {
         stageSessions.entrySet().removeIf(entry ->
                     entry.getValue().getExpiredAt().isBefore(LocalDateTime.now()));
@@ -1,5 +1,6 @@
 package com.readingbuddy.backend.domain.train.service;
 
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
 import com.readingbuddy.backend.common.util.function.HangulChecker;
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
 import com.readingbuddy.backend.domain.bkt.entity.TrainProblemHistoriesKcMap;
@@ -22,9 +23,13 @@ import com.readingbuddy.backend.domain.user.entity.TrainedProblemHistories;
 import com.readingbuddy.backend.domain.user.entity.TrainedStageHistories;
 import com.readingbuddy.backend.domain.user.entity.User;
 import com.readingbuddy.backend.domain.user.repository.UserRepository;
+import com.readingbuddy.backend.domain.user.service.PlaytimeTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.BadRequestException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -46,6 +51,9 @@ public class TrainedStageService {
     private final TrainProblemHistoriesKcMapRepository trainProblemHistoriesKcMapRepository;
     private final KnowledgeComponentRepository knowledgeComponentRepository;
     private final BktService bktService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlaytimeTracker playtimeTracker;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Stage 시작 - 새로운 훈련 세션 생성
@@ -70,6 +78,7 @@ public class TrainedStageService {
 
         // TrainManager에서 stageSessionId 생성 (메모리에 세션도 자동 생성됨)
         String stageSessionId = trainManager.generateQuestionSession(createStage.getId());
+        playtimeTracker.stageStarted(stageSessionId, userId);
 
         return StageStartResponse.builder()
                 .stageSessionId(stageSessionId)
@@ -128,13 +137,15 @@ public class TrainedStageService {
 
         // BKT 업데이트 및 KC 매핑 저장 (isCorrect가 있을 때만)
         if (request.getIsCorrect() != null && kcId != null) {
-            Float correctRate = bktService.getCorrectAnswerRate(userId, kcId);
-            bktService.updateLearnedMastery(userId, kcId, request.getIsCorrect(), correctRate);
-
-            // KC 매핑 저장 (Stage 3, 4 등 KC가 있는 경우)
             KnowledgeComponent knowledgeComponent = knowledgeComponentRepository.findById(kcId)
                     .orElseThrow(() -> new IllegalArgumentException("Knowledge Component를 찾을 수 없습니다: "));
 
+            // 출제 순서 힙과 JFR 이벤트에 쓰는 단계는 이미 읽은 KC에서 넘긴다
+            Long masteryKcId = kcId;
+            bktTimer(request.getStage(), "update")
+                    .record(() -> bktService.updateLearnedMastery(userId, knowledgeComponent.getStage(), masteryKcId, request.getIsCorrect()));
+
+            // KC 매핑 저장 (Stage 3, 4 등 KC가 있는 경우)
             TrainProblemHistoriesKcMap kcMap = new TrainProblemHistoriesKcMap(attempt, knowledgeComponent);
             trainProblemHistoriesKcMapRepository.save(kcMap);
         }
@@ -145,6 +156,9 @@ public class TrainedStageService {
         if (Boolean.TRUE.equals(request.getIsCorrect())) stage.updateCorrectCount();
         else if (Boolean.FALSE.equals(request.getIsCorrect())) stage.updateWrongCount();
 
+        eventPublisher.publishEvent(new LearningRecordChangedEvent(userId));
+        playtimeTracker.stageActivity(stageSessionId, userId);
+
         return AttemptResponse.builder()
                 .attemptId(attemptId)
                 .stageSessionId(stageSessionId)
@@ -181,6 +195,9 @@ public class TrainedStageService {
 
         trainManager.removeStageSession(stageSessionId);
 
+        eventPublisher.publishEvent(new LearningRecordChangedEvent(stage.getUser().getId()));
+        playtimeTracker.stageCompleted(stageSessionId, stage.getUser().getId());
+
         return StageCompleteResponse.builder()
                 .stageSessionId(stageSessionId)
                 .voiceResult(new HashSet<>())
@@ -270,6 +287,16 @@ public class TrainedStageService {
                 .build();
     }
 
+    /**
+     * BKT 숙련도 갱신 시간 (operation: update)
+     */
+    private Timer bktTimer(String stage, String operation) {
+        return Timer.builder("bkt.mastery")
+                .tag("stage", stage)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
     public void stageBlock(String stage) throws BadRequestException {
         if (stage == null || stage.isBlank()) {
             throw new BadRequestException("Stage 값이 비어있습니다.");
@@ -2,8 +2,9 @@ package com.readingbuddy.backend.domain.train.service;
 
 import com.readingbuddy.backend.common.util.function.PhonemeCounter;
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
-import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
 import com.readingbuddy.backend.domain.bkt.service.BktService;
+import com.readingbuddy.backend.domain.bkt.service.KcScheduler;
+import com.readingbuddy.backend.domain.train.dto.result.KcWithCorrectRate;
 import com.readingbuddy.backend.domain.train.dto.result.PhonemeWithKcIdAndCandidate;
 import com.readingbuddy.backend.domain.train.dto.result.ProblemResult;
 import com.readingbuddy.backend.domain.train.dto.result.Stage1_1Problem;
@@ -28,7 +29,7 @@ public class VowelTrainService {
     private final PhonemesRepository phonemesRepository;
     private final WordsRepository wordsRepository;
     private final BktService bktService;
-    private final KnowledgeComponentRepository knowledgeComponentRepository;
+    private final KcScheduler kcScheduler;
     private final Random random = new Random();
 
 
@@ -166,48 +167,40 @@ public class VowelTrainService {
      */
     private List<PhonemeWithKcIdAndCandidate> getBasedUserMasteryPhonemes(Long userId, int count, String stage) {
         List<PhonemeWithKcIdAndCandidate> phonemeWithKcs = new ArrayList<>();
-
-        // 1. 해당 단계에 해당하는 KC 모두 가져오기
-        List<KnowledgeComponent> stageKcs = knowledgeComponentRepository.findByStage(stage);
-
-        // 2. 각 KC에 대한 정답률 계산 (BKT 기반)
-        Map<Long, Float> kcCorrectRateMap = new HashMap<>();
-        for (KnowledgeComponent kc : stageKcs) {
-            try {
-                Float correctRate = bktService.getCorrectAnswerRate(userId, kc.getId());
-                kcCorrectRateMap.put(kc.getId(), correctRate);
-            } catch (Exception e) {
-                kcCorrectRateMap.put(kc.getId(), 0.0f);
-            }
+        // 1. 해당 단계의 KC를 정답률이 낮은 순으로 모두 가져오기 (KC 스케줄러 힙 순서)
+        List<KcWithCorrectRate> rankedKcs = kcScheduler.rankedKcs(userId, stage);
+        if (rankedKcs.isEmpty()) {
+            return phonemeWithKcs;
         }
 
-        // 3. Count 만큼 문제 생성 (중복 방지)
+        // 2. Count 만큼 문제 생성 (중복 방지)
         Set<Long> selectedPhonemeIds = new HashSet<>();
 
         for (int i = 0; i < count; i++) {
-            List<KnowledgeComponent> levelFilteredKcs = null;
+            List<KcWithCorrectRate> levelFilteredKcs;
 
-            // 3-1. 수준별로 고르게 지식단위 문제 편성
+            // 2-1. 수준별로 고르게 지식단위 문제 편성. 수준에 해당하는 지식단위(들)을 뽑아옴
             if (i % 3 == 0) {
-                levelFilteredKcs = filterByLevel("EASY", stageKcs, kcCorrectRateMap);
+                levelFilteredKcs = filterByLevel("EASY", rankedKcs);
             } else if (i % 3 == 1) {
-                levelFilteredKcs = filterByLevel("MEDIUM", stageKcs, kcCorrectRateMap);
+                levelFilteredKcs = filterByLevel("MEDIUM", rankedKcs);
             } else {
-                levelFilteredKcs = filterByLevel("HARD", stageKcs, kcCorrectRateMap);
+                levelFilteredKcs = filterByLevel("HARD", rankedKcs);
             }
 
-            // 3-2. 지식단위(들)가 뽑힌것이 없다면, 랜덤으로 가져오기 위해 해당 단계의 지식단위 다 담기
-            if (levelFilteredKcs == null || levelFilteredKcs.isEmpty()) {
-                levelFilteredKcs = stageKcs;
+            // 2-2. 지식단위(들)가 뽑힌것이 없다면, 랜덤으로 가져오기 위해 해당 단계의 지식단위 다 담기
+            if (levelFilteredKcs.isEmpty()) {
+                levelFilteredKcs = rankedKcs;
             }
 
-            // 3-3. 지식단위들에서 랜덤 선택
-            KnowledgeComponent selectedKc = levelFilteredKcs.get(random.nextInt(levelFilteredKcs.size()));
+            // 2-3. 수준 안에서는 정답률이 낮은 절반 중에서 랜덤 선택 (힙 순서라 앞쪽이 정답률이 낮음)
+            int candidates = (levelFilteredKcs.size() + 1) / 2;
+            KnowledgeComponent selectedKc = levelFilteredKcs.get(random.nextInt(candidates)).getKnowledgeComponent();
 
-            // 3-4. 비트마스킹을 이용해 선택된 지식단위에서 문제 가져오기 (이미 선택된 Phoneme 제외)
-            PhonemeWithKcIdAndCandidate answerVowel = bktService.selectPhonemeUsingBitMask(userId, selectedKc.getId(), selectedPhonemeIds);
+            // 2-4. 비트마스킹을 이용해 선택된 지식단위에서 문제 가져오기 (이미 선택된 Phoneme 제외)
+            PhonemeWithKcIdAndCandidate answerVowel = bktService.selectPhonemeUsingBitMask(userId, stage, selectedKc.getId(), selectedPhonemeIds);
 
-            // 3-5. 선택된 Phoneme ID 추가
+            // 2-5. 선택된 Phoneme ID 추가
             selectedPhonemeIds.add(answerVowel.getPhonemes().getId());
             phonemeWithKcs.add(answerVowel);
         }
@@ -215,9 +208,9 @@ public class VowelTrainService {
     }
 
     /**
-     * 정답률에 따라 KC 필터링
+     * 정답률에 따라 KC 필터링 (입력 순서 유지)
      */
-    private List<KnowledgeComponent> filterByLevel(String level, List<KnowledgeComponent> stageKcs, Map<Long, Float> kcCorrectRateMap) {
+    private List<KcWithCorrectRate> filterByLevel(String level, List<KcWithCorrectRate> rankedKcs) {
         float minRate, maxRate;
 
         switch (level.toUpperCase()) {
@@ -237,11 +230,8 @@ public class VowelTrainService {
                 throw new IllegalArgumentException("잘못된 level 값입니다. (EASY, MEDIUM, HARD 중 하나여야 함)");
         }
 
-        return stageKcs.stream()
-                .filter(kc -> {
-                    float rate = kcCorrectRateMap.getOrDefault(kc.getId(), 0.0f);
-                    return rate >= minRate && rate < maxRate;
-                })
+        return rankedKcs.stream()
+                .filter(kc -> kc.getCorrectRate() >= minRate && kc.getCorrectRate() < maxRate)
                 .toList();
     }
 }
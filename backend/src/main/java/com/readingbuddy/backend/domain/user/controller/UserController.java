@@ -1,7 +1,12 @@
 package com.readingbuddy.backend.domain.user.controller;
 
 import com.readingbuddy.backend.auth.dto.*;
+import com.readingbuddy.backend.auth.password.PasswordHashingRejectedException;
 import com.readingbuddy.backend.auth.service.AuthService;
+import com.readingbuddy.backend.auth.service.DeviceCodeExpiredException;
+import com.readingbuddy.backend.auth.service.DeviceCodeNotFoundException;
+import com.readingbuddy.backend.auth.service.DeviceSessionManager;
+import com.readingbuddy.backend.auth.service.DeviceTokenIssuer;
 import com.readingbuddy.backend.common.util.format.ApiResponse;
 import com.readingbuddy.backend.domain.user.dto.SignUpRequest;
 import com.readingbuddy.backend.domain.user.service.UserService;
@@ -16,6 +21,13 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @Tag(name = "회원 관리", description = "회원 관련 API")
 @Slf4j
@@ -25,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
     private final UserService userService;
     private final AuthService authService;
+    private final DeviceTokenIssuer deviceTokenIssuer;
 
     @Operation(summary = "회원가입", description = "사용자의 정보를 받아 회원으로 등록합니다." +
             "이메일 형식 검증" +
@@ -40,6 +53,10 @@ public class UserController {
             return ResponseEntity
                     .status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error(e.getMessage()));
+        }catch (PasswordHashingRejectedException e){
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error(e.getMessage()));
         }catch (Exception e){
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -60,6 +77,10 @@ public class UserController {
             return ResponseEntity
                     .status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error(e.getMessage()));
+        }catch (PasswordHashingRejectedException e){
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error(e.getMessage()));
         }catch (Exception e){
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -116,21 +137,85 @@ public class UserController {
 
     }
 
-    @Operation(summary = "device polling", description = "device 에서 지정된 주기마다 요청합니다. ")
+    @Operation(summary = "device polling", description = "device 에서 지정된 주기마다 요청합니다. 인증 전에는 토큰 없이 202를 반환합니다. ")
     @PostMapping("/polling")
     public ResponseEntity<ApiResponse<TokenResponse>> authorizeDeviceCode(
             @RequestBody DeviceCodeRequest request,
             HttpServletRequest servletRequest) {
         try{
-            TokenResponse tokenResponse = authService.checkDeviceAuthorized(request,servletRequest);
+            Optional<TokenResponse> tokenResponse = authService.checkDeviceAuthorized(request,servletRequest);
+            if (tokenResponse.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body(ApiResponse.success("인증 대기 중입니다.",null));
+            }
             return ResponseEntity.status(HttpStatus.ACCEPTED)
-                    .body(ApiResponse.success("기기가 인증 되었습니다.",tokenResponse));
+                    .body(ApiResponse.success("기기가 인증 되었습니다.",tokenResponse.get()));
+        }catch (DeviceCodeNotFoundException e){
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }catch (DeviceCodeExpiredException e){
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(ApiResponse.error(e.getMessage()));
         }catch (Exception e){
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
 
+    @Operation(summary = "device long polling", description = "기기 인증이 완료되거나 코드가 만료될 때까지 응답을 보류합니다. ")
+    @PostMapping("/polling/wait")
+    public DeferredResult<ResponseEntity<ApiResponse<TokenResponse>>> waitDeviceAuthorization(
+            @RequestBody DeviceCodeRequest request,
+            HttpServletRequest servletRequest) {
+        // 만료 응답은 awaitAuthorization 의 타임아웃으로 처리하고, 컨테이너 기본 async 타임아웃(30초)에 걸리지 않도록 여유를 둔다
+        DeferredResult<ResponseEntity<ApiResponse<TokenResponse>>> deferredResult =
+                new DeferredResult<>(DeviceSessionManager.SESSION_EXPIRY.plusSeconds(10).toMillis());
+
+        // 요청 객체는 보류 중에 다른 스레드에서 읽지 않도록 값만 미리 꺼내 둔다
+        String ip = authService.getClientIp(servletRequest);
+        String userAgent = servletRequest.getHeader("User-Agent");
+
+        CompletableFuture<TokenResponse> tokens;
+        try {
+            tokens = deviceTokenIssuer.issueWhenAuthorized(request.getDeviceAuthCode(), ip, userAgent);
+        } catch (Exception e) {
+            deferredResult.setResult(deviceAuthorizationError(e));
+            return deferredResult;
+        }
+
+        tokens.whenComplete((tokenResponse, throwable) -> {
+            if (throwable != null) {
+                deferredResult.setResult(deviceAuthorizationError(throwable));
+                return;
+            }
+            deferredResult.setResult(ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("기기가 인증 되었습니다.", tokenResponse)));
+        });
+        deferredResult.onTimeout(() -> deferredResult.setResult(ResponseEntity.status(HttpStatus.REQUEST_TIMEOUT)
+                .body(ApiResponse.error("요청 시간이 만료되었습니다."))));
+        return deferredResult;
+    }
+
+    private ResponseEntity<ApiResponse<TokenResponse>> deviceAuthorizationError(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+
+        if (cause instanceof DeviceCodeNotFoundException) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(cause.getMessage()));
+        }
+        if (cause instanceof DeviceCodeExpiredException) {
+            return ResponseEntity.status(HttpStatus.GONE).body(ApiResponse.error(cause.getMessage()));
+        }
+        if (cause instanceof TimeoutException) {
+            return ResponseEntity.status(HttpStatus.REQUEST_TIMEOUT).body(ApiResponse.error("요청 시간이 만료되었습니다."));
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error(cause.getMessage()));
+    }
+
     @Operation(summary = "출석 체크", description = "자정이 지나면 해당 API를 이용하여 출석체크를 합니다. ")
     @PostMapping("/attend")
     public ResponseEntity<ApiResponse<Void>> checkAttendance(
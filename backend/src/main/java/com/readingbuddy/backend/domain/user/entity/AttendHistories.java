@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "attend_histories")
+@Table(name = "attend_histories",
+       uniqueConstraints = @UniqueConstraint(name = "uk_attend_histories_user_date", columnNames = {"user_id", "attend_date"}))
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,92 @@
+package com.readingbuddy.backend.domain.user.service;
+
+import com.readingbuddy.backend.domain.dashboard.repository.AttendanceHistoriesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 오늘 출석한 사용자 비트맵 (userId -> bit)
+ * 이미 출석한 사용자의 반복 출석 체크는 DB 조회 없이 처리한다.
+ * 서버 시작 시와 날짜가 바뀔 때 attend_histories 에서 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceBitmap {
+
+    private final AttendanceHistoriesRepository attendanceHistoriesRepository;
+
+    private volatile DayBitmap today = new DayBitmap(LocalDate.MIN, new BitSet());
+
+    public boolean isAttended(Long userId, LocalDate date) {
+        if (!isIndexable(userId)) {
+            return false;
+        }
+        DayBitmap bitmap = bitmapOf(date);
+        synchronized (bitmap) {
+            return bitmap.users().get(userId.intValue());
+        }
+    }
+
+    public void markAttended(Long userId, LocalDate date) {
+        if (!isIndexable(userId)) {
+            return;
+        }
+        DayBitmap bitmap = bitmapOf(date);
+        synchronized (bitmap) {
+            bitmap.users().set(userId.intValue());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild(LocalDate.now());
+    }
+
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rebuildOnDayRollover() {
+        rebuild(LocalDate.now());
+    }
+
+    public synchronized void rebuild(LocalDate date) {
+        List<Long> userIds = attendanceHistoriesRepository.findUserIdsByAttendDate(date);
+
+        BitSet users = new BitSet();
+        for (Long userId : userIds) {
+            if (isIndexable(userId)) {
+                users.set(userId.intValue());
+            }
+        }
+        today = new DayBitmap(date, users);
+        log.info("출석 비트맵 재구성 - date: {}, users: {}", date, users.cardinality());
+    }
+
+    private DayBitmap bitmapOf(LocalDate date) {
+        DayBitmap bitmap = today;
+        if (bitmap.date().equals(date)) {
+            return bitmap;
+        }
+        synchronized (this) {
+            if (!today.date().equals(date)) {
+                // 자정 스케줄보다 먼저 다음 날 요청이 들어온 경우
+                rebuild(date);
+            }
+            return today;
+        }
+    }
+
+    private boolean isIndexable(Long userId) {
+        return userId != null && userId >= 0 && userId <= Integer.MAX_VALUE;
+    }
+
+    private record DayBitmap(LocalDate date, BitSet users) {
+    }
+}
@@ -0,0 +1,180 @@
+package com.readingbuddy.backend.domain.user.service;
+
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
+import com.readingbuddy.backend.common.properties.PlaytimeProperties;
+import com.readingbuddy.backend.domain.dashboard.repository.AttendanceHistoriesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학습 시간 집계
+ * 스테이지 시작/문제 풀이/완료 이벤트 사이의 간격을 플레이 시간으로 보고 사용자별/일자별로 메모리에 모은 뒤,
+ * 주기적으로 attend_histories.playtime 에 한 번의 배치로 더한다.
+ * 시간은 그날의 출석 행에만 더하고, 자정을 넘긴 세션처럼 출석 행이 없으면 출석 처리(insertIfAbsent, 비트맵 기록)를 거쳐 행을 만든 뒤 더한다.
+ */
+@Slf4j
+@Component
+public class PlaytimeTracker implements DisposableBean {
+
+    private static final String ADD_PLAYTIME_SQL =
+            "UPDATE attend_histories SET playtime = playtime + ? WHERE user_id = ? AND attend_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AttendanceHistoriesRepository attendanceHistoriesRepository;
+    private final AttendanceBitmap attendanceBitmap;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long idleCapMillis;
+    private final Clock clock;
+
+    // stageSessionId -> 마지막 활동
+    private final Map<String, Activity> lastActivities = new ConcurrentHashMap<>();
+    // (userId, 날짜) -> 아직 DB에 반영하지 않은 플레이 시간(ms)
+    private final Map<PlaytimeKey, Long> pendingMillis = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PlaytimeTracker(JdbcTemplate jdbcTemplate, AttendanceHistoriesRepository attendanceHistoriesRepository,
+                           AttendanceBitmap attendanceBitmap, ApplicationEventPublisher eventPublisher,
+                           PlaytimeProperties playtimeProperties) {
+        this(jdbcTemplate, attendanceHistoriesRepository, attendanceBitmap, eventPublisher, playtimeProperties,
+                Clock.systemDefaultZone());
+    }
+
+    PlaytimeTracker(JdbcTemplate jdbcTemplate, AttendanceHistoriesRepository attendanceHistoriesRepository,
+                    AttendanceBitmap attendanceBitmap, ApplicationEventPublisher eventPublisher,
+                    PlaytimeProperties playtimeProperties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.attendanceHistoriesRepository = attendanceHistoriesRepository;
+        this.attendanceBitmap = attendanceBitmap;
+        this.eventPublisher = eventPublisher;
+        this.idleCapMillis = playtimeProperties.getIdleCapSeconds() * 1000L;
+        this.clock = clock;
+    }
+
+    public void stageStarted(String stageSessionId, Long userId) {
+        lastActivities.put(stageSessionId, new Activity(userId, clock.millis()));
+    }
+
+    public void stageActivity(String stageSessionId, Long userId) {
+        long now = clock.millis();
+        Activity previous = lastActivities.put(stageSessionId, new Activity(userId, now));
+        accumulate(previous, userId, now);
+    }
+
+    public void stageCompleted(String stageSessionId, Long userId) {
+        Activity previous = lastActivities.remove(stageSessionId);
+        accumulate(previous, userId, clock.millis());
+    }
+
+    @Scheduled(fixedDelayString = "${training.playtime.flush-interval-ms:30000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<PlaytimeKey> keys = new ArrayList<>();
+        List<Long> flushedMillis = new ArrayList<>();
+
+        for (PlaytimeKey key : pendingMillis.keySet()) {
+            Long millis = pendingMillis.remove(key);
+            if (millis == null) {
+                continue;
+            }
+            // 초 단위로 저장하고 남은 ms 는 다음 주기로 넘긴다
+            long seconds = millis / 1000;
+            long remainder = millis % 1000;
+            if (remainder > 0) {
+                pendingMillis.merge(key, remainder, Long::sum);
+            }
+            if (seconds == 0) {
+                continue;
+            }
+            batch.add(new Object[]{seconds, key.userId(), Date.valueOf(key.date())});
+            keys.add(key);
+            flushedMillis.add(seconds * 1000);
+        }
+
+        if (batch.isEmpty()) {
+            evictIdleSessions();
+            return;
+        }
+
+        int[] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(ADD_PLAYTIME_SQL, batch);
+        } catch (RuntimeException e) {
+            // 실패한 증가분은 다음 주기에 다시 시도
+            for (int i = 0; i < keys.size(); i++) {
+                pendingMillis.merge(keys.get(i), flushedMillis.get(i), Long::sum);
+            }
+            log.warn("플레이 시간 반영 실패 - {}건, 다음 주기에 재시도", batch.size(), e);
+            return;
+        }
+
+        // 그날 출석 행이 없던 사용자만 출석 처리 후 다시 더한다 (드문 경우라 한 건씩)
+        for (int i = 0; i < updated.length && i < keys.size(); i++) {
+            if (updated[i] == 0) {
+                attendAndAdd(keys.get(i), batch.get(i), flushedMillis.get(i));
+            }
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        keys.forEach(key -> userIds.add(key.userId()));
+        userIds.forEach(userId -> eventPublisher.publishEvent(new LearningRecordChangedEvent(userId)));
+
+        evictIdleSessions();
+    }
+
+    public long pendingSeconds(Long userId, LocalDate date) {
+        return pendingMillis.getOrDefault(new PlaytimeKey(userId, date), 0L) / 1000;
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void attendAndAdd(PlaytimeKey key, Object[] row, long millis) {
+        try {
+            attendanceHistoriesRepository.insertIfAbsent(key.userId(), key.date());
+            attendanceBitmap.markAttended(key.userId(), key.date());
+            jdbcTemplate.update(ADD_PLAYTIME_SQL, row);
+        } catch (RuntimeException e) {
+            pendingMillis.merge(key, millis, Long::sum);
+            log.warn("플레이 시간 반영 실패 - userId: {}, date: {}, 다음 주기에 재시도", key.userId(), key.date(), e);
+        }
+    }
+
+    private void accumulate(Activity previous, Long userId, long now) {
+        if (previous == null || !previous.userId().equals(userId)) {
+            return;
+        }
+        long elapsed = Math.min(Math.max(now - previous.atMillis(), 0L), idleCapMillis);
+        if (elapsed > 0) {
+            pendingMillis.merge(new PlaytimeKey(userId, LocalDate.now(clock)), elapsed, Long::sum);
+        }
+    }
+
+    // 완료 없이 끊긴 세션 정리 (더 이상 플레이 시간이 쌓이지 않는 세션)
+    private void evictIdleSessions() {
+        long threshold = clock.millis() - idleCapMillis;
+        lastActivities.values().removeIf(activity -> activity.atMillis() < threshold);
+    }
+
+    private record Activity(Long userId, long atMillis) {
+    }
+
+    private record PlaytimeKey(Long userId, LocalDate date) {
+    }
+}
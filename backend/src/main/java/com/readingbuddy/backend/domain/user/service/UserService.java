@@ -1,9 +1,9 @@
 package com.readingbuddy.backend.domain.user.service;
 
 import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
-import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
 import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
 import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
+import com.readingbuddy.backend.domain.bkt.service.BktService;
 import com.readingbuddy.backend.domain.user.dto.SignUpRequest;
 import com.readingbuddy.backend.domain.user.entity.User;
 import com.readingbuddy.backend.domain.user.repository.UserRepository;
@@ -25,6 +25,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserKcMasteryRepository userKcMasteryRepository;
     private final KnowledgeComponentRepository knowledgeComponentRepository;
+    private final BktService bktService;
 
     @Transactional
     public void signUp(SignUpRequest request) {
@@ -48,24 +49,8 @@ public class UserService {
         // 모든 KnowledgeComponent 조회
         List<KnowledgeComponent> allKcs = knowledgeComponentRepository.findAll();
 
-        // 각 KC에 대해 초기 UserKcMastery 생성
-        LocalDateTime now = LocalDateTime.now();
-        for (KnowledgeComponent kc : allKcs) {
-            // 단계별 추측 확률 설정
-            float guessProbability = getGuessProbabilityByStage(kc.getStage());
-
-            UserKcMastery userKcMastery = UserKcMastery.builder()
-                    .user(user)
-                    .knowledgeComponent(kc)
-                    .pLearn(0.0f)      // 초기 숙달 확률 (아직 학습하지 않음)
-                    .pTrain(0.1f)      // 학습 확률 (한 번 연습할 때 배울 확률)
-                    .pGuess(guessProbability)      // 추측 확률 (단계별로 다름)
-                    .pSlip(0.1f)      // 실수 확률 (알지만 틀릴 확률)
-                    .createdAt(now)
-                    .updatedAt(now)
-                    .build();
-            userKcMasteryRepository.save(userKcMastery);
-        }
+        // 각 KC에 대해 초기 UserKcMastery 생성 (추정된 BKT 파라미터가 있으면 사용)
+        userKcMasteryRepository.saveAll(bktService.createInitialMasteries(user, allKcs, LocalDateTime.now()));
     }
 
     private void validateEmailIsUnique(String email) {
@@ -80,21 +65,4 @@ public class UserService {
         }
     }
 
-    /**
-     * 단계별 추측 확률(p_g) 반환
-     * @param stage 단계 (예: "1.1.1", "1.1.2", "1.2.1", "1.2.2", "3", "4")
-     * @return 추측 확률
-     */
-    private float getGuessProbabilityByStage(String stage) {
-        return switch (stage) {
-            case "1.1.1" -> 0.5f;   // 모음 기초 (2지선다)
-            case "1.1.2" -> 0.33f;  // 모음 심화 (3지선다)
-            case "1.2.1" -> 0.5f;   // 자음 기초 (2지선다)
-            case "1.2.2" -> 0.33f;  // 자음 심화 (3지선다)
-            case "3" -> 0.2f;       // 3단계 (5지선다)
-            case "4" -> 0.2f;       // 4단계 (5지선다)
-            default -> 0.2f;        // 기본값
-        };
-    }
-
 }
@@ -198,3 +198,13 @@ INSERT INTO phonemes (category, value, unicode, image_url, voice_url) VALUES
 ('vowel', 'ㅢ', 'U+3162', 'https://final-a206.s3.ap-northeast-2.amazonaws.com/vowelMouthVideo/vowel_%E3%85%A2.mp4', NULL),
 ('vowel', 'ㅣ', 'U+3163', 'https://final-a206.s3.ap-northeast-2.amazonaws.com/vowelMouthVideo/vowel_%E3%85%A3.mp4', NULL)
 ON CONFLICT (value) DO NOTHING;
+
+-- refresh_token: 토큰 원문 컬럼을 SHA-256 해시(token_hash)로 대체
+-- 해시가 없는 기존 토큰은 조회할 수 없으므로 삭제하고 원문 컬럼 제거 (재로그인 필요)
+DELETE FROM refresh_token WHERE token_hash IS NULL;
+ALTER TABLE refresh_token DROP COLUMN IF EXISTS token;
+
+-- attend_histories: (user_id, attend_date) 중복 제거 후 유니크 인덱스 생성 (출석 INSERT ... ON CONFLICT DO NOTHING 에 사용)
+DELETE FROM attend_histories a USING attend_histories b
+WHERE a.user_id = b.user_id AND a.attend_date = b.attend_date AND a.id > b.id;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attend_histories_user_date ON attend_histories (user_id, attend_date);
@@ -0,0 +1,150 @@
+package com.readingbuddy.backend.auth.jwt;
+
+import com.readingbuddy.backend.auth.dto.CustomUserDetails;
+import com.readingbuddy.backend.common.properties.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JWTFilter 테스트")
+class JWTFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-filter-must-be-long-enough-256bits";
+
+    private JWTUtil jwtUtil;
+    private JWTPrincipalCache jwtPrincipalCache;
+    private JWTFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setPrincipalCacheMaxEntries(2);
+
+        jwtUtil = spy(new JWTUtil(jwtProperties));
+        jwtPrincipalCache = new JWTPrincipalCache(jwtProperties);
+        jwtFilter = new JWTFilter(jwtUtil, jwtPrincipalCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번만 파싱하여 인증 정보 설정")
+    void doFilter_ValidToken_ParsedOnce() throws Exception {
+        // given
+        String token = jwtUtil.createAccessToken("1", "test@example.com", "tester", 60_000L);
+
+        // when
+        filter(token);
+        SecurityContextHolder.clearContext();
+        filter(token);
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(1L, userDetails.getId());
+        assertEquals("tester", userDetails.getUsername());
+
+        verify(jwtUtil, times(1)).parseClaims(token);
+        assertEquals(1, jwtPrincipalCache.size());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 인증 없이 통과")
+    void doFilter_ExpiredToken() throws Exception {
+        // given
+        String token = jwtUtil.createAccessToken("1", "test@example.com", "tester", -60_000L);
+
+        // when
+        filter(token);
+
+        // then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(0, jwtPrincipalCache.size());
+    }
+
+    @Test
+    @DisplayName("exp가 없는 토큰은 인증하되 캐시하지 않음")
+    void doFilter_TokenWithoutExpiration_NotCached() throws Exception {
+        // given
+        String token = Jwts.builder()
+                .claim("user_id", "1")
+                .claim("user_email", "test@example.com")
+                .claim("user_nickname", "tester")
+                .signWith(hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // when
+        filter(token);
+
+        // then
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(0, jwtPrincipalCache.size());
+    }
+
+    @Test
+    @DisplayName("위조된 토큰은 인증 없이 통과")
+    void doFilter_InvalidSignature() throws Exception {
+        // given
+        String token = jwtUtil.createAccessToken("1", "test@example.com", "tester", 60_000L);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // when
+        filter(tampered);
+
+        // then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 사용하지 않음")
+    void principalCache_HonoursExpiry() {
+        // given
+        CustomUserDetails userDetails = new CustomUserDetails("1", "test@example.com", "tester");
+        jwtPrincipalCache.put("expired-token", userDetails, System.currentTimeMillis() - 1);
+        jwtPrincipalCache.put("valid-token", userDetails, System.currentTimeMillis() + 60_000L);
+
+        // when & then
+        assertNull(jwtPrincipalCache.get("expired-token"));
+        assertSame(userDetails, jwtPrincipalCache.get("valid-token"));
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 항목 제거")
+    void principalCache_Bounded() {
+        // given
+        CustomUserDetails userDetails = new CustomUserDetails("1", "test@example.com", "tester");
+        long expiredAt = System.currentTimeMillis() + 60_000L;
+
+        // when
+        jwtPrincipalCache.put("token-1", userDetails, expiredAt);
+        jwtPrincipalCache.put("token-2", userDetails, expiredAt);
+        jwtPrincipalCache.put("token-3", userDetails, expiredAt);
+
+        // then (어떤 항목을 내보낼지는 Caffeine의 사용 빈도 기반 정책이 정한다)
+        assertEquals(2, jwtPrincipalCache.size());
+    }
+
+    private void filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
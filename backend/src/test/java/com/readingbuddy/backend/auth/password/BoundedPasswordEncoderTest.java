@@ -0,0 +1,275 @@
+package com.readingbuddy.backend.auth.password;
+
+import com.readingbuddy.backend.common.properties.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private static final int CONCURRENT_LOGINS = 200;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 로그인 200건 - 모두 성공하고 동시 해싱 수는 작업 풀 크기를 넘지 않음")
+    void matches_200ConcurrentLogins() throws Exception {
+        // given
+        PasswordHashingProperties properties = properties(4, CONCURRENT_LOGINS);
+        ConcurrencyTrackingEncoder tracking = new ConcurrencyTrackingEncoder(
+                new Argon2PasswordEncoder(16, 32, 1, 1 << 12, 2));
+        encoder = new BoundedPasswordEncoder(tracking, properties, meterRegistry);
+        String encoded = encoder.encode("password123");
+
+        // when
+        List<Boolean> results = runConcurrently(CONCURRENT_LOGINS, () -> encoder.matches("password123", encoded));
+
+        // then
+        assertEquals(CONCURRENT_LOGINS, results.size());
+        assertTrue(results.stream().allMatch(Boolean::booleanValue));
+        assertTrue(tracking.maxConcurrent.get() <= 4, "동시 해싱 수: " + tracking.maxConcurrent.get());
+        assertEquals(0.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        assertEquals(CONCURRENT_LOGINS, meterRegistry.get("password.hashing.duration")
+                .tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 거절하고 거절 횟수를 기록")
+    void matches_RejectedWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BlockingEncoder(release);
+        encoder = new BoundedPasswordEncoder(blocking, properties(1, 1), meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // 작업 스레드 1개와 대기열 1칸을 채운다
+            Future<Boolean> running = callers.submit(() -> encoder.matches("a", "a"));
+            Future<Boolean> queued = callers.submit(() -> encoder.matches("b", "b"));
+            waitUntil(() -> meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() == 1.0);
+
+            // when & then
+            assertThrows(PasswordHashingRejectedException.class, () -> encoder.matches("c", "c"));
+            assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            assertTrue(queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열에서 한도보다 오래 기다린 작업은 해싱하지 않고 거절")
+    void matches_RejectedAfterLongQueueWait() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountingEncoder counting = new CountingEncoder(new BlockingEncoder(release));
+        PasswordHashingProperties properties = properties(1, 10);
+        properties.setMaxQueueWaitMs(100L);
+        encoder = new BoundedPasswordEncoder(counting, properties, meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> running = callers.submit(() -> encoder.matches("a", "a"));
+            waitUntil(() -> counting.calls.get() == 1);
+            Future<Boolean> queued = callers.submit(() -> encoder.matches("b", "b"));
+            waitUntil(() -> meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() == 1.0);
+
+            // when (대기 한도를 넘긴 뒤 작업 스레드를 풀어 준다)
+            Thread.sleep(200);
+            release.countDown();
+
+            // then
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(PasswordHashingRejectedException.class, exception.getCause());
+            assertEquals(1, counting.calls.get());
+            assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간이 한도를 넘으면 대기열에 넣지 않고 바로 거절")
+    void matches_RejectedWhenExpectedWaitTooLong() throws Exception {
+        // given (해싱 1회 약 300ms, 작업 스레드 1개, 대기 한도 450ms)
+        CountingEncoder counting = new CountingEncoder(new SleepingEncoder(300));
+        PasswordHashingProperties properties = properties(1, 10);
+        properties.setMaxQueueWaitMs(450L);
+        encoder = new BoundedPasswordEncoder(counting, properties, meterRegistry);
+        encoder.matches("warm-up", "warm-up");
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> running = callers.submit(() -> encoder.matches("a", "a"));
+            waitUntil(() -> counting.calls.get() == 2);
+            Future<Boolean> queued = callers.submit(() -> encoder.matches("b", "b"));
+            waitUntil(() -> meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() == 1.0);
+
+            // when & then (앞선 작업 2개 = 예상 약 600ms)
+            assertThrows(PasswordHashingRejectedException.class, () -> encoder.matches("c", "c"));
+            assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            assertTrue(queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private PasswordHashingProperties properties(int threads, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMaxQueueWaitMs(60_000L);
+        properties.setTimeoutMs(60_000L);
+        return properties;
+    }
+
+    private <T> List<T> runConcurrently(int count, Callable<T> task) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(count);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private void waitUntil(Callable<Boolean> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.call()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건이 시간 내에 충족되지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class ConcurrencyTrackingEncoder implements PasswordEncoder {
+        private final PasswordEncoder delegate;
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        ConcurrencyTrackingEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            maxConcurrent.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                return delegate.matches(rawPassword, encodedPassword);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+    }
+
+    private static class CountingEncoder implements PasswordEncoder {
+        private final PasswordEncoder delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            calls.incrementAndGet();
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+
+    private static class SleepingEncoder implements PasswordEncoder {
+        private final long sleepMs;
+
+        SleepingEncoder(long sleepMs) {
+            this.sleepMs = sleepMs;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+
+    private static class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.readingbuddy.backend.auth.repository.RefreshTokenRepository;
 import com.readingbuddy.backend.auth.dto.*;
 import com.readingbuddy.backend.auth.jwt.JWTUtil;
 import com.readingbuddy.backend.common.properties.JwtProperties;
+import com.readingbuddy.backend.domain.dashboard.repository.AttendanceHistoriesRepository;
 import com.readingbuddy.backend.domain.user.entity.User;
 import com.readingbuddy.backend.domain.user.repository.UserRepository;
+import com.readingbuddy.backend.domain.user.service.AttendanceBitmap;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,9 +16,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -49,6 +53,15 @@ class AuthServiceDeviceLoginTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AttendanceHistoriesRepository attendanceHistoriesRepository;
+
+    @Mock
+    private AttendanceBitmap attendanceBitmap;
+
     @InjectMocks
     private AuthService authService;
 
@@ -137,7 +150,7 @@ class AuthServiceDeviceLoginTest {
         testDeviceSession.setAuthorized(true);
         testDeviceSession.setUserId(testUser.getId());
 
-        when(deviceSessionManager.checkAuthorizedDevice(testDeviceCode)).thenReturn(testUser.getId());
+        when(deviceSessionManager.checkAuthorizedDevice(testDeviceCode)).thenReturn(Optional.of(testUser.getId()));
         when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(jwtUtil.createAccessToken(anyString(), anyString(), anyString(), anyLong()))
                 .thenReturn("access-token");
@@ -159,7 +172,7 @@ class AuthServiceDeviceLoginTest {
                 .thenReturn(Optional.empty());
 
         // when
-        TokenResponse tokenResponse = authService.checkDeviceAuthorized(request, httpServletRequest);
+        TokenResponse tokenResponse = authService.checkDeviceAuthorized(request, httpServletRequest).orElseThrow();
 
         // then
         assertNotNull(tokenResponse);
@@ -187,7 +200,7 @@ class AuthServiceDeviceLoginTest {
         DeviceCodeRequest request = new DeviceCodeRequest();
         ReflectionTestUtils.setField(request, "deviceAuthCode", testDeviceCode);
 
-        when(deviceSessionManager.checkAuthorizedDevice(testDeviceCode)).thenReturn(999L);
+        when(deviceSessionManager.checkAuthorizedDevice(testDeviceCode)).thenReturn(Optional.of(999L));
         when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
         // when & then
@@ -201,6 +214,23 @@ class AuthServiceDeviceLoginTest {
         verify(jwtUtil, never()).createRefreshToken(anyString(), anyLong());
     }
 
+    @Test
+    @DisplayName("아직 인증되지 않은 디바이스는 토큰 없이 빈 값 반환")
+    void checkDeviceAuthorized_Pending_ReturnsEmpty() {
+        // given
+        DeviceCodeRequest request = new DeviceCodeRequest();
+        ReflectionTestUtils.setField(request, "deviceAuthCode", testDeviceCode);
+        when(deviceSessionManager.checkAuthorizedDevice(testDeviceCode)).thenReturn(Optional.empty());
+
+        // when
+        Optional<TokenResponse> tokenResponse = authService.checkDeviceAuthorized(request, httpServletRequest);
+
+        // then
+        assertTrue(tokenResponse.isEmpty());
+        verify(userRepository, never()).findById(anyLong());
+        verify(jwtUtil, never()).createAccessToken(anyString(), anyString(), anyString(), anyLong());
+    }
+
     @Test
     @DisplayName("디바이스 로그인 전체 플로우 테스트")
     void deviceLoginFlow_Success() {
@@ -222,7 +252,7 @@ class AuthServiceDeviceLoginTest {
         testDeviceSession.setAuthorized(true);
         testDeviceSession.setUserId(testUser.getId());
 
-        when(deviceSessionManager.checkAuthorizedDevice(testDeviceCode)).thenReturn(testUser.getId());
+        when(deviceSessionManager.checkAuthorizedDevice(testDeviceCode)).thenReturn(Optional.of(testUser.getId()));
         when(jwtUtil.createAccessToken(anyString(), anyString(), anyString(), anyLong()))
                 .thenReturn("access-token");
         when(jwtUtil.createRefreshToken(anyString(), anyLong()))
@@ -242,10 +272,55 @@ class AuthServiceDeviceLoginTest {
         when(refreshTokenRepository.findByUserAndIssuedIpAndIssuedUserAgent(any(), anyString(), anyString()))
                 .thenReturn(Optional.empty());
 
-        TokenResponse tokenResponse = authService.checkDeviceAuthorized(authRequest, httpServletRequest);
+        TokenResponse tokenResponse = authService.checkDeviceAuthorized(authRequest, httpServletRequest).orElseThrow();
 
         assertNotNull(tokenResponse);
         assertEquals("access-token", tokenResponse.getAccessToken());
         assertEquals("refresh-token", tokenResponse.getRefreshToken());
     }
+
+    @Test
+    @DisplayName("오늘 이미 출석한 사용자는 회원 조회와 출석 INSERT를 하지 않음")
+    void checkAttendance_AlreadyAttended_SkipsInsert() {
+        // given
+        when(attendanceBitmap.isAttended(eq(testUser.getId()), any(LocalDate.class))).thenReturn(true);
+
+        // when
+        authService.checkAttendance(testUser.getId());
+
+        // then
+        verifyNoInteractions(userRepository);
+        verify(attendanceHistoriesRepository, never()).insertIfAbsent(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("첫 출석 시 INSERT 후 비트맵에 기록하고 이벤트 발행")
+    void checkAttendance_FirstAttendance_InsertsAndMarks() {
+        // given
+        when(attendanceBitmap.isAttended(eq(testUser.getId()), any(LocalDate.class))).thenReturn(false);
+        when(attendanceHistoriesRepository.insertIfAbsent(eq(testUser.getId()), any(LocalDate.class))).thenReturn(1);
+
+        // when
+        authService.checkAttendance(testUser.getId());
+
+        // then
+        verify(attendanceBitmap, times(1)).markAttended(eq(testUser.getId()), any(LocalDate.class));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 출석을 기록했다면 이벤트를 발행하지 않음")
+    void checkAttendance_ConcurrentInsert_NoEvent() {
+        // given
+        when(attendanceBitmap.isAttended(eq(testUser.getId()), any(LocalDate.class))).thenReturn(false);
+        when(attendanceHistoriesRepository.insertIfAbsent(eq(testUser.getId()), any(LocalDate.class))).thenReturn(0);
+
+        // when
+        authService.checkAttendance(testUser.getId());
+
+        // then
+        verify(attendanceBitmap, times(1)).markAttended(eq(testUser.getId()), any(LocalDate.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 }
@@ -0,0 +1,73 @@
+package com.readingbuddy.backend.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DeviceCodeAllocator 테스트")
+class DeviceCodeAllocatorTest {
+
+    private static final String CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+
+    @Test
+    @DisplayName("코드 공간 전체를 한 바퀴 도는 동안 코드가 중복되지 않음")
+    void next_CoversWholeSpaceWithoutCollision() {
+        // given
+        DeviceCodeAllocator allocator = new DeviceCodeAllocator(CHARS, 3);
+        int capacity = (int) allocator.capacity();
+
+        // when
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < capacity; i++) {
+            codes.add(allocator.next());
+        }
+
+        // then
+        assertEquals(32 * 32 * 32, capacity);
+        assertEquals(capacity, codes.size());
+        assertTrue(codes.stream().allMatch(code -> code.matches("[" + CHARS + "]{3}")));
+    }
+
+    @Test
+    @DisplayName("한 바퀴를 돈 뒤에는 같은 순서로 코드가 재사용됨")
+    void next_RecyclesAfterFullCycle() {
+        // given
+        DeviceCodeAllocator allocator = new DeviceCodeAllocator(CHARS, 2);
+        int capacity = (int) allocator.capacity();
+
+        // when
+        List<String> firstCycle = new ArrayList<>();
+        List<String> secondCycle = new ArrayList<>();
+        for (int i = 0; i < capacity; i++) {
+            firstCycle.add(allocator.next());
+        }
+        for (int i = 0; i < capacity; i++) {
+            secondCycle.add(allocator.next());
+        }
+
+        // then
+        assertEquals(firstCycle, secondCycle);
+    }
+
+    @Test
+    @DisplayName("알파벳 크기가 2의 거듭제곱이 아니어도 코드 공간 안에서만 할당됨")
+    void next_NonPowerOfTwoAlphabet() {
+        // given
+        DeviceCodeAllocator allocator = new DeviceCodeAllocator("0123456789", 3);
+
+        // when
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            codes.add(allocator.next());
+        }
+
+        // then
+        assertEquals(1_000, codes.size());
+    }
+}
@@ -5,7 +5,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -13,10 +30,12 @@ import static org.junit.jupiter.api.Assertions.*;
 class DeviceSessionManagerTest {
 
     private DeviceSessionManager deviceSessionManager;
+    private MutableClock clock;
 
     @BeforeEach
     void setUp() {
-        deviceSessionManager = new DeviceSessionManager();
+        clock = new MutableClock();
+        deviceSessionManager = new DeviceSessionManager(clock);
     }
 
     @Test
@@ -27,10 +46,10 @@ class DeviceSessionManagerTest {
 
         // then
         assertNotNull(deviceCode);
-        assertEquals(10, deviceCode.length());
+        assertEquals(6, deviceCode.length());
 
         // 생성된 코드가 유효한 문자만 포함하는지 확인
-        assertTrue(deviceCode.matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{10}"));
+        assertTrue(deviceCode.matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{6}"));
     }
 
     @Test
@@ -74,24 +93,36 @@ class DeviceSessionManagerTest {
         deviceSessionManager.authorizeDevice(session, userId);
 
         // when
-        Long resultUserId = deviceSessionManager.checkAuthorizedDevice(deviceCode);
+        Optional<Long> resultUserId = deviceSessionManager.checkAuthorizedDevice(deviceCode);
 
         // then
-        assertEquals(userId, resultUserId);
+        assertEquals(Optional.of(userId), resultUserId);
     }
 
     @Test
-    @DisplayName("인증되지 않은 디바이스 확인 시 예외 발생")
-    void checkAuthorizedDevice_NotAuthorized_ThrowsException() {
+    @DisplayName("인증되지 않은 디바이스 확인 시 예외 없이 빈 값을 반환하고 세션은 유지됨")
+    void checkAuthorizedDevice_NotAuthorized_ReturnsEmpty() {
         // given
         String deviceCode = deviceSessionManager.generateDeviceCodeSession();
 
-        // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            deviceSessionManager.checkAuthorizedDevice(deviceCode);
-        });
+        // when
+        Optional<Long> resultUserId = deviceSessionManager.checkAuthorizedDevice(deviceCode);
 
-        assertEquals("인증 처리되지 않았습니다.", exception.getMessage());
+        // then
+        assertTrue(resultUserId.isEmpty());
+        assertNotNull(deviceSessionManager.getSession(deviceCode));
+    }
+
+    @Test
+    @DisplayName("만료된 코드는 인증 전이어도 DeviceCodeExpiredException 발생")
+    void checkAuthorizedDevice_ExpiredBeforeAuthorization_ThrowsExpired() {
+        // given
+        String deviceCode = deviceSessionManager.generateDeviceCodeSession();
+        clock.advance(DeviceSessionManager.SESSION_EXPIRY.plusSeconds(1));
+
+        // when & then
+        assertThrows(DeviceCodeExpiredException.class, () -> deviceSessionManager.checkAuthorizedDevice(deviceCode));
+        assertThrows(DeviceCodeNotFoundException.class, () -> deviceSessionManager.checkAuthorizedDevice(deviceCode));
     }
 
     @Test
@@ -132,8 +163,8 @@ class DeviceSessionManagerTest {
         DeviceSessionInfo session = deviceSessionManager.getSession(deviceCode);
         assertNotNull(session);
 
-        // 만료 시간을 과거로 설정
-        session.setExpiredAt(LocalDateTime.now().minusMinutes(1));
+        // 만료 시간 이후로 시계 이동
+        clock.advance(DeviceSessionManager.SESSION_EXPIRY.plusMinutes(1));
 
         // when
         deviceSessionManager.clearExpiredSessions();
@@ -199,4 +230,192 @@ class DeviceSessionManagerTest {
         assertTrue(session.getExpiredAt().isAfter(beforeGeneration));
         assertTrue(session.getExpiredAt().isBefore(afterGeneration.plusSeconds(5))); // 약간의 여유 시간
     }
+
+    @Test
+    @DisplayName("인증 대기 중인 디바이스는 인증 즉시 userId로 완료됨")
+    void awaitAuthorization_CompletesOnAuthorize() throws Exception {
+        // given
+        String deviceCode = deviceSessionManager.generateDeviceCodeSession();
+        CompletableFuture<Long> authorization = deviceSessionManager.awaitAuthorization(deviceCode);
+        assertFalse(authorization.isDone());
+
+        // when
+        deviceSessionManager.authorizeDevice(deviceSessionManager.getSession(deviceCode), 7L);
+
+        // then
+        assertEquals(7L, authorization.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("이미 인증된 디바이스는 대기 없이 완료됨")
+    void awaitAuthorization_AlreadyAuthorized() {
+        // given
+        String deviceCode = deviceSessionManager.generateDeviceCodeSession();
+        deviceSessionManager.authorizeDevice(deviceSessionManager.getSession(deviceCode), 3L);
+
+        // when
+        CompletableFuture<Long> authorization = deviceSessionManager.awaitAuthorization(deviceCode);
+
+        // then
+        assertTrue(authorization.isDone());
+        assertEquals(3L, authorization.join());
+    }
+
+    @Test
+    @DisplayName("만료 시각까지 인증되지 않으면 TimeoutException으로 완료됨")
+    void awaitAuthorization_TimesOutAtExpiry() {
+        // given
+        String deviceCode = deviceSessionManager.generateDeviceCodeSession();
+        clock.advance(DeviceSessionManager.SESSION_EXPIRY.minusMillis(200));
+
+        // when
+        CompletableFuture<Long> authorization = deviceSessionManager.awaitAuthorization(deviceCode);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> authorization.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("1,000개 디바이스가 동시에 대기해도 각자 자신의 userId로 완료됨")
+    void awaitAuthorization_ThousandConcurrentWaiters() throws Exception {
+        // given
+        int deviceCount = 1_000;
+        List<String> deviceCodes = new ArrayList<>();
+        for (int i = 0; i < deviceCount; i++) {
+            deviceCodes.add(deviceSessionManager.generateDeviceCodeSession());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<CompletableFuture<Long>> authorizations = new ArrayList<>();
+            CountDownLatch waiting = new CountDownLatch(deviceCount);
+            for (String deviceCode : deviceCodes) {
+                authorizations.add(CompletableFuture.supplyAsync(() -> {
+                    CompletableFuture<Long> authorization = deviceSessionManager.awaitAuthorization(deviceCode);
+                    waiting.countDown();
+                    return authorization;
+                }, executor).thenCompose(authorization -> authorization));
+            }
+            assertTrue(waiting.await(5, TimeUnit.SECONDS));
+
+            // when
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Void>> authorizes = new ArrayList<>();
+            for (int i = 0; i < deviceCount; i++) {
+                String deviceCode = deviceCodes.get(i);
+                long userId = i + 1;
+                authorizes.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    deviceSessionManager.authorizeDevice(deviceSessionManager.getSession(deviceCode), userId);
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(authorizes.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+            // then
+            CompletableFuture.allOf(authorizations.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < deviceCount; i++) {
+                assertEquals(i + 1L, authorizations.get(i).join());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 조회 시점에 제거됨")
+    void getSession_ExpiredOnAccess_RemovesSession() {
+        // given
+        String deviceCode = deviceSessionManager.generateDeviceCodeSession();
+        clock.advance(DeviceSessionManager.SESSION_EXPIRY.plusSeconds(1));
+
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> deviceSessionManager.getSession(deviceCode));
+
+        // then
+        assertEquals("시간이 만료되었습니다.", exception.getMessage());
+        assertEquals(0, deviceSessionManager.size());
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 세션은 정리 대상에서 제외됨")
+    void clearExpiredSessions_KeepsLiveSessions() {
+        // given
+        String expiredCode = deviceSessionManager.generateDeviceCodeSession();
+        clock.advance(Duration.ofMinutes(2));
+        String liveCode = deviceSessionManager.generateDeviceCodeSession();
+        clock.advance(Duration.ofMinutes(2));
+
+        // when
+        int cleared = deviceSessionManager.clearExpiredSessions();
+
+        // then
+        assertEquals(1, cleared);
+        assertThrows(RuntimeException.class, () -> deviceSessionManager.getSession(expiredCode));
+        assertEquals(liveCode, deviceSessionManager.getSession(liveCode).getDeviceCode());
+    }
+
+    @Test
+    @DisplayName("100,000개 디바이스 코드 생성 후 만료된 절반만 정리됨")
+    void clearExpiredSessions_HundredThousandCodes() {
+        // given
+        int half = 50_000;
+        Set<String> firstHalf = IntStream.range(0, half).parallel()
+                .mapToObj(i -> deviceSessionManager.generateDeviceCodeSession())
+                .collect(Collectors.toSet());
+        clock.advance(Duration.ofMinutes(2));
+        Set<String> secondHalf = IntStream.range(0, half).parallel()
+                .mapToObj(i -> deviceSessionManager.generateDeviceCodeSession())
+                .collect(Collectors.toSet());
+
+        assertEquals(half, firstHalf.size());
+        assertEquals(half, secondHalf.size());
+        assertEquals(half * 2, deviceSessionManager.size());
+
+        // when
+        clock.advance(Duration.ofMinutes(2));
+        long startedAt = System.nanoTime();
+        int cleared = deviceSessionManager.clearExpiredSessions();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertEquals(half, cleared);
+        assertEquals(half, deviceSessionManager.size());
+        assertEquals(0, deviceSessionManager.clearExpiredSessions());
+        assertTrue(elapsedMs < 2_000, "정리 소요 시간: " + elapsedMs + "ms");
+        for (String deviceCode : secondHalf) {
+            assertFalse(deviceSessionManager.getSession(deviceCode).isAuthorized());
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
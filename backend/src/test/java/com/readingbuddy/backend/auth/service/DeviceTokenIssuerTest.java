@@ -0,0 +1,84 @@
+package com.readingbuddy.backend.auth.service;
+
+import com.readingbuddy.backend.auth.dto.TokenResponse;
+import com.readingbuddy.backend.common.properties.DeviceAuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DeviceTokenIssuer 테스트")
+class DeviceTokenIssuerTest {
+
+    private DeviceSessionManager deviceSessionManager;
+    private AuthService authService;
+    private DeviceTokenIssuer deviceTokenIssuer;
+
+    @BeforeEach
+    void setUp() {
+        deviceSessionManager = new DeviceSessionManager();
+        authService = mock(AuthService.class);
+        deviceTokenIssuer = new DeviceTokenIssuer(authService, deviceSessionManager,
+                new DeviceAuthProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deviceTokenIssuer.destroy();
+    }
+
+    @Test
+    @DisplayName("인증이 완료되면 인증한 요청 스레드가 아닌 전용 스레드에서 미리 읽은 IP와 User-Agent로 토큰 발급")
+    void issueWhenAuthorized_IssuesOnDedicatedThread() throws Exception {
+        // given
+        String deviceCode = deviceSessionManager.generateDeviceCodeSession();
+        TokenResponse tokenResponse = TokenResponse.builder().accessToken("access").refreshToken("refresh").build();
+        AtomicReference<String> issuingThread = new AtomicReference<>();
+        when(authService.issueDeviceTokens(deviceCode, "10.0.0.1", "tv-app")).thenAnswer(invocation -> {
+            issuingThread.set(Thread.currentThread().getName());
+            return Optional.of(tokenResponse);
+        });
+        CompletableFuture<TokenResponse> tokens = deviceTokenIssuer.issueWhenAuthorized(deviceCode, "10.0.0.1", "tv-app");
+
+        // when
+        deviceSessionManager.authorizeDevice(deviceSessionManager.getSession(deviceCode), 1L);
+
+        // then
+        assertSame(tokenResponse, tokens.get(1, TimeUnit.SECONDS));
+        assertTrue(issuingThread.get().startsWith("device-token-"));
+        assertNotEquals(Thread.currentThread().getName(), issuingThread.get());
+    }
+
+    @Test
+    @DisplayName("인증되기 전에는 토큰을 발급하지 않음")
+    void issueWhenAuthorized_WaitsForAuthorization() {
+        // given
+        String deviceCode = deviceSessionManager.generateDeviceCodeSession();
+
+        // when
+        CompletableFuture<TokenResponse> tokens = deviceTokenIssuer.issueWhenAuthorized(deviceCode, "10.0.0.1", "tv-app");
+
+        // then
+        assertFalse(tokens.isDone());
+        verify(authService, never()).issueDeviceTokens(eq(deviceCode), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 코드는 대기 없이 DeviceCodeNotFoundException 발생")
+    void issueWhenAuthorized_UnknownCode_ThrowsNotFound() {
+        // when & then
+        assertThrows(DeviceCodeNotFoundException.class,
+                () -> deviceTokenIssuer.issueWhenAuthorized("UNKNOWN", "10.0.0.1", "tv-app"));
+    }
+}
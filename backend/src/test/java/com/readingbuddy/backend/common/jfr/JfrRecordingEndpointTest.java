@@ -0,0 +1,107 @@
+package com.readingbuddy.backend.common.jfr;
+
+import com.readingbuddy.backend.common.properties.JfrRecordingProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JfrRecordingEndpoint 테스트")
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private final JfrRecordingProperties properties = new JfrRecordingProperties();
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        properties.setSettings("default");
+        properties.setDumpDirectory(dumpDirectory.toString());
+        properties.setMaxDurationSeconds(120L);
+        endpoint = new JfrRecordingEndpoint(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.destroy();
+    }
+
+    @Test
+    @DisplayName("녹화 중 기록한 애플리케이션 이벤트가 덤프 파일에 남는다")
+    void startAndStop_DumpsApplicationEvents() throws Exception {
+        // given
+        endpoint.start(null);
+        ProblemGenerationEvent event = new ProblemGenerationEvent();
+        event.begin();
+        event.setUserId(7L);
+        event.setStage("3");
+        event.setProblemCount(5);
+        event.commit();
+
+        // when
+        Resource dump = endpoint.stop();
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.getFile().toPath()).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.readingbuddy.ProblemGeneration"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals(7L, events.get(0).getLong("userId"));
+        assertEquals(5, events.get(0).getInt("problemCount"));
+        assertEquals("NONE", endpoint.status().state());
+        assertEquals(dump.getFilename(), endpoint.status().lastDump());
+    }
+
+    @Test
+    @DisplayName("녹화 시간은 상한으로 자르고, 녹화 중에 다시 시작하면 기존 녹화를 유지")
+    void start_CapsDurationAndKeepsRunningRecording() throws Exception {
+        // when
+        JfrRecordingEndpoint.RecordingStatus first = endpoint.start(3600L);
+        JfrRecordingEndpoint.RecordingStatus second = endpoint.start(10L);
+
+        // then
+        assertEquals("RUNNING", first.state());
+        assertEquals(120L, first.durationSeconds());
+        assertEquals(first.startTime(), second.startTime());
+        assertEquals(120L, second.durationSeconds());
+    }
+
+    @Test
+    @DisplayName("녹화가 없으면 덤프하지 않는다")
+    void stop_WithoutRecording() throws Exception {
+        // when & then
+        assertNull(endpoint.stop());
+        assertEquals("NONE", endpoint.status().state());
+    }
+
+    @Test
+    @DisplayName("덤프 파일은 max-dumps개만 남긴다")
+    void stop_PrunesOldDumps() throws Exception {
+        // given
+        properties.setMaxDumps(2);
+        Files.createFile(dumpDirectory.resolve("readingbuddy-20250101-000000.jfr"));
+        Files.createFile(dumpDirectory.resolve("readingbuddy-20250102-000000.jfr"));
+        endpoint.start(null);
+
+        // when
+        Resource dump = endpoint.stop();
+
+        // then
+        try (var files = Files.list(dumpDirectory)) {
+            List<String> names = files.map(path -> path.getFileName().toString()).sorted().toList();
+            assertEquals(List.of("readingbuddy-20250102-000000.jfr", dump.getFilename()), names);
+        }
+    }
+}
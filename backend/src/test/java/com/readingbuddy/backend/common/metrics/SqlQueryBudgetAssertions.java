@@ -0,0 +1,30 @@
+package com.readingbuddy.backend.common.metrics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 테스트에서 호출 하나의 SQL 개수 상한 검사
+ * SqlStatementCounter가 Hibernate에 등록된 컨텍스트(@DataJpaTest에서 @Import 등)에서 사용
+ */
+public final class SqlQueryBudgetAssertions {
+
+    private SqlQueryBudgetAssertions() {
+    }
+
+    public static <T> T assertQueryBudget(int limit, Supplier<T> action) {
+        SqlStatementCounter.begin();
+        T result;
+        SqlStatementStats stats;
+        try {
+            result = action.get();
+        } finally {
+            stats = SqlStatementCounter.end();
+        }
+        SqlStatementStats executed = stats;
+        assertTrue(executed.count() <= limit,
+                () -> "SQL " + executed.count() + "개 실행 (상한 " + limit + ")" + executed.describe(10));
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+package com.readingbuddy.backend.common.metrics;
+
+import com.readingbuddy.backend.common.properties.SqlBudgetProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SqlQueryBudget 테스트")
+class SqlQueryBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlBudgetProperties properties = new SqlBudgetProperties();
+    private final SqlQueryBudget budget = new SqlQueryBudget(properties, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        properties.setDefaultLimit(3);
+        properties.setRepeatedThreshold(3);
+        properties.setEndpoints(Map.of("/api/dashboard/stage/info", 1));
+    }
+
+    @Test
+    @DisplayName("IN 목록 길이와 공백만 다른 쿼리는 같은 형태로 묶는다")
+    void shapeOf_FoldsParameterListsAndWhitespace() {
+        // when
+        SqlStatementStats stats = SqlStatementStats.of(3, Map.of(
+                "select * from t where id in (?, ?)", 1,
+                "select *\n  from t where id in (?,?,?)", 1,
+                "select * from u where id=?", 1));
+
+        // then
+        assertEquals(2, stats.shapes().size());
+        assertEquals(2, stats.shapes().get("select * from t where id in (?)"));
+    }
+
+    @Test
+    @DisplayName("상한 이내면 기록하지 않는다")
+    void check_WithinBudget() {
+        // when
+        budget.check("GET", "/api/train/set", stats(3, "select 1", 1, "select 2", 2));
+
+        // then
+        assertNull(meterRegistry.find("http.server.sql.budget.exceeded").counter());
+        assertNull(meterRegistry.find("http.server.sql.repeated").counter());
+    }
+
+    @Test
+    @DisplayName("경로별 상한을 넘으면 카운터를 올리고, 반복된 형태는 N+1 의심으로 기록")
+    void check_ExceededRecordsMetrics() {
+        // when
+        budget.check("GET", "/api/dashboard/stage/info", stats(4, "select h", 1, "select p where h=?", 3));
+
+        // then
+        assertEquals(1.0, meterRegistry.get("http.server.sql.budget.exceeded")
+                .tags("method", "GET", "uri", "/api/dashboard/stage/info").counter().count());
+        assertEquals(1.0, meterRegistry.get("http.server.sql.repeated")
+                .tags("method", "GET", "uri", "/api/dashboard/stage/info").counter().count());
+    }
+
+    @Test
+    @DisplayName("fail-on-breach가 켜져 있으면 쿼리 형태를 담아 예외를 던진다")
+    void check_FailOnBreach() {
+        // given
+        properties.setFailOnBreach(true);
+
+        // when
+        SqlBudgetExceededException exception = assertThrows(SqlBudgetExceededException.class,
+                () -> budget.check("GET", "/api/train/set", stats(4, "select p where h=?", 4)));
+
+        // then
+        assertTrue(exception.getMessage().contains("4x select p where h=?"));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 검사하지 않는다")
+    void check_Disabled() {
+        // given
+        properties.setEnabled(false);
+        properties.setFailOnBreach(true);
+
+        // when & then
+        assertDoesNotThrow(() -> budget.check("GET", "/api/train/set", stats(100, "select 1", 100)));
+    }
+
+    private SqlStatementStats stats(int count, Object... sqlAndTimes) {
+        Map<String, Integer> bySql = new HashMap<>();
+        for (int i = 0; i < sqlAndTimes.length; i += 2) {
+            bySql.put((String) sqlAndTimes[i], (Integer) sqlAndTimes[i + 1]);
+        }
+        return SqlStatementStats.of(count, bySql);
+    }
+}
@@ -0,0 +1,76 @@
+package com.readingbuddy.backend.common.metrics;
+
+import com.readingbuddy.backend.common.properties.SqlBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SqlQueryMetricsFilter 테스트")
+class SqlQueryMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final SqlQueryMetricsFilter filter =
+            new SqlQueryMetricsFilter(meterRegistry, new SqlQueryBudget(new SqlBudgetProperties(), meterRegistry));
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 개수를 경로 패턴 태그로 기록")
+    void doFilter_RecordsStatementCountPerRoute() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard/stage/1");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                counter.inspect("select 1");
+                counter.inspect("select 2");
+                counter.inspect("select 3");
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/dashboard/stage/{id}");
+            }
+        });
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        DistributionSummary summary = meterRegistry.get("http.server.sql.queries")
+                .tags("method", "GET", "uri", "/api/dashboard/stage/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+        assertEquals(0, SqlStatementCounter.current());
+    }
+
+    @Test
+    @DisplayName("요청 밖(begin 전)에서 실행된 SQL은 세지 않는다")
+    void inspect_IgnoresStatementsOutsideRequest() {
+        // when
+        String sql = counter.inspect("select 1");
+
+        // then
+        assertEquals("select 1", sql);
+        assertEquals(0, SqlStatementCounter.current());
+    }
+
+    @Test
+    @DisplayName("actuator 요청은 기록하지 않는다")
+    void doFilter_SkipsActuator() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertNull(meterRegistry.find("http.server.sql.queries").summary());
+    }
+}
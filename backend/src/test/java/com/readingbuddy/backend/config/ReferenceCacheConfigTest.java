@@ -0,0 +1,198 @@
+package com.readingbuddy.backend.config;
+
+import com.readingbuddy.backend.common.metrics.SqlStatementCounter;
+import com.readingbuddy.backend.common.properties.ReferenceCacheProperties;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.entity.LettersKcMap;
+import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import com.readingbuddy.backend.domain.bkt.repository.LettersKcMapRepository;
+import com.readingbuddy.backend.domain.bkt.service.BktService;
+import com.readingbuddy.backend.domain.bkt.service.KcScheduler;
+import com.readingbuddy.backend.domain.train.dto.result.KcWithCorrectRate;
+import com.readingbuddy.backend.domain.train.dto.result.ProblemResult;
+import com.readingbuddy.backend.domain.train.entity.Letters;
+import com.readingbuddy.backend.domain.train.repository.LettersRepository;
+import com.readingbuddy.backend.domain.train.repository.WordsRepository;
+import com.readingbuddy.backend.domain.train.service.ProblemGenerateService;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.readingbuddy.backend.common.metrics.SqlQueryBudgetAssertions.assertQueryBudget;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 참조 데이터 2차 캐시 테스트
+ * 쿼리 캐시는 커밋된 데이터에만 유효하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReferenceCacheConfig.class, ReferenceCacheProperties.class, SqlStatementCounter.class})
+@DisplayName("참조 데이터 2차 캐시 테스트")
+class ReferenceCacheConfigTest {
+
+    // KC별 문제 수(3, 2)만큼만 글자를 매핑해 매번 모든 글자가 선택되게 한다
+    private static final int[] LETTERS_PER_KC = {3, 2};
+    private static final int LETTER_COUNT = 5;
+
+    @Autowired
+    private KnowledgeComponentRepository knowledgeComponentRepository;
+
+    @Autowired
+    private LettersKcMapRepository lettersKcMapRepository;
+
+    @Autowired
+    private LettersRepository lettersRepository;
+
+    @Autowired
+    private WordsRepository wordsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterBinder referenceCacheMetrics;
+
+    private TransactionTemplate transactionTemplate;
+    private ProblemGenerateService problemGenerateService;
+    private SimpleMeterRegistry meterRegistry;
+    private List<KnowledgeComponent> kcs;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry = new SimpleMeterRegistry();
+        referenceCacheMetrics.bindTo(meterRegistry);
+
+        kcs = knowledgeComponentRepository.saveAll(List.of(
+                KnowledgeComponent.builder().category(KcCategory.LABIAL_1).stage("3").build(),
+                KnowledgeComponent.builder().category(KcCategory.VELAR_1).stage("3").build()));
+
+        List<Letters> letters = new ArrayList<>();
+        for (int i = 0; i < LETTER_COUNT; i++) {
+            letters.add(Letters.builder()
+                    .id(String.valueOf(0xAC00 + i))
+                    .unicode(String.valueOf((char) (0xAC00 + i)))
+                    .unicodePoint(0xAC00 + i)
+                    .count(2)
+                    .voiceUrl("https://test.com/voice" + i + ".mp3")
+                    .slowVoiceUrl("https://test.com/slow" + i + ".mp3")
+                    .build());
+        }
+        letters = lettersRepository.saveAll(letters);
+
+        List<LettersKcMap> maps = new ArrayList<>();
+        for (int i = 0; i < LETTER_COUNT; i++) {
+            maps.add(new LettersKcMap(letters.get(i), kcs.get(i < LETTERS_PER_KC[0] ? 0 : 1)));
+        }
+        lettersKcMapRepository.saveAll(maps);
+
+        BktService bktService = mock(BktService.class);
+        when(bktService.getCandidateBitMask(anyLong(), anyLong())).thenReturn("0");
+        KcScheduler kcScheduler = mock(KcScheduler.class);
+        when(kcScheduler.nextKcs(1L, "3", 2)).thenReturn(List.of(
+                new KcWithCorrectRate(kcs.get(0), 0.3f),
+                new KcWithCorrectRate(kcs.get(1), 0.5f)));
+        problemGenerateService = new ProblemGenerateService(lettersRepository, wordsRepository,
+                bktService, lettersKcMapRepository, kcScheduler, meterRegistry);
+
+        // 저장하며 들어간 항목을 지우고 빈 캐시에서 시작
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        lettersKcMapRepository.deleteAllInBatch();
+        lettersRepository.deleteAllInBatch();
+        knowledgeComponentRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("반복해서 문제를 만들면 두 번째부터 참조 데이터 조회 SQL이 나가지 않음")
+    void generateStage3_SecondRunServedFromCache() {
+        // given
+        List<ProblemResult> first = transactionTemplate.execute(status ->
+                problemGenerateService.generateStage3(1L, 5));
+
+        // when
+        List<ProblemResult> second = assertQueryBudget(0, () -> transactionTemplate.execute(status ->
+                problemGenerateService.generateStage3(1L, 5)));
+
+        // then
+        assertEquals(first.size(), second.size());
+        assertTrue(hits("reference.letters") > 0);
+        assertTrue(hits("default-query-results-region") > 0);
+        assertTrue(misses("reference.letters") > 0, "첫 번째 생성에서는 DB에서 읽어 캐시를 채운다");
+    }
+
+    @Test
+    @DisplayName("stage별 KC 조회는 쿼리 캐시에서 응답")
+    void findByStage_ServedFromQueryCache() {
+        // given
+        List<KnowledgeComponent> first = knowledgeComponentRepository.findByStage("3");
+
+        // when
+        List<KnowledgeComponent> second = assertQueryBudget(0,
+                () -> knowledgeComponentRepository.findByStage("3"));
+
+        // then
+        assertEquals(first.stream().map(KnowledgeComponent::getId).toList(),
+                second.stream().map(KnowledgeComponent::getId).toList());
+        assertTrue(hits("default-query-results-region") > 0);
+    }
+
+    @Test
+    @DisplayName("참조 테이블이 바뀌면 해당 쿼리 캐시 결과는 다시 조회")
+    void findByStage_InvalidatedOnInsert() {
+        // given
+        knowledgeComponentRepository.findByStage("3");
+
+        // when
+        knowledgeComponentRepository.save(
+                KnowledgeComponent.builder().category(KcCategory.ALVEOLAR_1).stage("3").build());
+        List<KnowledgeComponent> reloaded = assertQueryBudget(1,
+                () -> knowledgeComponentRepository.findByStage("3"));
+
+        // then
+        assertEquals(kcs.size() + 1, reloaded.size());
+    }
+
+    private double hits(String region) {
+        return gets(region, "hit");
+    }
+
+    private double misses(String region) {
+        return gets(region, "miss");
+    }
+
+    private double gets(String region, String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", region)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,161 @@
+package com.readingbuddy.backend.config.seed;
+
+import com.readingbuddy.backend.common.properties.SeedProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeedRunner 테스트")
+class SeedRunnerTest {
+
+    @Mock
+    private SeedManifest seedManifest;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final List<String> applied = new CopyOnWriteArrayList<>();
+    private final Map<String, String> recorded = Collections.synchronizedMap(new HashMap<>());
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().doAnswer(invocation -> {
+            recorded.put(invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(seedManifest).record(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("처음 실행하면 모든 시더를 반영하고, 선행 시더가 먼저 끝난다")
+    void run_AppliesAllInDependencyOrder() throws Exception {
+        // given
+        when(seedManifest.load()).thenReturn(Map.of());
+        SeedRunner runner = runner(
+                new FakeSeeder("kc-map", "v1", List.of("letters", "data")),
+                new FakeSeeder("letters", "v1", List.of()),
+                new FakeSeeder("data", "v1", List.of()));
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        assertEquals(3, applied.size());
+        assertEquals("kc-map", applied.get(2));
+        assertEquals(Set.of("kc-map", "letters", "data"), recorded.keySet());
+        verify(connection, times(3)).commit();
+    }
+
+    @Test
+    @DisplayName("checksum이 기록과 같으면 건너뛰고, 선행 시드가 바뀌면 의존하는 시더도 다시 반영")
+    void run_SkipsUnchangedAndRerunsDependents() throws Exception {
+        // given
+        when(seedManifest.load()).thenReturn(Map.of());
+        runner(new FakeSeeder("letters", "v1", List.of()),
+                new FakeSeeder("kc-map", "v1", List.of("letters")),
+                new FakeSeeder("words", "v1", List.of()))
+                .run(new DefaultApplicationArguments());
+        Map<String, String> firstRun = new HashMap<>(recorded);
+        applied.clear();
+        when(seedManifest.load()).thenReturn(firstRun);
+
+        // when
+        runner(new FakeSeeder("letters", "v2", List.of()),
+                new FakeSeeder("kc-map", "v1", List.of("letters")),
+                new FakeSeeder("words", "v1", List.of()))
+                .run(new DefaultApplicationArguments());
+
+        // then
+        assertEquals(List.of("letters", "kc-map"), applied);
+        assertNotEquals(firstRun.get("kc-map"), recorded.get("kc-map"));
+        assertEquals(firstRun.get("words"), recorded.get("words"));
+    }
+
+    @Test
+    @DisplayName("반영 중 실패하면 롤백하고 checksum을 기록하지 않는다")
+    void run_RollsBackOnFailure() throws Exception {
+        // given
+        when(seedManifest.load()).thenReturn(Map.of());
+        FakeSeeder failing = new FakeSeeder("letters", "v1", List.of()) {
+            @Override
+            public void apply(Connection con) throws Exception {
+                throw new IllegalStateException("boom");
+            }
+        };
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> runner(failing).run(new DefaultApplicationArguments()));
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        assertTrue(recorded.isEmpty());
+    }
+
+    @Test
+    @DisplayName("의존 관계에 순환이 있으면 실행하지 않는다")
+    void run_RejectsCycle() {
+        // given
+        when(seedManifest.load()).thenReturn(Map.of());
+        SeedRunner runner = runner(
+                new FakeSeeder("a", "v1", List.of("b")),
+                new FakeSeeder("b", "v1", List.of("a")));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> runner.run(new DefaultApplicationArguments()));
+        assertTrue(applied.isEmpty());
+    }
+
+    private SeedRunner runner(Seeder... seeders) {
+        return new SeedRunner(List.of(seeders), seedManifest, dataSource, new SeedProperties());
+    }
+
+    private class FakeSeeder implements Seeder {
+
+        private final String name;
+        private final String content;
+        private final List<String> dependsOn;
+
+        FakeSeeder(String name, String content, List<String> dependsOn) {
+            this.name = name;
+            this.content = content;
+            this.dependsOn = dependsOn;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public List<String> dependsOn() {
+            return dependsOn;
+        }
+
+        @Override
+        public String checksum() {
+            return SeedChecksum.of(content);
+        }
+
+        @Override
+        public void apply(Connection con) throws Exception {
+            applied.add(name);
+        }
+    }
+}
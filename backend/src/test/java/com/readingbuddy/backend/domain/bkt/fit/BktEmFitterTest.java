@@ -0,0 +1,104 @@
+package com.readingbuddy.backend.domain.bkt.fit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BktEmFitter 테스트")
+class BktEmFitterTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("알려진 파라미터로 생성한 관측에서 파라미터를 복원")
+    void fit_RecoversGeneratingParameters() {
+        // given
+        BktParameters truth = new BktParameters(0.3, 0.15, 0.2, 0.1);
+        KcObservations observations = simulate(truth, 3_000, 15, new Random(5));
+
+        // when
+        BktEmFitter.FitResult result = new BktEmFitter(pool, 200, 1e-9)
+                .fit(observations, new BktParameters(0.1, 0.1, 0.3, 0.2));
+
+        // then
+        BktParameters fitted = result.parameters();
+        assertEquals(truth.pInit(), fitted.pInit(), 0.05);
+        assertEquals(truth.pTrain(), fitted.pTrain(), 0.05);
+        assertEquals(truth.pGuess(), fitted.pGuess(), 0.05);
+        assertEquals(truth.pSlip(), fitted.pSlip(), 0.05);
+        assertTrue(result.logLikelihood() < 0);
+    }
+
+    @Test
+    @DisplayName("추정 결과가 시작값보다 로그 우도가 높음")
+    void fit_ImprovesLogLikelihood() {
+        // given
+        KcObservations observations = simulate(new BktParameters(0.2, 0.2, 0.25, 0.05), 500, 10, new Random(9));
+        BktParameters start = new BktParameters(0.1, 0.1, 0.5, 0.1);
+
+        // when
+        double before = new BktEmFitter(pool, 0, 0).fit(observations, start).logLikelihood();
+        double after = new BktEmFitter(pool, 50, 1e-6).fit(observations, start).logLikelihood();
+
+        // then
+        assertTrue(after > before, "before=" + before + ", after=" + after);
+    }
+
+    @Test
+    @DisplayName("사용자 id가 바뀔 때마다 새 시퀀스로 나뉨")
+    void observations_SplitByUser() {
+        // given
+        KcObservations observations = new KcObservations();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            observations.add(1L, i % 2 == 0);
+        }
+        observations.add(2L, true);
+        observations.add(3L, false);
+        observations.add(3L, true);
+
+        // then
+        assertEquals(3, observations.sequences());
+        assertEquals(103, observations.size());
+        assertEquals(100, observations.end(0));
+        assertEquals(101, observations.start(2));
+        assertTrue(observations.correct(98));
+        assertFalse(observations.correct(99));
+        assertFalse(observations.correct(101));
+        assertTrue(observations.correct(102));
+    }
+
+    private KcObservations simulate(BktParameters params, int users, int length, Random random) {
+        KcObservations observations = new KcObservations();
+        for (long user = 1; user <= users; user++) {
+            boolean known = random.nextDouble() < params.pInit();
+            for (int t = 0; t < length; t++) {
+                boolean correct = known
+                        ? random.nextDouble() >= params.pSlip()
+                        : random.nextDouble() < params.pGuess();
+                observations.add(user, correct);
+                if (!known && random.nextDouble() < params.pTrain()) {
+                    known = true;
+                }
+            }
+        }
+        return observations;
+    }
+}
@@ -0,0 +1,159 @@
+package com.readingbuddy.backend.domain.bkt.kernel;
+
+import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
+import com.readingbuddy.backend.domain.bkt.service.BktService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BktKernel 테스트")
+class BktKernelTest {
+
+    @Test
+    @DisplayName("테스트 JVM에서는 Vector API 커널이 선택됨")
+    void create_UsesVectorKernel() {
+        // when
+        BktKernel kernel = BktKernel.create();
+
+        // then
+        assertTrue(kernel.name().startsWith("vector"), kernel.name());
+    }
+
+    @Test
+    @DisplayName("스칼라 커널 결과가 BktService 계산식과 같음")
+    void scalar_MatchesBktService() {
+        // given
+        UserKcMastery mastery = UserKcMastery.builder()
+                .pLearn(0.4f)
+                .pTrain(0.1f)
+                .pGuess(0.25f)
+                .pSlip(0.1f)
+                .build();
+        BktColumns columns = new BktColumns(2);
+        columns.set(0, 0.4f, 0.1f, 0.25f, 0.1f);
+        columns.set(1, 0.4f, 0.1f, 0.25f, 0.1f);
+        float correctRate = BktService.correctRateOf(mastery);
+
+        // when
+        float[] rates = new float[2];
+        BktKernel.scalar().correctRates(columns, rates);
+        BktKernel.scalar().update(columns, new boolean[]{true, false}, new boolean[]{true, true});
+
+        // then
+        float ifCorrect = 0.4f * (1 - 0.1f) / correctRate;
+        float ifWrong = 0.4f * 0.1f / (1 - correctRate);
+        assertEquals(correctRate, rates[0]);
+        assertEquals(ifCorrect + (1 - ifCorrect) * 0.1f, columns.getPLearn()[0]);
+        assertEquals(ifWrong + (1 - ifWrong) * 0.1f, columns.getPLearn()[1]);
+    }
+
+    @Test
+    @DisplayName("관측이 연속으로 들어와도 벡터 커널과 스칼라 커널 결과가 비트 단위로 같음")
+    void vector_MatchesScalar() {
+        // given (레인 수로 나누어떨어지지 않는 크기)
+        int size = 1_003;
+        Random random = new Random(11);
+        BktColumns scalarColumns = randomColumns(size, random);
+        BktColumns vectorColumns = copy(scalarColumns);
+        BktKernel vector = BktKernel.create();
+        BktKernel scalar = BktKernel.scalar();
+
+        // when
+        for (int step = 0; step < 20; step++) {
+            boolean[] correct = new boolean[size];
+            boolean[] observed = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                correct[i] = random.nextBoolean();
+                observed[i] = random.nextInt(4) != 0;
+            }
+            scalar.update(scalarColumns, correct, observed);
+            vector.update(vectorColumns, correct, observed);
+        }
+
+        // then
+        assertArrayEquals(scalarColumns.getPLearn(), vectorColumns.getPLearn());
+        float[] scalarRates = new float[size];
+        float[] vectorRates = new float[size];
+        scalar.correctRates(scalarColumns, scalarRates);
+        vector.correctRates(vectorColumns, vectorRates);
+        assertArrayEquals(scalarRates, vectorRates);
+    }
+
+    @Test
+    @DisplayName("관측되지 않은 쌍과 극단값은 NaN 없이 처리됨")
+    void update_UnobservedAndExtremes() {
+        // given
+        BktColumns columns = new BktColumns(
+                new float[]{1.0f, 0.0f, 0.5f},
+                new float[]{0.1f, 0.1f, 0.1f},
+                new float[]{0.0f, 0.0f, 0.2f},
+                new float[]{0.0f, 0.0f, 0.1f});
+
+        // when
+        BktKernel.create().update(columns,
+                new boolean[]{false, true, true},
+                new boolean[]{true, true, false});
+
+        // then
+        for (float pLearn : columns.getPLearn()) {
+            assertFalse(Float.isNaN(pLearn));
+        }
+        assertEquals(0.5f, columns.getPLearn()[2]);
+    }
+
+    @Test
+    @DisplayName("정답률과 새 pLearn이 BKT 계산식과 같음")
+    void updatedLearn_MatchesFormula() {
+        // given
+        UserKcMastery mastery = UserKcMastery.builder()
+                .pLearn(0.4f)
+                .pTrain(0.1f)
+                .pGuess(0.25f)
+                .pSlip(0.1f)
+                .build();
+        float correctRate = BktService.correctRateOf(mastery);
+
+        // when
+        float rate = BktKernel.correctRate(0.4f, 0.25f, 0.1f);
+        float afterCorrect = BktKernel.updatedLearn(0.4f, 0.1f, 0.25f, 0.1f, true);
+        float afterWrong = BktKernel.updatedLearn(0.4f, 0.1f, 0.25f, 0.1f, false);
+
+        // then
+        float ifCorrect = 0.4f * (1 - 0.1f) / correctRate;
+        float ifWrong = 0.4f * 0.1f / (1 - correctRate);
+        assertEquals(correctRate, rate);
+        assertEquals(ifCorrect + (1 - ifCorrect) * 0.1f, afterCorrect);
+        assertEquals(ifWrong + (1 - ifWrong) * 0.1f, afterWrong);
+    }
+
+    @Test
+    @DisplayName("분모가 0이 되는 극단값도 NaN 없이 처리됨")
+    void updatedLearn_Extremes() {
+        // when (pLearn = 1, pSlip = 0 에서 오답 / pLearn = 0, pGuess = 0 에서 정답)
+        float wrongWhenMastered = BktKernel.updatedLearn(1.0f, 0.1f, 0.0f, 0.0f, false);
+        float correctWhenUnlearned = BktKernel.updatedLearn(0.0f, 0.1f, 0.0f, 0.0f, true);
+
+        // then
+        assertFalse(Float.isNaN(wrongWhenMastered));
+        assertFalse(Float.isNaN(correctWhenUnlearned));
+        assertEquals(0.1f, correctWhenUnlearned);
+    }
+    private BktColumns randomColumns(int size, Random random) {
+        BktColumns columns = new BktColumns(size);
+        for (int i = 0; i < size; i++) {
+            columns.getPLearn()[i] = random.nextFloat();
+            columns.getPTrain()[i] = random.nextFloat() * 0.3f;
+            columns.getPGuess()[i] = random.nextFloat() * 0.5f;
+            columns.getPSlip()[i] = random.nextFloat() * 0.3f;
+        }
+        return columns;
+    }
+
+    private BktColumns copy(BktColumns columns) {
+        return new BktColumns(columns.getPLearn().clone(), columns.getPTrain().clone(),
+                columns.getPGuess().clone(), columns.getPSlip().clone());
+    }
+}
@@ -0,0 +1,142 @@
+package com.readingbuddy.backend.domain.bkt.replay;
+
+import com.readingbuddy.backend.domain.bkt.fit.BktParameters;
+import com.readingbuddy.backend.domain.bkt.kernel.BktKernel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MasteryReplayCalculator 테스트")
+class MasteryReplayCalculatorTest {
+
+    private static final long USER_ID = 7L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private final BktParameters params = new BktParameters(0.1, 0.1, 0.25, 0.1);
+    private final MasteryReplayCalculator calculator = new MasteryReplayCalculator(Map.of(1L, params, 2L, params));
+
+    @Test
+    @DisplayName("초기 행 뒤에 풀이마다 직전 pLearn에 관측을 적용한 행을 만든다")
+    void replay_AppliesAttemptsInOrder() {
+        // given
+        List<ReplayEvent> events = List.of(
+                new ReplayEvent(1L, null, T0),
+                new ReplayEvent(1L, true, T0.plusMinutes(1)),
+                new ReplayEvent(1L, false, T0.plusMinutes(2)));
+
+        // when
+        List<ReplayRow> rows = calculator.replay(USER_ID, events);
+
+        // then
+        assertEquals(3, rows.size());
+        float first = BktKernel.updatedLearn(0.1f, 0.1f, 0.25f, 0.1f, true);
+        float second = BktKernel.updatedLearn(first, 0.1f, 0.25f, 0.1f, false);
+        assertEquals(0.1f, rows.get(0).pLearn());
+        assertEquals(first, rows.get(1).pLearn());
+        assertEquals(second, rows.get(2).pLearn());
+        assertEquals(T0.plusMinutes(2), rows.get(2).createdAt());
+        assertTrue(rows.stream().allMatch(row -> row.userId() == USER_ID && row.kcId() == 1L));
+    }
+
+    @Test
+    @DisplayName("초기 행이 없던 KC는 첫 풀이 시각으로 초기 행부터 만든다")
+    void replay_CreatesMissingInitialRow() {
+        // given
+        List<ReplayEvent> events = List.of(new ReplayEvent(2L, true, T0));
+
+        // when
+        List<ReplayRow> rows = calculator.replay(USER_ID, events);
+
+        // then
+        assertEquals(2, rows.size());
+        assertEquals(0.1f, rows.get(0).pLearn());
+        assertEquals(T0, rows.get(0).createdAt());
+        assertTrue(rows.get(1).pLearn() > rows.get(0).pLearn());
+    }
+
+    @Test
+    @DisplayName("KC별 이력은 서로 섞이지 않고, 알 수 없는 KC는 건너뛴다")
+    void replay_KeepsKcsIndependent() {
+        // given
+        List<ReplayEvent> events = List.of(
+                new ReplayEvent(1L, null, T0),
+                new ReplayEvent(2L, null, T0),
+                new ReplayEvent(1L, false, T0.plusMinutes(1)),
+                new ReplayEvent(99L, true, T0.plusMinutes(2)),
+                new ReplayEvent(2L, true, T0.plusMinutes(3)));
+
+        // when
+        List<ReplayRow> rows = calculator.replay(USER_ID, events);
+
+        // then
+        assertEquals(4, rows.size());
+        assertEquals(BktKernel.updatedLearn(0.1f, 0.1f, 0.25f, 0.1f, false), rows.get(2).pLearn());
+        assertEquals(BktKernel.updatedLearn(0.1f, 0.1f, 0.25f, 0.1f, true), rows.get(3).pLearn());
+        assertTrue(rows.stream().noneMatch(row -> row.kcId() == 99L));
+    }
+
+    @Test
+    @DisplayName("같은 입력이면 항상 같은 결과")
+    void replay_IsDeterministic() {
+        // given
+        List<ReplayEvent> events = List.of(
+                new ReplayEvent(1L, null, T0),
+                new ReplayEvent(1L, true, T0.plusMinutes(1)),
+                new ReplayEvent(1L, true, T0.plusMinutes(2)));
+
+        // when & then
+        assertEquals(calculator.replay(USER_ID, events), calculator.replay(USER_ID, events));
+    }
+
+    @Test
+    @DisplayName("KC가 많고 풀이가 섞여 있어도 벡터 커널 결과가 KC별 순차 계산과 같음")
+    void replay_VectorKernelMatchesSequential() {
+        // given (레인 수로 나누어떨어지지 않는 KC 수, KC마다 풀이 수가 다름)
+        Random random = new Random(5);
+        Map<Long, BktParameters> parameters = new HashMap<>();
+        for (long kcId = 1; kcId <= 37; kcId++) {
+            parameters.put(kcId, new BktParameters(random.nextDouble() * 0.3, random.nextDouble() * 0.3,
+                    random.nextDouble() * 0.5, random.nextDouble() * 0.3));
+        }
+        List<ReplayEvent> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long kcId = 1 + random.nextInt(i < 100 ? 37 : 5);
+            events.add(new ReplayEvent(kcId, random.nextInt(10) == 0 ? null : random.nextBoolean(),
+                    T0.plusSeconds(i)));
+        }
+
+        // when
+        List<ReplayRow> vectorRows = new MasteryReplayCalculator(parameters, BktKernel.create())
+                .replay(USER_ID, events);
+        List<ReplayRow> scalarRows = new MasteryReplayCalculator(parameters, BktKernel.scalar())
+                .replay(USER_ID, events);
+
+        // then
+        Map<Long, Float> learned = new HashMap<>();
+        List<Float> expected = new ArrayList<>();
+        for (ReplayEvent event : events) {
+            BktParameters p = parameters.get(event.kcId());
+            Float current = learned.get(event.kcId());
+            if (current == null) {
+                current = (float) p.pInit();
+                expected.add(current);
+            }
+            if (!event.isInitial()) {
+                current = BktKernel.updatedLearn(current, (float) p.pTrain(), (float) p.pGuess(),
+                        (float) p.pSlip(), event.correct());
+                expected.add(current);
+            }
+            learned.put(event.kcId(), current);
+        }
+        assertEquals(expected, vectorRows.stream().map(ReplayRow::pLearn).toList());
+        assertEquals(scalarRows, vectorRows);
+    }
+}
@@ -0,0 +1,72 @@
+package com.readingbuddy.backend.domain.bkt.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MasteryRowWriter 테스트")
+class MasteryRowWriterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 10, 0, 5);
+
+    @Test
+    @DisplayName("COPY용 csv는 컬럼 순서대로 한 행씩, 생성·수정 시각은 같은 값")
+    void toCsv_WritesRowsInColumnOrder() {
+        // given
+        List<ReplayRow> rows = List.of(
+                new ReplayRow(1L, 10L, 0.5f, 0.1f, 0.25f, 0.1f, T0),
+                new ReplayRow(2L, 11L, 0.75f, 0.1f, 0.2f, 0.1f, T0.plusSeconds(1)));
+
+        // when
+        String csv = MasteryRowWriter.toCsv(rows);
+
+        // then
+        assertEquals("""
+                1,10,0.5,0.1,0.25,0.1,2025-03-01 10:00:05.0,2025-03-01 10:00:05.0
+                2,11,0.75,0.1,0.2,0.1,2025-03-01 10:00:06.0,2025-03-01 10:00:06.0
+                """, csv);
+    }
+
+    @Test
+    @DisplayName("PostgreSQL이 아니면 batch insert로 기록")
+    void write_FallsBackToBatchInsert() throws Exception {
+        // given
+        List<ReplayRow> rows = List.of(
+                new ReplayRow(1L, 10L, 0.5f, 0.1f, 0.25f, 0.1f, T0),
+                new ReplayRow(1L, 10L, 0.6f, 0.1f, 0.25f, 0.1f, T0.plusMinutes(1)));
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:mastery-row-writer")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE shadow (
+                          id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, knowledge_component BIGINT,
+                          p_learn REAL, p_train REAL, p_guess REAL, p_slip REAL,
+                          created_at TIMESTAMP, updated_at TIMESTAMP)
+                        """);
+            }
+
+            // when
+            long written = MasteryRowWriter.write(connection, "shadow", rows);
+
+            // then
+            assertEquals(2, written);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT p_learn, created_at FROM shadow ORDER BY id")) {
+                assertTrue(rs.next());
+                assertEquals(0.5f, rs.getFloat(1));
+                assertEquals(T0, rs.getTimestamp(2).toLocalDateTime());
+                assertTrue(rs.next());
+                assertEquals(0.6f, rs.getFloat(1));
+                assertFalse(rs.next());
+            }
+        }
+    }
+}
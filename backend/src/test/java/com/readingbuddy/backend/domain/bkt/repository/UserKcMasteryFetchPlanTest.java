@@ -0,0 +1,240 @@
+package com.readingbuddy.backend.domain.bkt.repository;
+
+import com.readingbuddy.backend.common.metrics.SqlStatementCounter;
+import com.readingbuddy.backend.common.metrics.SqlStatementStats;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
+import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
+import com.readingbuddy.backend.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * user_kc_mastery 조회의 fetch plan 검사
+ * Hibernate 통계로 로딩된 엔티티 수를, 실행된 SQL로 조인과 SELECT 컬럼 수를 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+@DisplayName("UserKcMastery fetch plan 테스트")
+class UserKcMasteryFetchPlanTest {
+
+    private static final int ROWS_PER_KC = 3;
+    // KC ID, pLearn, pTrain, pGuess, pSlip, updatedAt
+    private static final int PROJECTION_COLUMNS = 6;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserKcMasteryRepository userKcMasteryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+    private List<Long> kcIds;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = entityManager.persist(User.builder()
+                .email("fetch-plan@example.com")
+                .password("password")
+                .nickname("fetchplan")
+                .build());
+        userId = user.getId();
+
+        // DB 타임스탬프 정밀도(마이크로초)보다 세밀한 값이 잘려 구간 경계가 어긋나지 않도록 초 단위로 맞춘다
+        start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusHours(ROWS_PER_KC + 1);
+        List<KnowledgeComponent> kcs = List.of(
+                entityManager.persist(KnowledgeComponent.builder().category(KcCategory.LABIAL_1).stage("1.1.1").build()),
+                entityManager.persist(KnowledgeComponent.builder().category(KcCategory.VELAR_1).stage("1.1.1").build()));
+        kcIds = kcs.stream().map(KnowledgeComponent::getId).toList();
+        for (KnowledgeComponent kc : kcs) {
+            for (int step = 0; step < ROWS_PER_KC; step++) {
+                LocalDateTime time = start.plusHours(step + 1);
+                entityManager.persist(UserKcMastery.builder()
+                        .user(user)
+                        .knowledgeComponent(kc)
+                        .pLearn(0.2f * (step + 1))
+                        .pTrain(0.1f)
+                        .pGuess(0.2f)
+                        .pSlip(0.1f)
+                        .createdAt(time)
+                        .updatedAt(time)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회는 엔티티를 로딩하지 않고 조인 없이 값 컬럼만 조회")
+    void projections_LoadNoEntities() {
+        LocalDateTime end = LocalDateTime.now();
+        Long kcId = kcIds.get(0);
+
+        assertValuesOnly(() -> userKcMasteryRepository.findLatestValues(userId, kcId).orElseThrow());
+        assertValuesOnly(() -> userKcMasteryRepository.findLatestByUserIdAndKcIds(userId, kcIds));
+        assertValuesOnly(() -> userKcMasteryRepository.findLatestMasteryValuesByUserId(userId));
+        assertValuesOnly(() -> userKcMasteryRepository.findMasteryHistory(userId, kcId, start, end));
+        assertValuesOnly(() -> userKcMasteryRepository.findLatestValuesBetween(userId, kcId, start, end).orElseThrow());
+        assertValuesOnly(() -> userKcMasteryRepository.findInitialValueCandidates(userId, kcIds, start, end));
+        assertValuesOnly(() -> userKcMasteryRepository.streamMasteryHistoryByKc(userId, kcIds, start, end).toList());
+        assertValuesOnly(() -> userKcMasteryRepository.streamMasteryHistoryByUpdatedAt(userId, kcIds, start, end).toList());
+    }
+
+    @Test
+    @DisplayName("최신값 projection은 KC별 한 행만 값으로 돌려준다")
+    void findLatestByUserIdAndKcIds_OneRowPerKc() {
+        // when
+        List<KcMasteryValues> latest = userKcMasteryRepository.findLatestByUserIdAndKcIds(userId, kcIds);
+
+        // then
+        assertEquals(kcIds, latest.stream().map(KcMasteryValues::kcId).toList());
+        latest.forEach(values -> assertEquals(0.2f * ROWS_PER_KC, values.pLearn(), 1e-6));
+    }
+
+    @Test
+    @DisplayName("초기값 후보는 KC별로 구간 내 가장 빠른 행이 이전 최신 행보다 먼저 온다")
+    void findInitialValueCandidates_SameDayFirst() {
+        // when (구간 안에 두 번째, 세 번째 행이 있고 첫 번째 행은 구간 이전)
+        List<KcMasteryValues> candidates = userKcMasteryRepository.findInitialValueCandidates(
+                userId, kcIds, start.plusHours(2), start.plusHours(3));
+
+        // then
+        assertEquals(List.of(kcIds.get(0), kcIds.get(0), kcIds.get(1), kcIds.get(1)),
+                candidates.stream().map(KcMasteryValues::kcId).toList());
+        assertEquals(0.4f, candidates.get(0).pLearn(), 1e-6);
+        assertEquals(0.2f, candidates.get(1).pLearn(), 1e-6);
+    }
+
+    @Test
+    @DisplayName("구간 안에 행이 없으면 초기값 후보는 KC별 이전 최신 행 하나")
+    void findInitialValueCandidates_FallsBackToLatestBefore() {
+        // when
+        List<KcMasteryValues> candidates = userKcMasteryRepository.findInitialValueCandidates(
+                userId, kcIds, start.plusHours(ROWS_PER_KC).plusMinutes(30), LocalDateTime.now());
+
+        // then
+        assertEquals(kcIds, candidates.stream().map(KcMasteryValues::kcId).toList());
+        candidates.forEach(values -> assertEquals(0.2f * ROWS_PER_KC, values.pLearn(), 1e-6));
+    }
+
+    @Test
+    @DisplayName("BKT 갱신용 엔티티 조회는 User, KC를 프록시로 두고 mastery 한 건만 로딩")
+    void latestEntity_AssociationsStayLazy() {
+        // given
+        statistics.clear();
+
+        // when
+        SqlStatementCounter.begin();
+        UserKcMastery mastery = userKcMasteryRepository
+                .findFirstByUser_IdAndKnowledgeComponent_IdOrderByCreatedAtDesc(userId, kcIds.get(0))
+                .orElseThrow();
+        SqlStatementStats sql = SqlStatementCounter.end();
+
+        // then
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(KnowledgeComponent.class.getName()).getLoadCount());
+        assertFalse(Hibernate.isInitialized(mastery.getUser()));
+        assertFalse(Hibernate.isInitialized(mastery.getKnowledgeComponent()));
+        assertEquals(kcIds.get(0), mastery.getKnowledgeComponent().getId());
+        assertEquals(1, sql.count());
+        assertFalse(onlyStatement(sql).contains(" join "));
+    }
+
+    @Test
+    @DisplayName("기존 fetch plan(User, KC를 함께 로딩)보다 읽는 엔티티와 컬럼이 줄어듦")
+    void projection_FetchesLessThanEagerPlan() {
+        // given (LAZY 전환 전 EAGER 연관과 같은 로딩을 join fetch로 재현)
+        LocalDateTime end = LocalDateTime.now();
+        statistics.clear();
+        SqlStatementCounter.begin();
+        List<UserKcMastery> eager = entityManager.getEntityManager().createQuery("""
+                        SELECT ukm FROM UserKcMastery ukm
+                        JOIN FETCH ukm.user JOIN FETCH ukm.knowledgeComponent
+                        WHERE ukm.user.id = :userId AND ukm.knowledgeComponent.id IN :kcIds
+                        AND ukm.createdAt BETWEEN :start AND :end
+                        """, UserKcMastery.class)
+                .setParameter("userId", userId)
+                .setParameter("kcIds", kcIds)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultList();
+        String eagerSql = onlyStatement(SqlStatementCounter.end());
+        long eagerEntities = statistics.getEntityLoadCount();
+        entityManager.clear();
+
+        // when
+        statistics.clear();
+        SqlStatementCounter.begin();
+        List<KcMasteryValues> values = userKcMasteryRepository
+                .streamMasteryHistoryByKc(userId, kcIds, start, end).toList();
+        String projectionSql = onlyStatement(SqlStatementCounter.end());
+
+        // then
+        assertEquals(eager.size(), values.size());
+        assertEquals(kcIds.size() * ROWS_PER_KC + 1 + kcIds.size(), eagerEntities);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(PROJECTION_COLUMNS, selectedColumns(projectionSql));
+        assertTrue(selectedColumns(eagerSql) > 2 * PROJECTION_COLUMNS,
+                "기존 plan 컬럼 수: " + selectedColumns(eagerSql));
+    }
+
+    private void assertValuesOnly(Supplier<?> query) {
+        entityManager.clear();
+        statistics.clear();
+        SqlStatementCounter.begin();
+        Object result;
+        SqlStatementStats sql;
+        try {
+            result = query.get();
+        } finally {
+            sql = SqlStatementCounter.end();
+        }
+
+        assertNotNull(result);
+        assertFalse(result instanceof List<?> list && list.isEmpty());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+        String statement = onlyStatement(sql);
+        assertFalse(statement.contains(" join "), statement);
+        assertEquals(PROJECTION_COLUMNS, selectedColumns(statement), statement);
+    }
+
+    private String onlyStatement(SqlStatementStats sql) {
+        assertEquals(1, sql.shapes().size(), sql.describe(5));
+        return sql.shapes().keySet().iterator().next().toLowerCase(Locale.ROOT);
+    }
+
+    // 바깥 SELECT 절의 컬럼 수 (서브쿼리는 FROM 뒤에 있으므로 세지 않는다)
+    private int selectedColumns(String sql) {
+        String selectList = sql.substring("select ".length(), sql.indexOf(" from "));
+        return selectList.split(",").length;
+    }
+}
@@ -0,0 +1,223 @@
+package com.readingbuddy.backend.domain.bkt.service;
+
+import com.readingbuddy.backend.common.event.KcMasteryUpdatedEvent;
+import com.readingbuddy.backend.common.properties.KcSchedulerProperties;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
+import com.readingbuddy.backend.domain.train.dto.result.KcWithCorrectRate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KcScheduler 테스트")
+class KcSchedulerTest {
+
+    @Mock
+    private KnowledgeComponentRepository knowledgeComponentRepository;
+
+    @Mock
+    private UserKcMasteryRepository userKcMasteryRepository;
+
+    private KcScheduler kcScheduler;
+    private List<KnowledgeComponent> stageKcs;
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        kcScheduler = new KcScheduler(knowledgeComponentRepository, userKcMasteryRepository, new KcSchedulerProperties());
+
+        stageKcs = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            stageKcs.add(KnowledgeComponent.builder().id(id).stage("1.2.1").build());
+        }
+    }
+
+    @Test
+    @DisplayName("정답률이 낮은 순으로 n개 반환, 기록이 없는 KC는 가장 먼저")
+    void nextKcs_OrderedByCorrectRate() {
+        // given
+        when(knowledgeComponentRepository.findByStage("1.2.1")).thenReturn(stageKcs);
+        when(userKcMasteryRepository.findLatestByUserIdAndKcIds(eq(userId), anyList())).thenReturn(List.of(
+                mastery(stageKcs.get(0), 0.9f),
+                mastery(stageKcs.get(1), 0.2f),
+                mastery(stageKcs.get(2), 0.5f)
+        ));
+
+        // when
+        List<KcWithCorrectRate> result = kcScheduler.nextKcs(userId, "1.2.1", 3);
+
+        // then
+        assertEquals(List.of(4L, 2L, 3L), ids(result));
+        assertEquals(0.0f, result.get(0).getCorrectRate());
+    }
+
+    @Test
+    @DisplayName("BKT 갱신은 힙에만 반영되고 DB를 다시 조회하지 않음")
+    void update_ReordersWithoutReload() {
+        // given
+        when(knowledgeComponentRepository.findByStage("1.2.1")).thenReturn(stageKcs);
+        when(userKcMasteryRepository.findLatestByUserIdAndKcIds(eq(userId), anyList())).thenReturn(List.of(
+                mastery(stageKcs.get(0), 0.1f),
+                mastery(stageKcs.get(1), 0.2f),
+                mastery(stageKcs.get(2), 0.3f),
+                mastery(stageKcs.get(3), 0.4f)
+        ));
+        kcScheduler.nextKcs(userId, "1.2.1", 4);
+
+        // when
+        kcScheduler.update(userId, "1.2.1", stageKcs.get(0).getId(), 0.95f);
+        kcScheduler.handleKcMasteryUpdated(new KcMasteryUpdatedEvent(userId, "1.2.1", stageKcs.get(3).getId(), 0.05f));
+        List<KcWithCorrectRate> result = kcScheduler.nextKcs(userId, "1.2.1", 4);
+
+        // then
+        assertEquals(List.of(4L, 2L, 3L, 1L), ids(result));
+        verify(knowledgeComponentRepository, times(1)).findByStage("1.2.1");
+        verify(userKcMasteryRepository, times(1)).findLatestByUserIdAndKcIds(eq(userId), anyList());
+    }
+
+    @Test
+    @DisplayName("힙이 없는 사용자의 갱신은 무시되고 첫 조회 때 DB에서 읽음")
+    void update_BeforeLoad_Ignored() {
+        // given
+        when(knowledgeComponentRepository.findByStage("1.2.1")).thenReturn(stageKcs);
+        when(userKcMasteryRepository.findLatestByUserIdAndKcIds(eq(userId), anyList())).thenReturn(List.of());
+
+        // when
+        kcScheduler.update(userId, "1.2.1", stageKcs.get(0).getId(), 0.9f);
+        List<KcWithCorrectRate> result = kcScheduler.nextKcs(userId, "1.2.1", 1);
+
+        // then
+        assertEquals(List.of(1L), ids(result));
+    }
+
+    @Test
+    @DisplayName("invalidate 후에는 DB에서 다시 읽음")
+    void invalidate_ReloadsFromDb() {
+        // given
+        when(knowledgeComponentRepository.findByStage("1.2.1")).thenReturn(stageKcs);
+        when(userKcMasteryRepository.findLatestByUserIdAndKcIds(eq(userId), anyList())).thenReturn(List.of());
+        kcScheduler.nextKcs(userId, "1.2.1", 2);
+
+        // when
+        kcScheduler.invalidate(userId);
+        kcScheduler.nextKcs(userId, "1.2.1", 2);
+
+        // then
+        verify(userKcMasteryRepository, times(2)).findLatestByUserIdAndKcIds(eq(userId), anyList());
+    }
+
+    @Test
+    @DisplayName("힙을 읽는 도중 커밋된 갱신은 힙을 넣은 직후 반영됨")
+    void update_DuringLoad_Replayed() {
+        // given (DB 조회 결과에는 갱신 전 값이 들어 있음)
+        when(knowledgeComponentRepository.findByStage("1.2.1")).thenReturn(stageKcs);
+        when(userKcMasteryRepository.findLatestByUserIdAndKcIds(eq(userId), anyList())).thenAnswer(invocation -> {
+            kcScheduler.update(userId, "1.2.1", stageKcs.get(0).getId(), 0.95f);
+            return List.of(
+                    mastery(stageKcs.get(0), 0.1f),
+                    mastery(stageKcs.get(1), 0.2f),
+                    mastery(stageKcs.get(2), 0.3f),
+                    mastery(stageKcs.get(3), 0.4f));
+        });
+
+        // when
+        List<KcWithCorrectRate> result = kcScheduler.nextKcs(userId, "1.2.1", 4);
+
+        // then
+        assertEquals(List.of(2L, 3L, 4L, 1L), ids(result));
+        assertEquals(0.95f, result.get(3).getCorrectRate());
+    }
+
+    @Test
+    @DisplayName("힙을 읽는 도중 invalidate 되면 읽은 힙을 캐시하지 않음")
+    void invalidate_DuringLoad_NotCached() {
+        // given
+        when(knowledgeComponentRepository.findByStage("1.2.1")).thenReturn(stageKcs);
+        when(userKcMasteryRepository.findLatestByUserIdAndKcIds(eq(userId), anyList()))
+                .thenAnswer(invocation -> {
+                    kcScheduler.invalidate(userId);
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        // when
+        kcScheduler.nextKcs(userId, "1.2.1", 2);
+        kcScheduler.nextKcs(userId, "1.2.1", 2);
+
+        // then
+        verify(userKcMasteryRepository, times(2)).findLatestByUserIdAndKcIds(eq(userId), anyList());
+    }
+
+    @Test
+    @DisplayName("단계에 KC가 없으면 빈 목록 반환")
+    void nextKcs_EmptyStage() {
+        // given
+        when(knowledgeComponentRepository.findByStage("9")).thenReturn(List.of());
+
+        // when
+        List<KcWithCorrectRate> result = kcScheduler.nextKcs(userId, "9", 3);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(userKcMasteryRepository, never()).findLatestByUserIdAndKcIds(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("무작위 갱신 후에도 힙 상위 k개가 정렬 결과와 같음")
+    void heap_TopMatchesSortedOrder() {
+        // given
+        KcPriorityHeap heap = new KcPriorityHeap(4);
+        float[] expected = new float[500];
+        Random random = new Random(7);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextFloat();
+            heap.upsert(i, expected[i]);
+        }
+
+        // when
+        for (int i = 0; i < 5_000; i++) {
+            int kcId = random.nextInt(expected.length);
+            expected[kcId] = random.nextFloat();
+            heap.upsert(kcId, expected[kcId]);
+        }
+
+        // then
+        long[] top = heap.top(50);
+        List<Long> sorted = new ArrayList<>();
+        for (long id = 0; id < expected.length; id++) {
+            sorted.add(id);
+        }
+        sorted.sort((a, b) -> {
+            int byKey = Float.compare(expected[a.intValue()], expected[b.intValue()]);
+            return byKey != 0 ? byKey : Long.compare(a, b);
+        });
+        for (int i = 0; i < top.length; i++) {
+            assertEquals(sorted.get(i), top[i]);
+        }
+        assertEquals(expected.length, heap.size());
+    }
+
+    private KcMasteryValues mastery(KnowledgeComponent kc, float pLearn) {
+        // pSlip = 0, pGuess = 0 이면 정답률 = pLearn
+        return new KcMasteryValues(kc.getId(), pLearn, 0.1f, 0.0f, 0.0f, null);
+    }
+
+    private List<Long> ids(List<KcWithCorrectRate> kcs) {
+        return kcs.stream().map(kc -> kc.getKnowledgeComponent().getId()).toList();
+    }
+}
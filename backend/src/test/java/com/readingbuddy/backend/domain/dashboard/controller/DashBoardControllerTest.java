@@ -2,8 +2,10 @@ package com.readingbuddy.backend.domain.dashboard.controller;
 
 import com.readingbuddy.backend.auth.dto.CustomUserDetails;
 import com.readingbuddy.backend.common.util.format.ApiResponse;
-import com.readingbuddy.backend.domain.dashboard.dto.response.StageKcMasteryTrendResponse;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
 import com.readingbuddy.backend.domain.dashboard.service.DashBoardService;
+import com.readingbuddy.backend.domain.dashboard.service.DashBoardStreamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,12 +14,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +32,9 @@ class DashBoardControllerTest {
     @Mock
     private DashBoardService dashBoardService;
 
+    @Mock
+    private DashBoardStreamService dashBoardStreamService;
+
     @InjectMocks
     private DashBoardController dashBoardController;
 
@@ -49,255 +53,172 @@ class DashBoardControllerTest {
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 정상 케이스: 날짜 범위 지정")
-    void getStageKcMasteryTrend_Success_WithDateRange() {
+    void getStageKcMasteryTrend_Success_WithDateRange() throws Exception {
         // given
         String stage = "1.1.1";
         String startDate = "250101";
         String endDate = "250131";
+        List<KnowledgeComponent> kcs = List.of(kc(1L, KcCategory.LABIAL_1, stage));
 
-        StageKcMasteryTrendResponse.MasteryPoint point1 = StageKcMasteryTrendResponse.MasteryPoint.builder()
-                .pLearn(0.5f)
-                .pTrain(0.6f)
-                .pGuess(0.2f)
-                .pSlip(0.1f)
-                .updatedAt(LocalDateTime.of(2025, 1, 5, 10, 0))
-                .build();
-
-        StageKcMasteryTrendResponse.MasteryPoint point2 = StageKcMasteryTrendResponse.MasteryPoint.builder()
-                .pLearn(0.7f)
-                .pTrain(0.8f)
-                .pGuess(0.2f)
-                .pSlip(0.1f)
-                .updatedAt(LocalDateTime.of(2025, 1, 10, 15, 30))
-                .build();
-
-        StageKcMasteryTrendResponse.KcTrend kcTrend = StageKcMasteryTrendResponse.KcTrend.builder()
-                .kcId(1L)
-                .kcCategory("LABIAL_1")
-                .kcDescription("양순음_1")
-                .masteryTrend(Arrays.asList(point1, point2))
-                .build();
-
-        StageKcMasteryTrendResponse response = StageKcMasteryTrendResponse.builder()
-                .stage(stage)
-                .kcTrends(Arrays.asList(kcTrend))
-                .build();
-
-        when(dashBoardService.getStageKcMasteryTrend(
-                eq(testUserId),
-                eq(stage),
-                eq(LocalDate.of(2025, 1, 1)),
-                eq(LocalDate.of(2025, 1, 31))
-        )).thenReturn(response);
+        when(dashBoardStreamService.getStageKcs(stage)).thenReturn(kcs);
+        when(dashBoardStreamService.getStageKcMasteryTrendJson(
+                testUserId, stage, kcs, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)))
+                .thenReturn("{\"success\":true}".getBytes(StandardCharsets.UTF_8));
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, startDate, endDate);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertNotNull(result.getBody());
-        assertTrue(result.getBody().isSuccess());
-        assertEquals("Stage별 KC 숙련도 변화 추이가 조회되었습니다.", result.getBody().getMessage());
-
-        StageKcMasteryTrendResponse data = result.getBody().getData();
-        assertEquals(stage, data.getStage());
-        assertEquals(1, data.getKcTrends().size());
-
-        StageKcMasteryTrendResponse.KcTrend resultKcTrend = data.getKcTrends().get(0);
-        assertEquals(1L, resultKcTrend.getKcId());
-        assertEquals("LABIAL_1", resultKcTrend.getKcCategory());
-        assertEquals("양순음_1", resultKcTrend.getKcDescription());
-        assertEquals(2, resultKcTrend.getMasteryTrend().size());
-
-        verify(dashBoardService, times(1)).getStageKcMasteryTrend(
-                eq(testUserId), eq(stage), any(LocalDate.class), any(LocalDate.class));
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertEquals("{\"success\":true}", bodyOf(result));
+
+        verify(dashBoardStreamService, times(1)).getStageKcMasteryTrendJson(
+                eq(testUserId), eq(stage), eq(kcs), any(LocalDate.class), any(LocalDate.class));
     }
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 정상 케이스: 날짜 미지정 (기본값 사용)")
-    void getStageKcMasteryTrend_Success_WithoutDateRange() {
+    void getStageKcMasteryTrend_Success_WithoutDateRange() throws Exception {
         // given
         String stage = "1.1.1";
-
-        StageKcMasteryTrendResponse.KcTrend kcTrend = StageKcMasteryTrendResponse.KcTrend.builder()
-                .kcId(1L)
-                .kcCategory("LABIAL_1")
-                .kcDescription("양순음_1")
-                .masteryTrend(new ArrayList<>())
-                .build();
-
-        StageKcMasteryTrendResponse response = StageKcMasteryTrendResponse.builder()
-                .stage(stage)
-                .kcTrends(Arrays.asList(kcTrend))
-                .build();
-
-        when(dashBoardService.getStageKcMasteryTrend(
-                eq(testUserId),
-                eq(stage),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenReturn(response);
+        List<KnowledgeComponent> kcs = List.of(kc(1L, KcCategory.LABIAL_1, stage));
+        when(dashBoardStreamService.getStageKcs(stage)).thenReturn(kcs);
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, null, null);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertNotNull(result.getBody());
-        assertTrue(result.getBody().isSuccess());
-        assertEquals("Stage별 KC 숙련도 변화 추이가 조회되었습니다.", result.getBody().getMessage());
-        assertEquals(stage, result.getBody().getData().getStage());
 
-        verify(dashBoardService, times(1)).getStageKcMasteryTrend(
-                eq(testUserId), eq(stage), any(LocalDate.class), any(LocalDate.class));
+        LocalDate today = LocalDate.now();
+        verify(dashBoardStreamService, times(1)).getStageKcMasteryTrendJson(
+                eq(testUserId), eq(stage), eq(kcs), eq(today.minusMonths(1)), eq(today));
     }
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 여러 KC를 가진 Stage")
-    void getStageKcMasteryTrend_Success_MultipleKcs() {
+    void getStageKcMasteryTrend_Success_MultipleKcs() throws Exception {
         // given
         String stage = "1.1.1";
-
-        StageKcMasteryTrendResponse.KcTrend kcTrend1 = StageKcMasteryTrendResponse.KcTrend.builder()
-                .kcId(1L)
-                .kcCategory("LABIAL_1")
-                .kcDescription("양순음_1")
-                .masteryTrend(new ArrayList<>())
-                .build();
-
-        StageKcMasteryTrendResponse.KcTrend kcTrend2 = StageKcMasteryTrendResponse.KcTrend.builder()
-                .kcId(2L)
-                .kcCategory("VELAR_1")
-                .kcDescription("연구개음_1")
-                .masteryTrend(new ArrayList<>())
-                .build();
-
-        StageKcMasteryTrendResponse response = StageKcMasteryTrendResponse.builder()
-                .stage(stage)
-                .kcTrends(Arrays.asList(kcTrend1, kcTrend2))
-                .build();
-
-        when(dashBoardService.getStageKcMasteryTrend(
-                eq(testUserId),
-                eq(stage),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenReturn(response);
+        List<KnowledgeComponent> kcs = List.of(
+                kc(1L, KcCategory.LABIAL_1, stage),
+                kc(2L, KcCategory.VELAR_1, stage));
+        when(dashBoardStreamService.getStageKcs(stage)).thenReturn(kcs);
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, null, null);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        StageKcMasteryTrendResponse data = result.getBody().getData();
-        assertEquals(2, data.getKcTrends().size());
-        assertEquals("LABIAL_1", data.getKcTrends().get(0).getKcCategory());
-        assertEquals("VELAR_1", data.getKcTrends().get(1).getKcCategory());
 
-        verify(dashBoardService, times(1)).getStageKcMasteryTrend(
-                eq(testUserId), eq(stage), any(LocalDate.class), any(LocalDate.class));
+        // 조회한 KC 목록을 그대로 출력에 사용
+        verify(dashBoardStreamService, times(1)).getStageKcs(stage);
+        verify(dashBoardStreamService, times(1)).getStageKcMasteryTrendJson(
+                eq(testUserId), eq(stage), same(kcs), any(LocalDate.class), any(LocalDate.class));
     }
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 잘못된 날짜 형식")
-    void getStageKcMasteryTrend_InvalidDateFormat() {
+    void getStageKcMasteryTrend_InvalidDateFormat() throws Exception {
         // given
         String stage = "1.1.1";
         String invalidStartDate = "2025-01-01"; // 잘못된 형식
         String invalidEndDate = "2025-01-31";
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, invalidStartDate, invalidEndDate);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
-        assertNotNull(result.getBody());
-        assertFalse(result.getBody().isSuccess());
-        assertTrue(result.getBody().getMessage().contains("날짜 형식이 올바르지 않습니다"));
+        ApiResponse<?> body = (ApiResponse<?>) result.getBody();
+        assertNotNull(body);
+        assertFalse(body.isSuccess());
+        assertTrue(body.getMessage().contains("날짜 형식이 올바르지 않습니다"));
 
-        verify(dashBoardService, never()).getStageKcMasteryTrend(
-                anyLong(), anyString(), any(LocalDate.class), any(LocalDate.class));
+        verify(dashBoardStreamService, never()).getStageKcMasteryTrendJson(
+                anyLong(), anyString(), anyList(), any(LocalDate.class), any(LocalDate.class));
     }
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 시작 날짜가 종료 날짜보다 이후")
-    void getStageKcMasteryTrend_StartDateAfterEndDate() {
+    void getStageKcMasteryTrend_StartDateAfterEndDate() throws Exception {
         // given
         String stage = "1.1.1";
         String startDate = "250131"; // 2025-01-31
         String endDate = "250101";   // 2025-01-01
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, startDate, endDate);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
-        assertNotNull(result.getBody());
-        assertFalse(result.getBody().isSuccess());
-        assertTrue(result.getBody().getMessage().contains("시작 날짜는 종료 날짜보다 이전이어야 합니다"));
+        ApiResponse<?> body = (ApiResponse<?>) result.getBody();
+        assertNotNull(body);
+        assertFalse(body.isSuccess());
+        assertTrue(body.getMessage().contains("시작 날짜는 종료 날짜보다 이전이어야 합니다"));
 
-        verify(dashBoardService, never()).getStageKcMasteryTrend(
-                anyLong(), anyString(), any(LocalDate.class), any(LocalDate.class));
+        verify(dashBoardStreamService, never()).getStageKcMasteryTrendJson(
+                anyLong(), anyString(), anyList(), any(LocalDate.class), any(LocalDate.class));
     }
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 날짜 하나만 입력")
-    void getStageKcMasteryTrend_OnlyOneDateProvided() {
+    void getStageKcMasteryTrend_OnlyOneDateProvided() throws Exception {
         // given
         String stage = "1.1.1";
         String startDate = "250101";
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, startDate, null);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
-        assertNotNull(result.getBody());
-        assertFalse(result.getBody().isSuccess());
-        assertTrue(result.getBody().getMessage().contains("시작 날짜와 종료 날짜를 모두 입력하거나 모두 생략해주세요"));
+        ApiResponse<?> body = (ApiResponse<?>) result.getBody();
+        assertNotNull(body);
+        assertFalse(body.isSuccess());
+        assertTrue(body.getMessage().contains("시작 날짜와 종료 날짜를 모두 입력하거나 모두 생략해주세요"));
 
-        verify(dashBoardService, never()).getStageKcMasteryTrend(
-                anyLong(), anyString(), any(LocalDate.class), any(LocalDate.class));
+        verify(dashBoardStreamService, never()).getStageKcMasteryTrendJson(
+                anyLong(), anyString(), anyList(), any(LocalDate.class), any(LocalDate.class));
     }
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 존재하지 않는 Stage")
-    void getStageKcMasteryTrend_StageNotFound() {
+    void getStageKcMasteryTrend_StageNotFound() throws Exception {
         // given
         String stage = "9.9.9";
 
-        when(dashBoardService.getStageKcMasteryTrend(
-                eq(testUserId),
-                eq(stage),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenThrow(new IllegalArgumentException("해당 stage에 대한 Knowledge Component가 존재하지 않습니다: " + stage));
+        when(dashBoardStreamService.getStageKcs(stage))
+                .thenThrow(new IllegalArgumentException("해당 stage에 대한 Knowledge Component가 존재하지 않습니다: " + stage));
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, null, null);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
-        assertNotNull(result.getBody());
-        assertFalse(result.getBody().isSuccess());
-        assertTrue(result.getBody().getMessage().contains("해당 stage에 대한 Knowledge Component가 존재하지 않습니다"));
-
-        verify(dashBoardService, times(1)).getStageKcMasteryTrend(
-                eq(testUserId), eq(stage), any(LocalDate.class), any(LocalDate.class));
+        ApiResponse<?> body = (ApiResponse<?>) result.getBody();
+        assertNotNull(body);
+        assertFalse(body.isSuccess());
+        assertTrue(body.getMessage().contains("해당 stage에 대한 Knowledge Component가 존재하지 않습니다"));
+
+        // 응답 본문을 쓰기 전에 400으로 처리
+        verify(dashBoardStreamService, never()).getStageKcMasteryTrendJson(
+                anyLong(), anyString(), anyList(), any(LocalDate.class), any(LocalDate.class));
     }
 
     @Test
@@ -306,58 +227,83 @@ class DashBoardControllerTest {
         // given
         String stage = "1.1.1";
 
-        when(dashBoardService.getStageKcMasteryTrend(
-                eq(testUserId),
-                eq(stage),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenThrow(new RuntimeException("데이터베이스 오류"));
+        when(dashBoardStreamService.getStageKcs(stage)).thenThrow(new RuntimeException("데이터베이스 오류"));
 
         // when
-        ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+        ResponseEntity<?> result =
                 dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, null, null);
 
         // then
         assertNotNull(result);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
-        assertNotNull(result.getBody());
-        assertFalse(result.getBody().isSuccess());
-        assertTrue(result.getBody().getMessage().contains("Stage별 KC 숙련도 변화 추이 조회 중 오류가 발생했습니다"));
+        ApiResponse<?> body = (ApiResponse<?>) result.getBody();
+        assertNotNull(body);
+        assertFalse(body.isSuccess());
+        assertTrue(body.getMessage().contains("Stage별 KC 숙련도 변화 추이 조회 중 오류가 발생했습니다"));
+
+        verify(dashBoardStreamService, times(1)).getStageKcs(stage);
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 응답 생성 중 예외 발생 시 500 응답")
+    void getStageKcMasteryTrend_RenderException() {
+        // given
+        String stage = "1.1.1";
+        List<KnowledgeComponent> kcs = List.of(kc(1L, KcCategory.LABIAL_1, stage));
+
+        when(dashBoardStreamService.getStageKcs(stage)).thenReturn(kcs);
+        when(dashBoardStreamService.getStageKcMasteryTrendJson(
+                eq(testUserId), eq(stage), eq(kcs), any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new RuntimeException("데이터베이스 오류"));
 
-        verify(dashBoardService, times(1)).getStageKcMasteryTrend(
-                eq(testUserId), eq(stage), any(LocalDate.class), any(LocalDate.class));
+        // when
+        ResponseEntity<?> result =
+                dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, null, null);
+
+        // then (응답 본문을 쓰기 전에 실패하므로 잘린 200이 아니라 오류 응답)
+        assertNotNull(result);
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+        ApiResponse<?> body = (ApiResponse<?>) result.getBody();
+        assertNotNull(body);
+        assertFalse(body.isSuccess());
+        assertTrue(body.getMessage().contains("Stage별 KC 숙련도 변화 추이 조회 중 오류가 발생했습니다"));
     }
 
     @Test
     @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - 다양한 Stage 값 테스트")
-    void getStageKcMasteryTrend_VariousStages() {
+    void getStageKcMasteryTrend_VariousStages() throws Exception {
         // given
         String[] stages = {"1.1.1", "1.1.2", "1.2.1", "1.2.2", "2", "3", "4"};
 
         for (String stage : stages) {
-            StageKcMasteryTrendResponse response = StageKcMasteryTrendResponse.builder()
-                    .stage(stage)
-                    .kcTrends(new ArrayList<>())
-                    .build();
-
-            when(dashBoardService.getStageKcMasteryTrend(
-                    eq(testUserId),
-                    eq(stage),
-                    any(LocalDate.class),
-                    any(LocalDate.class)
-            )).thenReturn(response);
+            List<KnowledgeComponent> kcs = List.of(kc(1L, KcCategory.LABIAL_1, stage));
+            when(dashBoardStreamService.getStageKcs(stage)).thenReturn(kcs);
 
             // when
-            ResponseEntity<ApiResponse<StageKcMasteryTrendResponse>> result =
+            ResponseEntity<?> result =
                     dashBoardController.getStageKcMasteryTrend(testUserDetails, stage, null, null);
 
             // then
             assertNotNull(result);
             assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertEquals(stage, result.getBody().getData().getStage());
+            verify(dashBoardStreamService, times(1)).getStageKcMasteryTrendJson(
+                    eq(testUserId), eq(stage), eq(kcs), any(LocalDate.class), any(LocalDate.class));
         }
 
-        verify(dashBoardService, times(stages.length)).getStageKcMasteryTrend(
-                eq(testUserId), anyString(), any(LocalDate.class), any(LocalDate.class));
+        verify(dashBoardStreamService, times(stages.length)).getStageKcMasteryTrendJson(
+                eq(testUserId), anyString(), anyList(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    private String bodyOf(ResponseEntity<?> result) {
+        byte[] body = assertInstanceOf(byte[].class, result.getBody());
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private KnowledgeComponent kc(Long id, KcCategory category, String stage) {
+        return KnowledgeComponent.builder()
+                .id(id)
+                .category(category)
+                .stage(stage)
+                .build();
     }
 }
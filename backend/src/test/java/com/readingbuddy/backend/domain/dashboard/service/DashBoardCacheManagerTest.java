@@ -0,0 +1,223 @@
+package com.readingbuddy.backend.domain.dashboard.service;
+
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
+import com.readingbuddy.backend.common.properties.DashBoardCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DashBoardCacheManager 테스트")
+class DashBoardCacheManagerTest {
+
+    private DashBoardCacheManager dashBoardCacheManager;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        DashBoardCacheProperties properties = new DashBoardCacheProperties();
+        properties.setMaxEntries(3);
+        properties.setMaxUsers(2);
+        properties.setMaxBytes(10L);
+        properties.setMaxEntryBytes(8L);
+        dashBoardCacheManager = new DashBoardCacheManager(properties);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 조회 조건은 캐시된 결과를 반환")
+    void getOrLoad_CacheHit() {
+        // when
+        String first = dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1.1.1"), this::load);
+        String second = dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1.1.1"), this::load);
+
+        // then
+        assertEquals(first, second);
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("파라미터나 회원이 다르면 별도로 조회")
+    void getOrLoad_DifferentKey() {
+        // when
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1.1.1"), this::load);
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1.1.2"), this::load);
+        dashBoardCacheManager.getOrLoad(2L, "stage/info", List.of("1.1.1"), this::load);
+
+        // then
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("학습 기록 변경 이벤트 수신 시 해당 회원만 무효화")
+    void handleLearningRecordChanged_EvictsUser() {
+        // given
+        dashBoardCacheManager.getOrLoad(1L, "kc/all-mastery", List.of(), this::load);
+        dashBoardCacheManager.getOrLoad(2L, "kc/all-mastery", List.of(), this::load);
+
+        // when
+        dashBoardCacheManager.handleLearningRecordChanged(new LearningRecordChangedEvent(1L));
+        dashBoardCacheManager.getOrLoad(1L, "kc/all-mastery", List.of(), this::load);
+        dashBoardCacheManager.getOrLoad(2L, "kc/all-mastery", List.of(), this::load);
+
+        // then
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+    void getOrLoad_LruEviction() {
+        // given
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1"), this::load);
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("2"), this::load);
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("3"), this::load);
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1"), this::load);
+
+        // when
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("4"), this::load);
+
+        // then
+        assertEquals(3, dashBoardCacheManager.size());
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1"), this::load);
+        assertEquals(4, loadCount.get(), "최근 사용한 1번은 남아 있어야 함");
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("2"), this::load);
+        assertEquals(5, loadCount.get(), "가장 오래된 2번은 제거되어야 함");
+    }
+
+    @Test
+    @DisplayName("무효화되면 ETag가 바뀜")
+    void getETag_ChangesAfterEvict() {
+        // given
+        String before = dashBoardCacheManager.getETag(1L);
+
+        // when
+        String unchanged = dashBoardCacheManager.getETag(1L);
+        dashBoardCacheManager.evict(1L);
+        String after = dashBoardCacheManager.getETag(1L);
+
+        // then
+        assertEquals(before, unchanged);
+        assertNotEquals(before, after);
+        assertTrue(after.startsWith("\"") && after.endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("무효화 이력이 없는 회원끼리도 ETag가 다름")
+    void getETag_DiffersPerUser() {
+        // when
+        String first = dashBoardCacheManager.getETag(1L);
+        String second = dashBoardCacheManager.getETag(2L);
+
+        // then
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("버전을 기억하는 회원 수는 max-users를 넘지 않음")
+    void evict_BoundsTrackedUsers() {
+        // when
+        for (long userId = 1; userId <= 100; userId++) {
+            dashBoardCacheManager.evict(userId);
+        }
+
+        // then
+        assertEquals(2, dashBoardCacheManager.trackedUsers());
+    }
+
+    @Test
+    @DisplayName("버전이 밀려난 회원도 무효화 전의 ETag로 돌아가지 않음")
+    void getETag_NotReusedAfterVersionDropped() {
+        // given
+        String beforeChange = dashBoardCacheManager.getETag(1L);
+        dashBoardCacheManager.evict(1L);
+        String afterChange = dashBoardCacheManager.getETag(1L);
+
+        // when (다른 회원들로 1번 회원의 버전을 밀어낸다)
+        dashBoardCacheManager.evict(2L);
+        dashBoardCacheManager.evict(3L);
+        String afterDropped = dashBoardCacheManager.getETag(1L);
+
+        // then
+        assertNotEquals(beforeChange, afterChange);
+        assertNotEquals(beforeChange, afterDropped);
+    }
+
+    @Test
+    @DisplayName("버전이 밀려난 뒤 학습 기록이 바뀌면 다시 조회")
+    void getOrLoad_ReloadsAfterDroppedUserChanges() {
+        // given
+        dashBoardCacheManager.evict(1L);
+        dashBoardCacheManager.evict(2L);
+        dashBoardCacheManager.evict(3L);
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1"), this::load);
+
+        // when
+        dashBoardCacheManager.evict(1L);
+        dashBoardCacheManager.getOrLoad(1L, "stage/info", List.of("1"), this::load);
+
+        // then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("응답 본문은 byte[]로 캐시되고 출력 중 IOException은 저장하지 않고 전달")
+    void getOrWrite_CachesBytes() {
+        // given
+        dashBoardCacheManager.getOrWrite(1L, "kc/all-mastery", List.of(), out -> out.write(load().getBytes()));
+
+        // when
+        byte[] cached = dashBoardCacheManager.getOrWrite(1L, "kc/all-mastery", List.of(),
+                out -> out.write(load().getBytes()));
+
+        // then
+        assertEquals("result-1", new String(cached));
+        assertEquals(1, loadCount.get());
+        assertThrows(UncheckedIOException.class, () -> dashBoardCacheManager.getOrWrite(2L, "kc/all-mastery", List.of(),
+                out -> {
+                    throw new IOException("출력 실패");
+                }));
+        assertEquals(1, dashBoardCacheManager.size());
+    }
+
+    @Test
+    @DisplayName("max-entry-bytes를 넘는 본문은 캐시하지 않음")
+    void getOrWrite_SkipsLargeBody() {
+        // when
+        dashBoardCacheManager.getOrWrite(1L, "kc/all-mastery", List.of(), out -> out.write(new byte[9]));
+        dashBoardCacheManager.getOrWrite(1L, "kc/all-mastery", List.of(), out -> out.write(new byte[9]));
+
+        // then
+        assertEquals(0, dashBoardCacheManager.size());
+        assertEquals(0L, dashBoardCacheManager.cachedBytes());
+    }
+
+    @Test
+    @DisplayName("본문 크기 합계가 max-bytes를 넘으면 가장 오래 사용하지 않은 본문부터 제거")
+    void getOrWrite_BoundsTotalBytes() {
+        // given
+        dashBoardCacheManager.getOrWrite(1L, "practice/list/daily", List.of("1"), out -> out.write(new byte[4]));
+        dashBoardCacheManager.getOrWrite(1L, "practice/list/daily", List.of("2"), out -> out.write(new byte[4]));
+
+        // when
+        dashBoardCacheManager.getOrWrite(1L, "practice/list/daily", List.of("3"), out -> out.write(new byte[4]));
+
+        // then
+        assertEquals(2, dashBoardCacheManager.size());
+        assertEquals(8L, dashBoardCacheManager.cachedBytes());
+        dashBoardCacheManager.getOrWrite(1L, "practice/list/daily", List.of("1"), out -> {
+            loadCount.incrementAndGet();
+            out.write(new byte[4]);
+        });
+        assertEquals(1, loadCount.get(), "가장 오래된 1번은 제거되어야 함");
+    }
+
+    private String load() {
+        return "result-" + loadCount.incrementAndGet();
+    }
+}
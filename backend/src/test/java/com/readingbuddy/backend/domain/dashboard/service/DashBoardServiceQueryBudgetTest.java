@@ -0,0 +1,222 @@
+package com.readingbuddy.backend.domain.dashboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.readingbuddy.backend.common.metrics.SqlStatementCounter;
+import com.readingbuddy.backend.common.properties.DashBoardCacheProperties;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.entity.UserKcMastery;
+import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
+import com.readingbuddy.backend.domain.dashboard.dto.response.StageInfoResponse;
+import com.readingbuddy.backend.domain.train.repository.TrainedStageHistoriesRepository;
+import com.readingbuddy.backend.domain.user.entity.TrainedProblemHistories;
+import com.readingbuddy.backend.domain.user.entity.TrainedStageHistories;
+import com.readingbuddy.backend.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.readingbuddy.backend.common.metrics.SqlQueryBudgetAssertions.assertQueryBudget;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대시보드 조회의 SQL 개수 상한 검사 (세션 수에 비례해 쿼리가 늘어나는 N+1 방지)
+ * 상한은 application.properties의 sql.budget.endpoints와 맞춘다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({DashBoardService.class, CalculateService.class, DashBoardCacheManager.class,
+        DashBoardCacheProperties.class, SqlStatementCounter.class})
+@DisplayName("대시보드 조회 SQL 개수 상한 테스트")
+class DashBoardServiceQueryBudgetTest {
+
+    private static final int SESSION_COUNT = 6;
+    private static final int PROBLEMS_PER_SESSION = 3;
+    private static final String STAGE = "1.1.1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DashBoardService dashBoardService;
+
+    @Autowired
+    private TrainedStageHistoriesRepository trainedStageHistoriesRepository;
+
+    @Autowired
+    private KnowledgeComponentRepository knowledgeComponentRepository;
+
+    @Autowired
+    private UserKcMasteryRepository userKcMasteryRepository;
+
+    @Autowired
+    private CalculateService calculateService;
+
+    @Autowired
+    private DashBoardCacheManager dashBoardCacheManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .email("budget@example.com")
+                .password("password")
+                .nickname("budget")
+                .build());
+        userId = user.getId();
+
+        // KC마다 이력 2개, 최신값은 두 번째
+        for (KcCategory category : new KcCategory[]{KcCategory.LABIAL_1, KcCategory.VELAR_1}) {
+            KnowledgeComponent kc = entityManager.persist(KnowledgeComponent.builder()
+                    .category(category)
+                    .stage(STAGE)
+                    .build());
+            for (int step = 0; step < 2; step++) {
+                LocalDateTime time = LocalDateTime.now().minusHours(2 - step);
+                entityManager.persist(UserKcMastery.builder()
+                        .user(user)
+                        .knowledgeComponent(kc)
+                        .pLearn(0.25f * (step + 1))
+                        .pTrain(0.1f)
+                        .pGuess(0.2f)
+                        .pSlip(0.1f)
+                        .createdAt(time)
+                        .updatedAt(time)
+                        .build());
+            }
+        }
+
+        for (int session = 0; session < SESSION_COUNT; session++) {
+            TrainedStageHistories history = entityManager.persist(TrainedStageHistories.builder()
+                    .stage(STAGE)
+                    .totalCount(PROBLEMS_PER_SESSION)
+                    .correctCount(PROBLEMS_PER_SESSION - 1)
+                    .wrongCount(1)
+                    .tryCount(PROBLEMS_PER_SESSION)
+                    .user(user)
+                    .build());
+            for (int number = 1; number <= PROBLEMS_PER_SESSION; number++) {
+                entityManager.persist(TrainedProblemHistories.builder()
+                        .trainedStageHistories(history)
+                        .problemNumber(number)
+                        .problem("ㄱ")
+                        .answer("ㄱ")
+                        .isCorrect(number != 1)
+                        .attemptNumber(1)
+                        .solvedAt(LocalDateTime.now().minusMinutes(session))
+                        .candidateList("[]")
+                        .build());
+            }
+        }
+        // 영속성 컨텍스트에 남은 엔티티로 조회가 대체되지 않도록 비운다
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/stage/info - 세션 수와 관계없이 SQL 2개 이내")
+    void getStageInfo_WithinQueryBudget() {
+        // when
+        StageInfoResponse response = assertQueryBudget(2,
+                () -> dashBoardService.getStageInfo(userId, STAGE));
+
+        // then
+        assertEquals(SESSION_COUNT * PROBLEMS_PER_SESSION, response.getTotalProblemCount());
+        assertEquals(SESSION_COUNT * (PROBLEMS_PER_SESSION - 1), response.getCorrectProblemCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/practice/list - 세션 수와 관계없이 SQL 1개")
+    void writeStageProblemListByDate_WithinQueryBudget() {
+        // given
+        PracticeHistoryStreamService streamService =
+                new PracticeHistoryStreamService(trainedStageHistoriesRepository, objectMapper, dashBoardCacheManager);
+
+        // when
+        JsonNode data = assertQueryBudget(1,
+                () -> writeJson(out -> streamService.writeStageProblemListByDate(
+                        userId, LocalDate.now(), null, PracticeHistoryStreamService.MAX_PAGE_SIZE, out)));
+
+        // then
+        assertEquals(SESSION_COUNT, data.get("session").size());
+        data.get("session").forEach(session -> {
+            assertEquals(PROBLEMS_PER_SESSION, session.get("totalCount").asInt());
+            assertEquals(1, session.get("problems").get(0).get("problemNumber").asInt());
+        });
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/kc/all-mastery - KC 수와 관계없이 SQL 2개 이내")
+    void writeAllKcAverageMastery_WithinQueryBudget() {
+        // given
+        DashBoardStreamService streamService = new DashBoardStreamService(
+                knowledgeComponentRepository, userKcMasteryRepository, calculateService, objectMapper,
+                dashBoardCacheManager);
+
+        // when
+        JsonNode data = assertQueryBudget(2,
+                () -> writeJson(out -> streamService.writeAllKcAverageMastery(userId, out)));
+
+        // then
+        assertEquals(2, data.get("totalKcCount").asInt());
+        assertEquals(0.5, data.get("overallAverageMastery").asDouble());
+        data.get("kcMasteries").forEach(kc -> assertEquals(0.5, kc.get("plearn").asDouble()));
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/stage/kc-mastery-trend - KC 수와 관계없이 초기값 1개, 이력 스트리밍 1개로 조회")
+    void writeStageKcMasteryTrend_StreamsHistoryOnce() {
+        // given
+        DashBoardStreamService streamService = new DashBoardStreamService(
+                knowledgeComponentRepository, userKcMasteryRepository, calculateService, objectMapper,
+                dashBoardCacheManager);
+        List<KnowledgeComponent> kcs = streamService.getStageKcs(STAGE);
+        LocalDate today = LocalDate.now();
+
+        // when
+        JsonNode data = assertQueryBudget(2,
+                () -> writeJson(out -> streamService.writeStageKcMasteryTrend(
+                        userId, STAGE, kcs, today.minusDays(1), today, out)));
+
+        // then
+        assertEquals(2, data.get("kcTrends").size());
+        data.get("kcTrends").forEach(trend -> assertEquals(2, trend.get("masteryTrend").size()));
+    }
+
+    private JsonNode writeJson(StreamWriter writer) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writer.write(out);
+            return objectMapper.readTree(out.toByteArray()).get("data");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,251 @@
+package com.readingbuddy.backend.domain.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.readingbuddy.backend.common.properties.DashBoardCacheProperties;
+import com.readingbuddy.backend.common.util.format.ApiResponse;
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.enums.KcCategory;
+import com.readingbuddy.backend.domain.bkt.repository.KcMasteryValues;
+import com.readingbuddy.backend.domain.bkt.repository.KnowledgeComponentRepository;
+import com.readingbuddy.backend.domain.bkt.repository.UserKcMasteryRepository;
+import com.readingbuddy.backend.domain.dashboard.dto.response.AllKcAverageMasteryResponse;
+import com.readingbuddy.backend.domain.dashboard.dto.response.StageKcMasteryTrendResponse;
+import com.readingbuddy.backend.domain.dashboard.dto.response.StageKcMasteryTrendResponse.MasteryPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 스트리밍 출력이 기존 DTO를 직렬화한 JSON과 글자 단위로 같은지 비교
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashBoardStreamService 테스트")
+class DashBoardStreamServiceTest {
+
+    @Mock
+    private KnowledgeComponentRepository knowledgeComponentRepository;
+
+    @Mock
+    private UserKcMasteryRepository userKcMasteryRepository;
+
+    @Mock
+    private CalculateService calculateService;
+
+    private DashBoardStreamService dashBoardStreamService;
+    private ObjectMapper objectMapper;
+
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 1, 31);
+    private final LocalDateTime first = LocalDateTime.of(2025, 1, 5, 10, 0);
+    private final LocalDateTime second = LocalDateTime.of(2025, 1, 6, 11, 0);
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        dashBoardStreamService = new DashBoardStreamService(
+                knowledgeComponentRepository, userKcMasteryRepository, calculateService, objectMapper,
+                new DashBoardCacheManager(new DashBoardCacheProperties()));
+    }
+
+    @Test
+    @DisplayName("KC별 숙련도 추이를 기존 DTO 직렬화와 같은 JSON으로 출력")
+    void writeStageKcMasteryTrend_SameAsDto() throws Exception {
+        // given
+        KnowledgeComponent labial = kc(1L, KcCategory.LABIAL_1, "1.1.1");
+        KnowledgeComponent velar = kc(2L, KcCategory.VELAR_1, "1.1.1");
+        MasteryPoint labialInitial = point(0.1f, 0.2f, 0.3f, 0.4f, LocalDateTime.of(2024, 12, 31, 9, 0));
+        MasteryPoint velarInitial = point(0.0f, 0.0f, 0.0f, 0.0f, null);
+
+        when(calculateService.calculateInitialMasteries(eq(1L), eq(List.of(1L, 2L)), any()))
+                .thenReturn(Map.of(1L, labialInitial, 2L, velarInitial));
+        when(userKcMasteryRepository.streamMasteryHistoryByKc(
+                eq(1L), eq(List.of(1L, 2L)), eq(startDate.atStartOfDay()), any()))
+                .thenReturn(Stream.of(
+                        row(1L, 0.5f, 0.6f, 0.2f, 0.1f, first),
+                        row(1L, 0.7f, 0.8f, 0.2f, 0.1f, second)));
+
+        StageKcMasteryTrendResponse expected = StageKcMasteryTrendResponse.builder()
+                .stage("1.1.1")
+                .kcTrends(List.of(
+                        StageKcMasteryTrendResponse.KcTrend.builder()
+                                .kcId(1L)
+                                .kcCategory("LABIAL_1")
+                                .kcDescription(KcCategory.LABIAL_1.getDescription())
+                                .initialMastery(labialInitial)
+                                .masteryTrend(List.of(
+                                        point(0.5f, 0.6f, 0.2f, 0.1f, first),
+                                        point(0.7f, 0.8f, 0.2f, 0.1f, second)))
+                                .build(),
+                        StageKcMasteryTrendResponse.KcTrend.builder()
+                                .kcId(2L)
+                                .kcCategory("VELAR_1")
+                                .kcDescription(KcCategory.VELAR_1.getDescription())
+                                .initialMastery(velarInitial)
+                                .masteryTrend(List.of())
+                                .build()))
+                .build();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dashBoardStreamService.writeStageKcMasteryTrend(1L, "1.1.1", List.of(velar, labial), startDate, endDate, out);
+
+        // then
+        assertEquals(dtoJson("Stage별 KC 숙련도 변화 추이가 조회되었습니다.", expected), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("4.1 stage는 그룹별로 같은 시각의 값을 평균내어 출력")
+    void writeStageKcMasteryTrend_GroupedSameAsDto() throws Exception {
+        // given
+        KnowledgeComponent onset1 = kc(10L, KcCategory.LABIAL_ONSET_1, "4.1");
+        KnowledgeComponent onset2 = kc(11L, KcCategory.VELAR_ONSET_1, "4.1");
+        MasteryPoint initial = point(0.2f, 0.3f, 0.2f, 0.1f, null);
+
+        when(calculateService.calculateGroupInitialMastery(eq(1L), eq(List.of(onset1, onset2)), any()))
+                .thenReturn(initial);
+        when(userKcMasteryRepository.streamMasteryHistoryByUpdatedAt(eq(1L), eq(List.of(10L, 11L)), any(), any()))
+                .thenReturn(Stream.of(
+                        row(10L, 0.3f, 0.4f, 0.2f, 0.1f, first),
+                        row(11L, 0.6f, 0.5f, 0.1f, 0.3f, first),
+                        row(10L, 0.9f, 0.4f, 0.2f, 0.1f, second)));
+
+        StageKcMasteryTrendResponse expected = StageKcMasteryTrendResponse.builder()
+                .stage("4.1")
+                .kcTrends(List.of(StageKcMasteryTrendResponse.KcTrend.builder()
+                        .kcId(null)
+                        .kcCategory("초성")
+                        .kcDescription("초성 분절 평균")
+                        .initialMastery(initial)
+                        .masteryTrend(List.of(
+                                point((float) ((0.3f + (double) 0.6f) / 2), (float) ((0.4f + (double) 0.5f) / 2),
+                                        (float) ((0.2f + (double) 0.1f) / 2), (float) ((0.1f + (double) 0.3f) / 2), first),
+                                point(0.9f, 0.4f, 0.2f, 0.1f, second)))
+                        .build()))
+                .build();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dashBoardStreamService.writeStageKcMasteryTrend(1L, "4.1", List.of(onset1, onset2), startDate, endDate, out);
+
+        // then
+        assertEquals(dtoJson("Stage별 KC 숙련도 변화 추이가 조회되었습니다.", expected), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 stage는 예외 발생")
+    void getStageKcs_StageNotFound() {
+        // given
+        when(knowledgeComponentRepository.findByStage("9.9.9")).thenReturn(List.of());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> dashBoardStreamService.getStageKcs("9.9.9"));
+    }
+
+    @Test
+    @DisplayName("모든 KC의 최신 숙련도와 평균을 기존 DTO 직렬화와 같은 JSON으로 출력")
+    void writeAllKcAverageMastery_SameAsDto() throws Exception {
+        // given
+        KnowledgeComponent labial = kc(1L, KcCategory.LABIAL_1, "1.1.1");
+        KnowledgeComponent velar = kc(2L, KcCategory.VELAR_1, "1.1.1");
+        when(knowledgeComponentRepository.findAll()).thenReturn(List.of(labial, velar));
+        // 같은 시각의 최신값이 둘이면 먼저 온 행을 사용
+        when(userKcMasteryRepository.findLatestMasteryValuesByUserId(1L)).thenReturn(List.of(
+                row(1L, 0.35f, 0.6f, 0.2f, 0.1f, second),
+                row(1L, 0.1f, 0.1f, 0.1f, 0.1f, second)));
+
+        AllKcAverageMasteryResponse expected = AllKcAverageMasteryResponse.builder()
+                .totalKcCount(2)
+                .overallAverageMastery(Math.round((0.35f + 0.0) / 2 * 10000.0) / 10000.0)
+                .kcMasteries(List.of(
+                        AllKcAverageMasteryResponse.KcMasteryInfo.builder()
+                                .kcId(1L)
+                                .kcCategory("LABIAL_1")
+                                .kcDescription(KcCategory.LABIAL_1.getDescription())
+                                .stage("1.1.1")
+                                .pLearn(0.35f).pTrain(0.6f).pGuess(0.2f).pSlip(0.1f)
+                                .updatedAt(second)
+                                .build(),
+                        AllKcAverageMasteryResponse.KcMasteryInfo.builder()
+                                .kcId(2L)
+                                .kcCategory("VELAR_1")
+                                .kcDescription(KcCategory.VELAR_1.getDescription())
+                                .stage("1.1.1")
+                                .pLearn(0.0f).pTrain(0.0f).pGuess(0.0f).pSlip(0.0f)
+                                .updatedAt(null)
+                                .build()))
+                .build();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dashBoardStreamService.writeAllKcAverageMastery(1L, out);
+
+        // then
+        assertEquals(dtoJson("모든 KC의 평균 숙련도가 조회되었습니다.", expected), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("KC가 없으면 빈 목록과 평균 0으로 출력")
+    void writeAllKcAverageMastery_NoKc() throws Exception {
+        // given
+        when(knowledgeComponentRepository.findAll()).thenReturn(List.of());
+        when(userKcMasteryRepository.findLatestMasteryValuesByUserId(1L)).thenReturn(List.of());
+
+        AllKcAverageMasteryResponse expected = AllKcAverageMasteryResponse.builder()
+                .totalKcCount(0)
+                .overallAverageMastery(0.0)
+                .kcMasteries(List.of())
+                .build();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dashBoardStreamService.writeAllKcAverageMastery(1L, out);
+
+        // then
+        assertEquals(dtoJson("모든 KC의 평균 숙련도가 조회되었습니다.", expected), out.toString(StandardCharsets.UTF_8));
+    }
+
+    private String dtoJson(String message, Object data) throws Exception {
+        return objectMapper.writeValueAsString(ApiResponse.success(message, data));
+    }
+
+    private KnowledgeComponent kc(Long id, KcCategory category, String stage) {
+        return KnowledgeComponent.builder()
+                .id(id)
+                .category(category)
+                .stage(stage)
+                .build();
+    }
+
+    private MasteryPoint point(float pLearn, float pTrain, float pGuess, float pSlip, LocalDateTime updatedAt) {
+        return MasteryPoint.builder()
+                .pLearn(pLearn)
+                .pTrain(pTrain)
+                .pGuess(pGuess)
+                .pSlip(pSlip)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private KcMasteryValues row(Long kcId, float pLearn, float pTrain, float pGuess, float pSlip, LocalDateTime updatedAt) {
+        return new KcMasteryValues(kcId, pLearn, pTrain, pGuess, pSlip, updatedAt);
+    }
+}
@@ -0,0 +1,195 @@
+package com.readingbuddy.backend.domain.dashboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.readingbuddy.backend.common.properties.DashBoardCacheProperties;
+import com.readingbuddy.backend.common.util.format.ApiResponse;
+import com.readingbuddy.backend.domain.dashboard.dto.request.PracticeHistoryCursor;
+import com.readingbuddy.backend.domain.dashboard.dto.response.StageProblemListResponse;
+import com.readingbuddy.backend.domain.train.repository.TrainedStageHistoriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PracticeHistoryStreamService 테스트")
+class PracticeHistoryStreamServiceTest {
+
+    @Mock
+    private TrainedStageHistoriesRepository trainedStageHistoriesRepository;
+
+    private PracticeHistoryStreamService practiceHistoryStreamService;
+    private ObjectMapper objectMapper;
+
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 1, 31);
+    private final LocalDateTime firstStartedAt = LocalDateTime.of(2025, 1, 5, 10, 0);
+    private final LocalDateTime secondStartedAt = LocalDateTime.of(2025, 1, 6, 11, 0);
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        practiceHistoryStreamService = new PracticeHistoryStreamService(trainedStageHistoriesRepository, objectMapper,
+                new DashBoardCacheManager(new DashBoardCacheProperties()));
+    }
+
+    @Test
+    @DisplayName("세션별 문제 이력을 기존 응답과 같은 형태로 출력")
+    void writeStageProblemListByRange_SameShapeAsDto() throws Exception {
+        // given
+        when(trainedStageHistoriesRepository.streamStageProblemListByRange(
+                eq(1L), any(), any(), eq(startDate.atStartOfDay()), eq(0L), eq(11)))
+                .thenReturn(Stream.of(
+                        problemRow(10L, firstStartedAt, 100L, 1, true),
+                        problemRow(10L, firstStartedAt, 101L, 2, false),
+                        emptySessionRow(11L, secondStartedAt)));
+
+        // when
+        JsonNode root = write(null, 10);
+
+        // then
+        List<StageProblemListResponse.SessionInfo> expected = List.of(
+                StageProblemListResponse.SessionInfo.builder()
+                        .trainedStageHistoryId(10L)
+                        .stage("1.1.1")
+                        .startedAt(firstStartedAt)
+                        .totalCount(2)
+                        .correctCount(1)
+                        .wrongCount(1)
+                        .problems(List.of(problemInfo(100L, 1, true), problemInfo(101L, 2, false)))
+                        .build(),
+                StageProblemListResponse.SessionInfo.builder()
+                        .trainedStageHistoryId(11L)
+                        .stage("1.1.1")
+                        .startedAt(secondStartedAt)
+                        .totalCount(0)
+                        .correctCount(1)
+                        .wrongCount(1)
+                        .problems(List.of())
+                        .build());
+
+        assertTrue(root.get("success").asBoolean());
+        assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(root.get("data").get("session")));
+        assertFalse(root.get("data").get("hasNext").asBoolean());
+        assertTrue(root.get("data").get("nextCursor").isNull());
+    }
+
+    @Test
+    @DisplayName("size를 넘는 세션이 있으면 마지막 세션 위치로 nextCursor 반환")
+    void writeStageProblemListByRange_HasNext() throws Exception {
+        // given
+        PracticeHistoryCursor cursor = new PracticeHistoryCursor(LocalDateTime.of(2025, 1, 2, 9, 0), 5L);
+        when(trainedStageHistoriesRepository.streamStageProblemListByRange(
+                eq(1L), any(), any(), eq(cursor.getStartedAt()), eq(5L), eq(2)))
+                .thenReturn(Stream.of(
+                        problemRow(10L, firstStartedAt, 100L, 1, true),
+                        problemRow(11L, secondStartedAt, 102L, 1, true)));
+
+        // when
+        JsonNode root = write(cursor, 1);
+
+        // then
+        assertEquals(1, root.get("data").get("session").size());
+        assertTrue(root.get("data").get("hasNext").asBoolean());
+
+        PracticeHistoryCursor next = PracticeHistoryCursor.decode(root.get("data").get("nextCursor").asText());
+        assertEquals(firstStartedAt, next.getStartedAt());
+        assertEquals(10L, next.getId());
+    }
+
+    @Test
+    @DisplayName("일별 훈련 기록을 기존 DTO 직렬화와 같은 JSON으로 출력")
+    void writeStageProblemListByDate_SameAsDto() throws Exception {
+        // given
+        LocalDate date = firstStartedAt.toLocalDate();
+        when(trainedStageHistoriesRepository.streamStageProblemListByRange(
+                eq(1L), eq(date.atStartOfDay()), any(), eq(date.atStartOfDay()), eq(0L), eq(PracticeHistoryStreamService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(Stream.of(
+                        problemRow(10L, firstStartedAt, 100L, 1, true),
+                        problemRow(10L, firstStartedAt, 101L, 2, false)));
+
+        StageProblemListResponse expected = StageProblemListResponse.builder()
+                .date(date)
+                .session(List.of(StageProblemListResponse.SessionInfo.builder()
+                        .trainedStageHistoryId(10L)
+                        .stage("1.1.1")
+                        .startedAt(firstStartedAt)
+                        .totalCount(2)
+                        .correctCount(1)
+                        .wrongCount(1)
+                        .problems(List.of(problemInfo(100L, 1, true), problemInfo(101L, 2, false)))
+                        .build()))
+                .nextCursor(null)
+                .hasNext(false)
+                .build();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        practiceHistoryStreamService.writeStageProblemListByDate(
+                1L, date, null, PracticeHistoryStreamService.MAX_PAGE_SIZE, out);
+
+        // then
+        assertEquals(objectMapper.writeValueAsString(ApiResponse.success("일별 훈련 기록이 조회되었습니다.", expected)),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외 발생")
+    void decodeCursor_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> PracticeHistoryCursor.decode("invalid"));
+    }
+
+    private JsonNode write(PracticeHistoryCursor cursor, int size) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        practiceHistoryStreamService.writeStageProblemListByRange(1L, startDate, endDate, cursor, size, out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+
+    private Object[] problemRow(Long sessionId, LocalDateTime startedAt, Long problemId, int problemNumber, boolean isCorrect) {
+        return new Object[]{
+                sessionId, "1.1.1", Timestamp.valueOf(startedAt), 2L, 1, 1,
+                problemId, problemNumber, "ㅏ", "ㅏ", isCorrect, null, 1,
+                "https://audio/" + problemId, Timestamp.valueOf(startedAt.plusMinutes(problemNumber))
+        };
+    }
+
+    private Object[] emptySessionRow(Long sessionId, LocalDateTime startedAt) {
+        return new Object[]{
+                sessionId, "1.1.1", Timestamp.valueOf(startedAt), 0L, 1, 1,
+                null, null, null, null, null, null, null, null, null
+        };
+    }
+
+    private StageProblemListResponse.ProblemInfo problemInfo(Long problemId, int problemNumber, boolean isCorrect) {
+        return StageProblemListResponse.ProblemInfo.builder()
+                .problemId(problemId)
+                .problemNumber(problemNumber)
+                .problem("ㅏ")
+                .answer("ㅏ")
+                .isCorrect(isCorrect)
+                .isReplyCorrect(null)
+                .attemptNumber(1)
+                .audioUrl("https://audio/" + problemId)
+                .solvedAt(firstStartedAt.plusMinutes(problemNumber))
+                .build();
+    }
+}
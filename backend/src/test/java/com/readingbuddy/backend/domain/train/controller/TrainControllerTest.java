@@ -29,10 +29,7 @@ class TrainControllerTest {
     private ProblemGenerateService problemGenerateService;
 
     @Mock
-    private VowelTrainService vowelTrainService;
-
-    @Mock
-    private ConsonantTrainService consonantTrainService;
+    private ProblemSetPrefetcher problemSetPrefetcher;
 
     @Mock
     private TrainManager trainManager;
@@ -0,0 +1,122 @@
+package com.readingbuddy.backend.domain.train.service;
+
+import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
+import com.readingbuddy.backend.domain.bkt.service.BktService;
+import com.readingbuddy.backend.domain.bkt.service.KcScheduler;
+import com.readingbuddy.backend.domain.train.dto.result.KcWithCorrectRate;
+import com.readingbuddy.backend.domain.train.dto.result.PhonemeWithKcIdAndCandidate;
+import com.readingbuddy.backend.domain.train.dto.result.ProblemResult;
+import com.readingbuddy.backend.domain.train.dto.result.Stage1_1Problem;
+import com.readingbuddy.backend.domain.train.entity.Phonemes;
+import com.readingbuddy.backend.domain.train.repository.PhonemesRepository;
+import com.readingbuddy.backend.domain.train.repository.WordsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConsonantTrainService 테스트")
+class ConsonantTrainServiceTest {
+
+    @Mock
+    private PhonemesRepository phonemesRepository;
+
+    @Mock
+    private WordsRepository wordsRepository;
+
+    @Mock
+    private BktService bktService;
+
+    @Mock
+    private KcScheduler kcScheduler;
+
+    @InjectMocks
+    private ConsonantTrainService consonantTrainService;
+
+    private final Long userId = 1L;
+    private final AtomicLong phonemeIds = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(phonemesRepository.findRandomConsonant(anyLong())).thenAnswer(invocation -> phoneme());
+        lenient().when(bktService.selectPhonemeUsingBitMask(eq(userId), eq("1.2.1"), anyLong(), anySet()))
+                .thenAnswer(invocation -> PhonemeWithKcIdAndCandidate.builder()
+                        .phonemes(phoneme())
+                        .KcId(invocation.getArgument(2))
+                        .candidateList("0")
+                        .build());
+    }
+
+    @Test
+    @DisplayName("쉬움·보통·어려움 수준을 번갈아 편성하고 수준 안에서는 정답률이 낮은 KC를 고름")
+    void getBasicProblem_MixesLevels() {
+        // given (힙 순서: 정답률이 낮은 순)
+        when(kcScheduler.rankedKcs(userId, "1.2.1")).thenReturn(List.of(
+                kc(1L, 0.1f), kc(2L, 0.2f),
+                kc(3L, 0.4f), kc(4L, 0.5f),
+                kc(5L, 0.8f), kc(6L, 0.9f)
+        ));
+
+        // when
+        List<ProblemResult> problems = consonantTrainService.getBasicProblem(userId, 3);
+
+        // then
+        List<Long> kcIds = problems.stream().map(problem -> ((Stage1_1Problem) problem).getKcId()).toList();
+        assertEquals(List.of(1L, 3L, 5L), kcIds);
+    }
+
+    @Test
+    @DisplayName("같은 수준 안에서는 정답률이 낮은 절반 중 무작위로 골라 매번 같은 KC만 나오지 않음")
+    void getBasicProblem_RandomWithinLevel() {
+        // given (모두 쉬움 수준, 낮은 절반은 KC 1~3)
+        when(kcScheduler.rankedKcs(userId, "1.2.1")).thenReturn(List.of(
+                kc(1L, 0.0f), kc(2L, 0.05f), kc(3L, 0.1f),
+                kc(4L, 0.15f), kc(5L, 0.2f), kc(6L, 0.25f)
+        ));
+
+        // when
+        Set<Long> selectedKcIds = new HashSet<>();
+        for (int run = 0; run < 50; run++) {
+            consonantTrainService.getBasicProblem(userId, 1)
+                    .forEach(problem -> selectedKcIds.add(((Stage1_1Problem) problem).getKcId()));
+        }
+
+        // then
+        assertTrue(selectedKcIds.size() > 1);
+        assertTrue(Set.of(1L, 2L, 3L).containsAll(selectedKcIds));
+    }
+
+    @Test
+    @DisplayName("단계에 KC가 없으면 빈 목록")
+    void getBasicProblem_NoKcs() {
+        // given
+        when(kcScheduler.rankedKcs(userId, "1.2.1")).thenReturn(List.of());
+
+        // when & then
+        assertTrue(consonantTrainService.getBasicProblem(userId, 3).isEmpty());
+    }
+
+    private KcWithCorrectRate kc(Long id, float correctRate) {
+        return new KcWithCorrectRate(KnowledgeComponent.builder().id(id).stage("1.2.1").build(), correctRate);
+    }
+
+    private Phonemes phoneme() {
+        Phonemes phoneme = mock(Phonemes.class);
+        lenient().when(phoneme.getId()).thenReturn(phonemeIds.incrementAndGet());
+        lenient().when(phoneme.getValue()).thenReturn("ㄱ");
+        return phoneme;
+    }
+}
@@ -4,18 +4,21 @@ import com.readingbuddy.backend.domain.bkt.entity.KnowledgeComponent;
 import com.readingbuddy.backend.domain.bkt.entity.LettersKcMap;
 import com.readingbuddy.backend.domain.bkt.repository.LettersKcMapRepository;
 import com.readingbuddy.backend.domain.bkt.service.BktService;
+import com.readingbuddy.backend.domain.bkt.service.KcScheduler;
 import com.readingbuddy.backend.domain.train.dto.result.KcWithCorrectRate;
 import com.readingbuddy.backend.domain.train.dto.result.ProblemResult;
 import com.readingbuddy.backend.domain.train.dto.result.Stage3Problem;
 import com.readingbuddy.backend.domain.train.entity.Letters;
 import com.readingbuddy.backend.domain.train.repository.LettersRepository;
 import com.readingbuddy.backend.domain.train.repository.WordsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigInteger;
@@ -43,6 +46,12 @@ class ProblemGenerateServiceTest {
     @Mock
     private LettersKcMapRepository lettersKcMapRepository;
 
+    @Mock
+    private KcScheduler kcScheduler;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ProblemGenerateService problemGenerateService;
 
@@ -97,7 +106,7 @@ class ProblemGenerateServiceTest {
             lettersKcMaps.add(map);
         }
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(anyLong())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(anyLong(), anyLong())).thenReturn("0");  // 아직 출제된 문제 없음
 
@@ -130,7 +139,7 @@ class ProblemGenerateServiceTest {
         }
 
         // BKT 서비스 호출 검증
-        verify(bktService, times(1)).getLowestCorrectRateKcsByStage(testUserId, "3");
+        verify(kcScheduler, times(1)).nextKcs(testUserId, "3", 2);
         verify(bktService, times(2)).getCandidateBitMask(anyLong(), anyLong());
         verify(lettersKcMapRepository, times(2)).findByKnowledgeComponentId(anyLong());
     }
@@ -155,7 +164,7 @@ class ProblemGenerateServiceTest {
         // 0번과 1번 인덱스가 이미 출제됨 (비트마스크: 0b00011 = 3)
         String existingCandidateList = "3";
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn(existingCandidateList);
 
@@ -208,7 +217,7 @@ class ProblemGenerateServiceTest {
         // 3개 모두 출제됨 (비트마스크: 0b111 = 7)
         String fullCandidateList = "7";
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn(fullCandidateList);
 
@@ -249,7 +258,7 @@ class ProblemGenerateServiceTest {
             lettersKcMaps.add(map);
         }
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn("0");
 
@@ -289,7 +298,7 @@ class ProblemGenerateServiceTest {
             lettersKcMaps.add(map);
         }
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn("0");
 
@@ -306,7 +315,7 @@ class ProblemGenerateServiceTest {
     @DisplayName("generateStage3 - KC 리스트가 비어있는 경우")
     void generateStage3_WithEmptyKCList() {
         // given
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(new ArrayList<>());
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(new ArrayList<>());
 
         // when
         List<ProblemResult> results = problemGenerateService.generateStage3(testUserId, 5);
@@ -324,7 +333,7 @@ class ProblemGenerateServiceTest {
                 new KcWithCorrectRate(testKc1, 0.3f)
         );
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(new ArrayList<>());
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn("0");
 
@@ -353,7 +362,7 @@ class ProblemGenerateServiceTest {
             lettersKcMaps.add(map);
         }
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn("0");
 
@@ -407,7 +416,7 @@ class ProblemGenerateServiceTest {
         // available은 인덱스 0, 1만 (2개만 available)
         String candidateListWith3Used = "28";  // 0b11100
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn(candidateListWith3Used);
 
@@ -470,7 +479,7 @@ class ProblemGenerateServiceTest {
         // available은 인덱스 0만 (1개만 available)
         String candidateListWith4Used = "30";  // 0b11110
 
-        when(bktService.getLowestCorrectRateKcsByStage(testUserId, "3")).thenReturn(kcList);
+        when(kcScheduler.nextKcs(testUserId, "3", 2)).thenReturn(kcList);
         when(lettersKcMapRepository.findByKnowledgeComponentId(testKc1.getId())).thenReturn(lettersKcMaps);
         when(bktService.getCandidateBitMask(testUserId, testKc1.getId())).thenReturn(candidateListWith4Used);
 
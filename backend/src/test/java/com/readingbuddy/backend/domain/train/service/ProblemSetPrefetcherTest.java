@@ -0,0 +1,158 @@
+package com.readingbuddy.backend.domain.train.service;
+
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
+import com.readingbuddy.backend.common.properties.ProblemPrefetchProperties;
+import com.readingbuddy.backend.domain.train.dto.result.ProblemResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProblemSetPrefetcher 테스트")
+class ProblemSetPrefetcherTest {
+
+    @Mock
+    private VowelTrainService vowelTrainService;
+
+    @Mock
+    private ConsonantTrainService consonantTrainService;
+
+    @Mock
+    private ProblemGenerateService problemGenerateService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProblemSetPrefetcher problemSetPrefetcher;
+    private final AtomicInteger generated = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        problemSetPrefetcher = new ProblemSetPrefetcher(
+                vowelTrainService, consonantTrainService, problemGenerateService,
+                transactionManager, new ProblemPrefetchProperties(), meterRegistry);
+
+        lenient().when(vowelTrainService.getBasicProblem(anyLong(), eq(5)))
+                .thenAnswer(invocation -> List.of(new ProblemResult("set-" + generated.incrementAndGet())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        problemSetPrefetcher.destroy();
+    }
+
+    @Test
+    @DisplayName("스테이지 시작 시 미리 만든 세트로 응답")
+    void getProblemSet_UsesPrefetchedSet() {
+        // given
+        problemSetPrefetcher.prefetch(1L, "1.1.1", 5);
+        verify(vowelTrainService, timeout(1000).times(1)).getBasicProblem(1L, 5);
+
+        // when
+        List<ProblemResult> problems = problemSetPrefetcher.getProblemSet(1L, "1.1.1", 5);
+
+        // then
+        assertEquals("set-1", problems.get(0).getProblemWord());
+        // 세트를 가져간 뒤 다음 세트를 다시 준비
+        verify(vowelTrainService, timeout(1000).times(2)).getBasicProblem(1L, 5);
+        assertEquals(1, problemSetPrefetcher.size());
+        assertEquals(1.0, meterRegistry.get("training.prefetch.requests").tags("stage", "1.1.1", "result", "hit").counter().count());
+        // 두 번째 미리 생성은 비동기라 기록 시점이 늦을 수 있음
+        assertTrue(meterRegistry.get("training.problem.generation").tags("stage", "1.1.1", "source", "prefetch").timer().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("새 풀이 기록이 생기면 미리 만든 세트를 버리고 새로 생성")
+    void getProblemSet_InvalidatedByLearningRecord() {
+        // given
+        problemSetPrefetcher.prefetch(1L, "1.1.1", 5);
+        verify(vowelTrainService, timeout(1000).times(1)).getBasicProblem(1L, 5);
+
+        // when
+        problemSetPrefetcher.handleLearningRecordChanged(new LearningRecordChangedEvent(1L));
+        List<ProblemResult> problems = problemSetPrefetcher.getProblemSet(1L, "1.1.1", 5);
+
+        // then
+        assertNotEquals("set-1", problems.get(0).getProblemWord());
+    }
+
+    @Test
+    @DisplayName("풀이가 멈추면 버린 세트를 바뀐 숙련도로 한 번만 다시 생성")
+    void invalidate_RefreshesAfterLastAttempt() {
+        // given
+        problemSetPrefetcher.destroy();
+        ProblemPrefetchProperties properties = new ProblemPrefetchProperties();
+        properties.setRefreshDelayMs(200L);
+        problemSetPrefetcher = new ProblemSetPrefetcher(
+                vowelTrainService, consonantTrainService, problemGenerateService,
+                transactionManager, properties, meterRegistry);
+        problemSetPrefetcher.prefetch(1L, "1.1.1", 5);
+        verify(vowelTrainService, timeout(1000).times(1)).getBasicProblem(1L, 5);
+
+        // when (풀이마다 기록 변경 이벤트가 발생)
+        for (int attempt = 0; attempt < 3; attempt++) {
+            problemSetPrefetcher.handleLearningRecordChanged(new LearningRecordChangedEvent(1L));
+        }
+
+        // then
+        verify(vowelTrainService, after(1000).times(2)).getBasicProblem(1L, 5);
+        List<ProblemResult> problems = problemSetPrefetcher.getProblemSet(1L, "1.1.1", 5);
+        assertEquals("set-2", problems.get(0).getProblemWord());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 기록 변경은 영향을 주지 않음")
+    void invalidate_OtherUser_KeepsSet() {
+        // given
+        problemSetPrefetcher.prefetch(1L, "1.1.1", 5);
+        verify(vowelTrainService, timeout(1000).times(1)).getBasicProblem(1L, 5);
+
+        // when
+        problemSetPrefetcher.invalidate(2L);
+        List<ProblemResult> problems = problemSetPrefetcher.getProblemSet(1L, "1.1.1", 5);
+
+        // then
+        assertEquals("set-1", problems.get(0).getProblemWord());
+    }
+
+    @Test
+    @DisplayName("요청한 문제 수가 다르면 새로 생성")
+    void getProblemSet_CountMismatch_Generates() {
+        // given
+        when(vowelTrainService.getBasicProblem(1L, 3)).thenReturn(List.of(new ProblemResult("direct")));
+        problemSetPrefetcher.prefetch(1L, "1.1.1", 5);
+        verify(vowelTrainService, timeout(1000).times(1)).getBasicProblem(1L, 5);
+
+        // when
+        List<ProblemResult> problems = problemSetPrefetcher.getProblemSet(1L, "1.1.1", 3);
+
+        // then
+        assertEquals("direct", problems.get(0).getProblemWord());
+    }
+
+    @Test
+    @DisplayName("숙련도와 무관한 단계는 미리 생성하지 않음")
+    void prefetch_UnsupportedStage_Ignored() {
+        // when
+        problemSetPrefetcher.prefetch(1L, "2", 5);
+
+        // then
+        assertEquals(0, problemSetPrefetcher.size());
+        verifyNoInteractions(problemGenerateService);
+    }
+}
@@ -1,6 +1,8 @@
 package com.readingbuddy.backend.domain.train.service;
 
 import com.readingbuddy.backend.domain.train.dto.result.StageSessionInfo;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
@@ -24,6 +26,7 @@ class TrainManagerTest {
     private MockWebServer mockWebServer;
     private TrainManager trainManager;
     private Map<String, StageSessionInfo> stageSessions;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() throws IOException {
@@ -37,7 +40,8 @@ class TrainManagerTest {
                 .build();
 
         // TrainManager 생성 및 stageSessions 필드 직접 설정
-        trainManager = new TrainManager(webClient);
+        meterRegistry = new SimpleMeterRegistry();
+        trainManager = new TrainManager(webClient, meterRegistry);
         stageSessions = new ConcurrentHashMap<>();
         ReflectionTestUtils.setField(trainManager, "stageSessions", stageSessions);
     }
@@ -159,4 +163,33 @@ class TrainManagerTest {
         assertEquals(Boolean.TRUE, stageSessionInfo.getIsProblemCorrect().get(1));
     }
 
+    @Test
+    @DisplayName("AI 서버 호출 시간은 route, stage, outcome 태그로, 채점 결과는 정답 여부로 기록")
+    void sendVoiceToAI_RecordsMetrics() {
+        // given
+        String stageSessionId = trainManager.generateQuestionSession(100L);
+        MockMultipartFile audioFile = new MockMultipartFile("audio", "test.wav", "audio/wav", "test audio content".getBytes());
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("{\"is_correct\": false, \"decoded_tokens\": [\"ㄴ\"]}")
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500).setBody("error"));
+
+        // when
+        trainManager.sendVoiceToAI(stageSessionId, audioFile, "1.2.1", 1, "ㄱ");
+        trainManager.sendVoiceToAI(stageSessionId, audioFile, "1.2.1", 2, "ㄱ");
+
+        // then
+        Timer success = meterRegistry.find("ai.server.requests")
+                .tags("route", "/check/jamo", "stage", "1.2.1", "outcome", "success").timer();
+        Timer error = meterRegistry.find("ai.server.requests")
+                .tags("route", "/check/jamo", "stage", "1.2.1", "outcome", "error").timer();
+        assertNotNull(success);
+        assertNotNull(error);
+        assertEquals(1, success.count());
+        assertEquals(1, error.count());
+        assertEquals(1.0, meterRegistry.get("ai.server.answers").tag("correct", "false").counter().count());
+        assertEquals(1.0, meterRegistry.get("training.sessions.active").gauge().value());
+    }
+
 }
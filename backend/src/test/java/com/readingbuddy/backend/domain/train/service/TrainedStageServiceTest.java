@@ -18,13 +18,17 @@ import com.readingbuddy.backend.domain.user.entity.TrainedProblemHistories;
 import com.readingbuddy.backend.domain.user.entity.TrainedStageHistories;
 import com.readingbuddy.backend.domain.user.entity.User;
 import com.readingbuddy.backend.domain.user.repository.UserRepository;
+import com.readingbuddy.backend.domain.user.service.PlaytimeTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -58,6 +62,15 @@ class TrainedStageServiceTest {
     @Mock
     private BktService bktService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlaytimeTracker playtimeTracker;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TrainedStageService trainedStageService;
 
@@ -492,16 +505,13 @@ class TrainedStageServiceTest {
                 .thenReturn(savedAttempt);
         when(knowledgeComponentRepository.findById(kcId))
                 .thenReturn(Optional.of(kc));
-        when(bktService.getCorrectAnswerRate(testUserId, kcId))
-                .thenReturn(0.5f);
 
         // when
         AttemptResponse response = trainedStageService.submitAttempt(testUserId, request);
 
         // then
         assertNotNull(response);
-        verify(bktService, times(1)).getCorrectAnswerRate(testUserId, kcId);
-        verify(bktService, times(1)).updateLearnedMastery(testUserId, kcId, true, 0.5f);
+        verify(bktService, times(1)).updateLearnedMastery(testUserId, "3", kcId, true);
         verify(trainProblemHistoriesKcMapRepository, times(1)).save(any());
     }
 
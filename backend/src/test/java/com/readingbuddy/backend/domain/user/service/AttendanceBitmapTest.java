@@ -0,0 +1,77 @@
+package com.readingbuddy.backend.domain.user.service;
+
+import com.readingbuddy.backend.domain.dashboard.repository.AttendanceHistoriesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceBitmap 테스트")
+class AttendanceBitmapTest {
+
+    @Mock
+    private AttendanceHistoriesRepository attendanceHistoriesRepository;
+
+    @InjectMocks
+    private AttendanceBitmap attendanceBitmap;
+
+    @Test
+    @DisplayName("재구성 시 DB의 출석 기록이 비트맵에 반영됨")
+    void rebuild_LoadsAttendedUsers() {
+        // given
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        when(attendanceHistoriesRepository.findUserIdsByAttendDate(today)).thenReturn(List.of(1L, 42L));
+
+        // when
+        attendanceBitmap.rebuild(today);
+
+        // then
+        assertTrue(attendanceBitmap.isAttended(1L, today));
+        assertTrue(attendanceBitmap.isAttended(42L, today));
+        assertFalse(attendanceBitmap.isAttended(2L, today));
+    }
+
+    @Test
+    @DisplayName("같은 날의 반복 조회는 DB를 다시 조회하지 않음")
+    void isAttended_SameDay_NoReload() {
+        // given
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        when(attendanceHistoriesRepository.findUserIdsByAttendDate(today)).thenReturn(List.of());
+
+        // when
+        attendanceBitmap.markAttended(7L, today);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(attendanceBitmap.isAttended(7L, today));
+        }
+
+        // then
+        verify(attendanceHistoriesRepository, times(1)).findUserIdsByAttendDate(today);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 새 날짜 기준으로 다시 구성됨")
+    void isAttended_DayRollover_Rebuilds() {
+        // given
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        LocalDate tomorrow = today.plusDays(1);
+        when(attendanceHistoriesRepository.findUserIdsByAttendDate(today)).thenReturn(List.of(7L));
+        when(attendanceHistoriesRepository.findUserIdsByAttendDate(tomorrow)).thenReturn(List.of());
+        attendanceBitmap.rebuild(today);
+
+        // when
+        boolean attendedTomorrow = attendanceBitmap.isAttended(7L, tomorrow);
+
+        // then
+        assertFalse(attendedTomorrow);
+        verify(attendanceHistoriesRepository, times(1)).findUserIdsByAttendDate(tomorrow);
+    }
+}
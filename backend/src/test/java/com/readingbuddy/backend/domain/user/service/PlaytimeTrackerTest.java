@@ -0,0 +1,194 @@
+package com.readingbuddy.backend.domain.user.service;
+
+import com.readingbuddy.backend.common.event.LearningRecordChangedEvent;
+import com.readingbuddy.backend.common.properties.PlaytimeProperties;
+import com.readingbuddy.backend.domain.dashboard.repository.AttendanceHistoriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaytimeTracker 테스트")
+class PlaytimeTrackerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AttendanceHistoriesRepository attendanceHistoriesRepository;
+
+    @Mock
+    private AttendanceBitmap attendanceBitmap;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private PlaytimeTracker playtimeTracker;
+
+    @BeforeEach
+    void setUp() {
+        PlaytimeProperties playtimeProperties = new PlaytimeProperties();
+        playtimeProperties.setIdleCapSeconds(120);
+        clock = new MutableClock();
+        playtimeTracker = new PlaytimeTracker(jdbcTemplate, attendanceHistoriesRepository, attendanceBitmap,
+                eventPublisher, playtimeProperties, clock);
+    }
+
+    @Test
+    @DisplayName("시작부터 완료까지의 간격이 플레이 시간으로 누적됨")
+    void stageEvents_AccumulatePlaytime() {
+        // given
+        LocalDate today = LocalDate.now(clock);
+
+        // when
+        playtimeTracker.stageStarted("session-1", 1L);
+        clock.advance(Duration.ofSeconds(30));
+        playtimeTracker.stageActivity("session-1", 1L);
+        clock.advance(Duration.ofSeconds(45));
+        playtimeTracker.stageCompleted("session-1", 1L);
+
+        // then
+        assertEquals(75, playtimeTracker.pendingSeconds(1L, today));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("이벤트 간격이 상한을 넘으면 상한까지만 인정")
+    void stageActivity_IdleGapCapped() {
+        // given
+        LocalDate today = LocalDate.now(clock);
+        playtimeTracker.stageStarted("session-1", 1L);
+
+        // when
+        clock.advance(Duration.ofMinutes(30));
+        playtimeTracker.stageActivity("session-1", 1L);
+
+        // then
+        assertEquals(120, playtimeTracker.pendingSeconds(1L, today));
+    }
+
+    @Test
+    @DisplayName("여러 이벤트가 사용자/일자별로 모여 한 번의 배치로 반영됨")
+    @SuppressWarnings("unchecked")
+    void flush_SingleBatchPerInterval() {
+        // given
+        LocalDate today = LocalDate.now(clock);
+        playtimeTracker.stageStarted("session-1", 1L);
+        playtimeTracker.stageStarted("session-2", 2L);
+        for (int i = 0; i < 10; i++) {
+            clock.advance(Duration.ofSeconds(10));
+            playtimeTracker.stageActivity("session-1", 1L);
+            playtimeTracker.stageActivity("session-2", 2L);
+        }
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        // when
+        playtimeTracker.flush();
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(sql.capture(), captor.capture());
+        assertTrue(sql.getValue().startsWith("UPDATE attend_histories"));
+        List<Object[]> batch = captor.getValue();
+        assertEquals(2, batch.size());
+        for (Object[] row : batch) {
+            assertEquals(100L, row[0]);
+            assertEquals(Date.valueOf(today), row[2]);
+        }
+        assertEquals(0, playtimeTracker.pendingSeconds(1L, today));
+        verify(eventPublisher, times(2)).publishEvent(any(LearningRecordChangedEvent.class));
+        verifyNoInteractions(attendanceHistoriesRepository);
+    }
+
+    @Test
+    @DisplayName("그날 출석 행이 없으면 출석 처리 후 플레이 시간을 더함")
+    void flush_MissingAttendance_AttendsThenAdds() {
+        // given
+        LocalDate today = LocalDate.now(clock);
+        playtimeTracker.stageStarted("session-1", 1L);
+        clock.advance(Duration.ofSeconds(40));
+        playtimeTracker.stageActivity("session-1", 1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{0});
+
+        // when
+        playtimeTracker.flush();
+
+        // then
+        verify(attendanceHistoriesRepository, times(1)).insertIfAbsent(1L, today);
+        verify(attendanceBitmap, times(1)).markAttended(1L, today);
+        verify(jdbcTemplate, times(1)).update(anyString(), eq(40L), eq(1L), eq(Date.valueOf(today)));
+        assertEquals(0, playtimeTracker.pendingSeconds(1L, today));
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증가분이 유지되어 다음 주기에 재시도")
+    void flush_FailureKeepsPending() {
+        // given
+        LocalDate today = LocalDate.now(clock);
+        playtimeTracker.stageStarted("session-1", 1L);
+        clock.advance(Duration.ofSeconds(40));
+        playtimeTracker.stageActivity("session-1", 1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        playtimeTracker.flush();
+
+        // then
+        assertEquals(40, playtimeTracker.pendingSeconds(1L, today));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("반영할 시간이 없으면 DB에 접근하지 않음")
+    void flush_NothingPending_NoQuery() {
+        // when
+        playtimeTracker.flush();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-03-10T03:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.readingbuddy.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 교실 시나리오 부하 테스트
+ * 로컬 PostgreSQL에 앱을 띄우고, AI 서버는 MockWebServer로, S3는 로컬 대역으로 바꾼 뒤
+ * 학생 수(concurrency)만큼 동시에 로그인 → 스테이지 시작 → 문제 세트 → (음성 채점 → 풀이 기록) x 문제 수 → 스테이지 완료를 반복한다.
+ * 단계별 처리량과 응답 시간 백분위를 출력하고 build/reports/loadtest/에 csv로 남긴다.
+ *
+ * 실행: gradle loadTest -Ploadtest.concurrency=30 -Ploadtest.iterations=5
+ * DB에 연결할 수 없으면 건너뛴다 (일반 test 태스크에서는 load 태그를 제외)
+ * processTestAot가 컨텍스트를 미리 만들며 AI 서버 대역을 띄우지 않도록 AOT 처리에서 제외
+ */
+@Tag("load")
+@EnabledIf("databaseReachable")
+@DisabledInAotMode
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(ClassroomLoadTest.LoadTestConfig.class)
+@DisplayName("교실 시나리오 부하 테스트")
+class ClassroomLoadTest {
+
+    private static final String DB_URL = System.getProperty("loadtest.db-url", "jdbc:postgresql://localhost:5432/loadtest");
+    private static final String DB_USERNAME = System.getProperty("loadtest.db-username", "admin");
+    private static final String DB_PASSWORD = System.getProperty("loadtest.db-password", "");
+
+    // 동시에 푸는 학생 수, 학생별 스테이지 반복 횟수, 스테이지당 문제 수
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 20);
+    private static final int ITERATIONS = Integer.getInteger("loadtest.iterations", 3);
+    private static final int PROBLEMS = Integer.getInteger("loadtest.problems", 5);
+    private static final List<String> STAGES = List.of(
+            System.getProperty("loadtest.stages", "1.1.1,1.1.2,1.2.1,1.2.2,3,4.1,4.2").split(","));
+
+    // 학생이 다음 요청까지 쉬는 시간, AI 서버 응답 지연, 녹음 파일 크기 (기본 16kHz 16bit 1초)
+    private static final long THINK_TIME_MS = Long.getLong("loadtest.think-time-ms", 0L);
+    private static final long AI_LATENCY_MS = Long.getLong("loadtest.ai-latency-ms", 200L);
+    private static final int AUDIO_BYTES = Integer.getInteger("loadtest.audio-bytes", 32_000);
+
+    // 실패한 시나리오 비율 상한
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.0"));
+
+    private static final String PASSWORD = "password!@123";
+    private static final String SCENARIO = "scenario";
+
+    private static MockWebServer aiServer;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LocalS3Stub s3Stub;
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final byte[] audio = new byte[AUDIO_BYTES];
+
+    static boolean databaseReachable() {
+        try (Connection ignored = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD)) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        aiServer = new MockWebServer();
+        aiServer.setDispatcher(new AiServerDispatcher());
+        aiServer.start();
+
+        registry.add("spring.datasource.url", () -> DB_URL);
+        registry.add("spring.datasource.username", () -> DB_USERNAME);
+        registry.add("spring.datasource.password", () -> DB_PASSWORD);
+        registry.add("ai.server.base-url", () -> aiServer.url("/").toString());
+        registry.add("spring.jwt.secret", () -> "load-test-secret-key-at-least-256-bits-long-0000000000");
+        registry.add("cloud.aws.region.static", () -> "ap-northeast-2");
+        registry.add("cloud.aws.credentials.accessKey", () -> "local");
+        registry.add("cloud.aws.credentials.secretKey", () -> "local");
+        registry.add("cloud.aws.s3.bucket", () -> "loadtest");
+        // 요청마다 남는 SQL/디버그 로그가 측정을 흐리지 않도록
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("logging.level.com.readingbuddy", () -> "warn");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (aiServer != null) {
+            aiServer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 접속 학생들의 훈련 시나리오 처리량과 응답 시간 측정")
+    void classroom() throws Exception {
+        // given
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        RestClient client = RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+                .build();
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            String email = "loadtest-" + i + "@example.com";
+            signUpIfAbsent(client, email, "lt" + i);
+            emails.add(email);
+        }
+
+        ExecutorService students = Executors.newFixedThreadPool(CONCURRENCY);
+        AtomicInteger failedScenarios = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(CONCURRENCY);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < CONCURRENCY; i++) {
+            String email = emails.get(i);
+            int studentNumber = i;
+            futures.add(students.submit(() -> {
+                ready.countDown();
+                go.await();
+                for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                    String stage = STAGES.get((studentNumber + iteration) % STAGES.size());
+                    long start = System.nanoTime();
+                    boolean success = runScenario(client, email, stage);
+                    recorder.record(SCENARIO, System.nanoTime() - start, success);
+                    if (!success) {
+                        failedScenarios.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        students.shutdown();
+
+        // then
+        List<LatencyRecorder.StepSummary> summaries = recorder.summarize(elapsed);
+        report(summaries, elapsed);
+
+        int scenarios = CONCURRENCY * ITERATIONS;
+        assertTrue(aiServer.getRequestCount() > 0, "AI 서버 대역으로 요청이 가지 않았습니다.");
+        assertTrue(s3Stub.objectCount() > 0, "S3 대역으로 업로드되지 않았습니다.");
+        assertTrue((double) failedScenarios.get() / scenarios <= MAX_ERROR_RATE,
+                String.format("실패한 시나리오 %d/%d", failedScenarios.get(), scenarios));
+    }
+
+    /**
+     * 학생 한 명의 스테이지 한 판, 중간에 실패하면 남은 단계는 건너뛴다
+     */
+    private boolean runScenario(RestClient client, String email, String stage) {
+        try {
+            String accessToken = call("login", () -> client.post()
+                    .uri("/api/user/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("email", email, "password", PASSWORD))
+                    .retrieve()
+                    .body(JsonNode.class))
+                    .path("data").path("accessToken").asText();
+            String authorization = "Bearer " + accessToken;
+            think();
+
+            String stageSessionId = call("stage/start", () -> client.post()
+                    .uri(uri -> uri.path("/api/train/stage/start")
+                            .queryParam("stage", stage)
+                            .queryParam("totalProblems", PROBLEMS)
+                            .build())
+                    .header("Authorization", authorization)
+                    .retrieve()
+                    .body(JsonNode.class))
+                    .path("data").path("stageSessionId").asText();
+            think();
+
+            JsonNode problems = call("set", () -> client.get()
+                    .uri(uri -> uri.path("/api/train/set")
+                            .queryParam("stage", stage)
+                            .queryParam("count", PROBLEMS)
+                            .queryParam("stageSessionId", stageSessionId)
+                            .build())
+                    .header("Authorization", authorization)
+                    .retrieve()
+                    .body(JsonNode.class))
+                    .path("data").path("problems");
+            think();
+
+            for (int i = 0; i < problems.size(); i++) {
+                int problemNumber = i + 1;
+                String answer = problems.get(i).path("problemWord").asText();
+
+                JsonNode voice = call("check/voice", () -> client.post()
+                        .uri("/api/train/check/voice")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .body(voiceForm(stageSessionId, stage, problemNumber, answer))
+                        .retrieve()
+                        .body(JsonNode.class))
+                        .path("data");
+                think();
+
+                Map<String, Object> attempt = new HashMap<>();
+                attempt.put("stageSessionId", stageSessionId);
+                attempt.put("problemNumber", problemNumber);
+                attempt.put("stage", stage);
+                attempt.put("problem", answer);
+                attempt.put("answer", answer);
+                attempt.put("isCorrect", voice.path("isReplyCorrect").asBoolean());
+                attempt.put("isReplyCorrect", voice.path("isReplyCorrect").asBoolean());
+                attempt.put("attemptNumber", 1);
+                call("attempt", () -> client.post()
+                        .uri("/api/train/attempt")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(attempt)
+                        .retrieve()
+                        .body(JsonNode.class));
+                think();
+            }
+
+            call("stage/complete", () -> client.post()
+                    .uri(uri -> uri.path("/api/train/stage/complete")
+                            .queryParam("stageSessionId", stageSessionId)
+                            .build())
+                    .header("Authorization", authorization)
+                    .retrieve()
+                    .body(JsonNode.class));
+            return true;
+        } catch (RestClientException e) {
+            return false;
+        }
+    }
+
+    private JsonNode call(String step, Supplier<JsonNode> request) {
+        long start = System.nanoTime();
+        try {
+            JsonNode body = request.get();
+            recorder.record(step, System.nanoTime() - start, true);
+            return body;
+        } catch (RestClientException e) {
+            recorder.record(step, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    private MultiValueMap<String, Object> voiceForm(String stageSessionId, String stage, int problemNumber, String answer) {
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add("audio", new ByteArrayResource(audio) {
+            @Override
+            public String getFilename() {
+                return "voice.wav";
+            }
+        });
+        form.add("stageSessionId", stageSessionId);
+        form.add("stage", stage);
+        form.add("problemNumber", String.valueOf(problemNumber));
+        form.add("answer", answer);
+        return form;
+    }
+
+    private void signUpIfAbsent(RestClient client, String email, String nickname) {
+        client.post()
+                .uri("/api/user/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("email", email, "password", PASSWORD, "nickname", nickname))
+                .retrieve()
+                // 이전 실행에서 만든 계정이면 400, 그대로 사용
+                .onStatus(status -> status.value() == 400, (request, response) -> {
+                })
+                .toBodilessEntity();
+    }
+
+    private void think() {
+        if (THINK_TIME_MS <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(THINK_TIME_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(List<LatencyRecorder.StepSummary> summaries, long elapsedNanos) throws IOException {
+        String header = String.format("%-14s %8s %7s %9s %9s %9s %9s %9s %9s",
+                "step", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        StringBuilder table = new StringBuilder()
+                .append(String.format("%n부하 테스트: 학생 %d명 x %d회, 문제 %d개, 단계 %s, AI 지연 %d ms, 소요 %.1f s%n",
+                        CONCURRENCY, ITERATIONS, PROBLEMS, STAGES, AI_LATENCY_MS, elapsedNanos / 1e9))
+                .append(header).append(System.lineSeparator());
+        for (LatencyRecorder.StepSummary s : summaries) {
+            table.append(String.format("%-14s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    s.step(), s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs()));
+        }
+        System.out.println(table);
+
+        Path dir = Path.of("build", "reports", "loadtest");
+        Files.createDirectories(dir);
+        Path csv = dir.resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv, StandardCharsets.UTF_8))) {
+            out.println("step,count,errors,throughput,p50_ms,p90_ms,p95_ms,p99_ms,max_ms,concurrency,iterations,problems");
+            for (LatencyRecorder.StepSummary s : summaries) {
+                out.printf(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d,%d%n",
+                        s.step(), s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(),
+                        CONCURRENCY, ITERATIONS, PROBLEMS);
+            }
+        }
+    }
+
+    /**
+     * AI 서버 대역, 경로(/check/word|syllable|jamo)와 관계없이 정답으로 응답
+     */
+    private static class AiServerDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBody("{\"is_correct\":true,\"decoded_tokens\":[\"ㄱ\"]}")
+                    .setHeadersDelay(AI_LATENCY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TestConfiguration
+    static class LoadTestConfig {
+
+        @Bean
+        @Primary
+        LocalS3Stub localS3Stub() {
+            return new LocalS3Stub();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.readingbuddy.backend.loadtest;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 응답 시간 기록
+ * 샘플을 모두 보관했다가 보고 시 정렬해서 백분위를 구한다 (부하 테스트 한 번 분량이라 메모리 부담 없음)
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> steps = new ConcurrentHashMap<>();
+    private final List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+    void record(String step, long nanos, boolean success) {
+        steps.computeIfAbsent(step, key -> {
+            order.add(key);
+            return new Samples();
+        }).add(nanos, success);
+    }
+
+    /**
+     * 단계별 요약 (처음 기록된 순서)
+     */
+    List<StepSummary> summarize(long elapsedNanos) {
+        List<StepSummary> summaries = new ArrayList<>();
+        synchronized (order) {
+            for (String step : order) {
+                summaries.add(steps.get(step).summarize(step, elapsedNanos));
+            }
+        }
+        return summaries;
+    }
+
+    record StepSummary(String step, int count, long errors, double throughput,
+                       double p50Ms, double p90Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return count == 0 ? 0.0 : (double) errors / count;
+        }
+    }
+
+    private static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void add(long value, boolean success) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        synchronized StepSummary summarize(String step, long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new StepSummary(step, size, errors.sum(),
+                    size / (elapsedNanos / 1e9),
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 95), percentile(sorted, 99),
+                    size == 0 ? 0.0 : sorted[size - 1] / 1e6);
+        }
+
+        // nearest-rank 방식
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.readingbuddy.backend.loadtest;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트용 S3 대역
+ * 업로드 내용은 버리고 크기만 남긴다. S3Service가 쓰는 putObject, getUrl만 구현
+ */
+class LocalS3Stub extends AbstractAmazonS3 {
+
+    private final Map<String, Long> objectSizes = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        long size = 0;
+        try (InputStream in = request.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                size += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        objectSizes.put(request.getBucketName() + "/" + request.getKey(), size);
+        return new PutObjectResult();
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return URI.create("http://localhost/s3/" + bucketName + "/" + key).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    int objectCount() {
+        return objectSizes.size();
+    }
+}